@@ -12,6 +12,9 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
@@ -57,6 +60,29 @@ public class KafkaConfig {
         return factory;
     }
 
+    /**
+     * Batch listener with manual acknowledgment for email delivery: offsets are committed only after
+     * the whole batch was handed to the SMTP server, and undelivered records are retried with backoff.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> emailListenerContainerFactory(
+            @Value("${mail.delivery.max-poll-records:200}") int maxPollRecords
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().getKafkaConsumerProperties()
+                .setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(maxPollRecords));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(5);
+        backOff.setInitialInterval(1_000L);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(30_000L);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+
     @Bean
     public NewTopic userEventsTopic() {
         return TopicBuilder.name("user-events")
@@ -80,4 +106,28 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic jobSyncBatchTopic() {
+        return TopicBuilder.name("job-sync-batch-events")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic resumeIndexTopic() {
+        return TopicBuilder.name("resume-index-events")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic applicationStatusTopic() {
+        return TopicBuilder.name("application-status-events")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
 }
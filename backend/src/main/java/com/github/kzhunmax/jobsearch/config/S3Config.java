@@ -1,18 +1,27 @@
 package com.github.kzhunmax.jobsearch.config;
 
+import com.github.kzhunmax.jobsearch.storage.backend.S3StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${supabase.s3.endpoint}")
@@ -27,6 +36,24 @@ public class S3Config {
     @Value("${supabase.s3.secret-access-key}")
     private String secretAccessKey;
 
+    @Value("${supabase.s3.async.max-concurrency:64}")
+    private int maxConcurrency;
+
+    @Value("${supabase.s3.async.multipart-threshold-bytes:8388608}")
+    private long multipartThresholdBytes;
+
+    @Value("${supabase.s3.async.multipart-part-size-bytes:5242880}")
+    private long multipartPartSizeBytes;
+
+    @Value("${supabase.url}")
+    private String supabaseUrl;
+
+    @Value("${supabase.bucket:resumes}")
+    private String bucket;
+
+    @Value("${supabase.private-bucket:resumes-private}")
+    private String privateBucket;
+
     @Bean
     public S3Client s3Client() {
         return S3Client.builder()
@@ -41,4 +68,44 @@ public class S3Config {
                         .build())
                 .build();
     }
+
+    @Bean
+    public S3AsyncClient s3AsyncClient() {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKeyId, secretAccessKey)
+                ))
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency))
+                .forcePathStyle(true)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(multipartPartSizeBytes)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .endpointOverride(URI.create(endpoint))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKeyId, secretAccessKey)
+                ))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public StorageBackend storageBackend(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner,
+                                         ExecutorService storageUploadExecutor) {
+        return new S3StorageBackend(s3Client, s3AsyncClient, s3Presigner, storageUploadExecutor,
+                bucket, privateBucket, supabaseUrl + "/storage/v1/object/public/" + bucket);
+    }
 }
@@ -1,12 +1,17 @@
 package com.github.kzhunmax.jobsearch.config;
 
+import com.github.kzhunmax.jobsearch.security.ApiKeyAuthFilter;
 import com.github.kzhunmax.jobsearch.security.JwtAuthFilter;
 import com.github.kzhunmax.jobsearch.security.filter.LoggingFilter;
+import com.github.kzhunmax.jobsearch.security.password.BoundedPasswordEncoder;
 import com.github.kzhunmax.jobsearch.security.oauth2.CustomOAuth2UserService;
 import com.github.kzhunmax.jobsearch.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,6 +28,8 @@ import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserServ
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -30,12 +37,18 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final ApiKeyAuthFilter apiKeyAuthFilter;
     private final LoggingFilter loggingFilter;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.strength:10}") int strength,
+            @Value("${security.password-hashing.pool-size:2}") int poolSize,
+            @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${security.password-hashing.timeout:PT5S}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), poolSize, queueCapacity, timeout, meterRegistry);
     }
 
     @Bean
@@ -49,13 +62,18 @@ public class SecurityConfig {
                                 "/error",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
+                                "/actuator/health",
                                 "/api/payments/webhook",
                                 "/api/payments/success",
                                 "/api/payments/cancel"
                         ).permitAll()
+                        .requestMatchers(HttpMethod.GET,"/api/user/resume/*/download").authenticated()
                         .requestMatchers(HttpMethod.GET,"/api/jobs/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/user/**").permitAll()
                         .requestMatchers(HttpMethod.GET,"/api/companies/**").permitAll()
+                        .requestMatchers("/api/files/private/**").denyAll()
+                        .requestMatchers(HttpMethod.GET,"/api/files/**").permitAll()
+                        .requestMatchers(HttpMethod.HEAD,"/api/files/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth -> oauth
@@ -71,6 +89,7 @@ public class SecurityConfig {
                         .accessDeniedHandler((_, res, _) -> res.sendError(HttpServletResponse.SC_FORBIDDEN, "Forbidden"))
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(apiKeyAuthFilter, JwtAuthFilter.class)
                 .addFilterBefore(loggingFilter, JwtAuthFilter.class);
 
         return http.build();
@@ -87,7 +106,8 @@ public class SecurityConfig {
     }
 
     @Bean
-    public CustomOAuth2UserService customOAuth2UserService(DefaultOAuth2UserService defaultOAuth2UserService, UserRepository userRepository) {
-        return new CustomOAuth2UserService(userRepository, defaultOAuth2UserService);
+    public CustomOAuth2UserService customOAuth2UserService(DefaultOAuth2UserService defaultOAuth2UserService, UserRepository userRepository,
+                                                           ApplicationEventPublisher eventPublisher) {
+        return new CustomOAuth2UserService(userRepository, defaultOAuth2UserService, eventPublisher);
     }
 }
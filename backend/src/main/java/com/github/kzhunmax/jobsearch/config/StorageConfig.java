@@ -0,0 +1,34 @@
+package com.github.kzhunmax.jobsearch.config;
+
+import com.github.kzhunmax.jobsearch.storage.backend.LocalFileSystemStorageBackend;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class StorageConfig {
+
+    @Value("${storage.upload-threads:4}")
+    private int uploadThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService storageUploadExecutor() {
+        return Executors.newFixedThreadPool(uploadThreads, Thread.ofPlatform().name("storage-upload-", 0).daemon(true).factory());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+    public StorageBackend localStorageBackend(
+            @Value("${storage.local.root}") Path root,
+            @Value("${storage.local.public-base-url:${app.backend.url}/api/files}") String publicBaseUrl,
+            ExecutorService storageUploadExecutor
+    ) {
+        return new LocalFileSystemStorageBackend(root, publicBaseUrl, storageUploadExecutor);
+    }
+}
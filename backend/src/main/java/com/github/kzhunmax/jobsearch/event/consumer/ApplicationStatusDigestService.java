@@ -0,0 +1,223 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.shared.EmailService;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.mail.EmailDeliveryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Collects application status changes per candidate and sends one digest email once the
+ * aggregation window has passed. Pending changes live in Redis, so they survive restarts and the
+ * JVM only ever holds one batch of candidates at a time:
+ * <ul>
+ *     <li>{@code notify:status-digest:<candidateId>} - hash of applicationId to the latest change</li>
+ *     <li>{@code notify:status-digest:due} - sorted set of candidate IDs scored by when their digest is due</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class ApplicationStatusDigestService {
+
+    static final String PENDING_KEY_PREFIX = "notify:status-digest:";
+    static final String DUE_KEY = "notify:status-digest:due";
+
+    // Stores the change and starts the candidate's window unless one is already running.
+    static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            return redis.call('ZADD', KEYS[2], 'NX', ARGV[4], ARGV[1])
+            """, Long.class);
+
+    // Leases a due candidate by pushing its score past the lease, and returns the pending changes.
+    // A schedule entry whose changes have expired is removed.
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[2], ARGV[1])
+            if not score or tonumber(score) > tonumber(ARGV[2]) then
+                return {}
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                return {}
+            end
+            redis.call('ZADD', KEYS[2], 'XX', ARGV[3], ARGV[1])
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    // Removes the delivered changes unless they were superseded meanwhile; anything left starts a new window.
+    static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 3, #ARGV, 2 do
+                if redis.call('HGET', KEYS[1], ARGV[i]) == ARGV[i + 1] then
+                    redis.call('HDEL', KEYS[1], ARGV[i])
+                end
+            end
+            if redis.call('HLEN', KEYS[1]) == 0 then
+                return redis.call('ZREM', KEYS[2], ARGV[1])
+            end
+            redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final EmailService emailService;
+    private final EmailDeliveryService emailDeliveryService;
+    private final Duration window;
+    private final Duration lease;
+    private final Duration retention;
+    private final int batchSize;
+
+    public ApplicationStatusDigestService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            EmailService emailService,
+            EmailDeliveryService emailDeliveryService,
+            @Value("${notifications.status-digest.window:PT15M}") Duration window,
+            @Value("${notifications.status-digest.lease:PT5M}") Duration lease,
+            @Value("${notifications.status-digest.retention:P7D}") Duration retention,
+            @Value("${notifications.status-digest.batch-size:100}") int batchSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.emailService = emailService;
+        this.emailDeliveryService = emailDeliveryService;
+        this.window = window;
+        this.lease = lease;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @KafkaListener(
+            containerFactory = "kafkaListenerContainerFactory",
+            topics = "application-status-events",
+            groupId = "application-status-digest-group"
+    )
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) throws JsonProcessingException {
+        String candidateId = String.valueOf(event.candidateId());
+        long dueAt = event.changedAt().plus(window).toEpochMilli();
+        redisTemplate.execute(RECORD_SCRIPT, List.of(PENDING_KEY_PREFIX + candidateId, DUE_KEY),
+                candidateId, String.valueOf(event.applicationId()), objectMapper.writeValueAsString(event),
+                String.valueOf(dueAt), String.valueOf(retention.toMillis()));
+        log.debug("Queued status change for digest - candidateId={}, applicationId={}, status={}",
+                candidateId, event.applicationId(), event.status());
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.status-digest.poll-interval-ms:30000}")
+    public void sendDueDigests() {
+        long now = Instant.now().toEpochMilli();
+        Set<String> dueCandidates = redisTemplate.opsForZSet().rangeByScore(DUE_KEY, 0, now, 0, batchSize);
+        if (dueCandidates == null || dueCandidates.isEmpty()) {
+            return;
+        }
+        log.info("Sending application status digests - candidates={}", dueCandidates.size());
+        sendDigests(dueCandidates, now);
+    }
+
+    void sendDigest(String candidateId, long now) {
+        sendDigests(List.of(candidateId), now);
+    }
+
+    /**
+     * Starts every digest first and then waits for all of them under one {@code lease} deadline, so a slow
+     * SMTP server holds the shared scheduler thread for one lease per poll rather than one per candidate.
+     */
+    void sendDigests(Collection<String> candidateIds, long now) {
+        List<Digest> started = new ArrayList<>(candidateIds.size());
+        for (String candidateId : candidateIds) {
+            Digest digest = start(candidateId, now);
+            if (digest != null) {
+                started.add(digest);
+            }
+        }
+        if (started.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(started.stream().map(Digest::sent).toArray(CompletableFuture[]::new))
+                    .get(lease.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // Each digest's outcome is checked below; the failed ones are retried once their lease runs out.
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        started.forEach(this::complete);
+    }
+
+    private record Digest(String candidateId, List<String> pending, int changes, CompletableFuture<Void> sent) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private Digest start(String candidateId, long now) {
+        String pendingKey = PENDING_KEY_PREFIX + candidateId;
+        // Flat list of applicationId, change JSON pairs
+        List<String> pending = redisTemplate.execute(CLAIM_SCRIPT, List.of(pendingKey, DUE_KEY),
+                candidateId, String.valueOf(now), String.valueOf(now + lease.toMillis()));
+        if (pending == null || pending.isEmpty()) {
+            log.debug("Status digest already claimed or expired - candidateId={}", candidateId);
+            return null;
+        }
+
+        List<ApplicationStatusChangedEvent> changes = new ArrayList<>(pending.size() / 2);
+        for (int i = 1; i < pending.size(); i += 2) {
+            try {
+                changes.add(objectMapper.readValue(pending.get(i), ApplicationStatusChangedEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("Dropping unreadable status change for candidateId={}: {}", candidateId, e.getMessage());
+            }
+        }
+        changes.sort(Comparator.comparing(ApplicationStatusChangedEvent::changedAt));
+        return new Digest(candidateId, pending, changes.size(),
+                changes.isEmpty() ? CompletableFuture.completedFuture(null) : deliver(changes));
+    }
+
+    private CompletableFuture<Void> deliver(List<ApplicationStatusChangedEvent> changes) {
+        String email = changes.getLast().candidateEmail();
+        try {
+            return emailDeliveryService.deliver(List.of(emailService.applicationStatusDigest(email, changes, null)))
+                    .getFirst();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void complete(Digest digest) {
+        CompletableFuture<Void> sent = digest.sent();
+        if (!sent.isDone() || sent.isCompletedExceptionally()) {
+            // The lease runs out and the next poll retries the whole digest.
+            log.warn("Failed to send status digest - candidateId={}: {}", digest.candidateId(),
+                    sent.isDone() ? sent.exceptionNow().getMessage() : "timed out");
+            return;
+        }
+        if (digest.changes() > 0) {
+            log.info("Application status digest sent - candidateId={}, changes={}", digest.candidateId(), digest.changes());
+        }
+
+        List<String> args = new ArrayList<>(digest.pending().size() + 2);
+        args.add(digest.candidateId());
+        args.add(String.valueOf(Instant.now().plus(window).toEpochMilli()));
+        args.addAll(digest.pending());
+        redisTemplate.execute(COMPLETE_SCRIPT, List.of(PENDING_KEY_PREFIX + digest.candidateId(), DUE_KEY), args.toArray());
+    }
+}
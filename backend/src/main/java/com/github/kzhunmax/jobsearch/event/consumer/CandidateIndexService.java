@@ -0,0 +1,94 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.shared.enums.ProfileType;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import com.github.kzhunmax.jobsearch.user.mapper.CandidateDocumentMapper;
+import com.github.kzhunmax.jobsearch.user.model.es.CandidateDocument;
+import com.github.kzhunmax.jobsearch.user.repository.ResumeRepository;
+import com.github.kzhunmax.jobsearch.user.repository.es.CandidateSearchRepository;
+import com.github.kzhunmax.jobsearch.user.service.search.ResumeTextExtractor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Keeps the {@code candidates} index in step with resumes. The database is only touched for a short
+ * snapshot read; downloading and parsing the PDF happen outside any transaction, and are skipped
+ * entirely when the file behind the resume has not changed since it was last indexed. The snapshot
+ * runs in a read-write transaction so it is served by the primary, never by a replica that may not
+ * have the resume yet.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CandidateIndexService {
+
+    private static final long MAX_RESUME_BYTES = 5L * 1024 * 1024;
+
+    private final ResumeRepository resumeRepository;
+    private final CandidateSearchRepository candidateSearchRepository;
+    private final CandidateDocumentMapper candidateDocumentMapper;
+    private final FileStorageService fileStorageService;
+    private final ResumeTextExtractor resumeTextExtractor;
+    private final TransactionTemplate transactionTemplate;
+
+    @KafkaListener(
+            containerFactory = "kafkaListenerContainerFactory",
+            topics = "resume-index-events",
+            groupId = "resume-index-group"
+    )
+    public void onResumeIndexEvent(ResumeIndexEvent event) {
+        log.info("Received resume index event for resumeId {}: {}", event.resumeId(), event.action());
+
+        if (event.action() == SyncAction.DELETE) {
+            candidateSearchRepository.deleteById(event.resumeId());
+            log.info("Deleted resume with ID {} from the candidates index.", event.resumeId());
+            return;
+        }
+
+        CandidateDocument doc = transactionTemplate.execute(_ -> resumeRepository.findById(event.resumeId())
+                .filter(resume -> resume.getUserProfile().getProfileType() == ProfileType.CANDIDATE)
+                .map(candidateDocumentMapper::toDocument)
+                .orElse(null));
+        if (doc == null) {
+            candidateSearchRepository.deleteById(event.resumeId());
+            log.info("Resume with ID {} is gone or not a candidate resume, removed from the candidates index.", event.resumeId());
+            return;
+        }
+
+        doc.setResumeText(resolveText(doc).orElse(null));
+        candidateSearchRepository.save(doc);
+        log.info("Indexed resume with ID {} for profile {}.", doc.getId(), doc.getProfileId());
+    }
+
+    private Optional<String> resolveText(CandidateDocument doc) {
+        Optional<String> indexedText = candidateSearchRepository.findById(doc.getId())
+                .filter(existing -> existing.getResumeText() != null)
+                .filter(existing -> Objects.equals(existing.getSourceUrl(), doc.getSourceUrl()))
+                .map(CandidateDocument::getResumeText);
+        if (indexedText.isPresent()) {
+            log.debug("Resume file unchanged, reusing extracted text - resumeId={}", doc.getId());
+            return indexedText;
+        }
+
+        Optional<String> objectKey = fileStorageService.objectKey(doc.getSourceUrl());
+        if (objectKey.isEmpty()) {
+            log.warn("Resume file is not in managed storage, indexing without text - resumeId={}", doc.getId());
+            return Optional.empty();
+        }
+        try {
+            return resumeTextExtractor.extract(fileStorageService.read(objectKey.get(), MAX_RESUME_BYTES));
+        } catch (IOException e) {
+            log.warn("Failed to read resume file, indexing without text - resumeId={}: {}", doc.getId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
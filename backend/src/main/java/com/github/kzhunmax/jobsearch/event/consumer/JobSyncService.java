@@ -5,6 +5,7 @@ import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.es.JobDocument;
 import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
 import com.github.kzhunmax.jobsearch.job.repository.es.JobSearchRepository;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncBatchEvent;
 import com.github.kzhunmax.jobsearch.shared.event.JobSyncEvent;
 import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +14,10 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -27,7 +32,9 @@ public class JobSyncService {
             topics = "job-sync-events",
             groupId = "job-sync-group"
     )
-    @Transactional(readOnly = true)
+    // Not read-only: events are sent right after the write commits and consumer threads have no caller to pin,
+    // so a replica read could miss the job and drop it from the index.
+    @Transactional
     public void onJobSyncEvent(JobSyncEvent event) {
         log.info("Received job sync event for jobId {}: {}", event.jobId(), event.action());
 
@@ -52,4 +59,30 @@ public class JobSyncService {
             log.info("Job with ID {} is inactive, deleting from Elasticsearch.", job.getId());
         }
     }
+
+    @KafkaListener(
+            containerFactory = "kafkaListenerContainerFactory",
+            topics = "job-sync-batch-events",
+            groupId = "job-sync-group"
+    )
+    @Transactional
+    public void onJobSyncBatch(JobSyncBatchEvent batch) {
+        log.info("Received job sync batch for {} jobs: {}", batch.jobIds().size(), batch.action());
+
+        Set<Long> removed = new HashSet<>(batch.jobIds());
+        if (batch.action() != SyncAction.DELETE) {
+            List<JobDocument> docs = jobRepository.findByIdIn(batch.jobIds()).stream()
+                    .filter(Job::isActive)
+                    .map(jobDocumentMapper::toDocument)
+                    .toList();
+            if (!docs.isEmpty()) {
+                jobSearchRepository.saveAll(docs);
+            }
+            docs.forEach(doc -> removed.remove(doc.getId()));
+        }
+        if (!removed.isEmpty()) {
+            jobSearchRepository.deleteAllById(removed);
+        }
+        log.info("Synchronized job batch to Elasticsearch - indexed={}, deleted={}", batch.jobIds().size() - removed.size(), removed.size());
+    }
 }
@@ -1,40 +1,209 @@
 package com.github.kzhunmax.jobsearch.event.consumer;
 
+import com.github.kzhunmax.jobsearch.shared.EmailService;
 import com.github.kzhunmax.jobsearch.shared.event.EventType;
 import com.github.kzhunmax.jobsearch.shared.event.PasswordResetEvent;
 import com.github.kzhunmax.jobsearch.shared.event.UserEvent;
-import com.github.kzhunmax.jobsearch.shared.EmailService;
-import lombok.RequiredArgsConstructor;
+import com.github.kzhunmax.jobsearch.shared.mail.EmailDeliveryService;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Turns user events into emails. Records arrive in batches and their offsets are committed only
+ * once every email in the batch was accepted by the SMTP server; on failure the batch is retried
+ * from the first undelivered record.
+ * <p>
+ * Emails of one batch are sent in parallel, so records after the failed one may already have been
+ * delivered. Each delivered record is marked in Redis under {@code notify:email-sent:<topic>:<partition>:<offset>}
+ * and skipped when it is redelivered. Recipients the server rejected permanently are dropped rather
+ * than retried.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserNotificationConsumer {
 
+    static final String USER_EVENTS_TOPIC = "user-events";
+    static final String PASSWORD_RESET_TOPIC = "password-reset-events";
+    static final String SENT_KEY_PREFIX = "notify:email-sent:";
+    private static final Duration SENT_MARKER_TTL = Duration.ofDays(1);
+
     private final EmailService emailService;
+    private final EmailDeliveryService emailDeliveryService;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration deliveryTimeout;
+
+    public UserNotificationConsumer(
+            EmailService emailService,
+            EmailDeliveryService emailDeliveryService,
+            StringRedisTemplate redisTemplate,
+            @Value("${mail.delivery.timeout:PT60S}") Duration deliveryTimeout
+    ) {
+        this.emailService = emailService;
+        this.emailDeliveryService = emailDeliveryService;
+        this.redisTemplate = redisTemplate;
+        this.deliveryTimeout = deliveryTimeout;
+    }
 
     @KafkaListener(
-            containerFactory = "kafkaListenerContainerFactory",
-            topics = "user-events",
+            containerFactory = "emailListenerContainerFactory",
+            topics = USER_EVENTS_TOPIC,
             groupId = "user-notify-group"
     )
-    public void onUserEvent(UserEvent event) {
-        if (EventType.REGISTERED.equals(event.eventType())) {
-            log.info("Sending verification email to {}", event.email());
-            emailService.sendVerificationEmail(event.email(), event.verificationToken());
+    public void onUserEvents(
+            List<UserEvent> events,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            Acknowledgment acknowledgment
+    ) {
+        List<String> sentKeys = sentKeys(USER_EVENTS_TOPIC, partitions, offsets);
+        Set<Integer> alreadySent = alreadySent(sentKeys);
+        Map<Integer, MimeMessage> messages = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            UserEvent event = events.get(i);
+            if (EventType.REGISTERED.equals(event.eventType()) && !alreadySent.contains(i)) {
+                log.info("Sending verification email to {}", event.email());
+                messages.put(i, emailService.verificationEmail(event.email(), event.verificationToken(), locale(event.locale())));
+            }
         }
+        deliverAndAcknowledge(messages, sentKeys, acknowledgment);
     }
 
     @KafkaListener(
-            containerFactory = "kafkaListenerContainerFactory",
-            topics = "password-reset-events",
+            containerFactory = "emailListenerContainerFactory",
+            topics = PASSWORD_RESET_TOPIC,
             groupId = "password-reset-group"
     )
-    public void onPasswordResetEvent(PasswordResetEvent event) {
-        log.info("Sending password reset email to {}", event.email());
-        emailService.sendPasswordResetEmail(event.email(), event.token());
+    public void onPasswordResetEvents(
+            List<PasswordResetEvent> events,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            Acknowledgment acknowledgment
+    ) {
+        List<String> sentKeys = sentKeys(PASSWORD_RESET_TOPIC, partitions, offsets);
+        Set<Integer> alreadySent = alreadySent(sentKeys);
+        Map<Integer, MimeMessage> messages = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            if (alreadySent.contains(i)) {
+                continue;
+            }
+            PasswordResetEvent event = events.get(i);
+            log.info("Sending password reset email to {}", event.email());
+            messages.put(i, emailService.passwordResetEmail(event.email(), event.token(), locale(event.locale())));
+        }
+        deliverAndAcknowledge(messages, sentKeys, acknowledgment);
+    }
+
+    /**
+     * Marks every record whose email was delivered or permanently rejected, then fails the batch at the
+     * first record that may still succeed on a retry.
+     *
+     * @param messages emails keyed by the index of the record they were built from
+     */
+    private void deliverAndAcknowledge(Map<Integer, MimeMessage> messages, List<String> sentKeys,
+                                       Acknowledgment acknowledgment) {
+        List<Integer> recordIndexes = new ArrayList<>(messages.keySet());
+        List<CompletableFuture<Void>> results = emailDeliveryService.deliver(new ArrayList<>(messages.values()));
+        awaitQuietly(results);
+
+        Integer failedIndex = null;
+        Throwable failure = null;
+        for (int i = 0; i < results.size(); i++) {
+            CompletableFuture<Void> result = results.get(i);
+            int recordIndex = recordIndexes.get(i);
+            if (result.state() == Future.State.SUCCESS) {
+                markSent(sentKeys.get(recordIndex));
+                continue;
+            }
+            Throwable cause = result.state() == Future.State.FAILED
+                    ? result.exceptionNow()
+                    : new TimeoutException("Email not delivered within " + deliveryTimeout);
+            if (isPermanent(cause)) {
+                log.warn("Dropping email rejected by the server - record={}: {}", sentKeys.get(recordIndex), cause.getMessage());
+                markSent(sentKeys.get(recordIndex));
+            } else if (failedIndex == null) {
+                failedIndex = recordIndex;
+                failure = cause;
+            }
+        }
+        if (failedIndex != null) {
+            throw new BatchListenerFailedException("Failed to deliver email", failure, failedIndex);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private static List<String> sentKeys(String topic, List<Integer> partitions, List<Long> offsets) {
+        List<String> keys = new ArrayList<>(offsets.size());
+        for (int i = 0; i < offsets.size(); i++) {
+            keys.add(SENT_KEY_PREFIX + topic + ":" + partitions.get(i) + ":" + offsets.get(i));
+        }
+        return keys;
+    }
+
+    private Set<Integer> alreadySent(List<String> sentKeys) {
+        List<String> markers = redisTemplate.opsForValue().multiGet(sentKeys);
+        Set<Integer> sent = new HashSet<>();
+        for (int i = 0; markers != null && i < markers.size(); i++) {
+            if (markers.get(i) != null) {
+                log.debug("Email already sent on an earlier attempt, skipping - record={}", sentKeys.get(i));
+                sent.add(i);
+            }
+        }
+        return sent;
+    }
+
+    private void markSent(String sentKey) {
+        try {
+            redisTemplate.opsForValue().set(sentKey, "1", SENT_MARKER_TTL);
+        } catch (RuntimeException e) {
+            // A missing marker only means the email may be sent again if the batch is retried.
+            log.warn("Failed to mark email as sent - record={}: {}", sentKey, e.getMessage());
+        }
+    }
+
+    /**
+     * The server refused every recipient with a permanent (5xx) reply; retrying cannot succeed.
+     */
+    private static boolean isPermanent(Throwable cause) {
+        return cause instanceof SendFailedException e
+                && e.getInvalidAddresses() != null && e.getInvalidAddresses().length > 0
+                && (e.getValidUnsentAddresses() == null || e.getValidUnsentAddresses().length == 0);
+    }
+
+    private static Locale locale(String languageTag) {
+        return languageTag == null ? null : Locale.forLanguageTag(languageTag);
+    }
+
+    private void awaitQuietly(List<CompletableFuture<Void>> results) {
+        try {
+            CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                    .get(deliveryTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // individual outcomes are inspected by the caller
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 }
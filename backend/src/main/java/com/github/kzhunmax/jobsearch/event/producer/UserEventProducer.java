@@ -1,18 +1,27 @@
 package com.github.kzhunmax.jobsearch.event.producer;
 
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusBatchChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncBatchEvent;
 import com.github.kzhunmax.jobsearch.shared.event.JobSyncEvent;
 import com.github.kzhunmax.jobsearch.shared.event.PasswordResetEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
 import com.github.kzhunmax.jobsearch.shared.event.UserEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class UserEventProducer {
 
+    static final int JOB_SYNC_BATCH_SIZE = 500;
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     public void sendUserEvent(UserEvent event) {
@@ -29,4 +38,41 @@ public class UserEventProducer {
         kafkaTemplate.send("job-sync-events", String.valueOf(event.jobId()), event);
         log.info("Sent JobSyncEvent to Kafka for jobId {}: {}", event.jobId(), event.action());
     }
+
+    /**
+     * Bulk job changes are forwarded after commit in messages of at most {@value #JOB_SYNC_BATCH_SIZE} ids,
+     * which the indexer writes with one bulk request each.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void sendJobSyncBatch(JobSyncBatchEvent batch) {
+        List<Long> jobIds = batch.jobIds();
+        for (int from = 0; from < jobIds.size(); from += JOB_SYNC_BATCH_SIZE) {
+            List<Long> chunk = jobIds.subList(from, Math.min(from + JOB_SYNC_BATCH_SIZE, jobIds.size()));
+            kafkaTemplate.send("job-sync-batch-events", String.valueOf(chunk.getFirst()), new JobSyncBatchEvent(List.copyOf(chunk), batch.action()));
+        }
+        log.info("Sent JobSyncBatchEvents to Kafka for {} jobs: {}", jobIds.size(), batch.action());
+    }
+
+    /**
+     * Resume changes are published as application events and forwarded once the transaction commits,
+     * so the indexer never reads a row that is not visible yet.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void sendResumeIndexEvent(ResumeIndexEvent event) {
+        kafkaTemplate.send("resume-index-events", String.valueOf(event.resumeId()), event);
+        log.info("Sent ResumeIndexEvent to Kafka for resumeId {}: {}", event.resumeId(), event.action());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void sendApplicationStatusChangedEvent(ApplicationStatusChangedEvent event) {
+        kafkaTemplate.send("application-status-events", String.valueOf(event.candidateId()), event);
+        log.info("Sent ApplicationStatusChangedEvent to Kafka for applicationId {}: {}", event.applicationId(), event.status());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void sendApplicationStatusBatch(ApplicationStatusBatchChangedEvent batch) {
+        batch.changes().forEach(event ->
+                kafkaTemplate.send("application-status-events", String.valueOf(event.candidateId()), event));
+        log.info("Sent {} ApplicationStatusChangedEvents to Kafka", batch.changes().size());
+    }
 }
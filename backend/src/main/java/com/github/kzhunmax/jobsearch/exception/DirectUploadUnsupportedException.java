@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DirectUploadUnsupportedException extends ApiException {
+    public DirectUploadUnsupportedException() {
+        super("Direct uploads are not supported by the configured storage backend", HttpStatus.NOT_IMPLEMENTED, "DIRECT_UPLOAD_UNSUPPORTED");
+    }
+}
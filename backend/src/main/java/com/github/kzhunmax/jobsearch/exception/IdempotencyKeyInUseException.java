@@ -0,0 +1,10 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyInUseException extends ApiException {
+    public IdempotencyKeyInUseException() {
+        super("A request with this Idempotency-Key is still being processed. Retry later.",
+                HttpStatus.CONFLICT, "IDEMPOTENCY_KEY_IN_USE");
+    }
+}
@@ -0,0 +1,10 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class IdempotencyKeyMismatchException extends ApiException {
+    public IdempotencyKeyMismatchException() {
+        super("This Idempotency-Key was already used with a different request.",
+                HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_MISMATCH");
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidFeedCursorException extends ApiException {
+    public InvalidFeedCursorException(String cursor) {
+        super("Invalid feed cursor: " + cursor, HttpStatus.BAD_REQUEST, "INVALID_FEED_CURSOR");
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidJobImportException extends ApiException {
+    public InvalidJobImportException(String reason) {
+        super("Invalid job import file: " + reason, HttpStatus.BAD_REQUEST, "INVALID_JOB_IMPORT");
+    }
+}
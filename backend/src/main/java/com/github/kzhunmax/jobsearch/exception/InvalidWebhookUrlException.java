@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidWebhookUrlException extends ApiException {
+    public InvalidWebhookUrlException(String url, String reason) {
+        super("Invalid webhook URL " + url + ": " + reason, HttpStatus.BAD_REQUEST, "INVALID_WEBHOOK_URL");
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class JobImportTooLargeException extends ApiException {
+    public JobImportTooLargeException(int maxRows) {
+        super("A job import may contain at most " + maxRows + " rows", HttpStatus.PAYLOAD_TOO_LARGE, "JOB_IMPORT_TOO_LARGE");
+    }
+}
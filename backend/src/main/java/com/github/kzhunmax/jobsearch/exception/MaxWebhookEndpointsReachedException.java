@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class MaxWebhookEndpointsReachedException extends ApiException {
+    public MaxWebhookEndpointsReachedException(int limit) {
+        super("Maximum number of webhook endpoints (" + limit + ") reached.", HttpStatus.BAD_REQUEST, "MAX_WEBHOOK_ENDPOINTS_REACHED");
+    }
+}
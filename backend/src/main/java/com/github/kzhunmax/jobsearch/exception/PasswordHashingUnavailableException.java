@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PasswordHashingUnavailableException extends ApiException {
+    public PasswordHashingUnavailableException() {
+        super("Authentication service is busy, please try again shortly", HttpStatus.SERVICE_UNAVAILABLE, "AUTH_BUSY");
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class StoredFileNotFoundException extends ApiException {
+    public StoredFileNotFoundException(String objectKey) {
+        super("File not found: " + objectKey, HttpStatus.NOT_FOUND, "FILE_NOT_FOUND");
+    }
+}
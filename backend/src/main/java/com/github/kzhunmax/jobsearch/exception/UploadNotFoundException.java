@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UploadNotFoundException extends ApiException {
+    public UploadNotFoundException(String objectKey) {
+        super("No uploaded file found for key " + objectKey, HttpStatus.BAD_REQUEST, "UPLOAD_NOT_FOUND");
+    }
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class WebhookEndpointNotFoundException extends ApiException {
+    public WebhookEndpointNotFoundException(Long endpointId) {
+        super("Webhook endpoint with id " + endpointId + " not found", HttpStatus.NOT_FOUND, "WEBHOOK_ENDPOINT_NOT_FOUND");
+    }
+}
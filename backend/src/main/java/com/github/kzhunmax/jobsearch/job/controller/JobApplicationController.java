@@ -1,11 +1,16 @@
 package com.github.kzhunmax.jobsearch.job.controller;
 
+import com.github.kzhunmax.jobsearch.job.dto.BulkStatusUpdateRequestDTO;
+import com.github.kzhunmax.jobsearch.job.dto.BulkStatusUpdateResponseDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobApplicationRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobApplicationResponseDTO;
 import com.github.kzhunmax.jobsearch.job.service.JobApplicationService;
+import com.github.kzhunmax.jobsearch.job.service.export.JobApplicationExportService;
 import com.github.kzhunmax.jobsearch.payload.ApiResponse;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
 import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import com.github.kzhunmax.jobsearch.shared.enums.ExportFormat;
+import com.github.kzhunmax.jobsearch.shared.idempotency.IdempotencyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,11 +24,16 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -32,7 +42,11 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Job Applications", description = "Manage job applications and application status")
 public class JobApplicationController {
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final JobApplicationService jobApplicationService;
+    private final IdempotencyService idempotencyService;
+    private final JobApplicationExportService jobApplicationExportService;
 
     @PostMapping(value = "/apply/{jobId}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasRole('CANDIDATE')")
@@ -56,7 +70,15 @@ public class JobApplicationController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "409",
-                    description = "Already applied to this job",
+                    description = "Already applied to this job, or a request with the same Idempotency-Key is in progress",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "422",
+                    description = "Idempotency-Key was already used for a different request",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = ApiResponse.class)
@@ -74,10 +96,15 @@ public class JobApplicationController {
             )
             @Valid @RequestBody JobApplicationRequestDTO requestDto,
 
+            @Parameter(description = "Client-generated key; retries with the same key return the original response")
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
         Long userId = userDetails.getId();
         log.info("User '{}' is applying to job with id={} | resumeId={}", userId, jobId, requestDto.resumeId());
-        JobApplicationResponseDTO responseDto = jobApplicationService.applyToJob(jobId, userId, requestDto);
+        JobApplicationResponseDTO responseDto = idempotencyService.execute(
+                "apply:" + userId, idempotencyKey, List.of(jobId, requestDto), JobApplicationResponseDTO.class,
+                () -> jobApplicationService.applyToJob(jobId, userId, requestDto));
         log.info("User '{}' successfully applied to job id={} | applicationId={}", userId, jobId, responseDto.id());
         return ApiResponse.success(responseDto);
     }
@@ -126,6 +153,52 @@ public class JobApplicationController {
         return ApiResponse.success(applications);
     }
 
+    @GetMapping("/job/{jobId}/export")
+    @PreAuthorize("@jobSecurityService.isJobOwner(#jobId, authentication) or hasRole('ADMIN')")
+    @Operation(
+            summary = "Export applications for a job",
+            description = "Stream every application for a job with the candidate's profile fields as CSV or NDJSON (recruiters and admins only)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Export streamed successfully",
+                    content = {
+                            @Content(mediaType = "text/csv"),
+                            @Content(mediaType = "application/x-ndjson")
+                    }
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - not the job owner or admin",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many exports running, try again later",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportApplicationsForJob(
+            @Parameter(description = "ID of the job", example = "1")
+            @PathVariable Long jobId,
+            @Parameter(description = "Export format", schema = @Schema(implementation = ExportFormat.class))
+            @RequestParam(defaultValue = "CSV") ExportFormat format) {
+        log.info("Exporting applications for jobId={} as {}", jobId, format);
+        StreamingResponseBody body = jobApplicationExportService.export(jobId, format);
+        String fileName = "job-" + jobId + "-applications." + format.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+
     @GetMapping(value = "/my-applications", produces = MediaType.APPLICATION_JSON_VALUE)
     @PreAuthorize("hasRole('CANDIDATE')")
     @Operation(
@@ -199,4 +272,46 @@ public class JobApplicationController {
         log.info("Application status updated successfully | applicationId={} | newStatus={}", updatedApplication.id(), updatedApplication.status());
         return ApiResponse.success(updatedApplication);
     }
+
+    @PatchMapping(value = "/status", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('RECRUITER', 'ADMIN') and @jobSecurityService.canUpdateApplications(#request.applicationIds(), authentication)")
+    @Operation(
+            summary = "Bulk update application status",
+            description = "Move many applications to the same status in one call (job owners and admins only)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Statuses updated successfully",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid request - missing status or too many application IDs",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - at least one application is not for a job you posted",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<BulkStatusUpdateResponseDTO>> updateStatuses(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Application IDs and the status to apply to all of them",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = BulkStatusUpdateRequestDTO.class))
+            )
+            @Valid @RequestBody BulkStatusUpdateRequestDTO request) {
+        log.info("Bulk status update for {} applications to {}", request.applicationIds().size(), request.status());
+        BulkStatusUpdateResponseDTO result = jobApplicationService.updateApplicationStatuses(request.applicationIds(), request.status());
+        log.info("Bulk status update completed | requested={} | updated={}", result.requested(), result.updated());
+        return ApiResponse.success(result);
+    }
 }
@@ -1,15 +1,19 @@
 package com.github.kzhunmax.jobsearch.job.controller;
 
+import com.github.kzhunmax.jobsearch.exception.InvalidJobImportException;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportResultDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobResponseDTO;
 import com.github.kzhunmax.jobsearch.job.model.es.JobDocument;
 import com.github.kzhunmax.jobsearch.job.service.JobService;
+import com.github.kzhunmax.jobsearch.job.service.bulk.JobImportService;
 import com.github.kzhunmax.jobsearch.job.service.search.JobSearchService;
 import com.github.kzhunmax.jobsearch.payload.ApiResponse;
 import com.github.kzhunmax.jobsearch.security.PricingPlan;
 import com.github.kzhunmax.jobsearch.security.RateLimitingService;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
-import com.github.kzhunmax.jobsearch.user.model.User;
+import com.github.kzhunmax.jobsearch.security.UserPrincipal;
+import com.github.kzhunmax.jobsearch.shared.enums.ImportFormat;
 import com.github.kzhunmax.jobsearch.user.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -26,12 +30,15 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/api/jobs")
 @RequiredArgsConstructor
@@ -40,6 +47,7 @@ import org.springframework.web.bind.annotation.*;
 public class JobController {
     private final JobService jobService;
     private final JobSearchService jobSearchService;
+    private final JobImportService jobImportService;
     private final RateLimitingService rateLimitingService;
     private final AuthService authService;
 
@@ -88,6 +96,66 @@ public class JobController {
         return ApiResponse.created(job);
     }
 
+    @PreAuthorize("hasRole('RECRUITER')")
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE}, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Bulk import job postings",
+            description = "Create many jobs from a CSV file (header row with title, description, companyId or company, "
+                    + "location, salary, applicationDeadline) or a JSON array of job objects. The body is read as a "
+                    + "stream; invalid rows are skipped and reported, all valid rows are created together (recruiters only)"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; the result lists rejected rows",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Malformed file - missing CSV header, broken quoting or invalid JSON",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - recruiter role required",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "413",
+                    description = "Too many rows in one import",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Too many imports running",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<JobImportResultDTO>> importJobs(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = userDetails.getId();
+        ImportFormat format = ImportFormat.of(contentType)
+                .orElseThrow(() -> new InvalidJobImportException("unsupported content type " + contentType));
+        log.info("Importing jobs - userId={}, format={}", userId, format);
+        JobImportResultDTO result = jobImportService.importJobs(userId, format, body);
+        return ApiResponse.success(result);
+    }
+
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "List all active jobs",
@@ -266,8 +334,8 @@ public class JobController {
             HttpServletRequest request
     ) {
         if (userDetails != null) {
-            User user = userDetails.getUser();
-            rateLimitingService.consumeToken(user.getApiKey(), user.getPricingPlan(), "API_KEY");
+            UserPrincipal principal = userDetails.getPrincipal();
+            rateLimitingService.consumeToken(principal.apiKey(), principal.pricingPlan(), "API_KEY");
         } else {
             String ipAddress = authService.getClientIp(request);
             rateLimitingService.consumeToken(ipAddress, PricingPlan.FREE, "IP_ADDRESS");
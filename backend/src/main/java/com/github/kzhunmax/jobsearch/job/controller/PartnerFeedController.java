@@ -0,0 +1,92 @@
+package com.github.kzhunmax.jobsearch.job.controller;
+
+import com.github.kzhunmax.jobsearch.job.service.feed.PartnerFeedService;
+import com.github.kzhunmax.jobsearch.payload.ApiResponse;
+import com.github.kzhunmax.jobsearch.security.ApiKeyAuthFilter;
+import com.github.kzhunmax.jobsearch.security.RateLimitingService;
+import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
+import com.github.kzhunmax.jobsearch.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/partner/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Partner feed", description = "Bulk job feed for aggregator partners, authenticated by API key")
+public class PartnerFeedController {
+
+    static final String NDJSON = "application/x-ndjson";
+
+    private final PartnerFeedService partnerFeedService;
+    private final RateLimitingService rateLimitingService;
+
+    @GetMapping("/feed")
+    @PreAuthorize("hasAuthority('" + ApiKeyAuthFilter.API_KEY_AUTHORITY + "')")
+    @Operation(
+            summary = "Stream the job feed",
+            description = "Without a cursor, stream every active job as NDJSON. With a cursor, stream only jobs changed since it, "
+                    + "including 'deleted' tombstones for deactivated jobs. The last line always carries the cursor for the next call. "
+                    + "Requires the X-API-Key header; gzip-compressed when the client accepts it."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Feed streamed successfully",
+                    content = @Content(mediaType = NDJSON)
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid feed cursor",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or unknown API key"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Rate limit exceeded or too many feeds running",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> feed(
+            @Parameter(description = "Cursor from the last line of a previous feed response")
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        UserPrincipal principal = userDetails.getPrincipal();
+        rateLimitingService.consumeToken(principal.apiKey(), principal.pricingPlan(), "API_KEY");
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        log.info("Partner feed requested - userId={}, incremental={}, gzip={}", principal.id(), since != null, gzip);
+
+        StreamingResponseBody body = partnerFeedService.feed(since, gzip);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.kzhunmax.jobsearch.job.dto;
+
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Request to move many applications to the same status")
+public record BulkStatusUpdateRequestDTO(
+
+        @Schema(description = "IDs of the applications to update", example = "[1, 2, 3]")
+        @NotEmpty(message = "At least one application ID is required")
+        @Size(max = 5000, message = "At most 5000 applications can be updated at once")
+        List<@NotNull Long> applicationIds,
+
+        @Schema(description = "New application status", example = "UNDER_REVIEW")
+        @NotNull(message = "Status is required")
+        ApplicationStatus status
+) {
+}
@@ -0,0 +1,17 @@
+package com.github.kzhunmax.jobsearch.job.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of a bulk application status update")
+public record BulkStatusUpdateResponseDTO(
+
+        @Schema(description = "Number of distinct applications in the request")
+        int requested,
+
+        @Schema(description = "Number of applications whose status changed")
+        int updated,
+
+        @Schema(description = "Status the applications were moved to")
+        String status
+) {
+}
@@ -32,7 +32,7 @@ public record JobApplicationResponseDTO(
         @Schema(description = "Cover letter text")
         String coverLetter,
 
-        @Schema(description = "An url to candidate resume")
+        @Schema(description = "Authenticated download URL of the candidate resume")
         String resumeUrl
 ) {
 }
@@ -0,0 +1,15 @@
+package com.github.kzhunmax.jobsearch.job.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "A rejected row of a bulk import")
+public record JobImportErrorDTO(
+
+        @Schema(description = "1-based position of the row among the data rows (the CSV header is not counted)")
+        long row,
+
+        @Schema(description = "Why the row was rejected")
+        String message
+
+) {
+}
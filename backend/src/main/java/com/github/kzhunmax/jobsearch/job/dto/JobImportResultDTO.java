@@ -0,0 +1,26 @@
+package com.github.kzhunmax.jobsearch.job.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Outcome of a bulk job import")
+public record JobImportResultDTO(
+
+        @Schema(description = "Number of data rows read")
+        long rows,
+
+        @Schema(description = "Number of jobs created")
+        long imported,
+
+        @Schema(description = "Number of rows rejected")
+        long rejected,
+
+        @Schema(description = "Rejected rows, in file order")
+        List<JobImportErrorDTO> errors,
+
+        @Schema(description = "Whether more rows were rejected than listed in errors")
+        boolean errorsTruncated
+
+) {
+}
@@ -0,0 +1,43 @@
+package com.github.kzhunmax.jobsearch.job.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+@Schema(description = "One job of a bulk import; the company is given either by ID or by name")
+public record JobImportRowDTO(
+
+        @Schema(description = "Job title position", minLength = 3, maxLength = 100)
+        @NotBlank(message = "Title is required")
+        @Size(min = 3, max = 100)
+        String title,
+
+        @Schema(description = "Detailed job description and requirements")
+        String description,
+
+        @Schema(description = "ID of the company posting the job", example = "1")
+        Long companyId,
+
+        @Schema(description = "Name of the company posting the job, used when companyId is absent", example = "Acme Inc")
+        String company,
+
+        @Schema(description = "Job location (city, state, remote, etc.)", maxLength = 100)
+        @NotBlank(message = "Location is required")
+        @Size(max = 100)
+        String location,
+
+        @Schema(description = "Annual salary", minimum = "0")
+        @NotNull(message = "Salary is required")
+        @Positive(message = "Salary must be positive")
+        Double salary,
+
+        @Schema(description = "Application deadline for the position")
+        @NotNull(message = "Deadline for applying is required")
+        LocalDate applicationDeadline
+
+) {
+}
@@ -1,8 +1,10 @@
 package com.github.kzhunmax.jobsearch.job.dto;
 
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
+import java.util.Map;
 
 
 @Schema(description = "Job posting details response")
@@ -33,6 +35,9 @@ public record JobResponseDTO(
         boolean active,
 
         @Schema(description = "Email of the user who posted the job")
-        String postedBy
+        String postedBy,
+
+        @Schema(description = "Number of applications per status; only included in the recruiter's own job list")
+        Map<ApplicationStatus, Long> applicationCounts
 ) {
 }
@@ -2,10 +2,11 @@ package com.github.kzhunmax.jobsearch.job.mapper;
 
 import com.github.kzhunmax.jobsearch.job.dto.JobApplicationResponseDTO;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ResumeDownloadUrls.class)
 public interface JobApplicationMapper {
 
     @Mapping(target = "jobId", source = "job.id")
@@ -13,7 +14,7 @@ public interface JobApplicationMapper {
     @Mapping(target = "company", source = "job.company.name")
     @Mapping(target = "candidateEmail", source = "candidate.email")
     @Mapping(target = "candidateProfileId", source = "candidate.profile.id")
-    @Mapping(target = "resumeUrl", source = "resume.fileUrl")
+    @Mapping(target = "resumeUrl", source = "resume.id", qualifiedByName = "resumeDownloadUrl")
     @Mapping(target = "status", expression = "java(application.getStatus() != null ? application.getStatus().name() : null)")
     @Mapping(target = "appliedAt", expression = "java(application.getAppliedAt() != null ? application.getAppliedAt().toString() : null)")
     JobApplicationResponseDTO toDto(JobApplication application);
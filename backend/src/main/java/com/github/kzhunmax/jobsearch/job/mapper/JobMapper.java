@@ -5,10 +5,13 @@ import com.github.kzhunmax.jobsearch.job.dto.JobRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobResponseDTO;
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import org.mapstruct.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Map;
+
 @Mapper(componentModel = "spring",
         nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
 public abstract class JobMapper {
@@ -34,8 +37,15 @@ public abstract class JobMapper {
 
     @Mapping(target = "postedBy", source = "job.postedBy.email")
     @Mapping(target = "company", source = "job.company.name")
+    @Mapping(target = "applicationCounts", ignore = true)
     public abstract JobResponseDTO toDto(Job job);
 
+    @Mapping(target = "id", source = "job.id")
+    @Mapping(target = "postedBy", source = "job.postedBy.email")
+    @Mapping(target = "company", source = "job.company.name")
+    @Mapping(target = "applicationCounts", source = "applicationCounts")
+    public abstract JobResponseDTO toDto(Job job, Map<ApplicationStatus, Long> applicationCounts);
+
     @Mapping(target = "active", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "applications", ignore = true)
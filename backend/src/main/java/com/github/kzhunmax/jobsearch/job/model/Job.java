@@ -14,7 +14,8 @@ import java.util.Set;
 @Entity
 @Table(name = "jobs", indexes = {
         @Index(columnList = "title", name = "job_title_index"),
-        @Index(columnList = "posted_by_id", name = "idx_jobs_posted_by")
+        @Index(columnList = "posted_by_id", name = "idx_jobs_posted_by"),
+        @Index(columnList = "updated_at, id", name = "idx_jobs_updated_at_id")
 })
 @Getter
 @Setter
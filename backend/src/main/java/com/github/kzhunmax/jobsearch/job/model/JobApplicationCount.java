@@ -0,0 +1,29 @@
+package com.github.kzhunmax.jobsearch.job.model;
+
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import com.github.kzhunmax.jobsearch.shared.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@Table(name = "job_application_counts", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"job_id", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+public class JobApplicationCount extends BaseEntity {
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 50)
+    private ApplicationStatus status;
+
+    @Column(name = "count", nullable = false)
+    private long count;
+}
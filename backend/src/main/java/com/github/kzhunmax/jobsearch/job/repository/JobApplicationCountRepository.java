@@ -0,0 +1,64 @@
+package com.github.kzhunmax.jobsearch.job.repository;
+
+import com.github.kzhunmax.jobsearch.job.model.JobApplicationCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JobApplicationCountRepository extends JpaRepository<JobApplicationCount, Long> {
+
+    List<JobApplicationCount> findByJobIdIn(Collection<Long> jobIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO job_application_counts (created_at, updated_at, job_id, status, count)
+            VALUES (:now, :now, :jobId, :status, :delta)
+            ON CONFLICT (job_id, status)
+            DO UPDATE SET count = job_application_counts.count + EXCLUDED.count, updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void adjust(@Param("jobId") Long jobId, @Param("status") String status, @Param("delta") long delta, @Param("now") Instant now);
+
+    /**
+     * Overwrites counters that drifted from {@code job_applications}; returns the number corrected.
+     * The counts come from the statement's snapshot, so a counter adjusted by a transaction that
+     * commits meanwhile would be overwritten with a stale value. Only counters untouched since
+     * {@code cutoff} are corrected; the conflict check sees the latest committed row, so one that
+     * was adjusted concurrently is left for the next run.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO job_application_counts (created_at, updated_at, job_id, status, count)
+            SELECT :now, :now, job_id, status, COUNT(*)
+            FROM job_applications
+            GROUP BY job_id, status
+            ON CONFLICT (job_id, status)
+            DO UPDATE SET count = EXCLUDED.count, updated_at = EXCLUDED.updated_at
+            WHERE job_application_counts.count <> EXCLUDED.count
+              AND job_application_counts.updated_at < :cutoff
+            """, nativeQuery = true)
+    int reconcileExisting(@Param("now") Instant now, @Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            UPDATE job_application_counts c
+            SET count = 0, updated_at = :now
+            WHERE c.count <> 0
+              AND c.updated_at < :cutoff
+              AND NOT EXISTS (
+                  SELECT 1 FROM job_applications a
+                  WHERE a.job_id = c.job_id AND a.status = c.status
+              )
+            """, nativeQuery = true)
+    int reconcileEmptied(@Param("now") Instant now, @Param("cutoff") Instant cutoff);
+}
@@ -2,12 +2,22 @@ package com.github.kzhunmax.jobsearch.job.repository;
 
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.shared.enums.ExperienceLevel;
+import com.github.kzhunmax.jobsearch.shared.enums.ProfileType;
+import com.github.kzhunmax.jobsearch.shared.enums.WorkFormat;
+import com.github.kzhunmax.jobsearch.shared.enums.WorkMode;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +28,84 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     Optional<JobApplication> findByJobAndCandidate(Job job, User candidate);
     List<JobApplication> findAllByCandidate(User candidate);
     boolean existsByResumeId(Long resumeId);
+    boolean existsByResumeIdAndJobPostedById(Long resumeId, Long recruiterId);
+    long countByIdInAndJobPostedByEmailIgnoreCase(Collection<Long> ids, String email);
+
+    /**
+     * Moves every listed application that is not already in {@code status} and returns what changed,
+     * with the previous status taken from the pre-update row, in a single statement.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE job_applications a
+            SET status = :status, updated_at = :now
+            FROM job_applications prev
+            JOIN users u ON u.id = prev.candidate_id
+            JOIN jobs j ON j.id = prev.job_id
+            JOIN companies c ON c.id = j.company_id
+            WHERE prev.id = a.id
+              AND a.id IN (:ids)
+              AND a.status <> :status
+            RETURNING a.id AS "applicationId", j.id AS "jobId", u.id AS "candidateId", u.email AS "candidateEmail",
+                      j.title AS "jobTitle", c.name AS "companyName", prev.status AS "previousStatus"
+            """, nativeQuery = true)
+    List<StatusChange> updateStatuses(@Param("ids") Collection<Long> ids, @Param("status") String status, @Param("now") Instant now);
+
+    /**
+     * Everything applyToJob has to check, in one round trip: a row exists iff the job exists, and the
+     * profile and resume columns are null when missing.
+     */
+    @Query("""
+            SELECT j.id AS jobId,
+                   p.id AS profileId, p.profileType AS profileType, p.position AS position,
+                   p.experience AS experience, p.workMode AS workMode, p.format AS format,
+                   r.id AS resumeId, rp.user.id AS resumeOwnerId
+            FROM Job j
+            LEFT JOIN UserProfile p ON p.user.id = :userId
+            LEFT JOIN Resume r ON r.id = :resumeId
+            LEFT JOIN r.userProfile rp
+            WHERE j.id = :jobId
+            """)
+    Optional<ApplyContext> findApplyContext(@Param("jobId") Long jobId, @Param("userId") Long userId, @Param("resumeId") Long resumeId);
+
+    /**
+     * Inserts the application unless the candidate already applied; an empty result means a duplicate.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO job_applications (job_id, candidate_id, resume_id, status, applied_at, cover_letter, created_at, updated_at)
+            VALUES (:jobId, :candidateId, :resumeId, 'APPLIED', :now, NULLIF(:coverLetter, ''), :now, :now)
+            ON CONFLICT (job_id, candidate_id) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("jobId") Long jobId,
+                                  @Param("candidateId") Long candidateId,
+                                  @Param("resumeId") Long resumeId,
+                                  @Param("coverLetter") String coverLetter,
+                                  @Param("now") Instant now);
+
+    @EntityGraph(attributePaths = {"job", "job.company", "candidate", "candidate.profile", "resume"})
+    Optional<JobApplication> findWithDetailsById(Long id);
+
+    interface ApplyContext {
+        Long getJobId();
+        Long getProfileId();
+        ProfileType getProfileType();
+        String getPosition();
+        ExperienceLevel getExperience();
+        WorkMode getWorkMode();
+        WorkFormat getFormat();
+        Long getResumeId();
+        Long getResumeOwnerId();
+    }
+
+    interface StatusChange {
+        Long getApplicationId();
+        Long getJobId();
+        Long getCandidateId();
+        String getCandidateEmail();
+        String getJobTitle();
+        String getCompanyName();
+        String getPreviousStatus();
+    }
 }
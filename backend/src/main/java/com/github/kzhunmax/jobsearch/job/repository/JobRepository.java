@@ -1,13 +1,90 @@
 package com.github.kzhunmax.jobsearch.job.repository;
 
 import com.github.kzhunmax.jobsearch.job.model.Job;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
+
+    String FEED_FETCH_SIZE = "500";
+
     Page<Job> findByActiveTrue(Pageable pageable);
     Page<Job> findByPostedById(Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "company")
+    List<Job> findByIdIn(Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT j.id AS id, j.title AS title, j.description AS description, c.name AS companyName,
+                   j.location AS location, j.salary AS salary, j.applicationDeadline AS applicationDeadline,
+                   j.active AS active, j.updatedAt AS updatedAt
+            FROM Job j JOIN j.company c
+            WHERE j.active = true
+            ORDER BY j.id
+            """)
+    Stream<FeedEntry> streamActiveFeed();
+
+    /**
+     * Jobs changed after the {@code (updatedAt, id)} position and no later than {@code cutoff}, in cursor order.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = FEED_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT j.id AS id, j.title AS title, j.description AS description, c.name AS companyName,
+                   j.location AS location, j.salary AS salary, j.applicationDeadline AS applicationDeadline,
+                   j.active AS active, j.updatedAt AS updatedAt
+            FROM Job j JOIN j.company c
+            WHERE j.updatedAt >= :updatedAt AND (j.updatedAt > :updatedAt OR j.id > :id)
+              AND j.updatedAt <= :cutoff
+            ORDER BY j.updatedAt, j.id
+            """)
+    Stream<FeedEntry> streamFeedChanges(Instant updatedAt, Long id, Instant cutoff);
+
+    Optional<FeedPosition> findFirstByUpdatedAtLessThanEqualOrderByUpdatedAtDescIdDesc(Instant cutoff);
+
+    /**
+     * Re-stamps jobs written earlier in a long transaction, so their feed position is close to commit time.
+     */
+    @Modifying
+    @Query("UPDATE Job j SET j.updatedAt = :now WHERE j.id IN :ids")
+    int touchUpdatedAt(Collection<Long> ids, Instant now);
+
+    interface FeedEntry {
+        Long getId();
+        String getTitle();
+        String getDescription();
+        String getCompanyName();
+        String getLocation();
+        Double getSalary();
+        LocalDate getApplicationDeadline();
+        Boolean getActive();
+        Instant getUpdatedAt();
+    }
+
+    interface FeedPosition {
+        Long getId();
+        Instant getUpdatedAt();
+    }
 }
@@ -0,0 +1,94 @@
+package com.github.kzhunmax.jobsearch.job.service;
+
+import com.github.kzhunmax.jobsearch.job.model.JobApplicationCount;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationCountRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-job, per-status application counters, adjusted in the same transaction as the change they
+ * describe. A nightly reconciliation against {@code job_applications} repairs any drift in counters
+ * that have been quiet for {@code jobs.application-counts.reconcile-quiet-period}, which must outlast
+ * the longest transaction that adjusts them; busier counters are checked on a later run.
+ */
+@Service
+@Slf4j
+public class JobApplicationCountService {
+
+    private final JobApplicationCountRepository jobApplicationCountRepository;
+    private final Duration reconcileQuietPeriod;
+
+    public JobApplicationCountService(
+            JobApplicationCountRepository jobApplicationCountRepository,
+            @Value("${jobs.application-counts.reconcile-quiet-period:PT10M}") Duration reconcileQuietPeriod
+    ) {
+        this.jobApplicationCountRepository = jobApplicationCountRepository;
+        this.reconcileQuietPeriod = reconcileQuietPeriod;
+    }
+
+    public void recordApplied(Long jobId) {
+        jobApplicationCountRepository.adjust(jobId, ApplicationStatus.APPLIED.name(), 1, Instant.now());
+    }
+
+    /**
+     * Moves {@code count} applications of a job between statuses. Callers touching several jobs should
+     * call this in job-id order so concurrent transactions lock counter rows in the same order.
+     */
+    public void recordMoved(Long jobId, ApplicationStatus from, ApplicationStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        Instant now = Instant.now();
+        jobApplicationCountRepository.adjust(jobId, from.name(), -count, now);
+        jobApplicationCountRepository.adjust(jobId, to.name(), count, now);
+    }
+
+    /**
+     * Loads the counters of all given jobs with one query; every status is present, zero when unused.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Map<ApplicationStatus, Long>> countsByJob(Collection<Long> jobIds) {
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        if (jobIds.isEmpty()) {
+            return counts;
+        }
+        jobIds.forEach(jobId -> counts.put(jobId, emptyCounts()));
+        for (JobApplicationCount count : jobApplicationCountRepository.findByJobIdIn(jobIds)) {
+            counts.get(count.getJobId()).put(count.getStatus(), count.getCount());
+        }
+        return counts;
+    }
+
+    @Scheduled(cron = "${jobs.application-counts.reconcile-cron:0 15 4 * * *}")
+    @Transactional
+    public void reconcile() {
+        Instant now = Instant.now();
+        Instant cutoff = now.minus(reconcileQuietPeriod);
+        int corrected = jobApplicationCountRepository.reconcileExisting(now, cutoff)
+                + jobApplicationCountRepository.reconcileEmptied(now, cutoff);
+        if (corrected > 0) {
+            log.warn("Application counters reconciled - corrected={}", corrected);
+        } else {
+            log.debug("Application counters are consistent");
+        }
+    }
+
+    private static Map<ApplicationStatus, Long> emptyCounts() {
+        Map<ApplicationStatus, Long> counts = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return counts;
+    }
+}
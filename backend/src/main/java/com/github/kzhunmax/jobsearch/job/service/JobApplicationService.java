@@ -1,6 +1,12 @@
 package com.github.kzhunmax.jobsearch.job.service;
 
+import com.github.kzhunmax.jobsearch.exception.ApplicationNotFoundException;
+import com.github.kzhunmax.jobsearch.exception.DuplicateApplicationException;
+import com.github.kzhunmax.jobsearch.exception.JobNotFoundException;
+import com.github.kzhunmax.jobsearch.exception.ResumeNotFoundException;
 import com.github.kzhunmax.jobsearch.exception.ResumeOwnershipException;
+import com.github.kzhunmax.jobsearch.exception.UserProfileNotFound;
+import com.github.kzhunmax.jobsearch.job.dto.BulkStatusUpdateResponseDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobApplicationRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobApplicationResponseDTO;
 import com.github.kzhunmax.jobsearch.job.mapper.JobApplicationMapper;
@@ -10,14 +16,16 @@ import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
 import com.github.kzhunmax.jobsearch.job.validator.JobApplicationValidator;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
 import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
-import com.github.kzhunmax.jobsearch.user.model.Resume;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationCreatedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusBatchChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
 import com.github.kzhunmax.jobsearch.user.model.User;
-import com.github.kzhunmax.jobsearch.user.model.UserProfile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
@@ -26,7 +34,16 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -36,8 +53,14 @@ public class JobApplicationService {
     private final JobApplicationMapper jobApplicationMapper;
     private final RepositoryHelper repositoryHelper;
     private final JobApplicationValidator jobApplicationValidator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobApplicationCountService jobApplicationCountService;
 
 
+    /**
+     * Checks job, profile and resume ownership with one joined query, then relies on the
+     * {@code (job_id, candidate_id)} constraint instead of a separate duplicate lookup.
+     */
     @Caching(evict = {
             @CacheEvict(value = "applicationByJob", allEntries = true),
             @CacheEvict(value = "applicationByCandidate", allEntries = true)
@@ -45,18 +68,32 @@ public class JobApplicationService {
     @Transactional
     public JobApplicationResponseDTO applyToJob(Long jobId, Long userId, JobApplicationRequestDTO requestDto) {
         log.info("Applying to job - jobId={}, userId={}", jobId, userId);
-        Job job = repositoryHelper.findJobById(jobId);
-        User candidate = repositoryHelper.findUserById(userId);
-        UserProfile candidateProfile = repositoryHelper.findUserProfileByUserId(userId);
-        jobApplicationValidator.validateCandidateProfileIsComplete(candidateProfile);
-        jobApplicationValidator.validateNoDuplicateApplication(job, candidate);
-        Resume resume = repositoryHelper.findResumeById(requestDto.resumeId());
-        if (!Objects.equals(resume.getUserProfile().getUser().getId(), userId)) {
-            log.warn("User ID={} attempted to apply with resume ID={} which they do not own.", userId, resume.getId());
+        JobApplicationRepository.ApplyContext context = jobApplicationRepository
+                .findApplyContext(jobId, userId, requestDto.resumeId())
+                .orElseThrow(() -> new JobNotFoundException(jobId));
+        if (context.getProfileId() == null) {
+            throw new UserProfileNotFound(userId);
+        }
+        jobApplicationValidator.validateCandidateProfileIsComplete(context);
+        if (context.getResumeId() == null) {
+            throw new ResumeNotFoundException(requestDto.resumeId());
+        }
+        if (!Objects.equals(context.getResumeOwnerId(), userId)) {
+            log.warn("User ID={} attempted to apply with resume ID={} which they do not own.", userId, requestDto.resumeId());
             throw new ResumeOwnershipException();
         }
-        JobApplication application = createAndSaveApplication(job, candidate, requestDto.coverLetter(), resume);
-        log.info("Application saved successfully - applicationId={}, jobId={}", application.getId(), jobId);
+
+        Long applicationId = jobApplicationRepository
+                .insertIfAbsent(jobId, userId, requestDto.resumeId(), Objects.requireNonNullElse(requestDto.coverLetter(), ""), Instant.now())
+                .orElseThrow(() -> {
+                    log.warn("Duplicate application detected for jobId={} and candidateId={}", jobId, userId);
+                    return new DuplicateApplicationException();
+                });
+        jobApplicationCountService.recordApplied(jobId);
+        eventPublisher.publishEvent(new ApplicationCreatedEvent(applicationId, jobId, userId));
+        JobApplication application = jobApplicationRepository.findWithDetailsById(applicationId)
+                .orElseThrow(() -> new ApplicationNotFoundException(applicationId));
+        log.info("Application saved successfully - applicationId={}, jobId={}", applicationId, jobId);
         return jobApplicationMapper.toDto(application);
     }
 
@@ -87,12 +124,50 @@ public class JobApplicationService {
     public JobApplicationResponseDTO updateApplicationStatus(Long applicationId, ApplicationStatus status) {
         log.info("Updating application status - applicationId={}", applicationId);
         JobApplication application = repositoryHelper.findApplicationById(applicationId);
+        ApplicationStatus previousStatus = application.getStatus();
         application.setStatus(status);
         JobApplication savedApplication = jobApplicationRepository.save(application);
+        if (previousStatus != status) {
+            jobApplicationCountService.recordMoved(savedApplication.getJob().getId(), previousStatus, status, 1);
+            publishStatusChanged(savedApplication, previousStatus);
+        }
         log.info("Application status updated successfully - applicationId={}", applicationId);
         return jobApplicationMapper.toDto(savedApplication);
     }
 
+    /**
+     * Applies one status to many applications with a single UPDATE; caches are evicted once and the
+     * resulting status changes are published together. Authorization happens in the controller.
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "applicationByJob", allEntries = true),
+            @CacheEvict(value = "applicationByCandidate", allEntries = true)
+    })
+    @Transactional
+    public BulkStatusUpdateResponseDTO updateApplicationStatuses(Collection<Long> applicationIds, ApplicationStatus status) {
+        Set<Long> distinctIds = new LinkedHashSet<>(applicationIds);
+        log.info("Bulk updating application status - count={}, status={}", distinctIds.size(), status);
+        Instant now = Instant.now();
+        List<JobApplicationRepository.StatusChange> changes = jobApplicationRepository.updateStatuses(distinctIds, status.name(), now);
+        if (!changes.isEmpty()) {
+            recordMoved(changes, status);
+            eventPublisher.publishEvent(new ApplicationStatusBatchChangedEvent(changes.stream()
+                    .map(change -> new ApplicationStatusChangedEvent(
+                            change.getApplicationId(),
+                            change.getCandidateId(),
+                            change.getCandidateEmail(),
+                            change.getJobTitle(),
+                            change.getCompanyName(),
+                            ApplicationStatus.valueOf(change.getPreviousStatus()),
+                            status,
+                            now
+                    ))
+                    .toList()));
+        }
+        log.info("Bulk application status update completed - requested={}, updated={}", distinctIds.size(), changes.size());
+        return new BulkStatusUpdateResponseDTO(distinctIds.size(), changes.size(), status.name());
+    }
+
     @Cacheable(value = "applicationByCandidate", key = "{#userId, #pageable}")
     @Transactional(readOnly = true)
     public PagedModel<EntityModel<JobApplicationResponseDTO>> getApplicationsByCandidate(
@@ -108,15 +183,26 @@ public class JobApplicationService {
         return pagedAssembler.toModel(applicationPage, EntityModel::of);
     }
 
-    private JobApplication createAndSaveApplication(Job job, User candidate, String coverLetter, Resume resume) {
-        JobApplication application = JobApplication.builder()
-                .job(job)
-                .candidate(candidate)
-                .status(ApplicationStatus.APPLIED)
-                .coverLetter(coverLetter)
-                .resume(resume)
-                .build();
+    private void recordMoved(List<JobApplicationRepository.StatusChange> changes, ApplicationStatus status) {
+        Map<Long, Map<ApplicationStatus, Long>> movedByJob = changes.stream()
+                .collect(Collectors.groupingBy(JobApplicationRepository.StatusChange::getJobId, TreeMap::new,
+                        Collectors.groupingBy(change -> ApplicationStatus.valueOf(change.getPreviousStatus()),
+                                () -> new EnumMap<>(ApplicationStatus.class), Collectors.counting())));
+        movedByJob.forEach((jobId, moved) -> moved.forEach((previousStatus, count) ->
+                jobApplicationCountService.recordMoved(jobId, previousStatus, status, count)));
+    }
 
-        return jobApplicationRepository.save(application);
+    private void publishStatusChanged(JobApplication application, ApplicationStatus previousStatus) {
+        Job job = application.getJob();
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                application.getId(),
+                application.getCandidate().getId(),
+                application.getCandidate().getEmail(),
+                job.getTitle(),
+                job.getCompany().getName(),
+                previousStatus,
+                application.getStatus(),
+                Instant.now()
+        ));
     }
 }
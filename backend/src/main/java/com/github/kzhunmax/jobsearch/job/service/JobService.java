@@ -25,6 +25,9 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -34,6 +37,7 @@ public class JobService {
     private final RepositoryHelper repositoryHelper;
     private final JobMapper jobMapper;
     private final UserEventProducer eventProducer;
+    private final JobApplicationCountService jobApplicationCountService;
 
     @Transactional
     public JobResponseDTO createJob(JobRequestDTO dto, Long userId) {
@@ -76,12 +80,15 @@ public class JobService {
         job.setActive(false);
 
         log.info("Deactivating job - jobId={}. Updating open applications to REJECTED.", jobId);
+        Map<ApplicationStatus, Long> rejected = new EnumMap<>(ApplicationStatus.class);
         for (JobApplication application : job.getApplications()) {
             if (application.getStatus() == ApplicationStatus.APPLIED || application.getStatus() == ApplicationStatus.UNDER_REVIEW) {
+                rejected.merge(application.getStatus(), 1L, Long::sum);
                 application.setStatus(ApplicationStatus.REJECTED);
             }
         }
         jobRepository.save(job);
+        rejected.forEach((status, count) -> jobApplicationCountService.recordMoved(jobId, status, ApplicationStatus.REJECTED, count));
         log.info("Job deleted successfully - jobId={}", jobId);
         eventProducer.sendJobSyncEvent(new JobSyncEvent(job.getId(), SyncAction.DELETE));
     }
@@ -106,8 +113,10 @@ public class JobService {
             PagedResourcesAssembler<JobResponseDTO> pagedAssembler
     ) {
         log.info("Fetching jobs by recruiter - userId={}, pageable={}", userId, pageable);
-        Page<JobResponseDTO> dtoPage = jobRepository.findByPostedById(userId, pageable)
-                .map(jobMapper::toDto);
+        Page<Job> jobPage = jobRepository.findByPostedById(userId, pageable);
+        Map<Long, Map<ApplicationStatus, Long>> counts = jobApplicationCountService.countsByJob(
+                jobPage.map(Job::getId).getContent());
+        Page<JobResponseDTO> dtoPage = jobPage.map(job -> jobMapper.toDto(job, counts.get(job.getId())));
 
         long total = dtoPage.getTotalElements();
         log.info("Found {} jobs for recruiter={}", total, userId);
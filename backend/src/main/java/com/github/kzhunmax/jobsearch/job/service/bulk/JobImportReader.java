@@ -0,0 +1,223 @@
+package com.github.kzhunmax.jobsearch.job.service.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.InvalidJobImportException;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportRowDTO;
+import com.github.kzhunmax.jobsearch.shared.enums.ImportFormat;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads import rows one at a time from the request body. A row that cannot be converted is returned
+ * with an error instead of a value; only a structurally broken file aborts the import.
+ */
+abstract sealed class JobImportReader implements Closeable {
+
+    record Row(long number, JobImportRowDTO value, String error) {
+    }
+
+    static JobImportReader create(ImportFormat format, InputStream in, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv(in);
+            case JSON -> new Json(in, objectMapper);
+        };
+    }
+
+    /**
+     * Returns the next row, or {@code null} once the input is exhausted.
+     */
+    abstract Row next() throws IOException;
+
+    static final class Csv extends JobImportReader {
+
+        static final int MAX_RECORD_LENGTH = 1 << 20;
+
+        private static final List<String> FIELDS =
+                List.of("title", "description", "companyId", "company", "location", "salary", "applicationDeadline");
+
+        private final Reader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long number;
+
+        Csv(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new InvalidJobImportException("the file is empty");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = normalize(header.get(i));
+                for (String field : FIELDS) {
+                    if (normalize(field).equals(name)) {
+                        columns.putIfAbsent(field, i);
+                    }
+                }
+            }
+            if (!columns.containsKey("title")) {
+                throw new InvalidJobImportException("the first line must be a header naming the columns, including title");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.getFirst().isBlank());
+            number++;
+            try {
+                return new Row(number, new JobImportRowDTO(
+                        value(record, "title", Function.identity()),
+                        value(record, "description", Function.identity()),
+                        value(record, "companyId", Long::valueOf),
+                        value(record, "company", Function.identity()),
+                        value(record, "location", Function.identity()),
+                        value(record, "salary", Double::valueOf),
+                        value(record, "applicationDeadline", LocalDate::parse)
+                ), null);
+            } catch (InvalidValueException e) {
+                return new Row(number, null, e.getMessage());
+            }
+        }
+
+        private <T> T value(List<String> record, String field, Function<String, T> parser) {
+            Integer index = columns.get(field);
+            if (index == null || index >= record.size() || record.get(index).isBlank()) {
+                return null;
+            }
+            try {
+                return parser.apply(record.get(index).strip());
+            } catch (RuntimeException e) {
+                throw new InvalidValueException(field + ": invalid value");
+            }
+        }
+
+        /**
+         * One RFC 4180 record: quoted fields may contain commas, doubled quotes and line breaks.
+         */
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+            while (true) {
+                if (++length > MAX_RECORD_LENGTH) {
+                    throw new InvalidJobImportException("row " + (number + 1) + " is longer than " + MAX_RECORD_LENGTH + " characters");
+                }
+                if (quoted) {
+                    if (c == -1) {
+                        throw new InvalidJobImportException("row " + (number + 1) + " has an unterminated quoted value");
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == -1 || c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+
+        private static String normalize(String name) {
+            return name.replace("\uFEFF", "").strip().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+
+        private static final class InvalidValueException extends RuntimeException {
+            private InvalidValueException(String message) {
+                super(message, null, false, false);
+            }
+        }
+    }
+
+    static final class Json extends JobImportReader {
+
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        private long number;
+
+        Json(InputStream in, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.parser = objectMapper.getFactory().createParser(in);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidJobImportException("expected a JSON array of jobs");
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                throw new InvalidJobImportException("the JSON array is not terminated");
+            }
+            if (token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            number++;
+            JsonNode node = objectMapper.readTree(parser);
+            if (!node.isObject()) {
+                return new Row(number, null, "expected a job object");
+            }
+            try {
+                return new Row(number, objectMapper.treeToValue(node, JobImportRowDTO.class), null);
+            } catch (JsonProcessingException e) {
+                return new Row(number, null, describe(e));
+            }
+        }
+
+        private static String describe(JsonProcessingException e) {
+            if (e instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()
+                    && mapping.getPath().getLast().getFieldName() != null) {
+                return mapping.getPath().getLast().getFieldName() + ": invalid value";
+            }
+            return "invalid job object";
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
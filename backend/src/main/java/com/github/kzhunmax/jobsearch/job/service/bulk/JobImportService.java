@@ -0,0 +1,245 @@
+package com.github.kzhunmax.jobsearch.job.service.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.company.model.Company;
+import com.github.kzhunmax.jobsearch.company.repository.CompanyRepository;
+import com.github.kzhunmax.jobsearch.exception.InvalidJobImportException;
+import com.github.kzhunmax.jobsearch.exception.JobImportTooLargeException;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportErrorDTO;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportResultDTO;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportRowDTO;
+import com.github.kzhunmax.jobsearch.job.model.Job;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.ImportFormat;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncBatchEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Creates jobs from a CSV or JSON upload. The upload is first read, validated and resolved against
+ * companies with no transaction open, keeping at most {@code max-rows} valid rows; a slow client
+ * therefore never pins a database connection. The rows are then persisted in one short transaction,
+ * in chunks of {@code batch-size} (one JDBC batch each, ids come from the pooled sequence) with the
+ * persistence context cleared between chunks. Invalid rows are skipped and reported. Search indexing
+ * is requested with one event after commit.
+ * <p>
+ * Just before commit every imported job's {@code updated_at} is re-stamped, so the partner feed, which
+ * only trusts changes older than its settle delay, cannot hand out a cursor past jobs that were stamped
+ * early in a long import but had not committed yet.
+ */
+@Service
+@Slf4j
+public class JobImportService {
+
+    static final String METRIC_PREFIX = "jobs.import";
+
+    private final JobRepository jobRepository;
+    private final CompanyRepository companyRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final int maxRows;
+    private final int maxErrors;
+
+    public JobImportService(
+            JobRepository jobRepository,
+            CompanyRepository companyRepository,
+            UserRepository userRepository,
+            EntityManager entityManager,
+            TransactionTemplate transactionTemplate,
+            Validator validator,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${jobs.import.batch-size:500}") int batchSize,
+            @Value("${jobs.import.max-rows:10000}") int maxRows,
+            @Value("${jobs.import.max-errors:1000}") int maxErrors,
+            @Value("${jobs.import.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.jobRepository = jobRepository;
+        this.companyRepository = companyRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.maxErrors = maxErrors;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public JobImportResultDTO importJobs(Long userId, ImportFormat format, InputStream in) {
+        if (!permits.tryAcquire()) {
+            log.warn("Job import rejected, too many running imports - userId={}", userId);
+            throw new RateLimitExceededException();
+        }
+        long started = System.nanoTime();
+        try {
+            ParsedImport parsed = parse(format, in);
+            List<Long> jobIds = parsed.jobs().isEmpty()
+                    ? List.of()
+                    : transactionTemplate.execute(_ -> insert(userId, parsed.jobs()));
+            JobImportResultDTO result = new JobImportResultDTO(parsed.rows(), jobIds.size(), parsed.rejected(),
+                    parsed.errors(), parsed.rejected() > parsed.errors().size());
+            long elapsedNanos = System.nanoTime() - started;
+            Timer.builder(METRIC_PREFIX + ".duration").tag("format", format.name()).register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            Counter.builder(METRIC_PREFIX + ".rows").tag("outcome", "imported").register(meterRegistry)
+                    .increment(result.imported());
+            Counter.builder(METRIC_PREFIX + ".rows").tag("outcome", "rejected").register(meterRegistry)
+                    .increment(result.rejected());
+            log.info("Jobs imported - userId={}, format={}, rows={}, imported={}, rejected={}, tookMs={}",
+                    userId, format, result.rows(), result.imported(), result.rejected(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            return result;
+        } finally {
+            permits.release();
+        }
+    }
+
+    private record PendingJob(JobImportRowDTO row, Long companyId) {
+    }
+
+    private record ParsedImport(long rows, List<PendingJob> jobs, long rejected, List<JobImportErrorDTO> errors) {
+    }
+
+    private ParsedImport parse(ImportFormat format, InputStream in) {
+        CompanyCache companies = new CompanyCache();
+        List<PendingJob> jobs = new ArrayList<>();
+        List<JobImportErrorDTO> errors = new ArrayList<>();
+        long rows = 0;
+        long rejected = 0;
+        try (JobImportReader reader = JobImportReader.create(format, in, objectMapper)) {
+            JobImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                if (++rows > maxRows) {
+                    throw new JobImportTooLargeException(maxRows);
+                }
+                Optional<Long> companyId = Optional.empty();
+                String error = row.error() != null ? row.error() : validate(row.value());
+                if (error == null) {
+                    companyId = companies.resolve(row.value());
+                    if (companyId.isEmpty()) {
+                        error = "company: not found";
+                    }
+                }
+                if (error != null) {
+                    if (++rejected <= maxErrors) {
+                        errors.add(new JobImportErrorDTO(row.number(), error));
+                    }
+                    continue;
+                }
+                jobs.add(new PendingJob(row.value(), companyId.get()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidJobImportException(e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ParsedImport(rows, jobs, rejected, errors);
+    }
+
+    private List<Long> insert(Long userId, List<PendingJob> jobs) {
+        List<Job> chunk = new ArrayList<>(batchSize);
+        List<Long> jobIds = new ArrayList<>(jobs.size());
+        for (PendingJob job : jobs) {
+            chunk.add(toJob(job.row(), job.companyId(), userId));
+            if (chunk.size() == batchSize) {
+                flush(chunk, jobIds);
+            }
+        }
+        flush(chunk, jobIds);
+        Instant now = Instant.now();
+        for (int from = 0; from < jobIds.size(); from += batchSize) {
+            jobRepository.touchUpdatedAt(jobIds.subList(from, Math.min(from + batchSize, jobIds.size())), now);
+        }
+        eventPublisher.publishEvent(new JobSyncBatchEvent(List.copyOf(jobIds), SyncAction.UPSERT));
+        return jobIds;
+    }
+
+    private String validate(JobImportRowDTO row) {
+        if (row.companyId() == null && (row.company() == null || row.company().isBlank())) {
+            return "company: companyId or company is required";
+        }
+        String violations = validator.validate(row).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return violations.isEmpty() ? null : violations;
+    }
+
+    private Job toJob(JobImportRowDTO row, Long companyId, Long userId) {
+        return Job.builder()
+                .title(row.title().strip())
+                .description(row.description())
+                .company(companyRepository.getReferenceById(companyId))
+                .location(row.location().strip())
+                .salary(row.salary())
+                .applicationDeadline(row.applicationDeadline())
+                .postedBy(userRepository.getReferenceById(userId))
+                .build();
+    }
+
+    private void flush(List<Job> chunk, List<Long> jobIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        jobRepository.saveAll(chunk);
+        entityManager.flush();
+        chunk.forEach(job -> jobIds.add(job.getId()));
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    /**
+     * Company lookups for one import: each distinct company ID or name is resolved at most once.
+     */
+    private final class CompanyCache {
+
+        private final Map<Long, Boolean> existingIds = new HashMap<>();
+        private final Map<String, Optional<Long>> idsByName = new HashMap<>();
+
+        Optional<Long> resolve(JobImportRowDTO row) {
+            if (row.companyId() != null) {
+                boolean exists = existingIds.computeIfAbsent(row.companyId(), companyRepository::existsById);
+                return exists ? Optional.of(row.companyId()) : Optional.empty();
+            }
+            return idsByName.computeIfAbsent(Company.normalize(row.company()),
+                    name -> companyRepository.findCompanyByNormalizedName(name).map(Company::getId));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.kzhunmax.jobsearch.job.service.export;
+
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+public record ApplicationExportRow(
+        long applicationId,
+        String status,
+        Instant appliedAt,
+        String candidateEmail,
+        String fullName,
+        String phoneNumber,
+        String position,
+        String experience,
+        String country,
+        String city,
+        String workMode,
+        String format,
+        String resumeTitle,
+        String resumeUrl
+) {
+
+    static final String[] COLUMNS = {
+            "application_id", "status", "applied_at", "candidate_email", "full_name", "phone_number", "position",
+            "experience", "country", "city", "work_mode", "format", "resume_title", "resume_url"
+    };
+
+    static ApplicationExportRow from(ResultSet rs, ResumeDownloadUrls resumeDownloadUrls) throws SQLException {
+        Timestamp appliedAt = rs.getTimestamp("applied_at");
+        Long resumeId = rs.getObject("resume_id", Long.class);
+        return new ApplicationExportRow(
+                rs.getLong("application_id"),
+                rs.getString("status"),
+                appliedAt != null ? appliedAt.toInstant() : null,
+                rs.getString("candidate_email"),
+                rs.getString("full_name"),
+                rs.getString("phone_number"),
+                rs.getString("position"),
+                rs.getString("experience"),
+                rs.getString("country"),
+                rs.getString("city"),
+                rs.getString("work_mode"),
+                rs.getString("format"),
+                rs.getString("resume_title"),
+                resumeDownloadUrls.of(resumeId)
+        );
+    }
+
+    Object[] values() {
+        return new Object[]{
+                applicationId, status, appliedAt, candidateEmail, fullName, phoneNumber, position,
+                experience, country, city, workMode, format, resumeTitle, resumeUrl
+        };
+    }
+}
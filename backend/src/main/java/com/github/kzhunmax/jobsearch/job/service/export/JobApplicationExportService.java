@@ -0,0 +1,134 @@
+package com.github.kzhunmax.jobsearch.job.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.shared.StreamingPermits;
+import com.github.kzhunmax.jobsearch.shared.enums.ExportFormat;
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams every application of a job from a forward-only JDBC cursor straight into the response.
+ * Rows are fetched {@code fetch-size} at a time inside a read-only transaction (PostgreSQL only uses
+ * a cursor with auto-commit off), so memory stays flat regardless of the number of applications.
+ * Each running export holds a connection, hence the cap on concurrent exports.
+ */
+@Service
+@Slf4j
+public class JobApplicationExportService {
+
+    static final String METRIC_PREFIX = "applications.export";
+
+    static final String EXPORT_SQL = """
+            SELECT a.id AS application_id, a.status, a.applied_at,
+                   u.email AS candidate_email,
+                   p.full_name, p.phone_number, p.position, p.experience, p.country, p.city, p.work_mode, p.format,
+                   r.title AS resume_title, r.id AS resume_id
+            FROM job_applications a
+            JOIN users u ON u.id = a.candidate_id
+            LEFT JOIN user_profiles p ON p.user_id = a.candidate_id
+            LEFT JOIN resumes r ON r.id = a.resume_id
+            WHERE a.job_id = ?
+            ORDER BY a.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ResumeDownloadUrls resumeDownloadUrls;
+    private final MeterRegistry meterRegistry;
+    private final StreamingPermits permits;
+    private final int fetchSize;
+
+    public JobApplicationExportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            ResumeDownloadUrls resumeDownloadUrls,
+            MeterRegistry meterRegistry,
+            @Value("${applications.export.fetch-size:500}") int fetchSize,
+            @Value("${applications.export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.resumeDownloadUrls = resumeDownloadUrls;
+        this.meterRegistry = meterRegistry;
+        this.fetchSize = fetchSize;
+        this.permits = new StreamingPermits(maxConcurrent);
+    }
+
+    /**
+     * Reserves an export slot and returns the body that performs the export when the response is written.
+     */
+    public StreamingResponseBody export(Long jobId, ExportFormat format) {
+        return permits.tryReserve(out -> write(jobId, format, out)).orElseThrow(() -> {
+            log.warn("Export rejected, too many running exports - jobId={}", jobId);
+            return new RateLimitExceededException();
+        });
+    }
+
+    long write(Long jobId, ExportFormat format, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        long rows;
+        try (ApplicationExportWriter writer = ApplicationExportWriter.create(format, out, objectMapper)) {
+            rows = stream(jobId, writer);
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        double rowsPerSecond = rows * 1e9 / Math.max(elapsedNanos, 1);
+        Timer.builder(METRIC_PREFIX + ".duration").tag("format", format.name()).register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(METRIC_PREFIX + ".rows").tag("format", format.name()).register(meterRegistry)
+                .increment(rows);
+        DistributionSummary.builder(METRIC_PREFIX + ".throughput").baseUnit("rows/s").tag("format", format.name())
+                .register(meterRegistry).record(rowsPerSecond);
+        log.info("Applications exported - jobId={}, format={}, rows={}, tookMs={}, rowsPerSecond={}",
+                jobId, format, rows, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(rowsPerSecond));
+        return rows;
+    }
+
+    private long stream(Long jobId, ApplicationExportWriter writer) throws IOException {
+        try {
+            Long rows = transactionTemplate.execute(_ -> {
+                long[] count = {0};
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    statement.setLong(1, jobId);
+                    return statement;
+                }, rs -> {
+                    try {
+                        writer.write(ApplicationExportRow.from(rs, resumeDownloadUrls));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    count[0]++;
+                });
+                return count[0];
+            });
+            return rows != null ? rows : 0;
+        } catch (UncheckedIOException e) {
+            log.info("Export aborted by client - jobId={}", jobId);
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.kzhunmax.jobsearch.job.service.feed;
+
+import com.github.kzhunmax.jobsearch.exception.InvalidFeedCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque position in the partner feed: the {@code (updated_at, id)} of the last change a partner has seen.
+ */
+public record FeedCursor(Instant updatedAt, long id) {
+
+    public static final FeedCursor START = new FeedCursor(Instant.EPOCH, 0);
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = updatedAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static FeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new FeedCursor(Instant.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new InvalidFeedCursorException(cursor);
+        }
+    }
+}
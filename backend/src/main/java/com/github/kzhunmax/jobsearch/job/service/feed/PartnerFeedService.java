@@ -0,0 +1,189 @@
+package com.github.kzhunmax.jobsearch.job.service.feed;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository.FeedEntry;
+import com.github.kzhunmax.jobsearch.shared.StreamingPermits;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Partner job feed. Without a cursor it streams every active job; with one it streams only jobs changed
+ * since, with a tombstone for each deactivated job. Both end with a {@code cursor} line to resume from.
+ * <p>
+ * Rows are read through a server-side cursor, so a full dump costs one sequential scan instead of a
+ * page-by-page OFFSET crawl. Changes newer than {@code settle-delay} are held back until the next call:
+ * {@code updated_at} is stamped before commit, so a very recent row could still be joined by an older,
+ * not-yet-committed one that a cursor past it would skip.
+ * <p>
+ * The feed reads the primary on purpose. A replica may lag by up to the routing max-lag plus one
+ * health-check interval, which can exceed the settle delay, so a cursor taken from a replica could
+ * move past rows that are not there yet and never return to them.
+ */
+@Service
+@Slf4j
+public class PartnerFeedService {
+
+    static final String METRIC_PREFIX = "partner.feed";
+
+    private final JobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final StreamingPermits permits;
+    private final Duration settleDelay;
+
+    public PartnerFeedService(
+            JobRepository jobRepository,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${partner-feed.settle-delay:PT10S}") Duration settleDelay,
+            @Value("${partner-feed.max-concurrent:4}") int maxConcurrent
+    ) {
+        this.jobRepository = jobRepository;
+        // Read-write so replica routing keeps the feed on the primary; see the class comment.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.settleDelay = settleDelay;
+        this.permits = new StreamingPermits(maxConcurrent);
+    }
+
+    /**
+     * Validates the cursor and reserves a feed slot; the returned body streams the feed when the response is written.
+     */
+    public StreamingResponseBody feed(String since, boolean gzip) {
+        FeedCursor cursor = since == null || since.isBlank() ? null : FeedCursor.decode(since);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                try (GZIPOutputStream compressed = new GZIPOutputStream(out, 8192)) {
+                    write(cursor, compressed);
+                }
+            } else {
+                write(cursor, out);
+            }
+        };
+        return permits.tryReserve(body).orElseThrow(() -> {
+            log.warn("Partner feed rejected, too many running feeds");
+            return new RateLimitExceededException();
+        });
+    }
+
+    long write(FeedCursor since, OutputStream out) throws IOException {
+        String mode = since == null ? "full" : "incremental";
+        long started = System.nanoTime();
+        long lines;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            Long written = transactionTemplate.execute(_ -> {
+                try {
+                    return since == null ? writeFull(generator) : writeChanges(since, generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            lines = written != null ? written : 0;
+        } catch (UncheckedIOException e) {
+            log.info("Partner feed aborted by client - mode={}", mode);
+            throw e.getCause();
+        }
+        long elapsedNanos = System.nanoTime() - started;
+        Timer.builder(METRIC_PREFIX + ".duration").tag("mode", mode).register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+        Counter.builder(METRIC_PREFIX + ".entries").tag("mode", mode).register(meterRegistry).increment(lines);
+        log.info("Partner feed streamed - mode={}, entries={}, tookMs={}", mode, lines, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return lines;
+    }
+
+    private long writeFull(JsonGenerator generator) throws IOException {
+        FeedCursor next = jobRepository.findFirstByUpdatedAtLessThanEqualOrderByUpdatedAtDescIdDesc(cutoff())
+                .map(position -> new FeedCursor(position.getUpdatedAt(), position.getId()))
+                .orElse(FeedCursor.START);
+        long lines = 0;
+        try (Stream<FeedEntry> entries = jobRepository.streamActiveFeed()) {
+            for (Iterator<FeedEntry> it = entries.iterator(); it.hasNext(); lines++) {
+                writeJob(it.next(), generator);
+            }
+        }
+        writeCursor(next, generator);
+        return lines;
+    }
+
+    private long writeChanges(FeedCursor since, JsonGenerator generator) throws IOException {
+        FeedCursor next = since;
+        long lines = 0;
+        try (Stream<FeedEntry> entries = jobRepository.streamFeedChanges(since.updatedAt(), since.id(), cutoff())) {
+            for (Iterator<FeedEntry> it = entries.iterator(); it.hasNext(); lines++) {
+                FeedEntry entry = it.next();
+                if (Boolean.TRUE.equals(entry.getActive())) {
+                    writeJob(entry, generator);
+                } else {
+                    writeTombstone(entry, generator);
+                }
+                next = new FeedCursor(entry.getUpdatedAt(), entry.getId());
+            }
+        }
+        writeCursor(next, generator);
+        return lines;
+    }
+
+    private Instant cutoff() {
+        return Instant.now().minus(settleDelay);
+    }
+
+    private static void writeJob(FeedEntry entry, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "job");
+        generator.writeNumberField("id", entry.getId());
+        generator.writeStringField("title", entry.getTitle());
+        generator.writeStringField("description", entry.getDescription());
+        generator.writeStringField("company", entry.getCompanyName());
+        generator.writeStringField("location", entry.getLocation());
+        if (entry.getSalary() != null) {
+            generator.writeNumberField("salary", entry.getSalary());
+        }
+        if (entry.getApplicationDeadline() != null) {
+            generator.writeStringField("applicationDeadline", entry.getApplicationDeadline().toString());
+        }
+        generator.writeStringField("updatedAt", entry.getUpdatedAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeTombstone(FeedEntry entry, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "deleted");
+        generator.writeNumberField("id", entry.getId());
+        generator.writeStringField("updatedAt", entry.getUpdatedAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeCursor(FeedCursor cursor, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("type", "cursor");
+        generator.writeStringField("cursor", cursor.encode());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -37,7 +37,7 @@ public class PaymentController {
     public ResponseEntity<ApiResponse<CheckoutSessionResponse>> createCheckoutSession(
             @AuthenticationPrincipal UserDetailsImpl userDetails
     ) throws StripeException {
-        CheckoutSessionResponse response = paymentService.createCheckoutSession(userDetails.getUser());
+        CheckoutSessionResponse response = paymentService.createCheckoutSession(userDetails.getId(), userDetails.getUsername());
         return ApiResponse.success(response);
     }
 
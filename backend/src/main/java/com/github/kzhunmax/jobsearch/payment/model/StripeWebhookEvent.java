@@ -0,0 +1,52 @@
+package com.github.kzhunmax.jobsearch.payment.model;
+
+import com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus;
+import com.github.kzhunmax.jobsearch.shared.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+
+@Table(name = "stripe_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+public class StripeWebhookEvent extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, unique = true)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "customer_key", nullable = false)
+    private String customerKey;
+
+    @Column(name = "event_created_at", nullable = false)
+    private Instant eventCreatedAt;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private StripeEventStatus status = StripeEventStatus.PENDING;
+
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private int attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,85 @@
+package com.github.kzhunmax.jobsearch.payment.repository;
+
+import com.github.kzhunmax.jobsearch.payment.model.StripeWebhookEvent;
+import com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface StripeWebhookEventRepository extends JpaRepository<StripeWebhookEvent, Long> {
+
+    /**
+     * Stores a verified event once; returns 0 when Stripe redelivers an event id that is already queued.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO stripe_events (created_at, updated_at, event_id, event_type, customer_key,
+                                       event_created_at, payload, status, attempts, next_attempt_at)
+            VALUES (:now, :now, :eventId, :eventType, :customerKey, :eventCreatedAt, :payload, 'PENDING', 0, :now)
+            ON CONFLICT (event_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueue(@Param("eventId") String eventId,
+                @Param("eventType") String eventType,
+                @Param("customerKey") String customerKey,
+                @Param("eventCreatedAt") Instant eventCreatedAt,
+                @Param("payload") String payload,
+                @Param("now") Instant now);
+
+    /**
+     * Leases the oldest pending event of each customer whose earlier events are all settled, so a
+     * customer never has more than one event in flight and events are applied in creation order.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE stripe_events
+            SET attempts = attempts + 1, next_attempt_at = :leaseUntil, updated_at = :now
+            WHERE id IN (
+                SELECT e.id FROM stripe_events e
+                WHERE e.status = 'PENDING'
+                  AND e.next_attempt_at <= :now
+                  AND NOT EXISTS (
+                      SELECT 1 FROM stripe_events p
+                      WHERE p.customer_key = e.customer_key
+                        AND p.status = 'PENDING'
+                        AND (p.event_created_at, p.id) < (e.event_created_at, e.id)
+                  )
+                ORDER BY e.event_created_at, e.id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<StripeWebhookEvent> claimDue(@Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE StripeWebhookEvent e
+            SET e.status = com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus.PROCESSED,
+                e.processedAt = :now, e.updatedAt = :now, e.lastError = null
+            WHERE e.id = :id AND e.status = com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus.PENDING
+            """)
+    int markProcessed(@Param("id") Long id, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StripeWebhookEvent e SET e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+    void reschedule(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE StripeWebhookEvent e
+            SET e.status = com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus.FAILED, e.lastError = :lastError
+            WHERE e.id = :id
+            """)
+    void markFailed(@Param("id") Long id, @Param("lastError") String lastError);
+
+    long countByStatus(StripeEventStatus status);
+}
@@ -1,8 +1,13 @@
 package com.github.kzhunmax.jobsearch.payment.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.kzhunmax.jobsearch.payment.CheckoutSessionResponse;
+import com.github.kzhunmax.jobsearch.payment.repository.StripeWebhookEventRepository;
 import com.github.kzhunmax.jobsearch.security.PricingPlan;
-import com.github.kzhunmax.jobsearch.user.model.User;
+import com.github.kzhunmax.jobsearch.shared.event.StripeEventReceivedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
 import com.stripe.Stripe;
 import com.stripe.exception.SignatureVerificationException;
@@ -17,16 +22,22 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class PaymentService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StripeWebhookEventRepository stripeWebhookEventRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${stripe.secret-key}")
     private String stripeSecretKey;
@@ -45,27 +56,69 @@ public class PaymentService {
         Stripe.apiKey = stripeSecretKey;
     }
 
+    /**
+     * Verifies the signature and durably queues the raw event for {@link StripeEventWorker}; Stripe gets
+     * its 200 as soon as the row is stored, and redeliveries of a queued event id are acknowledged as-is.
+     */
     public ResponseEntity<String> handleWebhook(String payload, String sigHeader) {
+        Event event;
         try {
-            Event event = Webhook.constructEvent(payload, sigHeader, webhookSecret);
-            StripeObject stripeObject = event.getDataObjectDeserializer().getObject()
-                    .orElseThrow(() -> new RuntimeException("Failed to deserialize Stripe event data"));
+            event = Webhook.constructEvent(payload, sigHeader, webhookSecret);
+        } catch (SignatureVerificationException e) {
+            log.warn("Stripe webhook signature verification failed.", e);
+            return ResponseEntity.badRequest().body("Webhook Error: Signature verification failed");
+        }
 
-            if (event.getType().equals("checkout.session.completed")) {
-                handleCheckoutSessionCompleted((Session) stripeObject);
+        try {
+            int inserted = stripeWebhookEventRepository.enqueue(event.getId(), event.getType(), customerKey(event, payload),
+                    Instant.ofEpochSecond(event.getCreated()), payload, Instant.now());
+            if (inserted == 0) {
+                log.debug("Duplicate Stripe event ignored - eventId={}", event.getId());
             } else {
-                log.warn("Unhandled Stripe event type: {}", event.getType());
+                log.info("Stripe event queued - eventId={}, type={}", event.getId(), event.getType());
+                eventPublisher.publishEvent(new StripeEventReceivedEvent(event.getId()));
             }
             return ResponseEntity.ok("Event Received");
-        } catch (SignatureVerificationException e) {
-            log.warn("Stripe webhook signature verification failed.", e);
-            return ResponseEntity.badRequest().body("Webhook Error: Signature verification failed");
         } catch (Exception e) {
-            log.error("Unexpected error processing Stripe webhook.", e);
+            log.error("Failed to queue Stripe event {}", event.getId(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Webhook Error: " + e.getMessage());
         }
     }
 
+    /**
+     * Applies a queued event. Called by the worker inside the transaction that marks the event processed.
+     */
+    public void applyEvent(Event event) {
+        StripeObject stripeObject = event.getDataObjectDeserializer().getObject()
+                .orElseThrow(() -> new IllegalStateException("Failed to deserialize Stripe event data"));
+
+        if (event.getType().equals("checkout.session.completed")) {
+            handleCheckoutSessionCompleted((Session) stripeObject);
+        } else {
+            log.warn("Unhandled Stripe event type: {}", event.getType());
+        }
+    }
+
+    /**
+     * Events are ordered per Stripe customer, falling back to our user id for sessions created without one.
+     */
+    private String customerKey(Event event, String payload) {
+        try {
+            JsonNode object = objectMapper.readTree(payload).path("data").path("object");
+            String customer = object.path("customer").asText(null);
+            if (StringUtils.isNotBlank(customer)) {
+                return customer;
+            }
+            String clientReferenceId = object.path("client_reference_id").asText(null);
+            if (StringUtils.isNotBlank(clientReferenceId)) {
+                return "user:" + clientReferenceId;
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Could not read Stripe event {} payload for ordering", event.getId(), e);
+        }
+        return "event:" + event.getId();
+    }
+
     private void handleCheckoutSessionCompleted(Session session) {
         String clientReferenceId = session.getClientReferenceId();
         if (StringUtils.isBlank(clientReferenceId)) {
@@ -85,13 +138,14 @@ public class PaymentService {
                 user -> {
                     user.setPricingPlan(PricingPlan.PREMIUM);
                     userRepository.save(user);
+                    eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
                     log.info("User {} successfully upgraded to PREMIUM", user.getEmail());
                 },
                 () -> log.error("User not found for ID {} from Stripe session {}", userId, session.getId())
         );
     }
 
-    public CheckoutSessionResponse createCheckoutSession(User user) throws StripeException {
+    public CheckoutSessionResponse createCheckoutSession(Long userId, String email) throws StripeException {
         String successUrl = backendUrl + "/api/payments/success?session_id={CHECKOUT_SESSION_ID}";
         String cancelUrl = backendUrl + "/api/payments/cancel";
 
@@ -104,12 +158,12 @@ public class PaymentService {
                         .build())
                 .setSuccessUrl(successUrl)
                 .setCancelUrl(cancelUrl)
-                .setClientReferenceId(user.getId().toString())
+                .setClientReferenceId(userId.toString())
                 .build();
 
         Session session = Session.create(params);
 
-        log.info("Created Stripe Checkout session {} for user {}", session.getId(), user.getEmail());
+        log.info("Created Stripe Checkout session {} for user {}", session.getId(), email);
 
         return new CheckoutSessionResponse(session.getUrl());
     }
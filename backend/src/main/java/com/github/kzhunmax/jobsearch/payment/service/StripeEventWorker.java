@@ -0,0 +1,173 @@
+package com.github.kzhunmax.jobsearch.payment.service;
+
+import com.github.kzhunmax.jobsearch.payment.model.StripeWebhookEvent;
+import com.github.kzhunmax.jobsearch.payment.repository.StripeWebhookEventRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus;
+import com.github.kzhunmax.jobsearch.shared.event.StripeEventReceivedEvent;
+import com.stripe.model.Event;
+import com.stripe.model.StripeObject;
+import com.stripe.net.ApiResource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Applies queued Stripe events from {@code stripe_events}. Each claim leases at most one event per
+ * customer, so events of one customer run strictly in order while different customers are handled in
+ * parallel. Marking the row processed and applying the event share a transaction, so an event whose
+ * lease expired mid-flight is never applied twice.
+ */
+@Component
+@Slf4j
+public class StripeEventWorker implements DisposableBean {
+
+    static final String METRIC_PREFIX = "payments.stripe.events";
+
+    private final StripeWebhookEventRepository stripeWebhookEventRepository;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter failedCounter;
+
+    public StripeEventWorker(
+            StripeWebhookEventRepository stripeWebhookEventRepository,
+            PaymentService paymentService,
+            TransactionTemplate transactionTemplate,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${stripe.events.pool-size:4}") int poolSize,
+            @Value("${stripe.events.batch-size:50}") int batchSize,
+            @Value("${stripe.events.lease:PT1M}") Duration lease,
+            @Value("${stripe.events.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${stripe.events.max-attempts:10}") int maxAttempts
+    ) {
+        this.stripeWebhookEventRepository = stripeWebhookEventRepository;
+        this.paymentService = paymentService;
+        this.transactionTemplate = transactionTemplate;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize),
+                Thread.ofPlatform().name("stripe-events-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventReceived(StripeEventReceivedEvent event) {
+        taskScheduler.schedule(this::drain, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${stripe.events.poll-interval-ms:5000}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<StripeWebhookEvent> claimed;
+            do {
+                Instant now = Instant.now();
+                claimed = stripeWebhookEventRepository.claimDue(now, now.plus(lease), batchSize);
+                if (!claimed.isEmpty()) {
+                    log.debug("Claimed Stripe events - count={}", claimed.size());
+                    CompletableFuture.allOf(claimed.stream()
+                            .map(event -> CompletableFuture.runAsync(() -> process(event), executor))
+                            .toArray(CompletableFuture[]::new)).join();
+                }
+            } while (!claimed.isEmpty());
+            backlog.set(stripeWebhookEventRepository.countByStatus(StripeEventStatus.PENDING));
+        } catch (Exception e) {
+            log.warn("Stripe event drain failed - {}", e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    void process(StripeWebhookEvent queued) {
+        try {
+            Event event = StripeObject.deserializeStripeObject(queued.getPayload(), Event.class, ApiResource.getGlobalResponseGetter());
+            Boolean applied = transactionTemplate.execute(_ -> {
+                if (stripeWebhookEventRepository.markProcessed(queued.getId(), Instant.now()) == 0) {
+                    return false;
+                }
+                paymentService.applyEvent(event);
+                return true;
+            });
+            if (Boolean.TRUE.equals(applied)) {
+                Timer.builder(METRIC_PREFIX + ".latency")
+                        .tag("type", queued.getEventType())
+                        .register(meterRegistry)
+                        .record(Duration.between(queued.getCreatedAt(), Instant.now()));
+                log.info("Stripe event applied - eventId={}, type={}", queued.getEventId(), queued.getEventType());
+            } else {
+                log.debug("Stripe event already applied - eventId={}", queued.getEventId());
+            }
+        } catch (Exception e) {
+            fail(queued, e);
+        }
+    }
+
+    private void fail(StripeWebhookEvent queued, Exception error) {
+        if (queued.getAttempts() >= maxAttempts) {
+            stripeWebhookEventRepository.markFailed(queued.getId(), truncate(error.getMessage()));
+            failedCounter.increment();
+            log.error("Stripe event failed permanently - eventId={}, attempts={}", queued.getEventId(), queued.getAttempts(), error);
+            return;
+        }
+        Instant nextAttemptAt = Instant.now().plus(backoff(queued.getAttempts()));
+        stripeWebhookEventRepository.reschedule(queued.getId(), nextAttemptAt, truncate(error.getMessage()));
+        log.warn("Stripe event failed, retrying at {} - eventId={}, attempts={}",
+                nextAttemptAt, queued.getEventId(), queued.getAttempts(), error);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(5L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
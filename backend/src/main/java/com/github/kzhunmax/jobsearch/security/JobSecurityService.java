@@ -2,6 +2,7 @@ package com.github.kzhunmax.jobsearch.security;
 
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
 import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import lombok.RequiredArgsConstructor;
@@ -10,12 +11,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class JobSecurityService {
     private final RepositoryHelper repositoryHelper;
+    private final JobApplicationRepository jobApplicationRepository;
 
     @Transactional(readOnly = true)
     public boolean isJobOwner(Long jobId, Authentication authentication) {
@@ -60,6 +66,30 @@ public class JobSecurityService {
         return false;
     }
 
+    /**
+     * Set-based counterpart of {@link #canUpdateApplication} for bulk updates: one count query checks
+     * that every application belongs to a job posted by the caller. Unknown IDs count as not owned.
+     */
+    @Transactional(readOnly = true)
+    public boolean canUpdateApplications(Collection<Long> applicationIds, Authentication authentication) {
+        log.debug("Checking bulk application update permission - count={}", applicationIds.size());
+        if (isUnauthenticated(authentication)) {
+            log.debug("Bulk application update permission failed - not authenticated");
+            return false;
+        }
+        if (isAdmin(authentication)) {
+            log.debug("Bulk application update permitted - admin user");
+            return true;
+        }
+
+        Set<Long> distinctIds = new HashSet<>(applicationIds);
+        long owned = jobApplicationRepository.countByIdInAndJobPostedByEmailIgnoreCase(distinctIds, getEmail(authentication));
+        boolean permitted = owned == distinctIds.size();
+        log.debug("Bulk application update permission checked - requested={}, owned={}, permitted={}",
+                distinctIds.size(), owned, permitted);
+        return permitted;
+    }
+
     private boolean isUnauthenticated(Authentication authentication) {
         return authentication == null || !authentication.isAuthenticated();
     }
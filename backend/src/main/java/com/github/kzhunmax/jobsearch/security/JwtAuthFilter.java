@@ -4,6 +4,7 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.github.kzhunmax.jobsearch.security.token.TokenRevocationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,8 +23,9 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
     private static final String AUTHORIZATION_HEADER = "Authorization";
-    private static final String BEARER_PREFIX = "Bearer ";
+    public static final String BEARER_PREFIX = "Bearer ";
     private static final int BEARER_PREFIX_LENGTH = 7;
 
 
@@ -50,7 +52,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(jwt, userDetails) && !isRevoked(jwt)) {
                     log.debug("User authenticated successfully - email={}", email);
                     authenticateUser(request, userDetails);
                 }
@@ -60,6 +62,15 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
     }
 
+    private boolean isRevoked(String jwt) {
+        String familyId = jwtService.extractFamilyId(jwt);
+        if (tokenRevocationService.isRevoked(familyId)) {
+            log.debug("Rejected access token from revoked family - familyId={}", familyId);
+            return true;
+        }
+        return false;
+    }
+
     private String extractJwtFromRequest(HttpServletRequest request) {
         final String authHeader = request.getHeader(AUTHORIZATION_HEADER);
 
@@ -18,6 +18,9 @@ import java.util.function.Function;
 @Service
 @Getter
 public class JwtService {
+
+    public static final String FAMILY_CLAIM = "fid";
+
     @Value("${jwt.secret-key}")
     private String secretKey;
 
@@ -31,6 +34,10 @@ public class JwtService {
         return buildToken(new HashMap<>(), userDetails);
     }
 
+    public String generateToken(UserDetails userDetails, String familyId) {
+        return buildToken(Map.of(FAMILY_CLAIM, familyId), userDetails);
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -68,6 +75,21 @@ public class JwtService {
                 .compact();
     }
 
+    public String generateRefreshToken(UserDetails userDetails, String tokenId, String familyId) {
+        return Jwts.builder()
+                .id(tokenId)
+                .claim(FAMILY_CLAIM, familyId)
+                .subject(userDetails.getUsername())
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(new Date(System.currentTimeMillis() + refreshExpiration))
+                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .compact();
+    }
+
+    public String extractFamilyId(String token) {
+        return extractClaim(token, claims -> claims.get(FAMILY_CLAIM, String.class));
+    }
+
     private SecretKey getSigningKey() {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         return Keys.hmacShaKeyFor(keyBytes);
@@ -0,0 +1,141 @@
+package com.github.kzhunmax.jobsearch.security;
+
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Node-local cache of {@link UserPrincipal} snapshots keyed by email and id. Entries are dropped when a
+ * {@link UserChangedEvent} commits on any node (fanned out over Redis pub/sub); the TTL only bounds
+ * staleness if a message is lost.
+ */
+@Component
+@Slf4j
+public class PrincipalCache implements MessageListener {
+
+    static final String USER_CHANGED_CHANNEL = "auth:user-changed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration ttl;
+    private final int maxSize;
+
+    private final ConcurrentMap<String, Entry> byEmail = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, String> emailById = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${security.principal-cache.ttl:PT10M}") Duration ttl,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(USER_CHANGED_CHANNEL));
+    }
+
+    public UserPrincipal getByEmail(String email) {
+        Entry entry = byEmail.get(email);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            byEmail.remove(email, entry);
+            return null;
+        }
+        return entry.principal();
+    }
+
+    public UserPrincipal getById(Long userId) {
+        String email = emailById.get(userId);
+        return email == null ? null : getByEmail(email);
+    }
+
+    /**
+     * Returns a stamp to pass to {@link #put} after loading from the database, so a snapshot read
+     * before a concurrent invalidation is not cached.
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    public void put(UserPrincipal principal, long stamp) {
+        if (invalidations.get() != stamp) {
+            return;
+        }
+        if (byEmail.size() >= maxSize) {
+            log.debug("Principal cache full, clearing - size={}", byEmail.size());
+            clear();
+        }
+        byEmail.put(principal.email(), new Entry(principal, System.nanoTime() + ttl.toNanos()));
+        emailById.put(principal.id(), principal.email());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId(), event.email());
+        redisTemplate.convertAndSend(USER_CHANGED_CHANNEL, event.userId() + ":" + event.email());
+        log.debug("User changed, principal evicted - userId={}", event.userId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("Malformed user-changed message - body={}", body);
+            return;
+        }
+        String id = body.substring(0, separator);
+        evict("null".equals(id) ? null : Long.valueOf(id), body.substring(separator + 1));
+    }
+
+    void evict(Long userId, String email) {
+        invalidations.incrementAndGet();
+        if (userId != null) {
+            String cachedEmail = emailById.remove(userId);
+            if (cachedEmail != null) {
+                byEmail.remove(cachedEmail);
+            }
+        }
+        if (email != null) {
+            Entry removed = byEmail.remove(email);
+            if (removed != null) {
+                emailById.remove(removed.principal().id(), email);
+            }
+        }
+    }
+
+    private void clear() {
+        invalidations.incrementAndGet();
+        byEmail.clear();
+        emailById.clear();
+    }
+
+    private record Entry(UserPrincipal principal, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
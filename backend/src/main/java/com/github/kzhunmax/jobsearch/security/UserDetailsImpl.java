@@ -16,23 +16,27 @@ import java.util.stream.Collectors;
 @Getter
 public class UserDetailsImpl implements OAuth2User, UserDetails {
 
-    private final User user;
+    private final UserPrincipal principal;
 
     @Setter
     private Map<String, Object> attributes;
 
+    public UserDetailsImpl(UserPrincipal principal) {
+        this.principal = principal;
+    }
+
     public UserDetailsImpl(User user) {
-        this.user = user;
+        this(UserPrincipal.from(user));
     }
 
     public UserDetailsImpl(User user, Map<String, Object> attributes) {
-        this.user = user;
+        this(UserPrincipal.from(user));
         this.attributes = attributes;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return user.getRoles().stream()
+        return principal.roles().stream()
                 .map(Role::name)
                 .map(SimpleGrantedAuthority::new)
                 .collect(Collectors.toSet());
@@ -40,12 +44,12 @@ public class UserDetailsImpl implements OAuth2User, UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return principal.password();
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return principal.email();
     }
 
     @Override
@@ -55,15 +59,15 @@ public class UserDetailsImpl implements OAuth2User, UserDetails {
 
     @Override
     public String getName() {
-        return user.getEmail();
+        return principal.email();
     }
 
     public Long getId() {
-        return user.getId();
+        return principal.id();
     }
 
     @Override
     public boolean isEnabled() {
-        return user.isEmailVerified();
+        return principal.enabled();
     }
 }
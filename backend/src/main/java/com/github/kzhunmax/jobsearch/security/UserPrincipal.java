@@ -0,0 +1,32 @@
+package com.github.kzhunmax.jobsearch.security;
+
+import com.github.kzhunmax.jobsearch.shared.enums.Role;
+import com.github.kzhunmax.jobsearch.user.model.User;
+
+import java.util.Set;
+
+public record UserPrincipal(
+        Long id,
+        String email,
+        String password,
+        Set<Role> roles,
+        PricingPlan pricingPlan,
+        boolean enabled,
+        String apiKey
+) {
+    public UserPrincipal {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getRoles(),
+                user.getPricingPlan(),
+                user.isEmailVerified(),
+                user.getApiKey()
+        );
+    }
+}
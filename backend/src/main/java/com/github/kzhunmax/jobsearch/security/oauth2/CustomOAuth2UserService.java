@@ -6,10 +6,12 @@ import com.github.kzhunmax.jobsearch.security.oauth2.user.OAuth2UserInfo;
 import com.github.kzhunmax.jobsearch.security.oauth2.user.OAuth2UserInfoFactory;
 import com.github.kzhunmax.jobsearch.shared.enums.AuthProvider;
 import com.github.kzhunmax.jobsearch.shared.enums.Role;
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -29,6 +31,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
     private final UserRepository userRepository;
     private final DefaultOAuth2UserService delegate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -66,6 +69,7 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                 log.info("Marking existing OAuth user as verified - email={}", email);
                 user.setEmailVerified(true);
                 userRepository.save(user);
+                eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
             }
         } else {
             log.info("Creating new user for OAuth2 - email={}", email);
@@ -2,6 +2,8 @@ package com.github.kzhunmax.jobsearch.security.oauth2;
 
 import com.github.kzhunmax.jobsearch.security.JwtService;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
+import com.github.kzhunmax.jobsearch.security.token.IssuedTokens;
+import com.github.kzhunmax.jobsearch.security.token.RefreshTokenService;
 import com.github.kzhunmax.jobsearch.shared.CookieService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,6 +24,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JwtService jwtService;
     private final CookieService cookieService;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.oauth2.redirect-uri}")
     private String redirectUri;
@@ -45,10 +48,9 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
         log.info("OAuth2 login successful for user: {}", userDetails.getUsername());
 
-        String accessToken = jwtService.generateToken(userDetails);
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        IssuedTokens tokens = refreshTokenService.issue(userDetails);
 
-        cookieService.addAuthCookiesToResponse(accessToken, refreshToken, jwtService, response);
+        cookieService.addAuthCookiesToResponse(tokens.accessToken(), tokens.refreshToken(), jwtService, response);
 
         return UriComponentsBuilder.fromUriString(redirectUri)
                 .build().toUriString();
@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.security.token;
+
+public record IssuedTokens(
+        String accessToken,
+        String refreshToken
+) {
+}
@@ -0,0 +1,88 @@
+package com.github.kzhunmax.jobsearch.security.token;
+
+import com.github.kzhunmax.jobsearch.exception.InvalidOrExpiredTokenException;
+import com.github.kzhunmax.jobsearch.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Only the latest jti of each token family (login session) is stored; presenting an already
+ * rotated refresh token is treated as theft and revokes the whole family.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    static final String TOKEN_KEY_PREFIX = "auth:refresh:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+
+    public IssuedTokens issue(UserDetails userDetails) {
+        return issueInFamily(userDetails, UUID.randomUUID().toString());
+    }
+
+    public IssuedTokens rotate(String refreshToken, UserDetails userDetails) {
+        Claims claims = jwtService.extractClaim(refreshToken, Function.identity());
+        String tokenId = claims.getId();
+        String familyId = claims.get(JwtService.FAMILY_CLAIM, String.class);
+
+        if (tokenId == null || familyId == null) {
+            log.warn("Refresh token without jti or family rejected - email={}", userDetails.getUsername());
+            throw new InvalidOrExpiredTokenException();
+        }
+        if (tokenRevocationService.isRevokedInStore(familyId)) {
+            log.warn("Refresh token from revoked family rejected - familyId={}", familyId);
+            throw new InvalidOrExpiredTokenException();
+        }
+
+        String storedFamily = redisTemplate.opsForValue().getAndDelete(TOKEN_KEY_PREFIX + tokenId);
+        if (!familyId.equals(storedFamily)) {
+            log.warn("Refresh token reuse detected - jti={}, familyId={}. Revoking family.", tokenId, familyId);
+            tokenRevocationService.revoke(familyId);
+            throw new InvalidOrExpiredTokenException();
+        }
+
+        log.debug("Refresh token rotated - familyId={}", familyId);
+        return issueInFamily(userDetails, familyId);
+    }
+
+    /**
+     * Revokes the family of {@code token}. Access tokens carry the family too, so either kind works;
+     * a refresh token's own jti is dropped as well.
+     */
+    public void revoke(String token) {
+        try {
+            Claims claims = jwtService.extractClaim(token, Function.identity());
+            String familyId = claims.get(JwtService.FAMILY_CLAIM, String.class);
+            if (claims.getId() != null) {
+                redisTemplate.delete(TOKEN_KEY_PREFIX + claims.getId());
+            }
+            if (familyId != null) {
+                tokenRevocationService.revoke(familyId);
+            }
+        } catch (JwtException e) {
+            log.debug("Ignoring revocation of an unparseable refresh token - {}", e.getMessage());
+        }
+    }
+
+    private IssuedTokens issueInFamily(UserDetails userDetails, String familyId) {
+        String tokenId = UUID.randomUUID().toString();
+        String accessToken = jwtService.generateToken(userDetails, familyId);
+        String refreshToken = jwtService.generateRefreshToken(userDetails, tokenId, familyId);
+
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + tokenId, familyId, Duration.ofMillis(jwtService.getRefreshExpiration()));
+        return new IssuedTokens(accessToken, refreshToken);
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.kzhunmax.jobsearch.security.token;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * Redis holds the revoked family markers; every node mirrors them in a local Bloom filter fed by
+ * pub/sub, so the access-token check only goes to Redis on a Bloom hit.
+ */
+@Service
+@Slf4j
+public class TokenRevocationService implements MessageListener {
+
+    static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+    static final String REVOCATION_CHANNEL = "auth:revocations";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration revocationTtl;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter revokedFamilies;
+    private volatile BloomFilter rebuilding;
+
+    public TokenRevocationService(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${jwt.refresh-expiration}") long refreshExpiration,
+            @Value("${jwt.revocation.bloom-expected-insertions:100000}") int expectedInsertions,
+            @Value("${jwt.revocation.bloom-false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.revocationTtl = Duration.ofMillis(refreshExpiration);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.revokedFamilies = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+        rebuild();
+    }
+
+    public void revoke(String familyId) {
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + familyId, "1", revocationTtl);
+        remember(familyId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, familyId);
+        log.info("Token family revoked - familyId={}", familyId);
+    }
+
+    public boolean isRevoked(String familyId) {
+        if (familyId == null || !revokedFamilies.mightContain(familyId)) {
+            return false;
+        }
+        return isRevokedInStore(familyId);
+    }
+
+    public boolean isRevokedInStore(String familyId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + familyId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String familyId = new String(message.getBody(), StandardCharsets.UTF_8);
+        remember(familyId);
+        log.debug("Received revocation for token family - familyId={}", familyId);
+    }
+
+    // Bloom filters cannot forget, so expired markers are dropped by rebuilding from Redis
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}", initialDelayString = "${jwt.revocation.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = fresh;
+        int count = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(REVOKED_KEY_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            while (keys.hasNext()) {
+                fresh.put(keys.next().substring(REVOKED_KEY_PREFIX.length()));
+                count++;
+            }
+            revokedFamilies = fresh;
+            log.info("Revoked token family filter rebuilt - entries={}", count);
+        } catch (Exception e) {
+            log.warn("Failed to rebuild revoked token family filter, keeping the current one", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void remember(String familyId) {
+        revokedFamilies.put(familyId);
+        BloomFilter pending = rebuilding;
+        if (pending != null) {
+            pending.put(familyId);
+        }
+    }
+}
@@ -41,4 +41,20 @@ public class CookieService {
         response.addHeader("Set-Cookie", cookies[1].toString());
         log.debug("Auth cookies added to response successfully");
     }
+
+    public void clearAuthCookies(HttpServletResponse response) {
+        log.debug("Clearing auth cookies");
+        response.addHeader("Set-Cookie", expiredCookie("access_token").toString());
+        response.addHeader("Set-Cookie", expiredCookie("refresh_token").toString());
+    }
+
+    private ResponseCookie expiredCookie(String name) {
+        return ResponseCookie.from(name, "")
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(0)
+                .sameSite("Strict")
+                .build();
+    }
 }
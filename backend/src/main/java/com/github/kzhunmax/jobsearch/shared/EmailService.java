@@ -1,17 +1,34 @@
 package com.github.kzhunmax.jobsearch.shared;
 
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.mail.template.EmailTemplate;
+import com.github.kzhunmax.jobsearch.shared.mail.template.EmailTemplateRenderer;
+import com.github.kzhunmax.jobsearch.shared.mail.template.RenderedEmail;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.MailPreparationException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds localized HTML emails. Delivery is handled by
+ * {@link com.github.kzhunmax.jobsearch.shared.mail.EmailDeliveryService}.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class EmailService {
     private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer templateRenderer;
 
     @Value("${app.frontend.reset-url}")
     private String resetUrl;
@@ -19,24 +36,48 @@ public class EmailService {
     @Value("${app.backend.url}")
     private String backendUrl;
 
-    public void sendVerificationEmail(String email, String token) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject("Verify Your Email");
+    @Value("${app.frontend.applications-url}")
+    private String applicationsUrl;
+
+    @Value("${spring.mail.username:}")
+    private String fromAddress;
+
+    public MimeMessage verificationEmail(String email, String token, Locale locale) {
         String verifyLink = backendUrl + "/api/auth/verify-email?token=" + token;
-        message.setText("Click here to verify: " + verifyLink);
-        mailSender.send(message);
-        log.info("Verification email sent to {}", email);
+        return createMessage(email, templateRenderer.render(EmailTemplate.VERIFICATION, locale, Map.of("verifyLink", verifyLink)));
     }
 
-    public void sendPasswordResetEmail(String email, String token) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(email);
-        message.setSubject("Reset Your Password");
-
+    public MimeMessage passwordResetEmail(String email, String token, Locale locale) {
         String resetLink = resetUrl + "?token=" + token;
-        message.setText("To reset your password, click the link below:\n" + resetLink);
-        mailSender.send(message);
-        log.info("Password reset email sent to {}", email);
+        return createMessage(email, templateRenderer.render(EmailTemplate.PASSWORD_RESET, locale, Map.of("resetLink", resetLink)));
+    }
+
+    public MimeMessage applicationStatusDigest(String email, List<ApplicationStatusChangedEvent> changes, Locale locale) {
+        StringBuilder items = new StringBuilder();
+        for (ApplicationStatusChangedEvent change : changes) {
+            items.append(templateRenderer.renderFragment(EmailTemplate.APPLICATION_STATUS_ITEM, locale, Map.of(
+                    "jobTitle", change.jobTitle(),
+                    "companyName", change.companyName(),
+                    "status", templateRenderer.message("email.status." + change.status().name(), locale)
+            )));
+        }
+        return createMessage(email, templateRenderer.render(EmailTemplate.APPLICATION_STATUS_DIGEST, locale,
+                Map.of("items", items, "applicationsLink", applicationsUrl)));
+    }
+
+    private MimeMessage createMessage(String email, RenderedEmail content) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+            if (StringUtils.hasText(fromAddress)) {
+                helper.setFrom(fromAddress);
+            }
+            helper.setTo(email);
+            helper.setSubject(content.subject());
+            helper.setText(content.html(), true);
+        } catch (MessagingException e) {
+            throw new MailPreparationException("Failed to build email to " + email, e);
+        }
+        return message;
     }
 }
@@ -1,86 +1,213 @@
 package com.github.kzhunmax.jobsearch.shared;
 
+import com.github.kzhunmax.jobsearch.exception.DirectUploadUnsupportedException;
+import com.github.kzhunmax.jobsearch.storage.backend.ObjectKeys;
+import com.github.kzhunmax.jobsearch.storage.backend.PresignedUpload;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import com.github.kzhunmax.jobsearch.storage.service.StorageBlobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import java.util.Objects;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RequiredArgsConstructor
 @Slf4j
 @Service
 public class FileStorageService {
 
-    private final S3Client s3Client;
-
-    @Value("${supabase.url}")
-    private String supabaseUrl;
+    private final StorageBackend storageBackend;
+    private final StorageBlobService storageBlobService;
+
+    @Value("${supabase.s3.presign-ttl:PT10M}")
+    private Duration presignTtl;
+
+    /**
+     * Stores the file under its content hash. Identical content is uploaded once and shared; the
+     * returned URL holds one reference, released again through {@link #scheduleDeletion}.
+     * <p>
+     * The file is read twice: once to hash it, then again for the upload. The hash has to be known
+     * before the key is chosen and before deciding whether the upload can be skipped, and both reads
+     * come from the request's local multipart spool rather than from the client.
+     */
+    public String uploadFile(MultipartFile file, Long userId) {
+        return uploadFile(file, userId, false);
+    }
 
-    @Value("${supabase.bucket:resumes}")
-    private String supabaseBucket;
+    /**
+     * Like {@link #uploadFile}, but under {@link ObjectKeys#PRIVATE_PREFIX}, so the object is never
+     * served publicly. The returned URL identifies the object; it is not readable by clients.
+     */
+    public String uploadPrivateFile(MultipartFile file, Long userId) {
+        return uploadFile(file, userId, true);
+    }
 
-    public String uploadFileToSupabase(MultipartFile file, Long userId) {
+    private String uploadFile(MultipartFile file, Long userId, boolean privateFile) {
+        String sha256 = sha256(file);
+        String path = keyFor(StorageBlobService.blobKey(sha256, file.getContentType()), privateFile);
+        int refCount = storageBlobService.acquire(path, sha256, file.getSize(), file.getContentType());
         try {
-            String uuid = UUID.randomUUID().toString();
-            String originalName = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
-            String fileName = uuid + "_" + StringUtils.getFilename(originalName);
-            String path = "candidates/" + userId + "/" + fileName;
-
-            log.debug("Uploading to Supabase S3 at path={}", path);
-
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(supabaseBucket)
-                    .key(path)
-                    .contentType(file.getContentType())
-                    .build();
-
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
+            if (storageBackend.head(path).isPresent()) {
+                log.info("Identical file already stored, skipping upload - userId={}, key={}, refCount={}", userId, path, refCount);
+                return publicUrl(path);
+            }
+            return uploadAsync(path, file).join();
+        } catch (CompletionException e) {
+            log.error("Failed to upload file for userId={}", userId, e.getCause());
+            storageBlobService.release(path);
+            throw new RuntimeException("File upload failed: " + e.getCause().getMessage());
+        } catch (RuntimeException e) {
+            storageBlobService.release(path);
+            throw e;
+        }
+    }
 
-            String publicUrl = supabaseUrl + "/storage/v1/object/public/" + supabaseBucket + "/" + path;
+    public CompletableFuture<String> uploadAsync(String path, MultipartFile file) {
+        log.debug("Uploading file at path={}", path);
+        try {
+            return storageBackend.upload(path, file.getInputStream(), file.getSize(), file.getContentType())
+                    .thenApply(_ -> {
+                        String publicUrl = publicUrl(path);
+                        log.info("File uploaded successfully - url={}", publicUrl);
+                        return publicUrl;
+                    });
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
-            log.info("CV uploaded successfully to Supabase S3 - url={}", publicUrl);
-            return publicUrl;
+    public String upload(String path, byte[] content, String contentType) {
+        log.debug("Uploading generated file at path={}", path);
+        storageBackend.upload(path, new ByteArrayInputStream(content), content.length, contentType).join();
+        return publicUrl(path);
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to upload to Supabase S3 for userId={}", userId, e);
-            throw new RuntimeException("Upload to Supabase S3 failed: " + e.getMessage());
+    public byte[] read(String objectKey, long maxBytes) throws IOException {
+        StoredObject object = storageBackend.head(objectKey)
+                .orElseThrow(() -> new NoSuchFileException(objectKey));
+        if (object.size() > maxBytes) {
+            throw new IOException("Object " + objectKey + " is larger than " + maxBytes + " bytes");
         }
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) object.size());
+        storageBackend.transferTo(objectKey, 0, object.size(), Channels.newChannel(out));
+        return out.toByteArray();
     }
 
-    public void deleteFileFromSupabase(String fileUrl) {
+    /**
+     * Drops the reference held by {@code fileUrl}; the object is deleted after commit once nothing refers to it.
+     */
+    public void scheduleDeletion(String fileUrl) {
         if (fileUrl == null || fileUrl.isBlank()) {
             log.debug("No file URL provided, skipping deletion.");
             return;
         }
+        objectKey(fileUrl).ifPresentOrElse(
+                storageBlobService::release,
+                () -> log.warn("File URL {} does not match the configured storage URL structure. Skipping deletion.", fileUrl)
+        );
+    }
 
-        try {
-            String baseUrlPrefix = supabaseUrl + "/storage/v1/object/public/" + supabaseBucket + "/";
-            if (!fileUrl.startsWith(baseUrlPrefix)) {
-                log.warn("File URL {} does not match the expected Supabase URL structure. Skipping deletion.", fileUrl);
-                return;
-            }
-            String objectKey = fileUrl.substring(baseUrlPrefix.length());
-            log.debug("Deleting file from Supabase S3 with key={}", objectKey);
+    public Optional<String> objectKey(String fileUrl) {
+        String baseUrlPrefix = publicUrl("");
+        if (fileUrl == null || !fileUrl.startsWith(baseUrlPrefix)) {
+            return Optional.empty();
+        }
+        return Optional.of(fileUrl.substring(baseUrlPrefix.length()));
+    }
 
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(supabaseBucket)
-                    .key(objectKey)
-                    .build();
+    public PresignedUpload presignUpload(Long userId, String originalFilename, String contentType, long size) {
+        return presignUpload(newObjectKey(userId, originalFilename), userId, contentType, size);
+    }
 
-            s3Client.deleteObject(deleteObjectRequest);
+    public PresignedUpload presignPrivateUpload(Long userId, String originalFilename, String contentType, long size) {
+        return presignUpload(ObjectKeys.privateKey(newObjectKey(userId, originalFilename)), userId, contentType, size);
+    }
+
+    private PresignedUpload presignUpload(String path, Long userId, String contentType, long size) {
+        PresignedUpload upload = storageBackend.presignUpload(path, contentType, size, presignTtl)
+                .orElseThrow(DirectUploadUnsupportedException::new);
+        log.info("Presigned upload issued - userId={}, key={}", userId, path);
+        return upload;
+    }
 
-            log.info("File deleted successfully from Supabase S3 - key={}", objectKey);
-        } catch (Exception e) {
-        log.warn("Failed to delete file {} from Supabase S3. It might need manual cleanup.", fileUrl, e);
+    public Optional<StoredObject> findUpload(Long userId, String objectKey) {
+        return findUpload(userPrefix(userId), userId, objectKey);
+    }
+
+    public Optional<StoredObject> findPrivateUpload(Long userId, String objectKey) {
+        return findUpload(ObjectKeys.privateKey(userPrefix(userId)), userId, objectKey);
+    }
+
+    private Optional<StoredObject> findUpload(String prefix, Long userId, String objectKey) {
+        if (!isUnder(objectKey, prefix)) {
+            log.warn("Upload key outside the user's prefix - userId={}, key={}", userId, objectKey);
+            return Optional.empty();
         }
+        return storageBackend.head(objectKey);
+    }
+
+    private static boolean isUnder(String objectKey, String prefix) {
+        return objectKey != null
+                && objectKey.startsWith(prefix)
+                && !objectKey.contains("..")
+                && objectKey.indexOf('/', prefix.length()) < 0;
+    }
+
+    public String originalFilename(String objectKey) {
+        String fileName = objectKey.substring(objectKey.lastIndexOf('/') + 1);
+        int separator = fileName.indexOf('_');
+        return separator < 0 ? fileName : fileName.substring(separator + 1);
+    }
+
+    public String publicUrl(String objectKey) {
+        return storageBackend.publicUrl(objectKey);
+    }
+
+    public String newObjectKey(Long userId, String originalFilename) {
+        String originalName = StringUtils.cleanPath(originalFilename);
+        return userPrefix(userId) + UUID.randomUUID() + "_" + StringUtils.getFilename(originalName);
+    }
+
+    private static String keyFor(String key, boolean privateFile) {
+        return privateFile ? ObjectKeys.privateKey(key) : key;
+    }
+
+    private static String sha256(MultipartFile file) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read uploaded file", e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private String userPrefix(Long userId) {
+        return "candidates/" + userId + "/";
     }
 }
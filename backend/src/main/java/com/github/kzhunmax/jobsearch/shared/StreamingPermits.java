@@ -0,0 +1,68 @@
+package com.github.kzhunmax.jobsearch.shared;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Caps how many streaming responses run at once. The permit is taken while the request is handled,
+ * so a client over the cap still gets a plain 429, and the returned body gives it back when it finishes.
+ * A body that never runs, because the async request timed out or failed before it was dispatched,
+ * would keep its permit for good; the permit is therefore also released when the async request
+ * completes, whichever happens first.
+ */
+public class StreamingPermits {
+
+    private static final String INTERCEPTOR_KEY = StreamingPermits.class.getName();
+
+    private final Semaphore permits;
+
+    public StreamingPermits(int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Returns {@code body} wrapped to hold one permit, or empty if none is free.
+     */
+    public Optional<StreamingResponseBody> tryReserve(StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            return Optional.empty();
+        }
+        AtomicBoolean held = new AtomicBoolean(true);
+        Runnable release = () -> {
+            if (held.compareAndSet(true, false)) {
+                permits.release();
+            }
+        };
+        releaseWhenRequestCompletes(release);
+        return Optional.of(out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                release.run();
+            }
+        });
+    }
+
+    private static void releaseWhenRequestCompletes(Runnable release) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            WebAsyncUtils.getAsyncManager(servletAttributes.getRequest()).registerCallableInterceptor(
+                    INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                            release.run();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.kzhunmax.jobsearch.shared.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which callers committed a write recently, so their reads can be kept on the primary until
+ * the replicas have had time to catch up.
+ */
+public class ReadYourWritesTracker {
+
+    private final Supplier<String> currentCaller;
+    private final long windowNanos;
+    private final LongSupplier clock;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Supplier<String> currentCaller, Duration window) {
+        this(currentCaller, window, System::nanoTime);
+    }
+
+    ReadYourWritesTracker(Supplier<String> currentCaller, Duration window, LongSupplier clock) {
+        this.currentCaller = currentCaller;
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite() {
+        String caller = currentCaller.get();
+        if (caller != null && windowNanos > 0) {
+            pinnedUntil.put(caller, clock.getAsLong() + windowNanos);
+        }
+    }
+
+    public boolean isPinned() {
+        String caller = currentCaller.get();
+        if (caller == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(caller);
+        if (until == null) {
+            return false;
+        }
+        if (until - clock.getAsLong() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(caller, until);
+        return false;
+    }
+
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        pinnedUntil.values().removeIf(until -> until - now <= 0);
+    }
+
+    int size() {
+        return pinnedUntil.size();
+    }
+}
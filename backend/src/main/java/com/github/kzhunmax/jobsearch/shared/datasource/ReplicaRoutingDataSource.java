@@ -0,0 +1,192 @@
+package com.github.kzhunmax.jobsearch.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends connections of read-only transactions to a healthy replica and everything else to the primary.
+ * Replicas start out unhealthy and only take reads once a health check saw them up and within
+ * {@code maxLag}. Must sit behind a {@code LazyConnectionDataSourceProxy}: the read-only flag of a
+ * transaction is only known once the first statement runs, not when the transaction begins.
+ */
+@Slf4j
+public final class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    static final String METRIC_PREFIX = "datasource.routing";
+
+    static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Duration maxLag;
+    private final int healthCheckTimeoutSeconds;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+            DataSource primary,
+            Map<String, DataSource> replicas,
+            ReadYourWritesTracker readYourWrites,
+            Duration maxLag,
+            Duration healthCheckTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = replicas.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.readYourWrites = readYourWrites;
+        this.maxLag = maxLag;
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.meterRegistry = meterRegistry;
+        Gauge.builder(METRIC_PREFIX + ".replicas.healthy", this, ReplicaRoutingDataSource::healthyReplicas)
+                .register(meterRegistry);
+        for (Replica replica : this.replicas) {
+            Gauge.builder(METRIC_PREFIX + ".replica.lag", replica.lagMillis, AtomicLong::get)
+                    .tag("replica", replica.name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinCallerAfterCommit();
+            return fromPrimary("write");
+        }
+        if (readYourWrites.isPinned()) {
+            return fromPrimary("pinned");
+        }
+        int size = replicas.size();
+        int start = size == 0 ? 0 : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                count("replica", "read");
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return fromPrimary(size == 0 ? "no-replicas" : "failover");
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routing data source does not accept per-call credentials");
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(healthCheckTimeoutSeconds);
+                try (ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                    resultSet.next();
+                    long lagMillis = (long) resultSet.getDouble(1);
+                    replica.lagMillis.set(lagMillis);
+                    if (lagMillis > maxLag.toMillis()) {
+                        replica.markDown("replication lag " + lagMillis + "ms exceeds " + maxLag.toMillis() + "ms");
+                    } else {
+                        replica.markUp();
+                    }
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        readYourWrites.purgeExpired();
+    }
+
+    int healthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private void pinCallerAfterCommit() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWrites.recordWrite();
+                }
+            });
+        }
+    }
+
+    private Connection fromPrimary(String reason) throws SQLException {
+        count("primary", reason);
+        return primary.getConnection();
+    }
+
+    private void count(String target, String reason) {
+        meterRegistry.counter(METRIC_PREFIX + ".connections", "target", target, "reason", reason).increment();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong lagMillis = new AtomicLong();
+        private volatile boolean healthy;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Replica is serving reads - replica={}", name);
+            }
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Replica taken out of rotation, reads fall back to the primary - replica={}, reason={}", name, reason);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.kzhunmax.jobsearch.shared.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Schema(description = "Streaming export formats")
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    @Schema(description = "Comma-separated values with a header row")
+    CSV("text/csv;charset=UTF-8", "csv"),
+
+    @Schema(description = "Newline-delimited JSON, one object per line")
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String fileExtension;
+}
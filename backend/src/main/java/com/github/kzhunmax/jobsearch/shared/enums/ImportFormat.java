@@ -0,0 +1,29 @@
+package com.github.kzhunmax.jobsearch.shared.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Schema(description = "Streaming import formats")
+@Getter
+@RequiredArgsConstructor
+public enum ImportFormat {
+
+    @Schema(description = "Comma-separated values with a header row")
+    CSV("text/csv"),
+
+    @Schema(description = "A JSON array of job objects")
+    JSON("application/json");
+
+    private final String contentType;
+
+    public static Optional<ImportFormat> of(MediaType mediaType) {
+        return Arrays.stream(values())
+                .filter(format -> MediaType.parseMediaType(format.contentType).isCompatibleWith(mediaType))
+                .findFirst();
+    }
+}
@@ -0,0 +1,5 @@
+package com.github.kzhunmax.jobsearch.shared.enums;
+
+public enum StripeEventStatus {
+    PENDING, PROCESSED, FAILED
+}
@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.shared.enums;
+
+public enum WebhookDeliveryStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
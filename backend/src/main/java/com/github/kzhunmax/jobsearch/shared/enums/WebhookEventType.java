@@ -0,0 +1,19 @@
+package com.github.kzhunmax.jobsearch.shared.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Schema(description = "Events delivered to registered webhook endpoints")
+@Getter
+@RequiredArgsConstructor
+public enum WebhookEventType {
+
+    @Schema(description = "A candidate applied to one of the recruiter's jobs")
+    APPLICATION_CREATED("application.created"),
+
+    @Schema(description = "The status of an application to one of the recruiter's jobs changed")
+    APPLICATION_STATUS_CHANGED("application.status_changed");
+
+    private final String value;
+}
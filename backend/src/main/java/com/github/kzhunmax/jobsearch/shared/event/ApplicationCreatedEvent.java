@@ -0,0 +1,8 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+public record ApplicationCreatedEvent(
+        Long applicationId,
+        Long jobId,
+        Long candidateId
+) {
+}
@@ -0,0 +1,8 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+import java.util.List;
+
+public record ApplicationStatusBatchChangedEvent(
+        List<ApplicationStatusChangedEvent> changes
+) {
+}
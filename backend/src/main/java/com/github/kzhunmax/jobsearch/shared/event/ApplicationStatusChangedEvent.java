@@ -0,0 +1,17 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+
+import java.time.Instant;
+
+public record ApplicationStatusChangedEvent(
+        Long applicationId,
+        Long candidateId,
+        String candidateEmail,
+        String jobTitle,
+        String companyName,
+        ApplicationStatus previousStatus,
+        ApplicationStatus status,
+        Instant changedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+import java.util.List;
+
+public record JobSyncBatchEvent(
+        List<Long> jobIds,
+        SyncAction action
+) {
+}
@@ -2,6 +2,7 @@ package com.github.kzhunmax.jobsearch.shared.event;
 
 public record PasswordResetEvent(
         String email,
-        String token
+        String token,
+        String locale
 ) {
 }
@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+public record ProfilePhotoChangedEvent(
+        Long userId,
+        String photoUrl
+) {
+}
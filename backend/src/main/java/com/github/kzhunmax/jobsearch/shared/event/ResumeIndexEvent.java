@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+public record ResumeIndexEvent(
+        Long resumeId,
+        SyncAction action
+) {
+}
@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+public record UserChangedEvent(
+        Long userId,
+        String email
+) {
+}
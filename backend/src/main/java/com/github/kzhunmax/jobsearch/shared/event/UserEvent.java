@@ -6,6 +6,7 @@ import jakarta.persistence.Enumerated;
 public record UserEvent(
         String email,
         @Enumerated(EnumType.STRING) EventType eventType,
-        String verificationToken
+        String verificationToken,
+        String locale
 ) {
 }
@@ -0,0 +1,6 @@
+package com.github.kzhunmax.jobsearch.shared.event;
+
+public record WebhookDeliveriesQueuedEvent(
+        int count
+) {
+}
@@ -0,0 +1,130 @@
+package com.github.kzhunmax.jobsearch.shared.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.IdempotencyKeyInUseException;
+import com.github.kzhunmax.jobsearch.exception.IdempotencyKeyMismatchException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Stores the response of a successful call under its {@code Idempotency-Key} so a retried request is
+ * answered from Redis instead of running again. The key is reserved with SET NX while the first call
+ * runs; failures release it so the client can retry.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    static final String KEY_PREFIX = "idempotency:";
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration lockTtl;
+
+    record StoredResponse(String fingerprint, boolean completed, JsonNode response) {
+    }
+
+    public IdempotencyService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.ttl:P1D}") Duration ttl,
+            @Value("${idempotency.lock-ttl:PT1M}") Duration lockTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * Runs {@code action} once per {@code scope} and key. {@code request} identifies the call; reusing
+     * the key for a different request is rejected.
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+        }
+
+        String redisKey = KEY_PREFIX + scope + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        Boolean reserved = redisTemplate.opsForValue()
+                .setIfAbsent(redisKey, write(new StoredResponse(fingerprint, false, null)), lockTtl);
+        if (!Boolean.TRUE.equals(reserved)) {
+            return replay(redisKey, fingerprint, responseType);
+        }
+
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            redisTemplate.delete(redisKey);
+            throw e;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey, write(new StoredResponse(fingerprint, true, objectMapper.valueToTree(result))), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store idempotent response - key={}", redisKey, e);
+        }
+        return result;
+    }
+
+    private <T> T replay(String redisKey, String fingerprint, Class<T> responseType) {
+        String stored = redisTemplate.opsForValue().get(redisKey);
+        if (stored == null) {
+            throw new IdempotencyKeyInUseException();
+        }
+        StoredResponse response = read(stored);
+        if (!response.fingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyMismatchException();
+        }
+        if (!response.completed()) {
+            throw new IdempotencyKeyInUseException();
+        }
+        log.info("Replaying stored response - key={}", redisKey);
+        try {
+            return objectMapper.treeToValue(response.response(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is unreadable", e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+
+    private String write(StoredResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize idempotent response", e);
+        }
+    }
+
+    private StoredResponse read(String stored) {
+        try {
+            return objectMapper.readValue(stored, StoredResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is unreadable", e);
+        }
+    }
+}
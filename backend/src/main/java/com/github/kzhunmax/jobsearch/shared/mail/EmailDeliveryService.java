@@ -0,0 +1,121 @@
+package com.github.kzhunmax.jobsearch.shared.mail;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends messages over pooled SMTP connections. A call is split into batches that each reuse one
+ * connection, and batches run on a bounded executor sized to the connection pool, so a slow server
+ * delays delivery without tying up the caller's thread.
+ */
+@Service
+@Slf4j
+public class EmailDeliveryService implements DisposableBean {
+
+    private final SmtpTransportPool transportPool;
+    private final MailRateLimiter rateLimiter;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+
+    public EmailDeliveryService(
+            SmtpTransportPool transportPool,
+            MailRateLimiter rateLimiter,
+            @Value("${mail.delivery.pool-size:4}") int poolSize,
+            @Value("${mail.delivery.queue-capacity:100}") int queueCapacity,
+            @Value("${mail.delivery.batch-size:50}") int batchSize
+    ) {
+        this.transportPool = transportPool;
+        this.rateLimiter = rateLimiter;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("mail-delivery-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * Queues the messages for delivery and returns one future per message, in the same order.
+     */
+    public List<CompletableFuture<Void>> deliver(List<MimeMessage> messages) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            results.add(new CompletableFuture<>());
+        }
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, messages.size());
+            List<MimeMessage> batch = messages.subList(from, to);
+            List<CompletableFuture<Void>> batchResults = results.subList(from, to);
+            try {
+                executor.execute(() -> sendBatch(batch, batchResults));
+            } catch (RejectedExecutionException e) {
+                log.warn("Mail delivery queue full, rejecting batch of {} messages", batch.size());
+                batchResults.forEach(result -> result.completeExceptionally(e));
+            }
+        }
+        return results;
+    }
+
+    private void sendBatch(List<MimeMessage> batch, List<CompletableFuture<Void>> results) {
+        Transport transport = null;
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                if (transport == null) {
+                    transport = transportPool.borrow();
+                }
+                try {
+                    send(transport, batch.get(i));
+                    results.get(i).complete(null);
+                } catch (MessagingException e) {
+                    log.warn("Failed to send email: {}", e.getMessage());
+                    results.get(i).completeExceptionally(e);
+                    if (!transport.isConnected()) {
+                        transportPool.release(transport, false);
+                        transport = null;
+                    }
+                }
+            }
+            log.info("Delivered batch of {} emails", batch.size());
+        } catch (MessagingException e) {
+            log.error("Failed to open SMTP connection: {}", e.getMessage());
+            results.forEach(result -> result.completeExceptionally(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            results.forEach(result -> result.completeExceptionally(e));
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport, true);
+            }
+        }
+    }
+
+    private void send(Transport transport, MimeMessage message) throws MessagingException, InterruptedException {
+        Address[] recipients = message.getAllRecipients();
+        for (Address recipient : recipients) {
+            rateLimiter.acquire(recipient instanceof InternetAddress address ? address.getAddress() : recipient.toString());
+        }
+        message.saveChanges();
+        transport.sendMessage(message, recipients);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.kzhunmax.jobsearch.shared.mail;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-provider send rate limits, keyed by recipient domain. Large mailbox providers throttle or
+ * greylist senders that burst, so each configured domain gets its own messages-per-second budget;
+ * every other domain shares the default one.
+ */
+@Component
+public class MailRateLimiter {
+
+    static final String DEFAULT_PROVIDER = "*";
+
+    private final Map<String, Integer> limits;
+    private final int defaultLimit;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public MailRateLimiter(
+            @Value("#{${mail.delivery.rate-limits:{:}}}") Map<String, Integer> limits,
+            @Value("${mail.delivery.default-rate-limit:20}") int defaultLimit
+    ) {
+        this.limits = limits;
+        this.defaultLimit = defaultLimit;
+    }
+
+    public void acquire(String recipient) throws InterruptedException {
+        String provider = provider(recipient);
+        buckets.computeIfAbsent(provider, this::newBucket).asBlocking().consume(1);
+    }
+
+    String provider(String recipient) {
+        String domain = recipient.substring(recipient.lastIndexOf('@') + 1).toLowerCase(Locale.ROOT);
+        return limits.containsKey(domain) ? domain : DEFAULT_PROVIDER;
+    }
+
+    private Bucket newBucket(String provider) {
+        int perSecond = limits.getOrDefault(provider, defaultLimit);
+        return Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(perSecond)
+                        .refillGreedy(perSecond, Duration.ofSeconds(1))
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.kzhunmax.jobsearch.shared.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Keeps up to {@code pool-size} authenticated SMTP sessions open between batches, so the TCP, TLS
+ * and AUTH handshake is paid once per connection instead of once per message. Idle sessions the
+ * server has dropped are detected on borrow and replaced.
+ */
+@Component
+@Slf4j
+public class SmtpTransportPool implements DisposableBean {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<Transport> idle;
+    private final Semaphore permits;
+
+    public SmtpTransportPool(
+            JavaMailSenderImpl mailSender,
+            @Value("${mail.delivery.pool-size:4}") int poolSize
+    ) {
+        this.mailSender = mailSender;
+        this.idle = new ArrayBlockingQueue<>(poolSize);
+        this.permits = new Semaphore(poolSize);
+    }
+
+    public Transport borrow() throws MessagingException, InterruptedException {
+        permits.acquire();
+        try {
+            Transport transport;
+            while ((transport = idle.poll()) != null) {
+                if (transport.isConnected()) {
+                    return transport;
+                }
+                close(transport);
+            }
+            return connect();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a transport to the pool; a transport that failed mid-batch is closed instead of reused.
+     */
+    public void release(Transport transport, boolean healthy) {
+        try {
+            if (!healthy || !idle.offer(transport)) {
+                close(transport);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        String protocol = Objects.requireNonNullElse(mailSender.getProtocol(), JavaMailSenderImpl.DEFAULT_PROTOCOL);
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        log.debug("Opened SMTP connection to {}:{}", mailSender.getHost(), mailSender.getPort());
+        return transport;
+    }
+
+    private static void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+}
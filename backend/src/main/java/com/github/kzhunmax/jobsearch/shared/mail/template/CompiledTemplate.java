@@ -0,0 +1,101 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A template reduced to alternating literal and variable segments. Localized text has already been
+ * folded into the literals, so rendering is a sequence of appends.
+ */
+final class CompiledTemplate {
+
+    private static final Pattern MESSAGE = Pattern.compile("#\\{([\\w.-]+)}");
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{\\{\\s*(\\w+)\\s*}}}|\\{\\{\\s*(\\w+)\\s*}}");
+
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean[] raw;
+    private final boolean html;
+
+    private CompiledTemplate(String[] literals, String[] variables, boolean[] raw, boolean html) {
+        this.literals = literals;
+        this.variables = variables;
+        this.raw = raw;
+        this.html = html;
+    }
+
+    /**
+     * Resolves {@code #{key}} message references through {@code messages}, then splits the result on
+     * {@code {{variable}}} placeholders. {@code {{{variable}}}} inserts the value without escaping and
+     * is meant for fragments that were themselves rendered from a template.
+     */
+    static CompiledTemplate compile(String source, UnaryOperator<String> messages, boolean html) {
+        StringBuilder resolved = new StringBuilder(source.length());
+        Matcher message = MESSAGE.matcher(source);
+        while (message.find()) {
+            String text = messages.apply(message.group(1));
+            message.appendReplacement(resolved, Matcher.quoteReplacement(html ? escape(text) : text));
+        }
+        message.appendTail(resolved);
+
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+        Matcher variable = VARIABLE.matcher(resolved);
+        int position = 0;
+        while (variable.find()) {
+            literals.add(resolved.substring(position, variable.start()));
+            boolean unescaped = variable.group(1) != null;
+            variables.add(unescaped ? variable.group(1) : variable.group(2));
+            raw.add(unescaped);
+            position = variable.end();
+        }
+        literals.add(resolved.substring(position));
+
+        boolean[] rawFlags = new boolean[raw.size()];
+        for (int i = 0; i < rawFlags.length; i++) {
+            rawFlags[i] = raw.get(i);
+        }
+        return new CompiledTemplate(literals.toArray(String[]::new), variables.toArray(String[]::new), rawFlags, html);
+    }
+
+    void renderTo(StringBuilder out, Map<String, ?> model) {
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            Object value = model.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing template variable '" + variables[i] + "'");
+            }
+            if (html && !raw[i]) {
+                appendEscaped(out, value.toString());
+            } else {
+                out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    private static String escape(String text) {
+        StringBuilder out = new StringBuilder(text.length() + 16);
+        appendEscaped(out, text);
+        return out.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
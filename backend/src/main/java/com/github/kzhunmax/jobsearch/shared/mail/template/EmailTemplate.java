@@ -0,0 +1,21 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Email types backed by {@code templates/email/<name>.html}. Subject and static copy come from the
+ * {@code email.<name>.*} keys of the email message bundle. Fragments are repeated parts of another
+ * email, rendered without the layout or a subject.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailTemplate {
+    VERIFICATION("verification", false),
+    PASSWORD_RESET("password-reset", false),
+    APPLICATION_STATUS_DIGEST("application-status-digest", false),
+    APPLICATION_STATUS_ITEM("application-status-item", true);
+
+    private final String name;
+    private final boolean fragment;
+}
@@ -0,0 +1,126 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles every email template once per supported locale at startup and renders into a per-thread
+ * buffer. A missing template or message key fails startup rather than the first send.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+    private static final String TEMPLATE_LOCATION = "templates/email/";
+    private static final String CONTENT_SLOT = "{{@content}}";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(8 * 1024));
+
+    private final Locale defaultLocale;
+    private final Set<String> languages;
+    private final ResourceBundleMessageSource messageSource;
+    private final Map<EmailTemplate, Map<String, Compiled>> templates = new EnumMap<>(EmailTemplate.class);
+
+    private record Compiled(CompiledTemplate subject, CompiledTemplate body) {
+    }
+
+    public EmailTemplateRenderer(
+            @Value("${mail.templates.locales:en}") List<Locale> locales,
+            @Value("${mail.templates.messages-basename:i18n/email}") String messagesBasename
+    ) {
+        this.defaultLocale = locales.getFirst();
+        this.languages = locales.stream().map(Locale::getLanguage).collect(Collectors.toUnmodifiableSet());
+        this.messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename(messagesBasename);
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        messageSource.setFallbackToSystemLocale(false);
+
+        String layout = load("layout");
+        for (EmailTemplate template : EmailTemplate.values()) {
+            String source = template.isFragment()
+                    ? load(template.getName())
+                    : layout.replace(CONTENT_SLOT, load(template.getName()));
+            Map<String, Compiled> byLocale = new HashMap<>();
+            for (Locale locale : locales) {
+                UnaryOperator<String> messages = key -> messageSource.getMessage(key, null, locale);
+                CompiledTemplate subject = template.isFragment()
+                        ? null
+                        : CompiledTemplate.compile(messages.apply("email." + template.getName() + ".subject"), messages, false);
+                byLocale.put(locale.getLanguage(), new Compiled(subject, CompiledTemplate.compile(source, messages, true)));
+            }
+            templates.put(template, byLocale);
+        }
+        log.info("Compiled {} email templates for locales {}", templates.size(), locales);
+    }
+
+    /**
+     * Renders the template in the requested language, falling back to the default locale.
+     */
+    public RenderedEmail render(EmailTemplate template, Locale locale, Map<String, ?> model) {
+        if (template.isFragment()) {
+            throw new IllegalArgumentException(template + " is a fragment, use renderFragment");
+        }
+        Compiled compiled = resolve(template, locale);
+        StringBuilder buffer = BUFFER.get();
+        try {
+            compiled.subject().renderTo(buffer, model);
+            String subject = buffer.toString();
+            buffer.setLength(0);
+            compiled.body().renderTo(buffer, model);
+            return new RenderedEmail(subject, buffer.toString());
+        } finally {
+            if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+                BUFFER.remove();
+            } else {
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * Renders a fragment to HTML, for embedding into another template through a {@code {{{raw}}}} slot.
+     */
+    public String renderFragment(EmailTemplate template, Locale locale, Map<String, ?> model) {
+        StringBuilder out = new StringBuilder(512);
+        resolve(template, locale).body().renderTo(out, model);
+        return out.toString();
+    }
+
+    /**
+     * Looks up a message in the email bundle, e.g. to localize enum values passed as variables.
+     */
+    public String message(String key, Locale locale) {
+        Locale resolved = locale != null && languages.contains(locale.getLanguage()) ? locale : defaultLocale;
+        return messageSource.getMessage(key, null, resolved);
+    }
+
+    private Compiled resolve(EmailTemplate template, Locale locale) {
+        Map<String, Compiled> byLocale = templates.get(template);
+        Compiled compiled = locale == null ? null : byLocale.get(locale.getLanguage());
+        return compiled != null ? compiled : byLocale.get(defaultLocale.getLanguage());
+    }
+
+    private static String load(String name) {
+        try {
+            return new ClassPathResource(TEMPLATE_LOCATION + name + ".html").getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Email template '" + name + "' not found", e);
+        }
+    }
+}
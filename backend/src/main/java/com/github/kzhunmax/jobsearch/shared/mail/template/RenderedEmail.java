@@ -0,0 +1,7 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+public record RenderedEmail(
+        String subject,
+        String html
+) {
+}
@@ -15,8 +15,11 @@ import java.time.Instant;
 @NoArgsConstructor
 public abstract class BaseEntity {
 
+    /**
+     * Drawn from the per-table {@code <table>_seq} sequence in blocks of 50, so inserts can be JDBC-batched.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Column(name = "created_at", nullable = false, updatable = false)
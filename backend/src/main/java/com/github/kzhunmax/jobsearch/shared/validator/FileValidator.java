@@ -15,22 +15,29 @@ public class FileValidator {
     private static final long BYTES_PER_MB = 1024 * 1024;
 
     public void validateResume(MultipartFile resumeFile) {
-        if (resumeFile.isEmpty() || !Objects.equals(resumeFile.getContentType(), "application/pdf")) {
+        validateResume(resumeFile.getContentType(), resumeFile.isEmpty() ? 0 : resumeFile.getSize());
+    }
+
+    public void validateResume(String contentType, long size) {
+        if (size <= 0 || !Objects.equals(contentType, "application/pdf")) {
             throw new IllegalArgumentException("CV must be a non-empty PDF file");
         }
-        if (resumeFile.getSize() > RESUME_MAX_SIZE_MB * BYTES_PER_MB) {
+        if (size > RESUME_MAX_SIZE_MB * BYTES_PER_MB) {
             throw new IllegalArgumentException("CV size exceeds 5MB limit");
         }
     }
 
     public void validateProfilePhoto(MultipartFile file) {
-        if (file.isEmpty()) {
+        validateProfilePhoto(file.getContentType(), file.isEmpty() ? 0 : file.getSize());
+    }
+
+    public void validateProfilePhoto(String contentType, long size) {
+        if (size <= 0) {
             throw new IllegalArgumentException("Profile photo file must not be empty");
         }
-        if (file.getSize() > PHOTO_MAX_SIZE_MB * BYTES_PER_MB) {
+        if (size > PHOTO_MAX_SIZE_MB * BYTES_PER_MB) {
             throw new IllegalArgumentException("Profile photo size exceeds 2MB limit");
         }
-        String contentType = file.getContentType();
         if (contentType == null || (!contentType.equals("image/png") && !contentType.equals("image/jpeg"))) {
             throw new IllegalArgumentException("Profile photo must be of type PNG or JPG/JPEG");
         }
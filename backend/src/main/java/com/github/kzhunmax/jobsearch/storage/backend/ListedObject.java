@@ -0,0 +1,10 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import java.time.Instant;
+
+public record ListedObject(
+        String objectKey,
+        long size,
+        Instant lastModified
+) {
+}
@@ -0,0 +1,198 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Stores objects as plain files under a root directory. Writes go through a temporary file and an
+ * atomic rename so readers never see a partial object; reads use {@link FileChannel#transferTo}.
+ */
+@Slf4j
+public class LocalFileSystemStorageBackend implements StorageBackend {
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final Path root;
+    private final String publicBaseUrl;
+    private final ExecutorService ioExecutor;
+
+    public LocalFileSystemStorageBackend(Path root, String publicBaseUrl, ExecutorService ioExecutor) {
+        this.root = root.toAbsolutePath().normalize();
+        this.publicBaseUrl = publicBaseUrl;
+        this.ioExecutor = ioExecutor;
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create storage root " + this.root, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream content, long size, String contentType) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                write(resolve(key), content, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        Path file = resolve(key);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                    .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                    .toString();
+            return Optional.of(new StoredObject(key, contentType, Files.size(file)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, channel.size());
+            long transferred = 0;
+            while (position + transferred < end) {
+                long written = channel.transferTo(position + transferred, end - position - transferred, target);
+                if (written <= 0) {
+                    break;
+                }
+                transferred += written;
+            }
+            return transferred;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key) {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    // Walks the whole tree per page but keeps only the next `limit` keys, so memory stays bounded.
+    @Override
+    public List<ListedObject> list(String startAfter, int limit) {
+        TreeMap<String, Path> page = new TreeMap<>(ObjectKeys.ORDER);
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(Files::isRegularFile).forEach(file -> {
+                String key = toKey(file);
+                if (startAfter != null && ObjectKeys.ORDER.compare(key, startAfter) <= 0) {
+                    return;
+                }
+                if (page.size() < limit) {
+                    page.put(key, file);
+                } else if (ObjectKeys.ORDER.compare(key, page.lastKey()) < 0) {
+                    page.pollLastEntry();
+                    page.put(key, file);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        List<ListedObject> objects = new ArrayList<>(page.size());
+        for (Map.Entry<String, Path> entry : page.entrySet()) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(entry.getValue(), BasicFileAttributes.class);
+                objects.add(new ListedObject(entry.getKey(), attributes.size(), attributes.lastModifiedTime().toInstant()));
+            } catch (NoSuchFileException e) {
+                // Deleted between the walk and the stat; skip it.
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return objects;
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignUpload(String key, String contentType, long size, Duration ttl) {
+        return Optional.empty();
+    }
+
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + "/" + key;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    private void write(Path target, InputStream content, long size) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + TEMP_SUFFIX);
+        try (ReadableByteChannel source = Channels.newChannel(content);
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long written = 0;
+            while (written < size) {
+                long transferred = channel.transferFrom(source, written, size - written);
+                if (transferred <= 0) {
+                    break;
+                }
+                written += transferred;
+            }
+            if (written != size) {
+                throw new IOException("Expected " + size + " bytes for " + target.getFileName() + " but received " + written);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        log.debug("Stored file locally - path={}", target);
+    }
+
+    private String toKey(Path file) {
+        return root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return file;
+    }
+}
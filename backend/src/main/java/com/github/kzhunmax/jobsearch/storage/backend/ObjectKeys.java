@@ -0,0 +1,40 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import java.util.Comparator;
+
+public final class ObjectKeys {
+
+    /**
+     * Keys under this prefix are never served publicly; they are only read through authorized endpoints.
+     */
+    public static final String PRIVATE_PREFIX = "private/";
+
+    /**
+     * Orders keys by code point, which matches S3's UTF-8 byte order and Postgres {@code COLLATE "C"}.
+     */
+    public static final Comparator<String> ORDER = (a, b) -> {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) {
+                return Integer.compare(ca, cb);
+            }
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    };
+
+    public static boolean isPrivate(String key) {
+        return key != null && key.startsWith(PRIVATE_PREFIX);
+    }
+
+    public static String privateKey(String key) {
+        return PRIVATE_PREFIX + key;
+    }
+
+    private ObjectKeys() {
+    }
+}
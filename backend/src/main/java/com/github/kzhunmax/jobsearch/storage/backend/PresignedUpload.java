@@ -0,0 +1,12 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PresignedUpload(
+        String uploadUrl,
+        String objectKey,
+        Map<String, String> requiredHeaders,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,199 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Stores objects in S3-compatible storage. Public objects go to a bucket that is readable through
+ * {@link #publicUrl}; keys under {@link ObjectKeys#PRIVATE_PREFIX} go to a separate private bucket,
+ * since Supabase only controls access per bucket.
+ */
+@Slf4j
+public class S3StorageBackend implements StorageBackend {
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService uploadExecutor;
+    private final String bucket;
+    private final String privateBucket;
+    private final String publicBaseUrl;
+
+    public S3StorageBackend(S3Client s3Client, S3AsyncClient s3AsyncClient, S3Presigner s3Presigner,
+                            ExecutorService uploadExecutor, String bucket, String privateBucket, String publicBaseUrl) {
+        if (bucket.equals(privateBucket)) {
+            throw new IllegalArgumentException("The private bucket must differ from the public bucket " + bucket);
+        }
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.uploadExecutor = uploadExecutor;
+        this.bucket = bucket;
+        this.privateBucket = privateBucket;
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    @Override
+    public CompletableFuture<Void> upload(String key, InputStream content, long size, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketFor(key))
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+
+        return s3AsyncClient.putObject(putObjectRequest, AsyncRequestBody.fromInputStream(content, size, uploadExecutor))
+                .thenApply(_ -> null);
+    }
+
+    @Override
+    public Optional<StoredObject> head(String key) {
+        try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketFor(key))
+                    .key(key)
+                    .build());
+            return Optional.of(new StoredObject(key, head.contentType(), head.contentLength()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException {
+        if (count <= 0) {
+            return 0;
+        }
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketFor(key))
+                .key(key)
+                .range("bytes=" + position + "-" + (position + count - 1))
+                .build();
+
+        try (InputStream in = s3Client.getObject(request, ResponseTransformer.toInputStream());
+             ReadableByteChannel source = Channels.newChannel(in)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            long transferred = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    transferred += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return transferred;
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> delete(String key) {
+        return s3AsyncClient.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(bucketFor(key))
+                        .key(key)
+                        .build())
+                .thenApply(_ -> null);
+    }
+
+    /**
+     * Lists both buckets and merges them in key order; private objects keep their prefix in the private bucket.
+     */
+    @Override
+    public List<ListedObject> list(String startAfter, int limit) {
+        List<ListedObject> publicObjects = list(bucket, startAfter, limit);
+        List<ListedObject> privateObjects = list(privateBucket, startAfter, limit);
+        List<ListedObject> merged = new ArrayList<>(Math.min(limit, publicObjects.size() + privateObjects.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < publicObjects.size() || j < privateObjects.size())) {
+            if (j >= privateObjects.size() || (i < publicObjects.size()
+                    && ObjectKeys.ORDER.compare(publicObjects.get(i).objectKey(), privateObjects.get(j).objectKey()) < 0)) {
+                merged.add(publicObjects.get(i++));
+            } else {
+                merged.add(privateObjects.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private List<ListedObject> list(String bucketName, String startAfter, int limit) {
+        ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .startAfter(startAfter)
+                .maxKeys(limit)
+                .build());
+        return response.contents().stream()
+                .map(object -> new ListedObject(object.key(), object.size(), object.lastModified()))
+                .toList();
+    }
+
+    @Override
+    public Optional<PresignedUpload> presignUpload(String key, String contentType, long size, Duration ttl) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketFor(key))
+                .key(key)
+                .contentType(contentType)
+                .contentLength(size)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(ttl)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        return Optional.of(new PresignedUpload(
+                presigned.url().toString(),
+                key,
+                Map.of("Content-Type", contentType, "Content-Length", String.valueOf(size)),
+                presigned.expiration()
+        ));
+    }
+
+    /**
+     * For private keys the URL only identifies the object; the public endpoint does not serve it.
+     */
+    @Override
+    public String publicUrl(String key) {
+        return publicBaseUrl + "/" + key;
+    }
+
+    private String bucketFor(String key) {
+        return ObjectKeys.isPrivate(key) ? privateBucket : bucket;
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Where uploaded files live. Keys are relative, slash-separated paths such as
+ * {@code candidates/{userId}/{uuid}_{name}}; the backend decides how they are stored and exposed.
+ */
+public interface StorageBackend {
+
+    CompletableFuture<Void> upload(String key, InputStream content, long size, String contentType);
+
+    Optional<StoredObject> head(String key);
+
+    /**
+     * Writes {@code count} bytes of the object starting at {@code position} to {@code target}.
+     *
+     * @throws java.nio.file.NoSuchFileException if the object does not exist
+     */
+    long transferTo(String key, long position, long count, WritableByteChannel target) throws IOException;
+
+    CompletableFuture<Void> delete(String key);
+
+    /**
+     * Returns up to {@code limit} objects whose keys sort after {@code startAfter} (or from the
+     * beginning when it is {@code null}), in {@link ObjectKeys#ORDER}.
+     */
+    List<ListedObject> list(String startAfter, int limit);
+
+    /**
+     * Returns a URL the client can PUT the object to directly, or empty if the backend cannot issue one.
+     */
+    Optional<PresignedUpload> presignUpload(String key, String contentType, long size, Duration ttl);
+
+    String publicUrl(String key);
+
+    /**
+     * Returns the file backing the object when it lives on the local filesystem, for sendfile.
+     */
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,8 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+public record StoredObject(
+        String objectKey,
+        String contentType,
+        long size
+) {
+}
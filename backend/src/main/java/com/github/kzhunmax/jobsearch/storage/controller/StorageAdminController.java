@@ -0,0 +1,53 @@
+package com.github.kzhunmax.jobsearch.storage.controller;
+
+import com.github.kzhunmax.jobsearch.payload.ApiResponse;
+import com.github.kzhunmax.jobsearch.storage.dto.OrphanCollectionReportDTO;
+import com.github.kzhunmax.jobsearch.storage.service.OrphanedObjectCollector;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/storage")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Storage Admin", description = "Maintenance endpoints for file storage")
+public class StorageAdminController {
+
+    private final OrphanedObjectCollector orphanedObjectCollector;
+
+    @PostMapping(value = "/gc", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconcile storage with the database and report (or delete) orphaned objects")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Reconciliation finished",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied (admin only)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<OrphanCollectionReportDTO>> collectOrphans(
+            @Parameter(description = "Only report orphans without deleting them")
+            @RequestParam(defaultValue = "true") boolean dryRun
+    ) {
+        log.info("Storage GC requested - dryRun={}", dryRun);
+        return ApiResponse.success(orphanedObjectCollector.collect(dryRun));
+    }
+}
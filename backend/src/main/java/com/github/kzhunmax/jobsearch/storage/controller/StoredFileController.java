@@ -0,0 +1,45 @@
+package com.github.kzhunmax.jobsearch.storage.controller;
+
+import com.github.kzhunmax.jobsearch.exception.StoredFileNotFoundException;
+import com.github.kzhunmax.jobsearch.storage.backend.ObjectKeys;
+import com.github.kzhunmax.jobsearch.storage.service.StoredFileStreamer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/files")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+@Tag(name = "Files", description = "Serves files stored by the local storage backend")
+public class StoredFileController {
+
+    // Uploads live under blobs/<sha256>, so a key always names the same content; the remaining keys
+    // embed a random UUID. Either way a key is never rewritten, so clients may cache it indefinitely.
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private final StoredFileStreamer storedFileStreamer;
+
+    @GetMapping("/{*objectKey}")
+    @Operation(summary = "Download a stored file",
+            description = "Supports single byte-range requests. Private objects such as resumes are not served here.")
+    public void download(@PathVariable String objectKey, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = objectKey.substring(1);
+        // Resumes are only readable through the authorized download endpoint; answer as if the key did not exist.
+        if (ObjectKeys.isPrivate(key)) {
+            throw new StoredFileNotFoundException(key);
+        }
+        storedFileStreamer.stream(key, null, IMMUTABLE, request, response);
+    }
+}
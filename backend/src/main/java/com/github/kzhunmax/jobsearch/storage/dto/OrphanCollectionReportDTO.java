@@ -0,0 +1,38 @@
+package com.github.kzhunmax.jobsearch.storage.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "Result of reconciling the storage bucket against database references")
+public record OrphanCollectionReportDTO(
+
+        @Schema(description = "Whether orphans were only reported, not deleted")
+        boolean dryRun,
+
+        @Schema(description = "Objects younger than this are never treated as orphans")
+        Instant cutoff,
+
+        @Schema(description = "Number of objects listed from storage", example = "1520")
+        long scannedObjects,
+
+        @Schema(description = "Number of distinct keys referenced by the database", example = "1490")
+        long referencedKeys,
+
+        @Schema(description = "Number of unreferenced objects older than the cutoff", example = "28")
+        long orphans,
+
+        @Schema(description = "Total size of those orphans in bytes", example = "10485760")
+        long orphanBytes,
+
+        @Schema(description = "Number of unreferenced objects skipped because they are still within the grace period", example = "2")
+        long recentUnreferenced,
+
+        @Schema(description = "Number of database references whose object is missing from storage", example = "0")
+        long missingObjects,
+
+        @Schema(description = "First orphan keys found, for inspection")
+        List<String> sampleOrphans
+) {
+}
@@ -0,0 +1,14 @@
+package com.github.kzhunmax.jobsearch.storage.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL("thumb", 96),
+    MEDIUM("medium", 320);
+
+    private final String suffix;
+    private final int size;
+}
@@ -0,0 +1,116 @@
+package com.github.kzhunmax.jobsearch.storage.image;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Decodes an uploaded photo and renders square, center-cropped JPEG variants. Variants are drawn
+ * onto a fresh RGB canvas, so EXIF and other metadata from the original never reach the output.
+ * Sources are subsampled while decoding to about twice the largest variant, so a camera-sized photo
+ * is never held in memory at full resolution.
+ */
+@Component
+public class ImageVariantGenerator {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+    // 4 bytes per decoded pixel; bounds the raster of sources too narrow to subsample, such as panoramas.
+    private static final long MAX_DECODED_PIXELS = 4_000_000L;
+    private static final int DECODED_SIDE = 2 * Arrays.stream(ImageVariant.values()).mapToInt(ImageVariant::getSize).max().orElseThrow();
+    private static final float JPEG_QUALITY = 0.82f;
+
+    public BufferedImage decode(byte[] content) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // Check the header dimensions before allocating the decoded raster.
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("Image dimensions exceed " + MAX_SOURCE_PIXELS + " pixels");
+                }
+                // Keep the shorter side at DECODED_SIDE or above so render() still has a halving step to do.
+                int step = Math.max(1, Math.min(width, height) / DECODED_SIDE);
+                if (ceilDiv(width, step) * ceilDiv(height, step) > MAX_DECODED_PIXELS) {
+                    throw new IOException("Image aspect ratio is too extreme");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public byte[] render(BufferedImage source, ImageVariant variant) throws IOException {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        BufferedImage image = source.getSubimage(
+                (source.getWidth() - side) / 2, (source.getHeight() - side) / 2, side, side);
+
+        // Halve repeatedly before the final step; a single bilinear pass from a large source aliases badly.
+        int current = side;
+        while (current / 2 >= variant.getSize()) {
+            current /= 2;
+            image = scale(image, current);
+        }
+        return encode(scale(image, variant.getSize()));
+    }
+
+    private static long ceilDiv(int value, int step) {
+        return (value + step - 1L) / step;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int side) {
+        BufferedImage target = new BufferedImage(side, side, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, side, side);
+            graphics.drawImage(source, 0, 0, side, side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.kzhunmax.jobsearch.storage.repository;
+
+import com.github.kzhunmax.jobsearch.storage.model.StorageBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface StorageBlobRepository extends JpaRepository<StorageBlob, Long> {
+
+    /**
+     * Returns the new count, or nothing while the blob's object is being deleted.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO storage_blobs (created_at, updated_at, object_key, sha256, size, content_type, ref_count)
+            VALUES (now(), now(), :objectKey, :sha256, :size, :contentType, 1)
+            ON CONFLICT (object_key) DO UPDATE
+                SET ref_count = storage_blobs.ref_count + 1, updated_at = now()
+                WHERE storage_blobs.deleting_since IS NULL
+            RETURNING ref_count
+            """, nativeQuery = true)
+    Optional<Integer> acquire(@Param("objectKey") String objectKey, @Param("sha256") String sha256,
+                @Param("size") long size, @Param("contentType") String contentType);
+
+    @Transactional
+    @Query(value = """
+            UPDATE storage_blobs
+            SET ref_count = ref_count - 1, updated_at = now()
+            WHERE object_key = :objectKey AND ref_count > 0
+            RETURNING ref_count
+            """, nativeQuery = true)
+    Optional<Integer> release(@Param("objectKey") String objectKey);
+
+    /**
+     * Marks an unreferenced blob as being deleted, which blocks {@link #acquire} until the row is removed
+     * or the mark is cleared. A mark older than {@code staleBefore} was left by a crashed deletion and is
+     * taken over.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE storage_blobs
+            SET deleting_since = now()
+            WHERE object_key = :objectKey AND ref_count = 0
+              AND (deleting_since IS NULL OR deleting_since < :staleBefore)
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> markDeleting(@Param("objectKey") String objectKey, @Param("staleBefore") Instant staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE storage_blobs SET deleting_since = NULL WHERE id = :id", nativeQuery = true)
+    void clearDeleting(@Param("id") Long id);
+
+    /**
+     * Gives a blob object that has no row an unreferenced one, so {@link #markDeleting} can claim it.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO storage_blobs (created_at, updated_at, object_key, sha256, size, ref_count)
+            VALUES (now(), now(), :objectKey, :sha256, 0, 0)
+            ON CONFLICT (object_key) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("objectKey") String objectKey, @Param("sha256") String sha256);
+
+    /**
+     * Zeroes the count of a blob that no URL column refers to, unless it was acquired or released
+     * within the grace period and so may belong to an upload that has not committed yet.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE storage_blobs
+            SET ref_count = 0, updated_at = now()
+            WHERE object_key = :objectKey AND ref_count > 0 AND updated_at < :cutoff
+            """, nativeQuery = true)
+    int resetLeakedReferences(@Param("objectKey") String objectKey, @Param("cutoff") Instant cutoff);
+
+    /**
+     * Keyset page over every object key the database still points at, in {@code COLLATE "C"} order.
+     * URL columns are matched on the storage public URL prefix and converted to keys. Blob reference
+     * counts are deliberately ignored: a leaked count would otherwise keep its object forever.
+     */
+    @Query(value = """
+            SELECT k FROM (
+                SELECT substr(file_url, length(:prefix) + 1) AS k FROM resumes WHERE starts_with(file_url, :prefix)
+                UNION SELECT substr(cv_url, length(:prefix) + 1) FROM job_applications WHERE starts_with(cv_url, :prefix)
+                UNION SELECT substr(photo_url, length(:prefix) + 1) FROM user_profiles WHERE starts_with(photo_url, :prefix)
+                UNION SELECT substr(photo_thumbnail_url, length(:prefix) + 1) FROM user_profiles WHERE starts_with(photo_thumbnail_url, :prefix)
+                UNION SELECT substr(photo_medium_url, length(:prefix) + 1) FROM user_profiles WHERE starts_with(photo_medium_url, :prefix)
+                UNION SELECT substr(logo_url, length(:prefix) + 1) FROM companies WHERE starts_with(logo_url, :prefix)
+            ) refs
+            WHERE k COLLATE "C" > CAST(:startAfter AS TEXT) COLLATE "C"
+            ORDER BY k COLLATE "C"
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findReferencedKeys(@Param("prefix") String prefix, @Param("startAfter") String startAfter, @Param("limit") int limit);
+}
@@ -0,0 +1,34 @@
+package com.github.kzhunmax.jobsearch.storage.repository;
+
+import com.github.kzhunmax.jobsearch.storage.model.StorageDeletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface StorageDeletionRepository extends JpaRepository<StorageDeletion, Long> {
+
+    @Transactional
+    @Query(value = """
+            UPDATE storage_deletions
+            SET attempts = attempts + 1, next_attempt_at = :leaseUntil, updated_at = :now
+            WHERE id IN (
+                SELECT id FROM storage_deletions
+                WHERE next_attempt_at <= :now
+                ORDER BY next_attempt_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<StorageDeletion> claimDue(@Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StorageDeletion d SET d.nextAttemptAt = :nextAttemptAt, d.lastError = :lastError WHERE d.id = :id")
+    void reschedule(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+}
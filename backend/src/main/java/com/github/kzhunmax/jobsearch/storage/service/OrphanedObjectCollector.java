@@ -0,0 +1,218 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.storage.backend.ListedObject;
+import com.github.kzhunmax.jobsearch.storage.backend.ObjectKeys;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.dto.OrphanCollectionReportDTO;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Finds storage objects that no database row refers to. The bucket listing and the referenced keys
+ * are both read in sorted pages and merged like two sorted files, so neither side is ever loaded
+ * whole. Orphans younger than the grace period are left alone: they may belong to an upload whose
+ * database write has not committed yet, or to a presigned upload that is still being confirmed.
+ * <p>
+ * Only the URL columns decide what is referenced. When an old blob turns out to be unreferenced but
+ * its row still counts references, the count has leaked; it is reset so the deletion worker can
+ * reclaim the object.
+ */
+@Service
+@Slf4j
+public class OrphanedObjectCollector {
+
+    static final String LOCK_KEY = "storage:gc:lock";
+    private static final int SAMPLE_SIZE = 20;
+
+    // Deletes the lock only if it still holds this run's token, so an expired run cannot release a successor's lock.
+    static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StorageBackend storageBackend;
+    private final StorageBlobRepository storageBlobRepository;
+    private final StorageDeletionQueue storageDeletionQueue;
+    private final FileStorageService fileStorageService;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final Duration gracePeriod;
+    private final boolean dryRun;
+
+    public OrphanedObjectCollector(
+            StorageBackend storageBackend,
+            StorageBlobRepository storageBlobRepository,
+            StorageDeletionQueue storageDeletionQueue,
+            FileStorageService fileStorageService,
+            StringRedisTemplate redisTemplate,
+            @Value("${storage.gc.batch-size:1000}") int batchSize,
+            @Value("${storage.gc.grace-period:P1D}") Duration gracePeriod,
+            @Value("${storage.gc.dry-run:true}") boolean dryRun
+    ) {
+        this.storageBackend = storageBackend;
+        this.storageBlobRepository = storageBlobRepository;
+        this.storageDeletionQueue = storageDeletionQueue;
+        this.fileStorageService = fileStorageService;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.gracePeriod = gracePeriod;
+        this.dryRun = dryRun;
+    }
+
+    @Scheduled(cron = "${storage.gc.cron:0 30 3 * * *}")
+    public void scheduledCollect() {
+        // Only one instance scans per run; the lock outlives any realistic scan and expires on its own.
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofHours(1));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Storage GC already running elsewhere, skipping");
+            return;
+        }
+        try {
+            collect(dryRun);
+        } catch (RuntimeException e) {
+            log.error("Storage GC failed", e);
+        } finally {
+            Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+            if (!Long.valueOf(1).equals(released)) {
+                log.warn("Storage GC lock expired before the run finished");
+            }
+        }
+    }
+
+    public OrphanCollectionReportDTO collect(boolean dryRun) {
+        Instant cutoff = Instant.now().minus(gracePeriod);
+        String urlPrefix = fileStorageService.publicUrl("");
+        log.info("Storage GC started - dryRun={}, cutoff={}", dryRun, cutoff);
+
+        SortedPages<ListedObject> objects = new SortedPages<>(
+                after -> storageBackend.list(after, batchSize), ListedObject::objectKey, batchSize);
+        SortedPages<String> references = new SortedPages<>(
+                after -> storageBlobRepository.findReferencedKeys(urlPrefix, after == null ? "" : after, batchSize),
+                Function.identity(), batchSize);
+
+        long scanned = 0;
+        long referenced = 0;
+        long orphans = 0;
+        long orphanBytes = 0;
+        long recent = 0;
+        long missing = 0;
+        long leaked = 0;
+        List<String> sample = new ArrayList<>();
+
+        while (objects.hasNext()) {
+            ListedObject object = objects.peek();
+            int order = references.hasNext() ? ObjectKeys.ORDER.compare(object.objectKey(), references.peek()) : -1;
+            if (order > 0) {
+                missing++;
+                referenced++;
+                log.warn("Referenced object missing from storage - key={}", references.next());
+                continue;
+            }
+            objects.next();
+            scanned++;
+            if (order == 0) {
+                referenced++;
+                references.next();
+                continue;
+            }
+            if (object.lastModified() != null && object.lastModified().isAfter(cutoff)) {
+                recent++;
+                continue;
+            }
+            orphans++;
+            orphanBytes += object.size();
+            if (sample.size() < SAMPLE_SIZE) {
+                sample.add(object.objectKey());
+            }
+            if (!dryRun) {
+                if (StorageBlobService.isBlobKey(object.objectKey())
+                        && storageBlobRepository.resetLeakedReferences(object.objectKey(), cutoff) > 0) {
+                    leaked++;
+                    log.warn("Reset leaked reference count of unreferenced blob - key={}", object.objectKey());
+                }
+                storageDeletionQueue.enqueue(object.objectKey());
+            }
+        }
+        while (references.hasNext()) {
+            missing++;
+            referenced++;
+            log.warn("Referenced object missing from storage - key={}", references.next());
+        }
+
+        OrphanCollectionReportDTO report = new OrphanCollectionReportDTO(
+                dryRun, cutoff, scanned, referenced, orphans, orphanBytes, recent, missing, List.copyOf(sample));
+        log.info("Storage GC finished - dryRun={}, scanned={}, referenced={}, orphans={}, orphanBytes={}, recent={}, missing={}, leakedRefs={}",
+                dryRun, scanned, referenced, orphans, orphanBytes, recent, missing, leaked);
+        return report;
+    }
+
+    /**
+     * Iterates a keyset-paginated source one page at a time.
+     */
+    static final class SortedPages<T> implements Iterator<T> {
+
+        private final Function<String, List<T>> fetch;
+        private final Function<T, String> keyOf;
+        private final int pageSize;
+        private List<T> page = List.of();
+        private int position;
+        private String lastKey;
+        private boolean exhausted;
+
+        SortedPages(Function<String, List<T>> fetch, Function<T, String> keyOf, int pageSize) {
+            this.fetch = fetch;
+            this.keyOf = keyOf;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (position < page.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            page = fetch.apply(lastKey);
+            position = 0;
+            exhausted = page.size() < pageSize;
+            if (!page.isEmpty()) {
+                lastKey = keyOf.apply(page.getLast());
+            }
+            return !page.isEmpty();
+        }
+
+        T peek() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.get(position);
+        }
+
+        @Override
+        public T next() {
+            T next = peek();
+            position++;
+            return next;
+        }
+    }
+}
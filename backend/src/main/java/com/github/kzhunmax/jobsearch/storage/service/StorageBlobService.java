@@ -0,0 +1,152 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reference counts for content-addressed objects stored under {@code blobs/{sha256}.{ext}}, or
+ * {@code private/blobs/...} for files that are never served publicly. An object is only deleted
+ * once its count reaches zero. Deletion marks the row in one short transaction, deletes the object
+ * with no transaction open, then removes the row or clears the mark in a second one; {@link #acquire}
+ * waits while the mark is set, so it either keeps the object alive or re-uploads it afterwards.
+ * Keys outside the blob namespace are deleted as soon as they are released.
+ * <p>
+ * Blob objects that have no row, however they came about, are deleted too: {@link #deleteIfUnreferenced}
+ * first inserts an unreferenced row for them and marks that.
+ */
+@Service
+@Slf4j
+public class StorageBlobService {
+
+    static final String BLOB_PREFIX = "blobs/";
+    private static final Pattern BLOB_KEY = Pattern.compile("(?:private/)?blobs/([0-9a-f]{64})(?:\\.[a-z0-9]+)?");
+    private static final int ACQUIRE_ATTEMPTS = 20;
+    private static final Duration ACQUIRE_RETRY_DELAY = Duration.ofMillis(250);
+
+    private final StorageBlobRepository storageBlobRepository;
+    private final StorageDeletionQueue storageDeletionQueue;
+    private final StorageBackend storageBackend;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration deletionLease;
+
+    public StorageBlobService(
+            StorageBlobRepository storageBlobRepository,
+            StorageDeletionQueue storageDeletionQueue,
+            StorageBackend storageBackend,
+            TransactionTemplate transactionTemplate,
+            @Value("${storage.deletion.lease:PT2M}") Duration deletionLease
+    ) {
+        this.storageBlobRepository = storageBlobRepository;
+        this.storageDeletionQueue = storageDeletionQueue;
+        this.storageBackend = storageBackend;
+        this.transactionTemplate = transactionTemplate;
+        this.deletionLease = deletionLease;
+    }
+
+    public static boolean isBlobKey(String objectKey) {
+        return objectKey != null && BLOB_KEY.matcher(objectKey).matches();
+    }
+
+    public static String blobKey(String sha256, String contentType) {
+        return BLOB_PREFIX + sha256 + extension(contentType);
+    }
+
+    /**
+     * Adds a reference to the blob, creating its row on first use, and returns the new count. If the
+     * blob's object is being deleted, waits for that deletion to finish first.
+     */
+    public int acquire(String objectKey, String sha256, long size, String contentType) {
+        for (int attempt = 1; ; attempt++) {
+            Optional<Integer> refCount = storageBlobRepository.acquire(objectKey, sha256, size, contentType);
+            if (refCount.isPresent()) {
+                return refCount.get();
+            }
+            if (attempt == ACQUIRE_ATTEMPTS) {
+                throw new IllegalStateException("Blob is still being deleted: " + objectKey);
+            }
+            log.debug("Blob is being deleted, waiting to acquire it - key={}, attempt={}", objectKey, attempt);
+            try {
+                Thread.sleep(ACQUIRE_RETRY_DELAY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while acquiring " + objectKey, e);
+            }
+        }
+    }
+
+    @Transactional
+    public void release(String objectKey) {
+        if (!isBlobKey(objectKey)) {
+            storageDeletionQueue.enqueue(objectKey);
+            return;
+        }
+        Optional<Integer> remaining = storageBlobRepository.release(objectKey);
+        if (remaining.isEmpty()) {
+            log.warn("Released a blob without references - key={}", objectKey);
+        } else if (remaining.get() == 0) {
+            storageDeletionQueue.enqueue(objectKey);
+        } else {
+            log.debug("Blob still referenced - key={}, refCount={}", objectKey, remaining.get());
+        }
+    }
+
+    /**
+     * Deletes the blob's object and row if it is still unreferenced; otherwise leaves both in place.
+     * An object without a row counts as unreferenced. No database connection is held while the
+     * storage backend deletes the object.
+     */
+    public CompletableFuture<Void> deleteIfUnreferenced(String objectKey) {
+        Matcher key = BLOB_KEY.matcher(objectKey);
+        if (!key.matches()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Not a blob key: " + objectKey));
+        }
+        Optional<Long> claimed;
+        try {
+            claimed = transactionTemplate.execute(_ -> {
+                if (storageBlobRepository.insertIfAbsent(objectKey, key.group(1)) > 0) {
+                    log.info("Blob object had no row, deleting it - key={}", objectKey);
+                }
+                return storageBlobRepository.markDeleting(objectKey, Instant.now().minus(deletionLease));
+            });
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            log.debug("Blob re-acquired or already being deleted, keeping it - key={}", objectKey);
+            return CompletableFuture.completedFuture(null);
+        }
+        Long id = claimed.get();
+        return storageBackend.delete(objectKey)
+                .whenComplete((_, error) -> {
+                    if (error == null) {
+                        storageBlobRepository.deleteById(id);
+                    } else {
+                        storageBlobRepository.clearDeleting(id);
+                    }
+                });
+    }
+
+    private static String extension(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        return switch (contentType) {
+            case "application/pdf" -> ".pdf";
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            default -> "";
+        };
+    }
+}
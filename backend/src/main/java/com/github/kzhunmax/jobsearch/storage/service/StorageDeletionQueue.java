@@ -0,0 +1,35 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.shared.event.StorageDeletionScheduledEvent;
+import com.github.kzhunmax.jobsearch.storage.model.StorageDeletion;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageDeletionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Records object deletions in the caller's transaction, so they are only attempted once the change
+ * that made the object obsolete has committed, and survive restarts until the worker succeeds.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class StorageDeletionQueue {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void enqueue(String objectKey) {
+        storageDeletionRepository.save(StorageDeletion.builder()
+                .objectKey(objectKey)
+                .nextAttemptAt(Instant.now())
+                .build());
+        eventPublisher.publishEvent(new StorageDeletionScheduledEvent(objectKey));
+        log.debug("Storage deletion queued - key={}", objectKey);
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.shared.event.StorageDeletionScheduledEvent;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.model.StorageDeletion;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Drains {@code storage_deletions} outside of any transaction: rows are leased with a short claim
+ * query, the deletes run on the storage backend, and each row is removed or backed off on completion.
+ */
+@Component
+@Slf4j
+public class StorageDeletionWorker {
+
+    private final StorageDeletionRepository storageDeletionRepository;
+    private final StorageBackend storageBackend;
+    private final StorageBlobService storageBlobService;
+    private final TaskScheduler taskScheduler;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration maxBackoff;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public StorageDeletionWorker(
+            StorageDeletionRepository storageDeletionRepository,
+            StorageBackend storageBackend,
+            StorageBlobService storageBlobService,
+            TaskScheduler taskScheduler,
+            @Value("${storage.deletion.batch-size:50}") int batchSize,
+            @Value("${storage.deletion.lease:PT2M}") Duration lease,
+            @Value("${storage.deletion.max-backoff:PT1H}") Duration maxBackoff
+    ) {
+        this.storageDeletionRepository = storageDeletionRepository;
+        this.storageBackend = storageBackend;
+        this.storageBlobService = storageBlobService;
+        this.taskScheduler = taskScheduler;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeletionScheduled(StorageDeletionScheduledEvent event) {
+        taskScheduler.schedule(this::drain, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${storage.deletion.poll-interval-ms:30000}")
+    public void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<StorageDeletion> claimed;
+            do {
+                Instant now = Instant.now();
+                claimed = storageDeletionRepository.claimDue(now, now.plus(lease), batchSize);
+                if (!claimed.isEmpty()) {
+                    log.debug("Claimed storage deletions - count={}", claimed.size());
+                    CompletableFuture.allOf(claimed.stream()
+                            .map(this::process)
+                            .toArray(CompletableFuture[]::new)).join();
+                }
+            } while (claimed.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("Storage deletion drain failed - {}", e.getMessage());
+        } finally {
+            draining.set(false);
+        }
+    }
+
+    private CompletableFuture<Void> process(StorageDeletion deletion) {
+        CompletableFuture<Void> delete = StorageBlobService.isBlobKey(deletion.getObjectKey())
+                ? storageBlobService.deleteIfUnreferenced(deletion.getObjectKey())
+                : storageBackend.delete(deletion.getObjectKey());
+        return delete
+                .handle((_, error) -> {
+                    if (error == null) {
+                        storageDeletionRepository.deleteById(deletion.getId());
+                        log.info("File deleted from storage - key={}", deletion.getObjectKey());
+                    } else {
+                        Instant nextAttemptAt = Instant.now().plus(backoff(deletion.getAttempts()));
+                        storageDeletionRepository.reschedule(deletion.getId(), nextAttemptAt, truncate(error.getMessage()));
+                        log.warn("Storage deletion failed, retrying at {} - key={}, attempts={}",
+                                nextAttemptAt, deletion.getObjectKey(), deletion.getAttempts());
+                    }
+                    return null;
+                });
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(30L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.exception.StoredFileNotFoundException;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes a stored object to the servlet response, honouring {@code If-None-Match} and single
+ * byte-range requests. When the backend keeps the object on local disk and the container supports
+ * it, the body is handed to Tomcat's sendfile; otherwise it is copied through a fixed-size buffer,
+ * so memory per download does not depend on the file size.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoredFileStreamer {
+
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final StorageBackend storageBackend;
+
+    /**
+     * @param downloadName file name for an attachment {@code Content-Disposition}, or {@code null} to serve inline
+     */
+    public void stream(String objectKey, String downloadName, CacheControl cacheControl,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StoredObject object = storageBackend.head(objectKey)
+                .orElseThrow(() -> new StoredFileNotFoundException(objectKey));
+        long length = object.size();
+        String etag = etag(object);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && length > 0 && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.getFirst();
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(object.contentType());
+        response.setContentLengthLong(count);
+        if (downloadName != null) {
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename(downloadName, StandardCharsets.UTF_8)
+                    .build()
+                    .toString());
+        }
+        if (HttpMethod.HEAD.matches(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        Optional<Path> localPath = storageBackend.localPath(objectKey);
+        if (localPath.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, localPath.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try {
+            storageBackend.transferTo(objectKey, start, count, Channels.newChannel(response.getOutputStream()));
+        } catch (NoSuchFileException e) {
+            log.warn("Stored file disappeared while streaming - key={}", objectKey);
+            throw new StoredFileNotFoundException(objectKey);
+        }
+    }
+
+    // Keys are either content-addressed (blobs/<sha256>) or embed a random UUID, so key + size identifies the content.
+    private static String etag(StoredObject object) {
+        String digest = DigestUtils.md5DigestAsHex((object.objectKey() + ":" + object.size()).getBytes(StandardCharsets.UTF_8));
+        return "\"" + digest + "\"";
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
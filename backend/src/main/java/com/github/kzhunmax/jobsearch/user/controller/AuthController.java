@@ -1,6 +1,7 @@
 package com.github.kzhunmax.jobsearch.user.controller;
 
 import com.github.kzhunmax.jobsearch.payload.ApiResponse;
+import com.github.kzhunmax.jobsearch.security.JwtAuthFilter;
 import com.github.kzhunmax.jobsearch.security.PricingPlan;
 import com.github.kzhunmax.jobsearch.security.RateLimitingService;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
@@ -17,6 +18,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -176,6 +178,51 @@ public class AuthController {
         return ApiResponse.success(jwtResponse);
     }
 
+    @PostMapping(value = "/logout", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Logout",
+            description = "Revokes the refresh token family of the current session and clears auth cookies"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Session revoked",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Missing refresh token in request",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<String>> logout(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Refresh token of the session to revoke",
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = "{\"refreshToken\": \"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...\"}"
+                            )
+                    )
+            )
+            @RequestBody Map<String, String> request,
+            HttpServletResponse response
+    ) {
+        String refreshToken = request.get("refreshToken");
+        if (refreshToken == null) {
+            log.warn("Missing refresh token");
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, "MISSING_TOKEN", "Refresh token is required");
+        }
+
+        authService.logout(refreshToken, response);
+        log.info("Logged out successfully");
+        return ApiResponse.success("Logged out successfully.");
+    }
+
     @PostMapping(value = "/forgot-password", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(
             summary = "Request password reset",
@@ -253,12 +300,15 @@ public class AuthController {
     }
 
     @PostMapping("/switch-role")
-    @Operation(summary = "Switch between Candidate and Recruiter", description = "Toggles the role and returns NEW tokens")
+    @Operation(summary = "Switch between Candidate and Recruiter",
+            description = "Toggles the role and returns NEW tokens; the tokens of the current session are revoked")
     public ResponseEntity<ApiResponse<JwtResponse>> switchRole(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
             HttpServletResponse response
     ) {
-        JwtResponse newTokens = authService.switchUserRole(userDetails.getId(), response);
+        String accessToken = authorization.substring(JwtAuthFilter.BEARER_PREFIX.length());
+        JwtResponse newTokens = authService.switchUserRole(userDetails.getId(), accessToken, response);
         return ApiResponse.success(newTokens);
     }
 }
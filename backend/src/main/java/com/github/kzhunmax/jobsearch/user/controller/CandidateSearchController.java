@@ -0,0 +1,73 @@
+package com.github.kzhunmax.jobsearch.user.controller;
+
+import com.github.kzhunmax.jobsearch.payload.ApiResponse;
+import com.github.kzhunmax.jobsearch.user.dto.CandidateSearchResultDTO;
+import com.github.kzhunmax.jobsearch.user.service.search.CandidateSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/candidates")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Candidate Search", description = "Full-text search over candidate resumes for recruiters")
+public class CandidateSearchController {
+
+    private final CandidateSearchService candidateSearchService;
+
+    @PreAuthorize("hasRole('RECRUITER') or hasRole('ADMIN')")
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Search candidates",
+            description = "Search candidate resumes by keyword, optionally filtered by experience, country and languages"
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Search results retrieved",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied - recruiter role required",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<PagedModel<EntityModel<CandidateSearchResultDTO>>>> searchCandidates(
+            @Parameter(description = "Search keyword", example = "Spring Kafka") @RequestParam(required = false) String query,
+            @Parameter(description = "Optional experience filter", example = "MIDDLE") @RequestParam(required = false) String experience,
+            @Parameter(description = "Optional country filter", example = "UKRAINE") @RequestParam(required = false) String country,
+            @Parameter(description = "Languages the candidate must speak", example = "ENGLISH") @RequestParam(required = false) List<String> languages,
+            @PageableDefault(size = 20) Pageable pageable,
+            PagedResourcesAssembler<CandidateSearchResultDTO> pagedAssembler
+    ) {
+        log.info("Searching candidates - query={}, experience={}, country={}, languages={}", query, experience, country, languages);
+        PagedModel<EntityModel<CandidateSearchResultDTO>> results =
+                candidateSearchService.searchCandidates(query, experience, country, languages, pageable, pagedAssembler);
+        log.info("Candidate search completed with total of - {} results", results.getMetadata() != null ? results.getMetadata().getTotalElements() : 0);
+        return ApiResponse.success(results);
+    }
+}
@@ -2,7 +2,11 @@ package com.github.kzhunmax.jobsearch.user.controller;
 
 import com.github.kzhunmax.jobsearch.payload.ApiResponse;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
+import com.github.kzhunmax.jobsearch.storage.service.StoredFileStreamer;
+import com.github.kzhunmax.jobsearch.user.dto.ConfirmUploadRequestDTO;
 import com.github.kzhunmax.jobsearch.user.dto.ResumeSummaryDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlResponseDTO;
 import com.github.kzhunmax.jobsearch.user.service.ResumeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -10,14 +14,20 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 
 @RestController
@@ -27,7 +37,10 @@ import java.util.List;
 @Tag(name = "User Resumes", description = "Endpoints for managing user resumes")
 public class ResumeController {
 
+    private static final CacheControl DOWNLOAD_CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
     private final ResumeService resumeService;
+    private final StoredFileStreamer storedFileStreamer;
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get all resumes for the current user")
@@ -74,6 +87,102 @@ public class ResumeController {
         return ApiResponse.created(newResume);
     }
 
+    @PostMapping(value = "/upload-url", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a presigned URL to upload a resume directly to storage",
+            description = "PUT the file to the returned URL with the returned headers, then call /confirm with the object key.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Upload URL issued",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid file metadata or maximum resume limit reached",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<UploadUrlResponseDTO>> createResumeUploadUrl(
+            @Valid @RequestBody UploadUrlRequestDTO dto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = userDetails.getId();
+        log.info("Issuing resume upload URL for user ID={}", userId);
+        UploadUrlResponseDTO uploadUrl = resumeService.createResumeUploadUrl(userId, dto);
+        return ApiResponse.success(uploadUrl);
+    }
+
+    @PostMapping(value = "/confirm", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Confirm a direct resume upload and add it to the current user (max 2)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Resume verified and added successfully",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Upload not found, invalid file or maximum resume limit reached",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<ResumeSummaryDTO>> confirmResumeUpload(
+            @Valid @RequestBody ConfirmUploadRequestDTO dto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = userDetails.getId();
+        log.info("Confirming resume upload for user ID={}", userId);
+        ResumeSummaryDTO newResume = resumeService.confirmResumeUpload(userId, dto);
+        log.info("Resume upload confirmed for user ID={} with ID={}", userId, newResume.id());
+        return ApiResponse.created(newResume);
+    }
+
+    @GetMapping("/{resumeId}/download")
+    @Operation(summary = "Download a resume",
+            description = "Available to the resume owner and to recruiters who received it with an application. Supports Range and If-None-Match.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Resume file",
+                    content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE)
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "206",
+                    description = "Requested byte range of the resume file",
+                    content = @Content(mediaType = MediaType.APPLICATION_PDF_VALUE)
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "Resume not modified since the given ETag"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "403",
+                    description = "Access denied (neither owner nor receiving recruiter)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Resume not found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range not satisfiable"
+            )
+    })
+    public void downloadResume(
+            @Parameter(description = "ID of the resume to download", example = "1")
+            @PathVariable Long resumeId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Long userId = userDetails.getId();
+        log.info("Downloading resume ID={} for user ID={}", resumeId, userId);
+        ResumeService.ResumeFile resumeFile = resumeService.getResumeFile(resumeId, userId);
+        storedFileStreamer.stream(resumeFile.objectKey(), resumeFile.fileName(), DOWNLOAD_CACHE_CONTROL, request, response);
+    }
+
     @PutMapping(value = "/{resumeId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Update an existing resume by ID")
     @ApiResponses(value = {
@@ -2,6 +2,9 @@ package com.github.kzhunmax.jobsearch.user.controller;
 
 import com.github.kzhunmax.jobsearch.payload.ApiResponse;
 import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
+import com.github.kzhunmax.jobsearch.user.dto.ConfirmUploadRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlResponseDTO;
 import com.github.kzhunmax.jobsearch.user.dto.UserProfileRequestDTO;
 import com.github.kzhunmax.jobsearch.user.dto.UserProfileResponseDTO;
 import com.github.kzhunmax.jobsearch.user.service.UserProfileService;
@@ -177,4 +180,54 @@ public class UserProfileController {
         log.info("Profile photo uploaded successfully for user='{}' - url={}", userId, photoUrl);
         return ApiResponse.success(photoUrl);
     }
+
+    @PostMapping(value = "/photo/upload-url", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get a presigned URL to upload a profile photo directly to storage",
+            description = "PUT the file to the returned URL with the returned headers, then call /photo/confirm with the object key.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Upload URL issued",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid file metadata (e.g., too large, wrong type)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<UploadUrlResponseDTO>> createPhotoUploadUrl(
+            @Valid @RequestBody UploadUrlRequestDTO dto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = userDetails.getId();
+        log.info("Issuing profile photo upload URL for user='{}'", userId);
+        UploadUrlResponseDTO uploadUrl = userProfileService.createProfilePhotoUploadUrl(userId, dto);
+        return ApiResponse.success(uploadUrl);
+    }
+
+    @PostMapping(value = "/photo/confirm", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Confirm a direct profile photo upload")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Photo verified and profile updated, returns public URL",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = String.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Upload not found or uploaded file is invalid",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ApiResponse.class))
+            )
+    })
+    public ResponseEntity<ApiResponse<String>> confirmPhotoUpload(
+            @Valid @RequestBody ConfirmUploadRequestDTO dto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails
+    ) {
+        Long userId = userDetails.getId();
+        log.info("Confirming profile photo upload for user='{}'", userId);
+        String photoUrl = userProfileService.confirmProfilePhotoUpload(userId, dto);
+        log.info("Profile photo confirmed for user='{}' - url={}", userId, photoUrl);
+        return ApiResponse.success(photoUrl);
+    }
 }
@@ -0,0 +1,39 @@
+package com.github.kzhunmax.jobsearch.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Candidate matching a recruiter search, built from the search index only")
+public record CandidateSearchResultDTO(
+        @Schema(description = "ID of the candidate's profile", example = "1")
+        Long profileId,
+
+        @Schema(description = "Full name of the candidate", example = "John Doe")
+        String fullName,
+
+        @Schema(description = "Desired position", example = "Java Developer")
+        String position,
+
+        @Schema(description = "Experience level", example = "MIDDLE")
+        String experience,
+
+        @Schema(description = "Country of residence", example = "UKRAINE")
+        String country,
+
+        @Schema(description = "City of residence", example = "Kyiv")
+        String city,
+
+        @Schema(description = "Spoken languages", example = "[\"ENGLISH\", \"UKRAINIAN\"]")
+        List<String> languages,
+
+        @Schema(description = "ID of the best matching resume", example = "3")
+        Long resumeId,
+
+        @Schema(description = "Title of the best matching resume", example = "My_Resume.pdf")
+        String resumeTitle,
+
+        @Schema(description = "Resume fragments matching the query, with matches wrapped in <em> tags")
+        List<String> highlights
+) {
+}
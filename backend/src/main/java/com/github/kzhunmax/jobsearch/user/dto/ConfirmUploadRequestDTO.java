@@ -0,0 +1,12 @@
+package com.github.kzhunmax.jobsearch.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "DTO for confirming a completed direct upload")
+public record ConfirmUploadRequestDTO(
+        @Schema(description = "Storage key returned by the upload URL endpoint", example = "candidates/1/3f1c..._My_Resume.pdf")
+        @NotBlank(message = "Object key is required")
+        String objectKey
+) {
+}
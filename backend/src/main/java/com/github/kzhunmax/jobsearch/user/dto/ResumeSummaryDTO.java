@@ -10,7 +10,7 @@ public record ResumeSummaryDTO(
         @Schema(description = "Title of the resume (usually the filename)", example = "My_Resume.pdf")
         String title,
 
-        @Schema(description = "Public URL to access the resume file", example = "https://.../My_Resume.pdf")
+        @Schema(description = "Authenticated download URL of the resume file", example = "https://api.example.com/api/user/resume/1/download")
         String fileUrl
 ) {
 }
@@ -0,0 +1,21 @@
+package com.github.kzhunmax.jobsearch.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "DTO for requesting a presigned direct upload URL")
+public record UploadUrlRequestDTO(
+        @Schema(description = "Original file name", example = "My_Resume.pdf")
+        @NotBlank(message = "File name is required")
+        String fileName,
+
+        @Schema(description = "MIME type the client will upload with", example = "application/pdf")
+        @NotBlank(message = "Content type is required")
+        String contentType,
+
+        @Schema(description = "Exact size of the file in bytes", example = "482133")
+        @Positive(message = "Size must be positive")
+        long size
+) {
+}
@@ -0,0 +1,22 @@
+package com.github.kzhunmax.jobsearch.user.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Schema(description = "Presigned URL for uploading a file directly to storage")
+public record UploadUrlResponseDTO(
+        @Schema(description = "URL to PUT the file body to")
+        String uploadUrl,
+
+        @Schema(description = "Storage key to pass to the confirm endpoint once the upload finishes", example = "candidates/1/3f1c..._My_Resume.pdf")
+        String objectKey,
+
+        @Schema(description = "Headers that must be sent with the PUT request exactly as given")
+        Map<String, String> requiredHeaders,
+
+        @Schema(description = "Time after which the upload URL is no longer valid")
+        Instant expiresAt
+) {
+}
@@ -24,6 +24,12 @@ public record UserProfileResponseDTO(
         @Schema(description = "Public URL to the user's profile photo")
         String photoUrl,
 
+        @Schema(description = "Public URL to a 96x96 JPEG thumbnail of the profile photo; null until generated", nullable = true)
+        String photoThumbnailUrl,
+
+        @Schema(description = "Public URL to a 320x320 JPEG version of the profile photo; null until generated", nullable = true)
+        String photoMediumUrl,
+
         @Schema(description = "A short bio about the user", example = "Senior Java Developer...")
         String about,
 
@@ -0,0 +1,37 @@
+package com.github.kzhunmax.jobsearch.user.mapper;
+
+import com.github.kzhunmax.jobsearch.user.model.LanguageSkill;
+import com.github.kzhunmax.jobsearch.user.model.Resume;
+import com.github.kzhunmax.jobsearch.user.model.es.CandidateDocument;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface CandidateDocumentMapper {
+
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "profileId", source = "userProfile.id")
+    @Mapping(target = "userId", source = "userProfile.user.id")
+    @Mapping(target = "fullName", source = "userProfile.fullName")
+    @Mapping(target = "position", source = "userProfile.position")
+    @Mapping(target = "experience", source = "userProfile.experience")
+    @Mapping(target = "country", source = "userProfile.country")
+    @Mapping(target = "city", source = "userProfile.city")
+    @Mapping(target = "workMode", source = "userProfile.workMode")
+    @Mapping(target = "format", source = "userProfile.format")
+    @Mapping(target = "languages", source = "userProfile.languages")
+    @Mapping(target = "resumeTitle", source = "title")
+    @Mapping(target = "sourceUrl", source = "fileUrl")
+    @Mapping(target = "resumeText", ignore = true)
+    @Mapping(target = "indexedAt", expression = "java(java.time.Instant.now())")
+    CandidateDocument toDocument(Resume resume);
+
+    default List<String> toLanguageNames(List<LanguageSkill> languages) {
+        return languages.stream()
+                .map(skill -> skill.getLanguage().name())
+                .distinct()
+                .toList();
+    }
+}
@@ -2,11 +2,14 @@ package com.github.kzhunmax.jobsearch.user.mapper;
 
 import com.github.kzhunmax.jobsearch.user.dto.ResumeSummaryDTO;
 import com.github.kzhunmax.jobsearch.user.model.Resume;
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ResumeDownloadUrls.class)
 public interface ResumeMapper {
 
+    @Mapping(target = "fileUrl", source = "id", qualifiedByName = "resumeDownloadUrl")
     ResumeSummaryDTO toDto(Resume resume);
 
 }
@@ -23,10 +23,7 @@ public abstract class UserMapper {
     @Mapping(target = "email", expression = "java(dto.email().trim().toLowerCase())")
     @Mapping(target = "jobs", ignore = true)
     @Mapping(target = "applications", ignore = true)
-    @Mapping(target = "resetPasswordToken", ignore = true)
-    @Mapping(target = "resetPasswordTokenExpiry", ignore = true)
     @Mapping(target = "emailVerified", ignore = true)
-    @Mapping(target = "emailVerifyToken", ignore = true)
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
@@ -35,6 +35,8 @@ public abstract class UserProfileMapper {
     @Mapping(target = "resumes", ignore = true)
     @Mapping(target = "languages", ignore = true)
     @Mapping(target = "user", source = "user")
+    @Mapping(target = "photoThumbnailUrl", ignore = true)
+    @Mapping(target = "photoMediumUrl", ignore = true)
     @Mapping(target = "company", source = "dto.companyId", qualifiedByName = "mapCompanyFromId")
     public abstract UserProfile toEntity(UserProfileRequestDTO dto, User user);
 
@@ -47,6 +49,8 @@ public abstract class UserProfileMapper {
     @Mapping(target = "activityStatus", ignore = true)
     @Mapping(target = "profileType", ignore = true)
     @Mapping(target = "photoUrl", ignore = true)
+    @Mapping(target = "photoThumbnailUrl", ignore = true)
+    @Mapping(target = "photoMediumUrl", ignore = true)
     @Mapping(target = "company", source = "dto.companyId", qualifiedByName = "mapCompanyFromId")
     public abstract void updateEntityFromDto(UserProfileRequestDTO dto, @MappingTarget UserProfile userProfile);
 
@@ -10,7 +10,6 @@ import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
 
-import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -51,19 +50,10 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "candidate", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<JobApplication> applications = new HashSet<>();
 
-    @Column(name = "reset_password_token")
-    private String resetPasswordToken;
-
-    @Column(name = "reset_password_token_expiry")
-    private Instant resetPasswordTokenExpiry;
-
     @Column(name = "email_verified", nullable = false)
     @Builder.Default
     private boolean emailVerified = false;
 
-    @Column(name = "email_verify_token")
-    private String emailVerifyToken;
-
     @OneToOne(mappedBy = "user")
     private UserProfile profile;
 
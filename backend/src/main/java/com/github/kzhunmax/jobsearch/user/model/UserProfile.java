@@ -29,6 +29,8 @@ public class UserProfile extends BaseEntity {
 
     private String phoneNumber;
     private String photoUrl;
+    private String photoThumbnailUrl;
+    private String photoMediumUrl;
     private String about;
 
     @Enumerated(EnumType.STRING)
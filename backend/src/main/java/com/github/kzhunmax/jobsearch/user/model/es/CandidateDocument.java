@@ -0,0 +1,71 @@
+package com.github.kzhunmax.jobsearch.user.model.es;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One document per resume, denormalized with the owner's profile so recruiter search never has to
+ * go back to Postgres.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(indexName = "candidates")
+public class CandidateDocument {
+
+    @Id
+    private Long id;
+
+    @Field(type = FieldType.Long)
+    private Long profileId;
+
+    @Field(type = FieldType.Long)
+    private Long userId;
+
+    @Field(type = FieldType.Text)
+    private String fullName;
+
+    @Field(type = FieldType.Text)
+    private String position;
+
+    @Field(type = FieldType.Keyword)
+    private String experience;
+
+    @Field(type = FieldType.Keyword)
+    private String country;
+
+    @Field(type = FieldType.Text)
+    private String city;
+
+    @Field(type = FieldType.Keyword)
+    private String workMode;
+
+    @Field(type = FieldType.Keyword)
+    private String format;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> languages;
+
+    @Field(type = FieldType.Text)
+    private String resumeTitle;
+
+    @Field(type = FieldType.Text)
+    private String resumeText;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private String sourceUrl;
+
+    @Field(type = FieldType.Date, format = DateFormat.date_time)
+    private Instant indexedAt;
+}
@@ -10,6 +10,5 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-    Optional<User> findByResetPasswordToken(String token);
-    Optional<User> findByEmailVerifyToken(String token);
+    Optional<User> findByApiKey(String apiKey);
 }
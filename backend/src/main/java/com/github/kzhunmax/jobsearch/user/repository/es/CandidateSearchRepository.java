@@ -0,0 +1,9 @@
+package com.github.kzhunmax.jobsearch.user.repository.es;
+
+import com.github.kzhunmax.jobsearch.user.model.es.CandidateDocument;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CandidateSearchRepository extends ElasticsearchRepository<CandidateDocument, Long> {
+}
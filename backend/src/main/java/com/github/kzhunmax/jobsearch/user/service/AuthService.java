@@ -3,13 +3,17 @@ package com.github.kzhunmax.jobsearch.user.service;
 import com.github.kzhunmax.jobsearch.event.producer.UserEventProducer;
 import com.github.kzhunmax.jobsearch.exception.InvalidOrExpiredTokenException;
 import com.github.kzhunmax.jobsearch.security.JwtService;
+import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
 import com.github.kzhunmax.jobsearch.security.UserDetailsServiceImpl;
+import com.github.kzhunmax.jobsearch.security.token.IssuedTokens;
+import com.github.kzhunmax.jobsearch.security.token.RefreshTokenService;
 import com.github.kzhunmax.jobsearch.shared.CookieService;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
 import com.github.kzhunmax.jobsearch.shared.enums.AuthProvider;
 import com.github.kzhunmax.jobsearch.shared.enums.Role;
 import com.github.kzhunmax.jobsearch.shared.event.EventType;
 import com.github.kzhunmax.jobsearch.shared.event.PasswordResetEvent;
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
 import com.github.kzhunmax.jobsearch.shared.event.UserEvent;
 import com.github.kzhunmax.jobsearch.user.dto.JwtResponse;
 import com.github.kzhunmax.jobsearch.user.dto.ResetPasswordRequestDTO;
@@ -18,11 +22,16 @@ import com.github.kzhunmax.jobsearch.user.dto.UserResponseDTO;
 import com.github.kzhunmax.jobsearch.user.mapper.UserMapper;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import com.github.kzhunmax.jobsearch.user.token.OneTimeTokenStore;
+import com.github.kzhunmax.jobsearch.user.token.TokenPurpose;
 import com.github.kzhunmax.jobsearch.user.validator.UserRegistrationValidator;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.DisabledException;
@@ -32,11 +41,10 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.UUID;
 
 @Service
 @Slf4j
@@ -52,7 +60,15 @@ public class AuthService {
     private final UserEventProducer userEventProducer;
     private final AuthenticationManager authenticationManager;
     private final RepositoryHelper repositoryHelper;
+    private final RefreshTokenService refreshTokenService;
+    private final OneTimeTokenStore oneTimeTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${app.tokens.email-verification-ttl:PT24H}")
+    private Duration emailVerificationTtl;
+
+    @Value("${app.tokens.password-reset-ttl:PT1H}")
+    private Duration passwordResetTtl;
 
     @Transactional
     public UserResponseDTO registerUser(UserRegistrationDTO dto) {
@@ -60,10 +76,10 @@ public class AuthService {
         userRegistrationValidator.validateRegistration(dto);
         Set<Role> roles = resolveRoles(dto.roles());
         User user = userMapper.toEntity(dto, roles);
-        user.setEmailVerifyToken(UUID.randomUUID().toString());
         user.generateApiKey();
         User savedUser = userRepository.save(user);
-        UserEvent event = new UserEvent(dto.email(), EventType.REGISTERED, user.getEmailVerifyToken());
+        String token = oneTimeTokenStore.issue(TokenPurpose.EMAIL_VERIFICATION, savedUser.getId(), emailVerificationTtl);
+        UserEvent event = new UserEvent(dto.email(), EventType.REGISTERED, token, requestLocale());
         userEventProducer.sendUserEvent(event);
         log.info("User registered successfully - email={}", dto.email());
         return userMapper.toDto(savedUser);
@@ -92,20 +108,28 @@ public class AuthService {
         if (!jwtService.isTokenValid(refreshToken, userDetails)) {
             throw new InvalidOrExpiredTokenException();
         }
+        IssuedTokens tokens = refreshTokenService.rotate(refreshToken, userDetails);
         log.info("Tokens refreshed successfully - email={}", email);
-        return issueTokens(userDetails, response);
+        return toJwtResponse(tokens, response);
+    }
+
+    public void logout(String refreshToken, HttpServletResponse response) {
+        log.info("Logging out - revoking refresh token family");
+        refreshTokenService.revoke(refreshToken);
+        cookieService.clearAuthCookies(response);
     }
 
     private JwtResponse issueTokens(UserDetails userDetails, HttpServletResponse response) {
-        String accessToken = jwtService.generateToken(userDetails);
-        String refreshToken = jwtService.generateRefreshToken(userDetails);
+        return toJwtResponse(refreshTokenService.issue(userDetails), response);
+    }
 
-        cookieService.addAuthCookiesToResponse(accessToken, refreshToken, jwtService, response);
+    private JwtResponse toJwtResponse(IssuedTokens tokens, HttpServletResponse response) {
+        cookieService.addAuthCookiesToResponse(tokens.accessToken(), tokens.refreshToken(), jwtService, response);
 
         Instant issueAt = Instant.now();
         Instant expiresAt = issueAt.plusMillis(jwtService.getJwtExpiration());
 
-        return new JwtResponse(accessToken, refreshToken, "Bearer", issueAt, expiresAt);
+        return new JwtResponse(tokens.accessToken(), tokens.refreshToken(), "Bearer", issueAt, expiresAt);
     }
 
     private Set<Role> resolveRoles(Set<Role> requestedRoles) {
@@ -130,16 +154,13 @@ public class AuthService {
         if (!dto.isPasswordConfirmed()) {
             throw new IllegalArgumentException("Passwords don't match");
         }
-        User user = userRepository.findByResetPasswordToken(dto.token())
+        User user = oneTimeTokenStore.consume(TokenPurpose.PASSWORD_RESET, dto.token())
+                .flatMap(userRepository::findById)
                 .orElseThrow(() -> new InvalidOrExpiredTokenException("Invalid or expired reset token", HttpStatus.BAD_REQUEST, "INVALID_TOKEN"));
 
-        if (user.getResetPasswordTokenExpiry() == null || user.getResetPasswordTokenExpiry().isBefore(Instant.now())) {
-            throw new InvalidOrExpiredTokenException("Invalid or expired reset token", HttpStatus.BAD_REQUEST, "INVALID_TOKEN");
-        }
         user.setPassword(userMapper.encodePassword(dto.newPassword()));
-        user.setResetPasswordToken(null);
-        user.setResetPasswordTokenExpiry(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
 
         log.info("Password reset successfully for user={}", user.getEmail());
     }
@@ -148,12 +169,13 @@ public class AuthService {
     public void verifyEmail(String token) {
         log.info("Attempting to verify email with token={}", token);
 
-        User user = userRepository.findByEmailVerifyToken(token)
+        User user = oneTimeTokenStore.consume(TokenPurpose.EMAIL_VERIFICATION, token)
+                .flatMap(userRepository::findById)
                 .orElseThrow(() -> new InvalidOrExpiredTokenException("Invalid or expired verification token", HttpStatus.BAD_REQUEST, "INVALID_TOKEN"));
 
         user.setEmailVerified(true);
-        user.setEmailVerifyToken(null);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), user.getEmail()));
 
         log.info("Email verified successfully for user={}", user.getEmail());
     }
@@ -170,19 +192,20 @@ public class AuthService {
     }
 
     private void generateAndSendToken(User user, EventType type) {
-        String token = UUID.randomUUID().toString();
         if (type == EventType.PASSWORD_RESET) {
-            user.setResetPasswordToken(token);
-            user.setResetPasswordTokenExpiry(Instant.now().plus(1, ChronoUnit.HOURS));
-            userEventProducer.sendPasswordResetEvent(new PasswordResetEvent(user.getEmail(), token));
+            String token = oneTimeTokenStore.issue(TokenPurpose.PASSWORD_RESET, user.getId(), passwordResetTtl);
+            userEventProducer.sendPasswordResetEvent(new PasswordResetEvent(user.getEmail(), token, requestLocale()));
         } else {
-            user.setEmailVerifyToken(token);
-            userEventProducer.sendUserEvent(new UserEvent(user.getEmail(), type, token));
+            String token = oneTimeTokenStore.issue(TokenPurpose.EMAIL_VERIFICATION, user.getId(), emailVerificationTtl);
+            userEventProducer.sendUserEvent(new UserEvent(user.getEmail(), type, token, requestLocale()));
         }
-        userRepository.save(user);
         log.info("{} token generated for email={}", type, user.getEmail());
     }
 
+    private static String requestLocale() {
+        return LocaleContextHolder.getLocale().toLanguageTag();
+    }
+
     public String getClientIp(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forward-For");
         if (xfHeader == null || xfHeader.isEmpty()) {
@@ -192,8 +215,12 @@ public class AuthService {
         return xfHeader.split(",")[0].trim();
     }
 
+    /**
+     * Toggles the user's role and starts a new token family. The caller's family is revoked first, as on
+     * logout, so tokens still carrying the old role stop working instead of living on until they expire.
+     */
     @Transactional
-    public JwtResponse switchUserRole(Long id, HttpServletResponse response) {
+    public JwtResponse switchUserRole(Long id, String accessToken, HttpServletResponse response) {
         User user = repositoryHelper.findUserById(id);
 
         Set<Role> roles = user.getRoles();
@@ -207,8 +234,9 @@ public class AuthService {
 
         user.setRoles(roles);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), savedUser.getEmail()));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
-        return issueTokens(userDetails, response);
+        refreshTokenService.revoke(accessToken);
+        return issueTokens(new UserDetailsImpl(savedUser), response);
     }
 }
@@ -0,0 +1,115 @@
+package com.github.kzhunmax.jobsearch.user.service;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.event.ProfilePhotoChangedEvent;
+import com.github.kzhunmax.jobsearch.storage.image.ImageVariant;
+import com.github.kzhunmax.jobsearch.storage.image.ImageVariantGenerator;
+import com.github.kzhunmax.jobsearch.user.model.UserProfile;
+import com.github.kzhunmax.jobsearch.user.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates resized profile photo variants after a new photo is committed. Work runs on a small
+ * bounded pool; when it is saturated the photo is simply served without variants, since clients
+ * fall back to the original {@code photoUrl}.
+ */
+@Service
+@Slf4j
+public class ProfilePhotoVariantService implements DisposableBean {
+
+    private static final long MAX_SOURCE_BYTES = 2L * 1024 * 1024;
+
+    private final FileStorageService fileStorageService;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final RepositoryHelper repositoryHelper;
+    private final UserProfileRepository userProfileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public ProfilePhotoVariantService(
+            FileStorageService fileStorageService,
+            ImageVariantGenerator imageVariantGenerator,
+            RepositoryHelper repositoryHelper,
+            UserProfileRepository userProfileRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${storage.images.pool-size:2}") int poolSize,
+            @Value("${storage.images.queue-capacity:100}") int queueCapacity
+    ) {
+        this.fileStorageService = fileStorageService;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.repositoryHelper = repositoryHelper;
+        this.userProfileRepository = userProfileRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("image-variants-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfilePhotoChanged(ProfilePhotoChangedEvent event) {
+        try {
+            executor.execute(() -> generateVariants(event.userId(), event.photoUrl()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue full, skipping variants - userId={}", event.userId());
+        }
+    }
+
+    void generateVariants(Long userId, String photoUrl) {
+        String objectKey = fileStorageService.objectKey(photoUrl).orElse(null);
+        if (objectKey == null) {
+            log.warn("Profile photo is not in managed storage, skipping variants - userId={}", userId);
+            return;
+        }
+
+        Map<ImageVariant, String> variantUrls = new EnumMap<>(ImageVariant.class);
+        try {
+            BufferedImage source = imageVariantGenerator.decode(fileStorageService.read(objectKey, MAX_SOURCE_BYTES));
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] content = imageVariantGenerator.render(source, variant);
+                // Per-user keys: the original may be a content-addressed blob shared with other profiles.
+                String variantKey = fileStorageService.newObjectKey(userId, "photo_" + variant.getSuffix() + ".jpg");
+                variantUrls.put(variant, fileStorageService.upload(variantKey, content, ImageVariantGenerator.CONTENT_TYPE));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate profile photo variants - userId={}, key={}: {}", userId, objectKey, e.getMessage());
+            variantUrls.values().forEach(fileStorageService::scheduleDeletion);
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(_ -> {
+            UserProfile profile = repositoryHelper.findUserProfileByUserId(userId);
+            if (!photoUrl.equals(profile.getPhotoUrl())) {
+                log.debug("Profile photo changed while variants were generated, discarding - userId={}", userId);
+                variantUrls.values().forEach(fileStorageService::scheduleDeletion);
+                return;
+            }
+            profile.setPhotoThumbnailUrl(variantUrls.get(ImageVariant.THUMBNAIL));
+            profile.setPhotoMediumUrl(variantUrls.get(ImageVariant.MEDIUM));
+            userProfileRepository.save(profile);
+        });
+        log.info("Profile photo variants generated - userId={}", userId);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
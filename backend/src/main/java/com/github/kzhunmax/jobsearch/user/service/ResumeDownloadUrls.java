@@ -0,0 +1,24 @@
+package com.github.kzhunmax.jobsearch.user.service;
+
+import org.mapstruct.Named;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the URL clients use to fetch a resume. Resume objects are private, so every link handed
+ * out goes through the authorized download endpoint instead of the storage URL.
+ */
+@Component
+public class ResumeDownloadUrls {
+
+    private final String baseUrl;
+
+    public ResumeDownloadUrls(@Value("${app.backend.url}") String backendUrl) {
+        this.baseUrl = backendUrl + "/api/user/resume/";
+    }
+
+    @Named("resumeDownloadUrl")
+    public String of(Long resumeId) {
+        return resumeId != null ? baseUrl + resumeId + "/download" : null;
+    }
+}
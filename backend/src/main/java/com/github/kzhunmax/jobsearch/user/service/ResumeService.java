@@ -3,24 +3,38 @@ package com.github.kzhunmax.jobsearch.user.service;
 import com.github.kzhunmax.jobsearch.exception.MaxResumesReachedException;
 import com.github.kzhunmax.jobsearch.exception.ResumeLinkedToApplicationsException;
 import com.github.kzhunmax.jobsearch.exception.ResumeOwnershipException;
+import com.github.kzhunmax.jobsearch.exception.StoredFileNotFoundException;
+import com.github.kzhunmax.jobsearch.exception.UploadNotFoundException;
 import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
 import com.github.kzhunmax.jobsearch.shared.FileStorageService;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
 import com.github.kzhunmax.jobsearch.shared.validator.FileValidator;
+import com.github.kzhunmax.jobsearch.storage.backend.PresignedUpload;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import com.github.kzhunmax.jobsearch.user.dto.ConfirmUploadRequestDTO;
 import com.github.kzhunmax.jobsearch.user.dto.ResumeSummaryDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlResponseDTO;
 import com.github.kzhunmax.jobsearch.user.mapper.ResumeMapper;
 import com.github.kzhunmax.jobsearch.user.model.Resume;
 import com.github.kzhunmax.jobsearch.user.model.UserProfile;
 import com.github.kzhunmax.jobsearch.user.repository.ResumeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -34,9 +48,14 @@ public class ResumeService {
     private final FileStorageService fileStorageService;
     private final FileValidator fileValidator;
     private final JobApplicationRepository jobApplicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_RESUMES_PER_USER = 2;
 
+    public record ResumeFile(String objectKey, String fileName) {
+    }
+
     @Transactional(readOnly = true)
     public List<ResumeSummaryDTO> getAllResumes(Long userId) {
         log.info("Fetching all resumes for user ID={}", userId);
@@ -46,48 +65,101 @@ public class ResumeService {
                 .toList();
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResumeSummaryDTO addResume(Long userId, MultipartFile file) {
         log.info("Adding resume for user ID={}", userId);
         fileValidator.validateResume(file);
+        transactionTemplate.execute(_ -> {
+            ensureResumeLimitNotReached(repositoryHelper.findUserProfileByUserId(userId), userId);
+            return null;
+        });
+
+        String title = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
+        String fileUrl = fileStorageService.uploadPrivateFile(file, userId);
+
+        return persistOrDiscard(fileUrl, () -> transactionTemplate.execute(_ -> {
+            UserProfile userProfile = repositoryHelper.findUserProfileByUserId(userId);
+            ensureResumeLimitNotReached(userProfile, userId);
+            return saveResume(userProfile, userId, title, fileUrl);
+        }));
+    }
+
+    @Transactional(readOnly = true)
+    public UploadUrlResponseDTO createResumeUploadUrl(Long userId, UploadUrlRequestDTO dto) {
+        log.info("Issuing resume upload URL for user ID={}", userId);
+        fileValidator.validateResume(dto.contentType(), dto.size());
         UserProfile userProfile = repositoryHelper.findUserProfileByUserId(userId);
-        if (userProfile.getResumes().size() >= MAX_RESUMES_PER_USER) {
-            log.warn("User ID={} already has the maximum ({}) number of resumes.", userId, MAX_RESUMES_PER_USER);
-            throw new MaxResumesReachedException(MAX_RESUMES_PER_USER);
-        }
-        String fileUrl = fileStorageService.uploadFileToSupabase(file, userId);
+        ensureResumeLimitNotReached(userProfile, userId);
 
-        Resume newResume = Resume.builder()
-                .userProfile(userProfile)
-                .title(StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename())))
-                .fileUrl(fileUrl)
-                .build();
+        PresignedUpload upload = fileStorageService.presignPrivateUpload(userId, dto.fileName(), dto.contentType(), dto.size());
+        return new UploadUrlResponseDTO(upload.uploadUrl(), upload.objectKey(), upload.requiredHeaders(), upload.expiresAt());
+    }
 
-        Resume savedResume = resumeRepository.save(newResume);
-        userProfile.getResumes().add(savedResume);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumeSummaryDTO confirmResumeUpload(Long userId, ConfirmUploadRequestDTO dto) {
+        log.info("Confirming resume upload for user ID={} - key={}", userId, dto.objectKey());
+        StoredObject storedObject = fileStorageService.findPrivateUpload(userId, dto.objectKey())
+                .orElseThrow(() -> new UploadNotFoundException(dto.objectKey()));
+        String fileUrl = fileStorageService.publicUrl(storedObject.objectKey());
+        try {
+            fileValidator.validateResume(storedObject.contentType(), storedObject.size());
+        } catch (IllegalArgumentException e) {
+            fileStorageService.scheduleDeletion(fileUrl);
+            throw e;
+        }
 
-        log.info("Resume added successfully for user ID={} with ID={}", userId, savedResume.getId());
-        return resumeMapper.toDto(savedResume);
+        return transactionTemplate.execute(_ -> {
+            UserProfile userProfile = repositoryHelper.findUserProfileByUserId(userId);
+            Optional<Resume> existing = userProfile.getResumes().stream()
+                    .filter(resume -> fileUrl.equals(resume.getFileUrl()))
+                    .findFirst();
+            if (existing.isPresent()) {
+                log.debug("Resume upload already confirmed - resumeId={}", existing.get().getId());
+                return resumeMapper.toDto(existing.get());
+            }
+            ensureResumeLimitNotReached(userProfile, userId);
+
+            return saveResume(userProfile, userId, fileStorageService.originalFilename(storedObject.objectKey()), fileUrl);
+        });
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResumeSummaryDTO updateResume(Long resumeId, Long userId, MultipartFile file) {
         log.info("Updating resume ID={} for user ID={}", resumeId, userId);
 
         fileValidator.validateResume(file);
+        transactionTemplate.execute(_ -> findResumeByIdAndUserId(resumeId, userId));
 
-        Resume resume = findResumeByIdAndUserId(resumeId, userId);
-        String oldFileUrl = resume.getFileUrl();
-
-        String newFileUrl = fileStorageService.uploadFileToSupabase(file, userId);
-
-        resume.setTitle(StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename())));
-        resume.setFileUrl(newFileUrl);
+        String title = StringUtils.cleanPath(Objects.requireNonNull(file.getOriginalFilename()));
+        String newFileUrl = fileStorageService.uploadPrivateFile(file, userId);
 
-        Resume updatedResume = resumeRepository.save(resume);
+        ResumeSummaryDTO updatedResume = persistOrDiscard(newFileUrl, () -> transactionTemplate.execute(_ -> {
+            Resume resume = findResumeByIdAndUserId(resumeId, userId);
+            String oldFileUrl = resume.getFileUrl();
+            resume.setTitle(title);
+            resume.setFileUrl(newFileUrl);
 
-        fileStorageService.deleteFileFromSupabase(oldFileUrl);
+            Resume saved = resumeRepository.save(resume);
+            fileStorageService.scheduleDeletion(oldFileUrl);
+            eventPublisher.publishEvent(new ResumeIndexEvent(saved.getId(), SyncAction.UPSERT));
+            return resumeMapper.toDto(saved);
+        }));
 
         log.info("Resume ID={} updated successfully for user ID={}", resumeId, userId);
-        return resumeMapper.toDto(updatedResume);
+        return updatedResume;
+    }
+
+    @Transactional(readOnly = true)
+    public ResumeFile getResumeFile(Long resumeId, Long userId) {
+        Resume resume = repositoryHelper.findResumeById(resumeId);
+        boolean owner = Objects.equals(resume.getUserProfile().getUser().getId(), userId);
+        if (!owner && !jobApplicationRepository.existsByResumeIdAndJobPostedById(resumeId, userId)) {
+            log.warn("User ID={} attempted to download resume ID={} without access.", userId, resumeId);
+            throw new ResumeOwnershipException();
+        }
+        String objectKey = fileStorageService.objectKey(resume.getFileUrl())
+                .orElseThrow(() -> new StoredFileNotFoundException(resume.getFileUrl()));
+        return new ResumeFile(objectKey, resume.getTitle());
     }
 
     public void deleteResume(Long resumeId, Long userId) {
@@ -106,10 +178,42 @@ public class ResumeService {
         profile.getResumes().remove(resume);
 
         resumeRepository.delete(resume);
-        fileStorageService.deleteFileFromSupabase(fileUrl);
+        fileStorageService.scheduleDeletion(fileUrl);
+        eventPublisher.publishEvent(new ResumeIndexEvent(resumeId, SyncAction.DELETE));
         log.info("Resume ID={} deleted successfully for user ID={}", resumeId, userId);
     }
 
+    private <T> T persistOrDiscard(String uploadedFileUrl, Supplier<T> persist) {
+        try {
+            return persist.get();
+        } catch (RuntimeException e) {
+            fileStorageService.scheduleDeletion(uploadedFileUrl);
+            throw e;
+        }
+    }
+
+    private ResumeSummaryDTO saveResume(UserProfile userProfile, Long userId, String title, String fileUrl) {
+        Resume newResume = Resume.builder()
+                .userProfile(userProfile)
+                .title(title)
+                .fileUrl(fileUrl)
+                .build();
+
+        Resume savedResume = resumeRepository.save(newResume);
+        userProfile.getResumes().add(savedResume);
+        eventPublisher.publishEvent(new ResumeIndexEvent(savedResume.getId(), SyncAction.UPSERT));
+
+        log.info("Resume added successfully for user ID={} with ID={}", userId, savedResume.getId());
+        return resumeMapper.toDto(savedResume);
+    }
+
+    private void ensureResumeLimitNotReached(UserProfile userProfile, Long userId) {
+        if (userProfile.getResumes().size() >= MAX_RESUMES_PER_USER) {
+            log.warn("User ID={} already has the maximum ({}) number of resumes.", userId, MAX_RESUMES_PER_USER);
+            throw new MaxResumesReachedException(MAX_RESUMES_PER_USER);
+        }
+    }
+
     private Resume findResumeByIdAndUserId(Long resumeId, Long userId) {
         Resume resume = repositoryHelper.findResumeById(resumeId);
 
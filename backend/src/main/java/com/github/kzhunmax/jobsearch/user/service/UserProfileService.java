@@ -1,6 +1,7 @@
 package com.github.kzhunmax.jobsearch.user.service;
 
 import com.github.kzhunmax.jobsearch.event.producer.UserEventProducer;
+import com.github.kzhunmax.jobsearch.exception.UploadNotFoundException;
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
 import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
@@ -9,8 +10,15 @@ import com.github.kzhunmax.jobsearch.shared.FileStorageService;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
 import com.github.kzhunmax.jobsearch.shared.enums.ProfileType;
 import com.github.kzhunmax.jobsearch.shared.event.JobSyncEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ProfilePhotoChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
 import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
 import com.github.kzhunmax.jobsearch.shared.validator.FileValidator;
+import com.github.kzhunmax.jobsearch.storage.backend.PresignedUpload;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import com.github.kzhunmax.jobsearch.user.dto.ConfirmUploadRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlResponseDTO;
 import com.github.kzhunmax.jobsearch.user.dto.UserProfileRequestDTO;
 import com.github.kzhunmax.jobsearch.user.dto.UserProfileResponseDTO;
 import com.github.kzhunmax.jobsearch.user.mapper.UserProfileMapper;
@@ -19,8 +27,11 @@ import com.github.kzhunmax.jobsearch.user.model.UserProfile;
 import com.github.kzhunmax.jobsearch.user.repository.UserProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -40,6 +51,8 @@ public class UserProfileService {
     private final JobApplicationRepository jobApplicationRepository;
     private final JobRepository jobRepository;
     private final UserEventProducer eventProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserProfileResponseDTO getUserProfileByUserId(Long userId) {
         log.info("Fetching user profile - userId={}", userId);
@@ -63,6 +76,7 @@ public class UserProfileService {
         UserProfile profile = repositoryHelper.findUserProfileByUserId(userId);
         userProfileMapper.updateEntityFromDto(dto, profile);
         UserProfile savedProfile = userProfileRepository.save(profile);
+        publishResumeIndexEvents(savedProfile, SyncAction.UPSERT);
         log.info("User profile updated successfully - userId={}", userId);
         return userProfileMapper.toDto(savedProfile);
     }
@@ -78,10 +92,16 @@ public class UserProfileService {
         }
         deleteCandidateApplications(user);
 
+        publishResumeIndexEvents(profile, SyncAction.DELETE);
         userProfileRepository.delete(profile);
         log.info("User profile deleted successfully - userId={}", userId);
     }
 
+    private void publishResumeIndexEvents(UserProfile profile, SyncAction action) {
+        profile.getResumes().forEach(resume ->
+                eventPublisher.publishEvent(new ResumeIndexEvent(resume.getId(), action)));
+    }
+
     private void deactivateRecruiterJobs(User user) {
         Set<Job> jobs = user.getJobs();
         if (!jobs.isEmpty()) {
@@ -103,17 +123,74 @@ public class UserProfileService {
         }
     }
 
+    @Transactional(readOnly = true)
+    public UploadUrlResponseDTO createProfilePhotoUploadUrl(Long userId, UploadUrlRequestDTO dto) {
+        log.info("Issuing profile photo upload URL - userId={}", userId);
+        fileValidator.validateProfilePhoto(dto.contentType(), dto.size());
+        repositoryHelper.findUserProfileByUserId(userId);
+
+        PresignedUpload upload = fileStorageService.presignUpload(userId, dto.fileName(), dto.contentType(), dto.size());
+        return new UploadUrlResponseDTO(upload.uploadUrl(), upload.objectKey(), upload.requiredHeaders(), upload.expiresAt());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String confirmProfilePhotoUpload(Long userId, ConfirmUploadRequestDTO dto) {
+        log.info("Confirming profile photo upload - userId={}, key={}", userId, dto.objectKey());
+        StoredObject storedObject = fileStorageService.findUpload(userId, dto.objectKey())
+                .orElseThrow(() -> new UploadNotFoundException(dto.objectKey()));
+        String newPhotoUrl = fileStorageService.publicUrl(storedObject.objectKey());
+        try {
+            fileValidator.validateProfilePhoto(storedObject.contentType(), storedObject.size());
+        } catch (IllegalArgumentException e) {
+            fileStorageService.scheduleDeletion(newPhotoUrl);
+            throw e;
+        }
+
+        transactionTemplate.execute(_ -> replacePhoto(userId, newPhotoUrl));
+        log.info("Profile photo confirmed and profile updated - userId={}", userId);
+        return newPhotoUrl;
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String uploadProfilePhoto(MultipartFile file, Long userId) {
         log.info("Uploading profile photo - userId={}", userId);
 
         fileValidator.validateProfilePhoto(file);
+        transactionTemplate.execute(_ -> repositoryHelper.findUserProfileByUserId(userId));
+        String newPhotoUrl = fileStorageService.uploadFile(file, userId);
+        try {
+            transactionTemplate.executeWithoutResult(_ -> {
+                if (newPhotoUrl.equals(repositoryHelper.findUserProfileByUserId(userId).getPhotoUrl())) {
+                    // Same content as the current photo: drop the extra reference taken by the upload.
+                    fileStorageService.scheduleDeletion(newPhotoUrl);
+                    return;
+                }
+                replacePhoto(userId, newPhotoUrl);
+            });
+        } catch (RuntimeException e) {
+            fileStorageService.scheduleDeletion(newPhotoUrl);
+            throw e;
+        }
+        log.info("Profile photo uploaded and profile updated - userId={}", userId);
+        return newPhotoUrl;
+    }
+
+    private UserProfile replacePhoto(Long userId, String newPhotoUrl) {
         UserProfile profile = repositoryHelper.findUserProfileByUserId(userId);
         String oldPhotoUrl = profile.getPhotoUrl();
-        String newPhotoUrl = fileStorageService.uploadFileToSupabase(file, userId);
-        fileStorageService.deleteFileFromSupabase(oldPhotoUrl);
+        if (newPhotoUrl.equals(oldPhotoUrl)) {
+            return profile;
+        }
+        String oldThumbnailUrl = profile.getPhotoThumbnailUrl();
+        String oldMediumUrl = profile.getPhotoMediumUrl();
         profile.setPhotoUrl(newPhotoUrl);
-        userProfileRepository.save(profile);
-        log.info("Profile photo uploaded and profile updated - userId={}", userId);
-        return newPhotoUrl;
+        profile.setPhotoThumbnailUrl(null);
+        profile.setPhotoMediumUrl(null);
+        UserProfile savedProfile = userProfileRepository.save(profile);
+        fileStorageService.scheduleDeletion(oldPhotoUrl);
+        fileStorageService.scheduleDeletion(oldThumbnailUrl);
+        fileStorageService.scheduleDeletion(oldMediumUrl);
+        eventPublisher.publishEvent(new ProfilePhotoChangedEvent(userId, newPhotoUrl));
+        return savedProfile;
     }
 }
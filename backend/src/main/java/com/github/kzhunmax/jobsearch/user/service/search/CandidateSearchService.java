@@ -0,0 +1,104 @@
+package com.github.kzhunmax.jobsearch.user.service.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.search.FieldCollapse;
+import com.github.kzhunmax.jobsearch.user.dto.CandidateSearchResultDTO;
+import com.github.kzhunmax.jobsearch.user.model.es.CandidateDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.HighlightQuery;
+import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
+import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
+import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.PagedModel;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Recruiter-facing candidate search. Results are assembled purely from the index, so a page of hits
+ * costs one Elasticsearch round trip and no database reads.
+ */
+@Service
+@RequiredArgsConstructor
+public class CandidateSearchService {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    public PagedModel<EntityModel<CandidateSearchResultDTO>> searchCandidates(
+            String query, String experience, String country, List<String> languages,
+            Pageable pageable, PagedResourcesAssembler<CandidateSearchResultDTO> pagedAssembler
+    ) {
+        NativeQuery esQuery = NativeQuery.builder()
+                .withQuery(q -> q
+                        .bool(b -> {
+                            // Full-text search over the resume body, weighted towards position and name
+                            if (StringUtils.hasText(query)) {
+                                b.must(m -> m
+                                        .multiMatch(mm -> mm
+                                                .query(query)
+                                                .fields("position^3", "fullName^2", "resumeText")
+                                        )
+                                );
+                            } else {
+                                b.must(m -> m.matchAll(ma -> ma));
+                            }
+
+                            if (StringUtils.hasText(experience)) {
+                                b.filter(f -> f.term(t -> t.field("experience").value(experience)));
+                            }
+
+                            if (StringUtils.hasText(country)) {
+                                b.filter(f -> f.term(t -> t.field("country").value(country)));
+                            }
+
+                            // Candidate must speak every requested language
+                            if (!CollectionUtils.isEmpty(languages)) {
+                                languages.forEach(language ->
+                                        b.filter(f -> f.term(t -> t.field("languages").value(FieldValue.of(language)))));
+                            }
+
+                            return b;
+                        })
+                )
+                // One hit per candidate: the best matching of their resumes
+                .withFieldCollapse(FieldCollapse.of(c -> c.field("profileId")))
+                .withHighlightQuery(new HighlightQuery(
+                        new Highlight(List.of(new HighlightField("resumeText"))), CandidateDocument.class))
+                .withSourceFilter(new FetchSourceFilter(true, null, new String[]{"resumeText"}))
+                .withPageable(pageable)
+                .build();
+
+        SearchHits<CandidateDocument> searchHits = elasticsearchOperations.search(esQuery, CandidateDocument.class);
+
+        List<CandidateSearchResultDTO> results = searchHits.getSearchHits().stream()
+                .map(this::toResult)
+                .toList();
+        return pagedAssembler.toModel(new PageImpl<>(results, pageable, searchHits.getTotalHits()));
+    }
+
+    private CandidateSearchResultDTO toResult(SearchHit<CandidateDocument> hit) {
+        CandidateDocument doc = hit.getContent();
+        return new CandidateSearchResultDTO(
+                doc.getProfileId(),
+                doc.getFullName(),
+                doc.getPosition(),
+                doc.getExperience(),
+                doc.getCountry(),
+                doc.getCity(),
+                doc.getLanguages(),
+                doc.getId(),
+                doc.getResumeTitle(),
+                hit.getHighlightField("resumeText")
+        );
+    }
+}
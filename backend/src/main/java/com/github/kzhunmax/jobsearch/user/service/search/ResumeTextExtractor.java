@@ -0,0 +1,96 @@
+package com.github.kzhunmax.jobsearch.user.service.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Extracts plain text from resume PDFs on a small bounded pool. Each document is parsed with a
+ * main-memory cap and only its first pages are read; a parse that exceeds the timeout is abandoned
+ * and the resume is indexed without text.
+ */
+@Component
+@Slf4j
+public class ResumeTextExtractor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final int maxPages;
+    private final int maxChars;
+    private final long maxMemoryBytes;
+
+    public ResumeTextExtractor(
+            @Value("${search.resume-extraction.pool-size:2}") int poolSize,
+            @Value("${search.resume-extraction.queue-capacity:20}") int queueCapacity,
+            @Value("${search.resume-extraction.timeout:PT10S}") Duration timeout,
+            @Value("${search.resume-extraction.max-pages:10}") int maxPages,
+            @Value("${search.resume-extraction.max-chars:50000}") int maxChars,
+            @Value("${search.resume-extraction.max-memory-bytes:33554432}") long maxMemoryBytes
+    ) {
+        this.timeout = timeout;
+        this.maxPages = maxPages;
+        this.maxChars = maxChars;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("resume-text-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public Optional<String> extract(byte[] pdf) {
+        Future<String> task;
+        try {
+            task = executor.submit(() -> extractText(pdf));
+        } catch (RejectedExecutionException e) {
+            log.warn("Resume text extraction queue full, indexing without text");
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(task.get(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                    .filter(text -> !text.isBlank());
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            log.warn("Resume text extraction timed out after {}", timeout);
+        } catch (ExecutionException e) {
+            log.warn("Failed to extract resume text: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    String extractText(byte[] pdf) throws IOException {
+        var streamCache = MemoryUsageSetting.setupMainMemoryOnly(maxMemoryBytes).streamCache;
+        try (PDDocument document = Loader.loadPDF(pdf, null, null, null, streamCache)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            stripper.setEndPage(maxPages);
+            String text = stripper.getText(document).replaceAll("\\s+", " ").strip();
+            return text.length() > maxChars ? text.substring(0, maxChars) : text;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
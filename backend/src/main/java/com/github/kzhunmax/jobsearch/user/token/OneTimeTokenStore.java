@@ -0,0 +1,18 @@
+package com.github.kzhunmax.jobsearch.user.token;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface OneTimeTokenStore {
+
+    /**
+     * Issues a new token for the user, invalidating any earlier token of the same purpose.
+     */
+    String issue(TokenPurpose purpose, Long userId, Duration ttl);
+
+    /**
+     * Atomically redeems the token. Returns the owning user id at most once; expired or
+     * already used tokens yield an empty result.
+     */
+    Optional<Long> consume(TokenPurpose purpose, String token);
+}
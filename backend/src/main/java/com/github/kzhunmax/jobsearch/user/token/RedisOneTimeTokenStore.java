@@ -0,0 +1,55 @@
+package com.github.kzhunmax.jobsearch.user.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RedisOneTimeTokenStore implements OneTimeTokenStore {
+
+    static final String KEY_PREFIX = "token:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public String issue(TokenPurpose purpose, Long userId, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(tokenKey(purpose, token), String.valueOf(userId), ttl);
+
+        String previous = redisTemplate.opsForValue().getAndSet(userKey(purpose, userId), token);
+        redisTemplate.expire(userKey(purpose, userId), ttl);
+        if (previous != null) {
+            redisTemplate.delete(tokenKey(purpose, previous));
+        }
+        log.debug("{} token issued - userId={}", purpose, userId);
+        return token;
+    }
+
+    @Override
+    public Optional<Long> consume(TokenPurpose purpose, String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        String userId = redisTemplate.opsForValue().getAndDelete(tokenKey(purpose, token));
+        if (userId == null) {
+            return Optional.empty();
+        }
+        redisTemplate.delete(userKey(purpose, Long.valueOf(userId)));
+        return Optional.of(Long.valueOf(userId));
+    }
+
+    private String tokenKey(TokenPurpose purpose, String token) {
+        return KEY_PREFIX + purpose.name().toLowerCase() + ":" + token;
+    }
+
+    private String userKey(TokenPurpose purpose, Long userId) {
+        return KEY_PREFIX + purpose.name().toLowerCase() + ":user:" + userId;
+    }
+}
@@ -0,0 +1,6 @@
+package com.github.kzhunmax.jobsearch.user.token;
+
+public enum TokenPurpose {
+    EMAIL_VERIFICATION,
+    PASSWORD_RESET
+}
@@ -0,0 +1,94 @@
+package com.github.kzhunmax.jobsearch.webhook.controller;
+
+import com.github.kzhunmax.jobsearch.payload.ApiResponse;
+import com.github.kzhunmax.jobsearch.security.UserDetailsImpl;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointRequestDTO;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointResponseDTO;
+import com.github.kzhunmax.jobsearch.webhook.service.WebhookEndpointService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/webhooks/endpoints")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('RECRUITER')")
+@Tag(name = "Webhooks", description = "Outbound webhooks delivering application events to partner ATS systems")
+public class WebhookEndpointController {
+
+    private final WebhookEndpointService webhookEndpointService;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Register a webhook endpoint",
+            description = "Register a URL that receives application.created and application.status_changed events for the "
+                    + "recruiter's jobs in signed batches. The signing secret is only returned in this response."
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Endpoint registered successfully",
+                    useReturnTypeSchema = true
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid URL or endpoint limit reached",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<WebhookEndpointResponseDTO>> registerEndpoint(
+            @Valid @RequestBody WebhookEndpointRequestDTO dto,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        WebhookEndpointResponseDTO endpoint = webhookEndpointService.registerEndpoint(userDetails.getId(), dto);
+        return ApiResponse.created(endpoint);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "List my webhook endpoints")
+    public ResponseEntity<ApiResponse<List<WebhookEndpointResponseDTO>>> getEndpoints(
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        return ApiResponse.success(webhookEndpointService.getEndpoints(userDetails.getId()));
+    }
+
+    @DeleteMapping("/{endpointId}")
+    @Operation(summary = "Delete a webhook endpoint", description = "Delete the endpoint and drop its undelivered events")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "204",
+                    description = "Endpoint deleted successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Endpoint not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ApiResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<ApiResponse<Void>> deleteEndpoint(
+            @Parameter(description = "ID of the endpoint to delete", example = "1")
+            @PathVariable Long endpointId,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        webhookEndpointService.deleteEndpoint(userDetails.getId(), endpointId);
+        return ApiResponse.noContent();
+    }
+}
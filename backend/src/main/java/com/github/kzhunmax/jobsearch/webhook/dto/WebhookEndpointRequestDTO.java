@@ -0,0 +1,16 @@
+package com.github.kzhunmax.jobsearch.webhook.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.hibernate.validator.constraints.URL;
+
+@Schema(description = "DTO for registering a webhook endpoint")
+public record WebhookEndpointRequestDTO(
+        @Schema(description = "URL that receives signed batches of application events", example = "https://ats.example.com/hooks/jobhunter")
+        @NotBlank(message = "URL is required")
+        @URL(message = "Must be a valid URL")
+        @Size(max = 2048, message = "URL must be at most 2048 characters")
+        String url
+) {
+}
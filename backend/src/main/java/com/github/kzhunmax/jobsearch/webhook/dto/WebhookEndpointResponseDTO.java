@@ -0,0 +1,26 @@
+package com.github.kzhunmax.jobsearch.webhook.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+@Schema(description = "DTO for displaying a webhook endpoint")
+public record WebhookEndpointResponseDTO(
+
+        @Schema(description = "Unique ID of the endpoint", example = "1")
+        Long id,
+
+        @Schema(description = "URL that receives the events", example = "https://ats.example.com/hooks/jobhunter")
+        String url,
+
+        @Schema(description = "Whether events are delivered to this endpoint", example = "true")
+        boolean active,
+
+        @Schema(description = "When the endpoint was registered", example = "2026-01-01T10:00:00Z")
+        Instant createdAt,
+
+        @Schema(description = "HMAC-SHA256 signing secret; only returned when the endpoint is registered",
+                example = "whsec_3f7c...")
+        String secret
+) {
+}
@@ -0,0 +1,15 @@
+package com.github.kzhunmax.jobsearch.webhook.mapper;
+
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointResponseDTO;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface WebhookEndpointMapper {
+
+    @Mapping(target = "secret", ignore = true)
+    WebhookEndpointResponseDTO toDto(WebhookEndpoint endpoint);
+
+    WebhookEndpointResponseDTO toDtoWithSecret(WebhookEndpoint endpoint);
+}
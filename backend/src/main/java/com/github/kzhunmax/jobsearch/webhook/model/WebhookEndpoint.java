@@ -0,0 +1,31 @@
+package com.github.kzhunmax.jobsearch.webhook.model;
+
+import com.github.kzhunmax.jobsearch.shared.model.BaseEntity;
+import com.github.kzhunmax.jobsearch.user.model.User;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+@Entity
+@Table(name = "webhook_endpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class WebhookEndpoint extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_id", nullable = false)
+    private User owner;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(nullable = false)
+    private String secret;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean active = true;
+}
@@ -0,0 +1,120 @@
+package com.github.kzhunmax.jobsearch.webhook.repository;
+
+import com.github.kzhunmax.jobsearch.shared.enums.WebhookDeliveryStatus;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookDelivery;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WebhookDeliveryRepository extends JpaRepository<WebhookDelivery, Long> {
+
+    /**
+     * Queues one delivery per active endpoint of each application's job owner, in the caller's transaction.
+     * The payload is built from the committed row state, so it carries the status being announced.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO webhook_deliveries (created_at, updated_at, endpoint_id, event_id, event_type, payload,
+                                            status, attempts, next_attempt_at)
+            SELECT :now, :now, e.id, CAST(gen_random_uuid() AS varchar), :eventType,
+                   CAST(jsonb_build_object(
+                           'applicationId', a.id,
+                           'jobId', j.id,
+                           'jobTitle', j.title,
+                           'candidateId', a.candidate_id,
+                           'candidateEmail', u.email,
+                           'status', a.status,
+                           'previousStatus', NULLIF(:previousStatus, '')
+                   ) AS text),
+                   'PENDING', 0, :now
+            FROM job_applications a
+            JOIN jobs j ON j.id = a.job_id
+            JOIN users u ON u.id = a.candidate_id
+            JOIN webhook_endpoints e ON e.owner_id = j.posted_by_id AND e.active
+            WHERE a.id IN (:applicationIds)
+            """, nativeQuery = true)
+    int enqueue(@Param("eventType") String eventType,
+                @Param("applicationIds") Collection<Long> applicationIds,
+                @Param("previousStatus") String previousStatus,
+                @Param("now") Instant now);
+
+    @Query(value = """
+            SELECT DISTINCT d.endpoint_id FROM webhook_deliveries d
+            WHERE d.status = 'PENDING' AND d.next_attempt_at <= :now
+            """, nativeQuery = true)
+    List<Long> findEndpointsWithDueDeliveries(@Param("now") Instant now);
+
+    /**
+     * Leases the oldest due deliveries of one endpoint; a lease that runs out makes them claimable again.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE webhook_deliveries
+            SET attempts = attempts + 1, next_attempt_at = :leaseUntil, updated_at = :now
+            WHERE id IN (
+                SELECT d.id FROM webhook_deliveries d
+                WHERE d.endpoint_id = :endpointId
+                  AND d.status = 'PENDING'
+                  AND d.next_attempt_at <= :now
+                ORDER BY d.id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING *
+            """, nativeQuery = true)
+    List<WebhookDelivery> claimDue(@Param("endpointId") Long endpointId,
+                                   @Param("now") Instant now,
+                                   @Param("leaseUntil") Instant leaseUntil,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE WebhookDelivery d
+            SET d.status = com.github.kzhunmax.jobsearch.shared.enums.WebhookDeliveryStatus.DELIVERED,
+                d.deliveredAt = :now, d.updatedAt = :now, d.lastError = null
+            WHERE d.id IN :ids AND d.status = com.github.kzhunmax.jobsearch.shared.enums.WebhookDeliveryStatus.PENDING
+            """)
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.nextAttemptAt = :nextAttemptAt, d.lastError = :lastError WHERE d.id = :id")
+    void reschedule(@Param("id") Long id, @Param("nextAttemptAt") Instant nextAttemptAt, @Param("lastError") String lastError);
+
+    /**
+     * Hands leased deliveries back without counting the attempt, e.g. when the endpoint's circuit opened meanwhile.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE WebhookDelivery d SET d.nextAttemptAt = :nextAttemptAt, d.attempts = d.attempts - 1 WHERE d.id IN :ids")
+    void release(@Param("ids") Collection<Long> ids, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE WebhookDelivery d
+            SET d.status = com.github.kzhunmax.jobsearch.shared.enums.WebhookDeliveryStatus.FAILED,
+                d.updatedAt = :now, d.lastError = :lastError
+            WHERE d.id = :id
+            """)
+    void markFailed(@Param("id") Long id, @Param("lastError") String lastError, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            DELETE FROM webhook_deliveries
+            WHERE status <> 'PENDING' AND updated_at < :cutoff
+            """, nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") Instant cutoff);
+
+    long countByStatus(WebhookDeliveryStatus status);
+}
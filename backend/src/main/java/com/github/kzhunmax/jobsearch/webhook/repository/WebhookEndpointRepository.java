@@ -0,0 +1,16 @@
+package com.github.kzhunmax.jobsearch.webhook.repository;
+
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpoint, Long> {
+    List<WebhookEndpoint> findByOwnerIdOrderById(Long ownerId);
+    Optional<WebhookEndpoint> findByIdAndOwnerId(Long id, Long ownerId);
+    Optional<WebhookEndpoint> findByIdAndActiveTrue(Long id);
+    long countByOwnerId(Long ownerId);
+}
@@ -0,0 +1,76 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Per-endpoint circuit breaker. After {@code failureThreshold} consecutive failed batches the circuit
+ * opens for {@code openDuration}; then a single probe batch decides whether it closes again.
+ */
+class CircuitBreaker {
+
+    enum State {CLOSED, OPEN, HALF_OPEN}
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean probeInFlight;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * How many batches may be started now: unlimited when closed, one probe when half-open, none when open.
+     */
+    synchronized int permits(Instant now) {
+        if (state == State.OPEN && !now.isBefore(openUntil)) {
+            state = State.HALF_OPEN;
+        }
+        return switch (state) {
+            case CLOSED -> Integer.MAX_VALUE;
+            case HALF_OPEN -> probeInFlight ? 0 : 1;
+            case OPEN -> 0;
+        };
+    }
+
+    /**
+     * Reserves the right to send one batch; false when the circuit is open or a probe is already out.
+     */
+    synchronized boolean tryAcquire(Instant now) {
+        if (permits(now) == 0) {
+            return false;
+        }
+        if (state == State.HALF_OPEN) {
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        probeInFlight = false;
+    }
+
+    synchronized void onFailure(Instant now) {
+        consecutiveFailures++;
+        probeInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openUntil = now.plus(openDuration);
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+
+    synchronized Instant openUntil() {
+        return openUntil;
+    }
+}
@@ -0,0 +1,278 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.shared.enums.WebhookDeliveryStatus;
+import com.github.kzhunmax.jobsearch.shared.event.WebhookDeliveriesQueuedEvent;
+import com.github.kzhunmax.jobsearch.shared.model.BaseEntity;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookDelivery;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookDeliveryRepository;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookEndpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers queued webhook events in batches. Every endpoint has its own channel: a bounded queue of
+ * leased batches, a cap on concurrent requests and a circuit breaker. Batches are only leased while the
+ * channel has room and the circuit allows it, so a slow or failing receiver backs up in its own rows
+ * of {@code webhook_deliveries} and never takes workers or queue space from the other endpoints.
+ */
+@Component
+@Slf4j
+public class WebhookDispatcher implements DisposableBean {
+
+    static final String METRIC_PREFIX = "webhooks.deliveries";
+
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookSender webhookSender;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxConcurrency;
+    private final Duration lease;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Duration retention;
+    private final Map<Long, EndpointChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+
+    public WebhookDispatcher(
+            WebhookDeliveryRepository webhookDeliveryRepository,
+            WebhookEndpointRepository webhookEndpointRepository,
+            WebhookSender webhookSender,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry,
+            @Value("${webhooks.pool-size:8}") int poolSize,
+            @Value("${webhooks.batch-size:100}") int batchSize,
+            @Value("${webhooks.queue-capacity:4}") int queueCapacity,
+            @Value("${webhooks.max-concurrency:2}") int maxConcurrency,
+            @Value("${webhooks.lease:PT5M}") Duration lease,
+            @Value("${webhooks.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${webhooks.max-attempts:12}") int maxAttempts,
+            @Value("${webhooks.failure-threshold:5}") int failureThreshold,
+            @Value("${webhooks.open-duration:PT1M}") Duration openDuration,
+            @Value("${webhooks.retention:P7D}") Duration retention
+    ) {
+        this.webhookDeliveryRepository = webhookDeliveryRepository;
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.webhookSender = webhookSender;
+        this.taskScheduler = taskScheduler;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxConcurrency = maxConcurrency;
+        this.lease = lease;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.retention = retention;
+        // Channels bound the number of tasks to endpoints x max-concurrency, so the work queue needs no cap of its own.
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                Thread.ofPlatform().name("webhooks-", 0).daemon(true).factory()
+        );
+        this.deliveredCounter = Counter.builder(METRIC_PREFIX + ".delivered").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".backlog", backlog, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("webhooks.circuits.open", channels, map -> map.values().stream()
+                .filter(channel -> channel.circuitBreaker.state() != CircuitBreaker.State.CLOSED)
+                .count()).register(meterRegistry);
+    }
+
+    static final class EndpointChannel {
+        final Long endpointId;
+        final BlockingQueue<List<WebhookDelivery>> queue;
+        final CircuitBreaker circuitBreaker;
+        final AtomicInteger workers = new AtomicInteger();
+
+        EndpointChannel(Long endpointId, int queueCapacity, CircuitBreaker circuitBreaker) {
+            this.endpointId = endpointId;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.circuitBreaker = circuitBreaker;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeliveriesQueued(WebhookDeliveriesQueuedEvent event) {
+        taskScheduler.schedule(this::dispatch, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${webhooks.poll-interval-ms:10000}")
+    public void dispatch() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            for (Long endpointId : webhookDeliveryRepository.findEndpointsWithDueDeliveries(now)) {
+                fill(channel(endpointId), now);
+            }
+            backlog.set(webhookDeliveryRepository.countByStatus(WebhookDeliveryStatus.PENDING));
+        } catch (Exception e) {
+            log.warn("Webhook dispatch failed - {}", e.getMessage());
+        } finally {
+            dispatching.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${webhooks.cleanup-cron:0 45 3 * * *}")
+    public void purgeFinished() {
+        int deleted = webhookDeliveryRepository.deleteFinishedBefore(Instant.now().minus(retention));
+        log.info("Purged finished webhook deliveries - count={}", deleted);
+    }
+
+    EndpointChannel channel(Long endpointId) {
+        return channels.computeIfAbsent(endpointId,
+                id -> new EndpointChannel(id, queueCapacity, new CircuitBreaker(failureThreshold, openDuration)));
+    }
+
+    private void fill(EndpointChannel channel, Instant now) {
+        int room = Math.min(channel.queue.remainingCapacity(), channel.circuitBreaker.permits(now));
+        for (int i = 0; i < room; i++) {
+            List<WebhookDelivery> batch = webhookDeliveryRepository.claimDue(channel.endpointId, now, now.plus(lease), batchSize);
+            if (batch.isEmpty()) {
+                break;
+            }
+            channel.queue.add(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        startWorkers(channel);
+    }
+
+    private void startWorkers(EndpointChannel channel) {
+        while (!channel.queue.isEmpty()) {
+            int workers = channel.workers.get();
+            if (workers >= maxConcurrency) {
+                return;
+            }
+            if (channel.workers.compareAndSet(workers, workers + 1)) {
+                executor.execute(() -> drain(channel));
+            }
+        }
+    }
+
+    private void drain(EndpointChannel channel) {
+        try {
+            List<WebhookDelivery> batch;
+            while ((batch = channel.queue.poll()) != null) {
+                deliver(channel, batch);
+            }
+        } finally {
+            channel.workers.decrementAndGet();
+        }
+        if (!channel.queue.isEmpty()) {
+            startWorkers(channel);
+        }
+    }
+
+    void deliver(EndpointChannel channel, List<WebhookDelivery> batch) {
+        List<Long> ids = batch.stream().map(BaseEntity::getId).toList();
+        Instant now = Instant.now();
+        if (!channel.circuitBreaker.tryAcquire(now)) {
+            Instant retryAt = channel.circuitBreaker.openUntil().isAfter(now) ? channel.circuitBreaker.openUntil() : now;
+            webhookDeliveryRepository.release(ids, retryAt);
+            log.debug("Webhook circuit open, batch released - endpointId={}, size={}", channel.endpointId, batch.size());
+            return;
+        }
+        Optional<WebhookEndpoint> endpoint = webhookEndpointRepository.findByIdAndActiveTrue(channel.endpointId);
+        if (endpoint.isEmpty()) {
+            channels.remove(channel.endpointId);
+            log.info("Webhook endpoint removed, dropping channel - endpointId={}", channel.endpointId);
+            return;
+        }
+
+        WebhookSender.Result result = send(endpoint.get(), batch);
+        if (result.delivered()) {
+            channel.circuitBreaker.onSuccess();
+            Instant deliveredAt = Instant.now();
+            webhookDeliveryRepository.markDelivered(ids, deliveredAt);
+            deliveredCounter.increment(batch.size());
+            Timer latency = Timer.builder(METRIC_PREFIX + ".latency").register(meterRegistry);
+            batch.forEach(delivery -> latency.record(Duration.between(delivery.getCreatedAt(), deliveredAt)));
+            log.info("Webhook batch delivered - endpointId={}, size={}", channel.endpointId, batch.size());
+            return;
+        }
+        channel.circuitBreaker.onFailure(Instant.now());
+        log.warn("Webhook batch failed - endpointId={}, size={}, error={}, circuit={}",
+                channel.endpointId, batch.size(), result.error(), channel.circuitBreaker.state());
+        batch.forEach(delivery -> fail(delivery, result.error()));
+    }
+
+    private WebhookSender.Result send(WebhookEndpoint endpoint, List<WebhookDelivery> batch) {
+        long started = System.nanoTime();
+        WebhookSender.Result result;
+        try {
+            result = webhookSender.send(endpoint, batch);
+        } catch (RuntimeException e) {
+            result = new WebhookSender.Result(false, e.getMessage());
+        }
+        Timer.builder(METRIC_PREFIX + ".request")
+                .tag("outcome", result.delivered() ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return result;
+    }
+
+    private void fail(WebhookDelivery delivery, String error) {
+        if (delivery.getAttempts() >= maxAttempts) {
+            webhookDeliveryRepository.markFailed(delivery.getId(), truncate(error), Instant.now());
+            failedCounter.increment();
+            log.error("Webhook delivery failed permanently - deliveryId={}, eventId={}, attempts={}",
+                    delivery.getId(), delivery.getEventId(), delivery.getAttempts());
+            return;
+        }
+        webhookDeliveryRepository.reschedule(delivery.getId(), Instant.now().plus(backoff(delivery.getAttempts())), truncate(error));
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(5L << Math.min(Math.max(attempts - 1, 0), 16));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
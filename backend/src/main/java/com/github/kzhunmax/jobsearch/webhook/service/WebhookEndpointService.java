@@ -0,0 +1,89 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.exception.MaxWebhookEndpointsReachedException;
+import com.github.kzhunmax.jobsearch.exception.WebhookEndpointNotFoundException;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointRequestDTO;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointResponseDTO;
+import com.github.kzhunmax.jobsearch.webhook.mapper.WebhookEndpointMapper;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookEndpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+
+@Service
+@Slf4j
+public class WebhookEndpointService {
+
+    private static final String SECRET_PREFIX = "whsec_";
+    private static final int SECRET_BYTES = 32;
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookEndpointMapper webhookEndpointMapper;
+    private final RepositoryHelper repositoryHelper;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final WebhookUrlPolicy webhookUrlPolicy;
+    private final int maxEndpointsPerOwner;
+
+    public WebhookEndpointService(
+            WebhookEndpointRepository webhookEndpointRepository,
+            WebhookEndpointMapper webhookEndpointMapper,
+            RepositoryHelper repositoryHelper,
+            WebhookUrlPolicy webhookUrlPolicy,
+            @Value("${webhooks.max-endpoints-per-owner:5}") int maxEndpointsPerOwner
+    ) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.webhookEndpointMapper = webhookEndpointMapper;
+        this.repositoryHelper = repositoryHelper;
+        this.webhookUrlPolicy = webhookUrlPolicy;
+        this.maxEndpointsPerOwner = maxEndpointsPerOwner;
+    }
+
+    @Transactional
+    public WebhookEndpointResponseDTO registerEndpoint(Long ownerId, WebhookEndpointRequestDTO dto) {
+        log.info("Registering webhook endpoint - ownerId={}", ownerId);
+        webhookUrlPolicy.check(dto.url());
+        if (webhookEndpointRepository.countByOwnerId(ownerId) >= maxEndpointsPerOwner) {
+            log.warn("User ID={} already has the maximum ({}) number of webhook endpoints.", ownerId, maxEndpointsPerOwner);
+            throw new MaxWebhookEndpointsReachedException(maxEndpointsPerOwner);
+        }
+
+        WebhookEndpoint endpoint = webhookEndpointRepository.save(WebhookEndpoint.builder()
+                .owner(repositoryHelper.findUserById(ownerId))
+                .url(dto.url())
+                .secret(newSecret())
+                .build());
+        log.info("Webhook endpoint registered - endpointId={}, ownerId={}", endpoint.getId(), ownerId);
+        return webhookEndpointMapper.toDtoWithSecret(endpoint);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WebhookEndpointResponseDTO> getEndpoints(Long ownerId) {
+        return webhookEndpointRepository.findByOwnerIdOrderById(ownerId).stream()
+                .map(webhookEndpointMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * Removes the endpoint together with its undelivered events.
+     */
+    @Transactional
+    public void deleteEndpoint(Long ownerId, Long endpointId) {
+        WebhookEndpoint endpoint = webhookEndpointRepository.findByIdAndOwnerId(endpointId, ownerId)
+                .orElseThrow(() -> new WebhookEndpointNotFoundException(endpointId));
+        webhookEndpointRepository.delete(endpoint);
+        log.info("Webhook endpoint deleted - endpointId={}, ownerId={}", endpointId, ownerId);
+    }
+
+    private String newSecret() {
+        byte[] bytes = new byte[SECRET_BYTES];
+        secureRandom.nextBytes(bytes);
+        return SECRET_PREFIX + HexFormat.of().formatHex(bytes);
+    }
+}
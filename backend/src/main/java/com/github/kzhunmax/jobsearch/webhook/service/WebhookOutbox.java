@@ -0,0 +1,61 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.shared.enums.WebhookEventType;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationCreatedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusBatchChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.WebhookDeliveriesQueuedEvent;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookDeliveryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Records webhook deliveries in the same transaction as the application change that triggers them,
+ * so an event is queued exactly when the change commits.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class WebhookOutbox {
+
+    private final WebhookDeliveryRepository webhookDeliveryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onApplicationCreated(ApplicationCreatedEvent event) {
+        enqueue(WebhookEventType.APPLICATION_CREATED, List.of(event.applicationId()), "");
+    }
+
+    @EventListener
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        enqueue(WebhookEventType.APPLICATION_STATUS_CHANGED, List.of(event.applicationId()), event.previousStatus().name());
+    }
+
+    /**
+     * One insert per distinct previous status rather than one per application.
+     */
+    @EventListener
+    public void onStatusBatchChanged(ApplicationStatusBatchChangedEvent event) {
+        Map<String, List<Long>> byPreviousStatus = event.changes().stream()
+                .collect(Collectors.groupingBy(change -> change.previousStatus().name(),
+                        Collectors.mapping(ApplicationStatusChangedEvent::applicationId, Collectors.toList())));
+        byPreviousStatus.forEach((previousStatus, applicationIds) ->
+                enqueue(WebhookEventType.APPLICATION_STATUS_CHANGED, applicationIds, previousStatus));
+    }
+
+    private void enqueue(WebhookEventType type, List<Long> applicationIds, String previousStatus) {
+        int queued = webhookDeliveryRepository.enqueue(type.getValue(), applicationIds, previousStatus, Instant.now());
+        if (queued > 0) {
+            eventPublisher.publishEvent(new WebhookDeliveriesQueuedEvent(queued));
+            log.debug("Webhook deliveries queued - type={}, applications={}, deliveries={}", type.getValue(), applicationIds.size(), queued);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookDelivery;
+import com.github.kzhunmax.jobsearch.exception.InvalidWebhookUrlException;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ProtocolException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Posts a batch of deliveries as one signed JSON request. The signature header follows the
+ * {@code t=<unix seconds>,v1=<hex HMAC-SHA256 of "t.body">} scheme so receivers can reject replays.
+ * <p>
+ * The URL is checked against {@link WebhookUrlPolicy} again before each request, since its host may
+ * have been re-pointed at a private address after registration. The request is then written over a
+ * socket opened to the address that passed the check. An HTTP client would resolve the name a second
+ * time, and a DNS record with a zero TTL could answer that lookup with a private address. The original
+ * host name is still sent for SNI, certificate verification and the {@code Host} header.
+ */
+@Component
+@Slf4j
+public class WebhookSender {
+
+    public static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    public static final String BATCH_ID_HEADER = "X-Webhook-Batch-Id";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final ObjectMapper objectMapper;
+    private final WebhookUrlPolicy webhookUrlPolicy;
+    private final SSLSocketFactory sslSocketFactory;
+    private final Duration connectTimeout;
+    private final Duration requestTimeout;
+
+    public WebhookSender(
+            ObjectMapper objectMapper,
+            WebhookUrlPolicy webhookUrlPolicy,
+            @Value("${webhooks.connect-timeout:PT5S}") Duration connectTimeout,
+            @Value("${webhooks.request-timeout:PT10S}") Duration requestTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.webhookUrlPolicy = webhookUrlPolicy;
+        this.sslSocketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+        this.connectTimeout = connectTimeout;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public record Result(boolean delivered, String error) {
+        static Result ok() {
+            return new Result(true, null);
+        }
+
+        static Result failed(String error) {
+            return new Result(false, error);
+        }
+    }
+
+    public Result send(WebhookEndpoint endpoint, List<WebhookDelivery> batch) {
+        List<InetAddress> addresses;
+        try {
+            addresses = webhookUrlPolicy.check(endpoint.getUrl());
+        } catch (InvalidWebhookUrlException e) {
+            log.warn("Webhook batch blocked - endpointId={}, reason={}", endpoint.getId(), e.getMessage());
+            return Result.failed(e.getMessage());
+        }
+        String batchId = UUID.randomUUID().toString();
+        byte[] body = body(batch);
+        long timestamp = Instant.now().getEpochSecond();
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        headers.put(BATCH_ID_HEADER, batchId);
+        headers.put(SIGNATURE_HEADER, "t=" + timestamp + ",v1=" + sign(endpoint.getSecret(), timestamp, body));
+        try {
+            int status = post(URI.create(endpoint.getUrl()), addresses, headers, body);
+            if (status / 100 == 2) {
+                log.debug("Webhook batch delivered - endpointId={}, batchId={}, size={}", endpoint.getId(), batchId, batch.size());
+                return Result.ok();
+            }
+            return Result.failed("HTTP " + status);
+        } catch (IOException e) {
+            return Result.failed(e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sends one HTTP/1.1 POST to the first of {@code addresses} that accepts the connection and returns the
+     * response status. Redirects are not followed.
+     */
+    private int post(URI uri, List<InetAddress> addresses, Map<String, String> headers, byte[] body) throws IOException {
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : https ? 443 : 80;
+        Socket socket = connect(addresses, port);
+        try {
+            socket.setSoTimeout((int) requestTimeout.toMillis());
+            if (https) {
+                String host = uri.getHost().startsWith("[") ? uri.getHost().substring(1, uri.getHost().length() - 1) : uri.getHost();
+                SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(socket, host, port, true);
+                SSLParameters parameters = sslSocket.getSSLParameters();
+                parameters.setEndpointIdentificationAlgorithm("HTTPS");
+                sslSocket.setSSLParameters(parameters);
+                sslSocket.startHandshake();
+                socket = sslSocket;
+            }
+            String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+            StringBuilder head = new StringBuilder()
+                    .append("POST ").append(uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery()).append(" HTTP/1.1\r\n")
+                    .append("Host: ").append(uri.getRawAuthority()).append("\r\n")
+                    .append("Content-Length: ").append(body.length).append("\r\n")
+                    .append("Connection: close\r\n");
+            headers.forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+            head.append("\r\n");
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            out.write(head.toString().getBytes(StandardCharsets.US_ASCII));
+            out.write(body);
+            out.flush();
+            return status(socket.getInputStream());
+        } catch (SocketTimeoutException e) {
+            throw new HttpTimeoutException("Webhook request timed out after " + requestTimeout);
+        } finally {
+            socket.close();
+        }
+    }
+
+    private Socket connect(List<InetAddress> addresses, int port) throws IOException {
+        IOException failure = null;
+        for (InetAddress address : addresses) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(address, port), (int) connectTimeout.toMillis());
+                return socket;
+            } catch (IOException e) {
+                socket.close();
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        throw failure;
+    }
+
+    // Reads "HTTP/1.1 200 OK"; the headers and body are not needed.
+    private static int status(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (line.length() == 1024) {
+                throw new ProtocolException("Status line too long");
+            }
+            line.append((char) c);
+        }
+        String[] parts = line.toString().strip().split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            throw new ProtocolException("Invalid status line: " + line.toString().strip());
+        }
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new ProtocolException("Invalid status line: " + line.toString().strip());
+        }
+    }
+
+    static String sign(String secret, long timestamp, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            mac.update((timestamp + ".").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 unavailable", e);
+        }
+    }
+
+    /**
+     * {@code {"events":[{"id","type","occurredAt","data"}]}}, with each stored payload embedded as raw JSON.
+     */
+    private byte[] body(List<WebhookDelivery> batch) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("events");
+            for (WebhookDelivery delivery : batch) {
+                generator.writeStartObject();
+                generator.writeStringField("id", delivery.getEventId());
+                generator.writeStringField("type", delivery.getEventType());
+                generator.writeStringField("occurredAt", delivery.getCreatedAt().toString());
+                generator.writeFieldName("data");
+                generator.writeRawValue(delivery.getPayload());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.exception.InvalidWebhookUrlException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keeps webhook URLs pointed at the public internet. Recruiters choose the URL and the server makes the
+ * request, so without this check an endpoint could reach the database, the cloud metadata service or
+ * anything else on the private network. The host is resolved on every check and each address must be
+ * public, which is why the check runs again before every send: a name that was public at registration
+ * can be re-pointed later. The checked addresses are returned so the caller connects to exactly those,
+ * rather than resolving the name again and trusting whatever a short-lived DNS record answers then.
+ * {@code webhooks.allow-insecure-urls} allows plain HTTP and non-public addresses for local receivers.
+ */
+@Component
+public class WebhookUrlPolicy {
+
+    private static final List<String> INTERNAL_SUFFIXES = List.of(".localhost", ".local", ".internal", ".lan", ".home.arpa");
+
+    private final boolean allowInsecureUrls;
+
+    public WebhookUrlPolicy(@Value("${webhooks.allow-insecure-urls:false}") boolean allowInsecureUrls) {
+        this.allowInsecureUrls = allowInsecureUrls;
+    }
+
+    /**
+     * Returns the addresses the URL's host resolved to, all of which passed the check.
+     *
+     * @throws InvalidWebhookUrlException if the URL is not HTTPS or its host is not a public address
+     */
+    public List<InetAddress> check(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidWebhookUrlException(url, "malformed URL");
+        }
+        String scheme = uri.getScheme();
+        if (allowInsecureUrls) {
+            if (!"https".equalsIgnoreCase(scheme) && !"http".equalsIgnoreCase(scheme)) {
+                throw new InvalidWebhookUrlException(url, "must use HTTP or HTTPS");
+            }
+        } else if (!"https".equalsIgnoreCase(scheme)) {
+            throw new InvalidWebhookUrlException(url, "must use HTTPS");
+        }
+        String host = uri.getHost();
+        if (host == null || uri.getUserInfo() != null) {
+            throw new InvalidWebhookUrlException(url, "must name a host without credentials");
+        }
+        host = host.toLowerCase(Locale.ROOT);
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        if (!allowInsecureUrls && !isIpLiteral(host) && isInternalName(host)) {
+            throw new InvalidWebhookUrlException(url, "host is not a public name");
+        }
+        InetAddress[] addresses;
+        try {
+            addresses = resolve(host);
+        } catch (UnknownHostException e) {
+            throw new InvalidWebhookUrlException(url, "host does not resolve");
+        }
+        for (InetAddress address : addresses) {
+            if (!allowInsecureUrls && !isPublic(address)) {
+                throw new InvalidWebhookUrlException(url, "host resolves to a non-public address");
+            }
+        }
+        return List.of(addresses);
+    }
+
+    InetAddress[] resolve(String host) throws UnknownHostException {
+        return InetAddress.getAllByName(host);
+    }
+
+    private static boolean isIpLiteral(String host) {
+        return host.startsWith("[") || host.chars().allMatch(c -> c == '.' || Character.isDigit(c));
+    }
+
+    private static boolean isInternalName(String host) {
+        return !host.contains(".") || INTERNAL_SUFFIXES.stream().anyMatch(host::endsWith);
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            return isPublicIpv4(bytes);
+        }
+        if (address instanceof Inet6Address) {
+            int first = bytes[0] & 0xff;
+            if ((first & 0xfe) == 0xfc) {
+                return false; // fc00::/7 unique local
+            }
+            if (isZero(bytes, 0, 12) || isNat64(bytes)) {
+                // IPv4-compatible ::a.b.c.d and NAT64 64:ff9b::a.b.c.d reach the embedded IPv4 address
+                return isPublicIpv4(new byte[]{bytes[12], bytes[13], bytes[14], bytes[15]});
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPublicIpv4(byte[] bytes) {
+        int a = bytes[0] & 0xff;
+        int b = bytes[1] & 0xff;
+        int c = bytes[2] & 0xff;
+        return a != 0                                     // 0.0.0.0/8 "this network"
+                && a != 10                                // 10.0.0.0/8 private
+                && a != 127                               // 127.0.0.0/8 loopback
+                && !(a == 100 && (b & 0xc0) == 64)        // 100.64.0.0/10 carrier-grade NAT
+                && !(a == 169 && b == 254)                // 169.254.0.0/16 link-local, cloud metadata
+                && !(a == 172 && (b & 0xf0) == 16)        // 172.16.0.0/12 private
+                && !(a == 192 && b == 0 && c == 0)        // 192.0.0.0/24 protocol assignments
+                && !(a == 192 && b == 168)                // 192.168.0.0/16 private
+                && !(a == 198 && (b & 0xfe) == 18)        // 198.18.0.0/15 benchmarking
+                && a < 224;                               // multicast, reserved and broadcast
+    }
+
+    private static boolean isNat64(byte[] bytes) {
+        return (bytes[0] & 0xff) == 0x00 && (bytes[1] & 0xff) == 0x64
+                && (bytes[2] & 0xff) == 0xff && (bytes[3] & 0xff) == 0x9b && isZero(bytes, 4, 12);
+    }
+
+    private static boolean isZero(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,8 @@
+DROP INDEX IF EXISTS idx_users_reset_token;
+
+DROP INDEX IF EXISTS idx_users_verify_token;
+
+ALTER TABLE users
+    DROP COLUMN IF EXISTS reset_password_token,
+    DROP COLUMN IF EXISTS reset_password_token_expiry,
+    DROP COLUMN IF EXISTS email_verify_token;
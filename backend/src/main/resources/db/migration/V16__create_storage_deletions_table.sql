@@ -0,0 +1,13 @@
+CREATE TABLE storage_deletions
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at      TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at      TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    object_key      VARCHAR(1024)                           NOT NULL,
+    attempts        INTEGER                                 NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_storage_deletions PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_storage_deletions_next_attempt ON storage_deletions (next_attempt_at);
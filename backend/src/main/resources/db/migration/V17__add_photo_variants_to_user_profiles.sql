@@ -0,0 +1,3 @@
+ALTER TABLE user_profiles
+    ADD COLUMN photo_thumbnail_url VARCHAR(255),
+    ADD COLUMN photo_medium_url    VARCHAR(255);
@@ -0,0 +1,15 @@
+CREATE TABLE storage_blobs
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at   TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at   TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    object_key   VARCHAR(255)                            NOT NULL,
+    sha256       VARCHAR(64)                             NOT NULL,
+    size         BIGINT                                  NOT NULL,
+    content_type VARCHAR(100),
+    ref_count    INTEGER                                 NOT NULL DEFAULT 0,
+    CONSTRAINT pk_storage_blobs PRIMARY KEY (id)
+);
+
+ALTER TABLE storage_blobs
+    ADD CONSTRAINT uc_storage_blobs_object_key UNIQUE (object_key);
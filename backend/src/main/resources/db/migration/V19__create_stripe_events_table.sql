@@ -0,0 +1,26 @@
+CREATE TABLE stripe_events
+(
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at       TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at       TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    event_id         VARCHAR(255)                            NOT NULL,
+    event_type       VARCHAR(255)                            NOT NULL,
+    customer_key     VARCHAR(255)                            NOT NULL,
+    event_created_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    payload          TEXT                                    NOT NULL,
+    status           VARCHAR(20)                             NOT NULL,
+    attempts         INTEGER                                 NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    processed_at     TIMESTAMP WITHOUT TIME ZONE,
+    last_error       VARCHAR(1000),
+    CONSTRAINT pk_stripe_events PRIMARY KEY (id)
+);
+
+ALTER TABLE stripe_events
+    ADD CONSTRAINT uc_stripe_events_event_id UNIQUE (event_id);
+
+CREATE INDEX idx_stripe_events_pending_customer ON stripe_events (customer_key, event_created_at, id)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_stripe_events_pending_next_attempt ON stripe_events (next_attempt_at)
+    WHERE status = 'PENDING';
@@ -0,0 +1,21 @@
+CREATE TABLE job_application_counts
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    job_id     BIGINT                                  NOT NULL,
+    status     VARCHAR(50)                             NOT NULL,
+    count      BIGINT                                  NOT NULL DEFAULT 0,
+    CONSTRAINT pk_job_application_counts PRIMARY KEY (id)
+);
+
+ALTER TABLE job_application_counts
+    ADD CONSTRAINT uc_job_application_counts_job_status UNIQUE (job_id, status);
+
+ALTER TABLE job_application_counts
+    ADD CONSTRAINT FK_JOB_APPLICATION_COUNTS_ON_JOB FOREIGN KEY (job_id) REFERENCES jobs (id);
+
+INSERT INTO job_application_counts (created_at, updated_at, job_id, status, count)
+SELECT NOW(), NOW(), job_id, status, COUNT(*)
+FROM job_applications
+GROUP BY job_id, status;
@@ -0,0 +1 @@
+CREATE INDEX idx_jobs_updated_at_id ON jobs (updated_at, id);
@@ -0,0 +1,42 @@
+CREATE TABLE webhook_endpoints
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    owner_id   BIGINT                                  NOT NULL,
+    url        VARCHAR(2048)                           NOT NULL,
+    secret     VARCHAR(255)                            NOT NULL,
+    active     BOOLEAN                                 NOT NULL DEFAULT TRUE,
+    CONSTRAINT pk_webhook_endpoints PRIMARY KEY (id)
+);
+
+ALTER TABLE webhook_endpoints
+    ADD CONSTRAINT FK_WEBHOOK_ENDPOINTS_ON_OWNER FOREIGN KEY (owner_id) REFERENCES users (id);
+
+CREATE INDEX idx_webhook_endpoints_owner ON webhook_endpoints (owner_id) WHERE active;
+
+CREATE TABLE webhook_deliveries
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    created_at      TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    updated_at      TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    endpoint_id     BIGINT                                  NOT NULL,
+    event_id        VARCHAR(36)                             NOT NULL,
+    event_type      VARCHAR(50)                             NOT NULL,
+    payload         TEXT                                    NOT NULL,
+    status          VARCHAR(20)                             NOT NULL,
+    attempts        INTEGER                                 NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP WITHOUT TIME ZONE             NOT NULL,
+    delivered_at    TIMESTAMP WITHOUT TIME ZONE,
+    last_error      VARCHAR(1000),
+    CONSTRAINT pk_webhook_deliveries PRIMARY KEY (id)
+);
+
+ALTER TABLE webhook_deliveries
+    ADD CONSTRAINT FK_WEBHOOK_DELIVERIES_ON_ENDPOINT FOREIGN KEY (endpoint_id) REFERENCES webhook_endpoints (id) ON DELETE CASCADE;
+
+CREATE INDEX idx_webhook_deliveries_pending ON webhook_deliveries (endpoint_id, next_attempt_at, id)
+    WHERE status = 'PENDING';
+
+CREATE INDEX idx_webhook_deliveries_finished ON webhook_deliveries (updated_at)
+    WHERE status <> 'PENDING';
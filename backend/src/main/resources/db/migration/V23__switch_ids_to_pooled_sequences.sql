@@ -0,0 +1,27 @@
+-- Hibernate allocates ids from <table>_seq in blocks of 50 (pooled optimizer), which lets inserts be
+-- batched. Column defaults draw from the same sequences, so native inserts never collide with a block
+-- handed out to Hibernate. Each sequence starts 50 past the current max id: the first value Hibernate
+-- reads is the top of its first block.
+DO
+$$
+DECLARE
+    target_table TEXT;
+    max_id     BIGINT;
+BEGIN
+    FOREACH target_table IN ARRAY ARRAY [
+        'users', 'user_profiles', 'resumes', 'language_skills', 'companies', 'jobs', 'job_applications',
+        'job_application_counts', 'stripe_events', 'storage_blobs', 'storage_deletions',
+        'webhook_endpoints', 'webhook_deliveries'
+        ]
+        LOOP
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target_table);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', target_table);
+            EXECUTE format('DROP SEQUENCE IF EXISTS %I', target_table || '_id_seq');
+
+            EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', target_table) INTO max_id;
+            EXECUTE format('CREATE SEQUENCE %I INCREMENT BY 50 START WITH %s OWNED BY %I.id',
+                           target_table || '_seq', max_id + 50, target_table);
+            EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', target_table, target_table || '_seq');
+        END LOOP;
+END
+$$;
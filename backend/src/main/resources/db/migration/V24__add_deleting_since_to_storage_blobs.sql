@@ -0,0 +1,2 @@
+ALTER TABLE storage_blobs
+    ADD COLUMN deleting_since TIMESTAMP WITHOUT TIME ZONE;
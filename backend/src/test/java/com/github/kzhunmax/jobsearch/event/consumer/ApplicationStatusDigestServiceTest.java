@@ -0,0 +1,161 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.kzhunmax.jobsearch.shared.EmailService;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.mail.EmailDeliveryService;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicationStatusDigestService Tests")
+class ApplicationStatusDigestServiceTest {
+
+    private static final String CANDIDATE_ID = String.valueOf(TEST_ID);
+    private static final String PENDING_KEY = ApplicationStatusDigestService.PENDING_KEY_PREFIX + CANDIDATE_ID;
+    private static final Instant CHANGED_AT = Instant.parse("2025-01-01T10:00:00Z");
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private EmailDeliveryService emailDeliveryService;
+
+    @Mock
+    private MimeMessage message;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ApplicationStatusDigestService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ApplicationStatusDigestService(redisTemplate, objectMapper, emailService, emailDeliveryService,
+                WINDOW, Duration.ofMinutes(5), Duration.ofDays(7), 100);
+        lenient().when(emailService.applicationStatusDigest(anyString(), anyList(), any())).thenReturn(message);
+    }
+
+    @Test
+    @DisplayName("should store the change and schedule the digest one window after the change")
+    void onApplicationStatusChanged_recordsChangeWithDueTime() throws Exception {
+        // Arrange
+        ApplicationStatusChangedEvent event = event(10L, ApplicationStatus.REJECTED, CHANGED_AT);
+
+        // Act
+        service.onApplicationStatusChanged(event);
+
+        // Assert
+        verify(redisTemplate).execute(eq(ApplicationStatusDigestService.RECORD_SCRIPT),
+                eq(List.of(PENDING_KEY, ApplicationStatusDigestService.DUE_KEY)),
+                eq(CANDIDATE_ID), eq("10"), eq(objectMapper.writeValueAsString(event)),
+                eq(String.valueOf(CHANGED_AT.plus(WINDOW).toEpochMilli())), eq(String.valueOf(Duration.ofDays(7).toMillis())));
+    }
+
+    @Test
+    @DisplayName("should send one digest with all pending changes in order and clear them")
+    @SuppressWarnings("unchecked")
+    void sendDigest_pendingChanges_sendsOneEmail() throws Exception {
+        // Arrange
+        String later = objectMapper.writeValueAsString(event(11L, ApplicationStatus.OFFERED, CHANGED_AT.plusSeconds(60)));
+        String earlier = objectMapper.writeValueAsString(event(10L, ApplicationStatus.REJECTED, CHANGED_AT));
+        stubClaim(List.of("11", later, "10", earlier));
+        when(emailDeliveryService.deliver(List.of(message))).thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        // Act
+        service.sendDigest(CANDIDATE_ID, CHANGED_AT.toEpochMilli());
+
+        // Assert
+        ArgumentCaptor<List<ApplicationStatusChangedEvent>> changes = ArgumentCaptor.forClass(List.class);
+        verify(emailService).applicationStatusDigest(eq(TEST_EMAIL), changes.capture(), isNull());
+        assertThat(changes.getValue()).extracting(ApplicationStatusChangedEvent::applicationId).containsExactly(10L, 11L);
+        verify(redisTemplate).execute(eq(ApplicationStatusDigestService.COMPLETE_SCRIPT), anyList(),
+                eq(CANDIDATE_ID), anyString(), eq("11"), eq(later), eq("10"), eq(earlier));
+    }
+
+    @Test
+    @DisplayName("should keep the changes for a retry when delivery fails")
+    void sendDigest_deliveryFails_keepsChanges() throws Exception {
+        // Arrange
+        stubClaim(List.of("10", objectMapper.writeValueAsString(event(10L, ApplicationStatus.REJECTED, CHANGED_AT))));
+        when(emailDeliveryService.deliver(anyList()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new MessagingException("451 try later"))));
+
+        // Act
+        service.sendDigest(CANDIDATE_ID, CHANGED_AT.toEpochMilli());
+
+        // Assert
+        verify(redisTemplate, never()).execute(eq(ApplicationStatusDigestService.COMPLETE_SCRIPT), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("should start every digest before waiting and bound the whole batch by one lease")
+    void sendDigests_slowDelivery_waitsOnceForTheBatch() throws Exception {
+        // Arrange
+        service = new ApplicationStatusDigestService(redisTemplate, objectMapper, emailService, emailDeliveryService,
+                WINDOW, Duration.ofMillis(200), Duration.ofDays(7), 100);
+        String change = objectMapper.writeValueAsString(event(10L, ApplicationStatus.REJECTED, CHANGED_AT));
+        stubClaim(List.of("10", change));
+        when(emailDeliveryService.deliver(anyList()))
+                .thenReturn(List.of(new CompletableFuture<>()))
+                .thenReturn(List.of(new CompletableFuture<>()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        // Act
+        long started = System.nanoTime();
+        service.sendDigests(List.of("1", "2", "3"), CHANGED_AT.toEpochMilli());
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+
+        // Assert
+        assertThat(elapsedMillis).isLessThan(400);
+        verify(emailDeliveryService, times(3)).deliver(anyList());
+        verify(redisTemplate).execute(eq(ApplicationStatusDigestService.COMPLETE_SCRIPT), anyList(), any(Object[].class));
+        verify(redisTemplate).execute(eq(ApplicationStatusDigestService.COMPLETE_SCRIPT), anyList(),
+                eq("3"), anyString(), eq("10"), eq(change));
+    }
+
+    @Test
+    @DisplayName("should do nothing when another instance already claimed the candidate")
+    void sendDigest_alreadyClaimed_skips() {
+        // Arrange
+        stubClaim(List.of());
+
+        // Act
+        service.sendDigest(CANDIDATE_ID, CHANGED_AT.toEpochMilli());
+
+        // Assert
+        verifyNoInteractions(emailService, emailDeliveryService);
+    }
+
+    private void stubClaim(List<String> pending) {
+        when(redisTemplate.execute(eq(ApplicationStatusDigestService.CLAIM_SCRIPT), anyList(), any(Object[].class)))
+                .thenReturn(pending);
+    }
+
+    private static ApplicationStatusChangedEvent event(Long applicationId, ApplicationStatus status, Instant changedAt) {
+        return new ApplicationStatusChangedEvent(applicationId, TEST_ID, TEST_EMAIL, TEST_TITLE, TEST_COMPANY_NAME,
+                ApplicationStatus.APPLIED, status, changedAt);
+    }
+}
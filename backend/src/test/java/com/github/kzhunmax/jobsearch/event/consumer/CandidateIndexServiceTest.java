@@ -0,0 +1,157 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.shared.enums.ProfileType;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import com.github.kzhunmax.jobsearch.user.mapper.CandidateDocumentMapper;
+import com.github.kzhunmax.jobsearch.user.model.Resume;
+import com.github.kzhunmax.jobsearch.user.model.UserProfile;
+import com.github.kzhunmax.jobsearch.user.model.es.CandidateDocument;
+import com.github.kzhunmax.jobsearch.user.repository.ResumeRepository;
+import com.github.kzhunmax.jobsearch.user.repository.es.CandidateSearchRepository;
+import com.github.kzhunmax.jobsearch.user.service.search.ResumeTextExtractor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CandidateIndexService Tests")
+class CandidateIndexServiceTest {
+
+    private static final String OBJECT_KEY = "blobs/3f1c.pdf";
+    private static final String FILE_URL = "https://storage.example.com/" + OBJECT_KEY;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private CandidateSearchRepository candidateSearchRepository;
+
+    @Mock
+    private CandidateDocumentMapper candidateDocumentMapper;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ResumeTextExtractor resumeTextExtractor;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private CandidateIndexService candidateIndexService;
+
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        UserProfile profile = createUserProfile(createUser(TEST_ID, TEST_EMAIL));
+        profile.setProfileType(ProfileType.CANDIDATE);
+        resume = createResume(TEST_ID, profile);
+        resume.setFileUrl(FILE_URL);
+
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(resumeRepository.findById(TEST_ID)).thenReturn(Optional.of(resume));
+        lenient().when(candidateDocumentMapper.toDocument(resume))
+                .thenAnswer(_ -> CandidateDocument.builder().id(TEST_ID).profileId(TEST_ID).sourceUrl(FILE_URL).build());
+        lenient().when(fileStorageService.objectKey(FILE_URL)).thenReturn(Optional.of(OBJECT_KEY));
+        lenient().when(fileStorageService.read(eq(OBJECT_KEY), anyLong())).thenReturn(new byte[]{1});
+        lenient().when(resumeTextExtractor.extract(any())).thenReturn(Optional.of("Java developer"));
+    }
+
+    @Test
+    @DisplayName("should extract and index resume text for a new resume")
+    void onResumeIndexEvent_newResume_extractsText() {
+        // Arrange
+        when(candidateSearchRepository.findById(TEST_ID)).thenReturn(Optional.empty());
+
+        // Act
+        candidateIndexService.onResumeIndexEvent(new ResumeIndexEvent(TEST_ID, SyncAction.UPSERT));
+
+        // Assert
+        CandidateDocument saved = captureSaved();
+        assertThat(saved.getResumeText()).isEqualTo("Java developer");
+        verify(resumeTextExtractor).extract(any());
+    }
+
+    @Test
+    @DisplayName("should reuse indexed text when the resume file is unchanged")
+    void onResumeIndexEvent_sameFile_reusesText() throws IOException {
+        // Arrange
+        CandidateDocument existing = CandidateDocument.builder()
+                .id(TEST_ID).sourceUrl(FILE_URL).resumeText("Previously extracted").build();
+        when(candidateSearchRepository.findById(TEST_ID)).thenReturn(Optional.of(existing));
+
+        // Act
+        candidateIndexService.onResumeIndexEvent(new ResumeIndexEvent(TEST_ID, SyncAction.UPSERT));
+
+        // Assert
+        assertThat(captureSaved().getResumeText()).isEqualTo("Previously extracted");
+        verify(fileStorageService, never()).read(anyString(), anyLong());
+        verifyNoInteractions(resumeTextExtractor);
+    }
+
+    @Test
+    @DisplayName("should re-extract text when the resume file was replaced")
+    void onResumeIndexEvent_replacedFile_extractsAgain() {
+        // Arrange
+        CandidateDocument existing = CandidateDocument.builder()
+                .id(TEST_ID).sourceUrl("https://storage.example.com/blobs/old.pdf").resumeText("Old text").build();
+        when(candidateSearchRepository.findById(TEST_ID)).thenReturn(Optional.of(existing));
+
+        // Act
+        candidateIndexService.onResumeIndexEvent(new ResumeIndexEvent(TEST_ID, SyncAction.UPSERT));
+
+        // Assert
+        assertThat(captureSaved().getResumeText()).isEqualTo("Java developer");
+    }
+
+    @Test
+    @DisplayName("should remove resumes of non-candidate profiles from the index")
+    void onResumeIndexEvent_recruiterProfile_deletesDocument() {
+        // Arrange
+        resume.getUserProfile().setProfileType(ProfileType.RECRUITER);
+
+        // Act
+        candidateIndexService.onResumeIndexEvent(new ResumeIndexEvent(TEST_ID, SyncAction.UPSERT));
+
+        // Assert
+        verify(candidateSearchRepository).deleteById(TEST_ID);
+        verify(candidateSearchRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should delete the document without touching the database on DELETE")
+    void onResumeIndexEvent_delete_removesDocument() {
+        // Act
+        candidateIndexService.onResumeIndexEvent(new ResumeIndexEvent(TEST_ID, SyncAction.DELETE));
+
+        // Assert
+        verify(candidateSearchRepository).deleteById(TEST_ID);
+        verifyNoInteractions(resumeRepository);
+    }
+
+    private CandidateDocument captureSaved() {
+        ArgumentCaptor<CandidateDocument> captor = ArgumentCaptor.forClass(CandidateDocument.class);
+        verify(candidateSearchRepository).save(captor.capture());
+        return captor.getValue();
+    }
+}
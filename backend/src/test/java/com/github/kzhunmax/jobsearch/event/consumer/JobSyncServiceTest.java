@@ -0,0 +1,146 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.github.kzhunmax.jobsearch.job.mapper.JobDocumentMapper;
+import com.github.kzhunmax.jobsearch.job.model.Job;
+import com.github.kzhunmax.jobsearch.job.model.es.JobDocument;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
+import com.github.kzhunmax.jobsearch.job.repository.es.JobSearchRepository;
+import com.github.kzhunmax.jobsearch.shared.datasource.ReadYourWritesTracker;
+import com.github.kzhunmax.jobsearch.shared.datasource.ReplicaRoutingDataSource;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncBatchEvent;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the listeners behind their real transaction attributes over a {@link ReplicaRoutingDataSource}
+ * with a healthy replica that has not replayed the job yet. Consumer threads have no caller to pin, so
+ * any read routed to that replica would find nothing and silently drop the job from the index.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobSyncService Tests")
+class JobSyncServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private JobSearchRepository jobSearchRepository;
+
+    @Mock
+    private JobDocumentMapper jobDocumentMapper;
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource laggingReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private final List<Connection> readConnections = new ArrayList<>();
+    private JobSyncService jobSyncService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(laggingReplica.getConnection()).thenReturn(replicaConnection);
+        stubLag(replicaConnection);
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", laggingReplica),
+                new ReadYourWritesTracker(() -> null, Duration.ofSeconds(5)), Duration.ofSeconds(10), Duration.ofSeconds(2),
+                new SimpleMeterRegistry());
+        routingDataSource.checkHealth();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        Job job = createJob(TEST_ID, createUser(TEST_ID, TEST_EMAIL), createCompany(TEST_ID, TEST_COMPANY_NAME), true);
+        lenient().when(jobRepository.findById(TEST_ID)).thenAnswer(_ -> {
+            readConnections.add(targetConnection(dataSource));
+            return Optional.of(job);
+        });
+        lenient().when(jobRepository.findByIdIn(List.of(TEST_ID))).thenAnswer(_ -> {
+            readConnections.add(targetConnection(dataSource));
+            return List.of(job);
+        });
+        lenient().when(jobDocumentMapper.toDocument(job)).thenReturn(JobDocument.builder().id(TEST_ID).build());
+
+        ProxyFactory proxyFactory = new ProxyFactory(new JobSyncService(jobRepository, jobSearchRepository, jobDocumentMapper));
+        proxyFactory.setProxyTargetClass(true);
+        TransactionInterceptor transactionInterceptor = new TransactionInterceptor();
+        transactionInterceptor.setTransactionManager(new DataSourceTransactionManager(dataSource));
+        transactionInterceptor.setTransactionAttributeSource(new AnnotationTransactionAttributeSource());
+        proxyFactory.addAdvice(transactionInterceptor);
+        jobSyncService = (JobSyncService) proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("should read a single synced job from the primary while a replica is healthy")
+    void onJobSyncEvent_readsPrimary() {
+        // Act
+        jobSyncService.onJobSyncEvent(new JobSyncEvent(TEST_ID, SyncAction.UPSERT));
+
+        // Assert
+        assertThat(readConnections).containsExactly(primaryConnection);
+        verify(jobSearchRepository).save(any(JobDocument.class));
+        verify(jobSearchRepository, never()).deleteById(TEST_ID);
+    }
+
+    @Test
+    @DisplayName("should read a synced batch from the primary while a replica is healthy")
+    void onJobSyncBatch_readsPrimary() {
+        // Act
+        jobSyncService.onJobSyncBatch(new JobSyncBatchEvent(List.of(TEST_ID), SyncAction.UPSERT));
+
+        // Assert
+        assertThat(readConnections).containsExactly(primaryConnection);
+        verify(jobSearchRepository).saveAll(anyList());
+        verify(jobSearchRepository, never()).deleteAllById(any());
+    }
+
+    // The repository would run its query on the connection bound to the current transaction.
+    private static Connection targetConnection(DataSource dataSource) {
+        return ((ConnectionProxy) DataSourceUtils.getConnection(dataSource)).getTargetConnection();
+    }
+
+    private static void stubLag(Connection connection) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        lenient().when(resultSet.next()).thenReturn(true);
+        lenient().when(resultSet.getDouble(1)).thenReturn(0.0);
+    }
+}
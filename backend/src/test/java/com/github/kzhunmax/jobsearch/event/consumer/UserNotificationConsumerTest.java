@@ -0,0 +1,202 @@
+package com.github.kzhunmax.jobsearch.event.consumer;
+
+import com.github.kzhunmax.jobsearch.shared.EmailService;
+import com.github.kzhunmax.jobsearch.shared.event.EventType;
+import com.github.kzhunmax.jobsearch.shared.event.PasswordResetEvent;
+import com.github.kzhunmax.jobsearch.shared.event.UserEvent;
+import com.github.kzhunmax.jobsearch.shared.mail.EmailDeliveryService;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserNotificationConsumer Tests")
+class UserNotificationConsumerTest {
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private EmailDeliveryService emailDeliveryService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    @Mock
+    private MimeMessage message;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private UserNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new UserNotificationConsumer(emailService, emailDeliveryService, redisTemplate, Duration.ofSeconds(1));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(emailService.verificationEmail(anyString(), anyString(), any())).thenReturn(message);
+        lenient().when(emailService.passwordResetEmail(anyString(), anyString(), any())).thenReturn(message);
+    }
+
+    @Test
+    @DisplayName("should acknowledge the batch once every email is delivered")
+    void onUserEvents_allDelivered_acknowledges() {
+        // Arrange
+        List<UserEvent> events = List.of(
+                new UserEvent(TEST_EMAIL, EventType.REGISTERED, "token-1", null),
+                new UserEvent(NON_EXISTENT_EMAIL, EventType.REGISTERED, "token-2", null));
+        when(emailDeliveryService.deliver(anyList()))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null), CompletableFuture.completedFuture(null)));
+
+        // Act
+        consumer.onUserEvents(events, partitions(events.size()), offsets(events.size()), acknowledgment);
+
+        // Assert
+        verify(emailDeliveryService).deliver(argThat(messages -> messages.size() == 2));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should report the record index of the first undelivered email and not acknowledge")
+    void onPasswordResetEvents_deliveryFails_throwsWithRecordIndex() {
+        // Arrange
+        List<PasswordResetEvent> events = List.of(
+                new PasswordResetEvent(TEST_EMAIL, "token-1", null),
+                new PasswordResetEvent(NON_EXISTENT_EMAIL, "token-2", null));
+        when(emailDeliveryService.deliver(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.failedFuture(new MessagingException("550 mailbox unavailable"))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> consumer.onPasswordResetEvents(events, partitions(events.size()), offsets(events.size()), acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should map failures back to the original record when some events send no email")
+    void onUserEvents_skippedEvents_mapsIndexToRecord() {
+        // Arrange
+        List<UserEvent> events = List.of(
+                new UserEvent(TEST_EMAIL, null, null, null),
+                new UserEvent(NON_EXISTENT_EMAIL, EventType.REGISTERED, "token-2", null));
+        when(emailDeliveryService.deliver(anyList()))
+                .thenReturn(List.of(CompletableFuture.failedFuture(new MessagingException("timeout"))));
+
+        // Act & Assert
+        assertThatThrownBy(() -> consumer.onUserEvents(events, partitions(events.size()), offsets(events.size()), acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("should fail the batch when delivery does not finish in time")
+    void onUserEvents_deliveryTimesOut_throws() {
+        // Arrange
+        List<UserEvent> events = List.of(new UserEvent(TEST_EMAIL, EventType.REGISTERED, "token-1", null));
+        when(emailDeliveryService.deliver(anyList())).thenReturn(List.of(new CompletableFuture<>()));
+        consumer = new UserNotificationConsumer(emailService, emailDeliveryService, redisTemplate, Duration.ofMillis(10));
+
+        // Act & Assert
+        assertThatThrownBy(() -> consumer.onUserEvents(events, partitions(events.size()), offsets(events.size()), acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should mark delivered records and skip them when the batch is redelivered")
+    void onPasswordResetEvents_redelivered_skipsAlreadySentRecords() {
+        // Arrange
+        List<PasswordResetEvent> events = List.of(
+                new PasswordResetEvent(TEST_EMAIL, "token-1", null),
+                new PasswordResetEvent(NON_EXISTENT_EMAIL, "token-2", null),
+                new PasswordResetEvent(TEST_EMAIL, "token-3", null));
+        when(emailDeliveryService.deliver(anyList())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new MessagingException("421 try again later")),
+                CompletableFuture.completedFuture(null),
+                CompletableFuture.completedFuture(null)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> consumer.onPasswordResetEvents(events, partitions(3), offsets(3), acknowledgment))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getIndex()).isZero());
+        verify(valueOperations).set(eq(sentKey(1)), anyString(), any(Duration.class));
+        verify(valueOperations).set(eq(sentKey(2)), anyString(), any(Duration.class));
+
+        // Arrange: the error handler redelivers the batch; the two emails after the failed one already went out
+        when(valueOperations.multiGet(List.of(sentKey(0), sentKey(1), sentKey(2))))
+                .thenReturn(Arrays.asList(null, "1", "1"));
+        when(emailDeliveryService.deliver(anyList())).thenReturn(List.of(CompletableFuture.completedFuture(null)));
+
+        // Act
+        consumer.onPasswordResetEvents(events, partitions(3), offsets(3), acknowledgment);
+
+        // Assert
+        verify(emailService, times(4)).passwordResetEmail(anyString(), anyString(), any());
+        verify(emailService, times(2)).passwordResetEmail(TEST_EMAIL, "token-1", null);
+        verify(emailDeliveryService, times(2)).deliver(anyList());
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("should drop emails whose recipient was permanently rejected instead of retrying")
+    void onUserEvents_permanentRejection_acknowledges() throws Exception {
+        // Arrange
+        List<UserEvent> events = List.of(new UserEvent(TEST_EMAIL, EventType.REGISTERED, "token-1", null));
+        Address[] invalid = {new InternetAddress(TEST_EMAIL)};
+        when(emailDeliveryService.deliver(anyList())).thenReturn(List.of(CompletableFuture.failedFuture(
+                new SendFailedException("550 no such user", null, new Address[0], new Address[0], invalid))));
+
+        // Act
+        consumer.onUserEvents(events, partitions(1), offsets(1), acknowledgment);
+
+        // Assert
+        verify(acknowledgment).acknowledge();
+        verify(valueOperations).set(eq(UserNotificationConsumer.SENT_KEY_PREFIX + "user-events:0:100"), anyString(), any(Duration.class));
+    }
+
+    private static String sentKey(int index) {
+        return UserNotificationConsumer.SENT_KEY_PREFIX + "password-reset-events:0:" + (100 + index);
+    }
+
+    private static List<Integer> partitions(int size) {
+        return Collections.nCopies(size, 0);
+    }
+
+    private static List<Long> offsets(int size) {
+        List<Long> offsets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            offsets.add(100L + i);
+        }
+        return offsets;
+    }
+}
@@ -6,6 +6,7 @@ import com.github.kzhunmax.jobsearch.job.dto.JobRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobResponseDTO;
 import com.github.kzhunmax.jobsearch.job.model.es.JobDocument;
 import com.github.kzhunmax.jobsearch.job.service.JobService;
+import com.github.kzhunmax.jobsearch.job.service.bulk.JobImportService;
 import com.github.kzhunmax.jobsearch.job.service.search.JobSearchService;
 import com.github.kzhunmax.jobsearch.security.JobSecurityService;
 import com.github.kzhunmax.jobsearch.security.JwtService;
@@ -52,6 +53,9 @@ class JobControllerTest {
     @MockitoBean
     private JobSearchService jobSearchService;
 
+    @MockitoBean
+    private JobImportService jobImportService;
+
     @MockitoBean
     private RateLimitingService rateLimitingService;
 
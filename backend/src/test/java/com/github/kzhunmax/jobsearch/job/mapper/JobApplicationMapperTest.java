@@ -7,12 +7,14 @@ import com.github.kzhunmax.jobsearch.job.model.JobApplication;
 import com.github.kzhunmax.jobsearch.user.model.Resume;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.model.UserProfile;
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
@@ -22,6 +24,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("JobApplicationMapper Tests")
 class JobApplicationMapperTest {
 
+    private static final String RESUME_DOWNLOAD_URL = "http://localhost:8080/api/user/resume/" + TEST_ID + "/download";
+
+    @Spy
+    private ResumeDownloadUrls resumeDownloadUrls = new ResumeDownloadUrls("http://localhost:8080");
+
     @InjectMocks
     private JobApplicationMapper mapper = Mappers.getMapper(JobApplicationMapper.class);
 
@@ -74,7 +81,7 @@ class JobApplicationMapperTest {
         assertThat(result.status()).isEqualTo(application.getStatus().name());
         assertThat(result.appliedAt()).isEqualTo(application.getAppliedAt().toString());
         assertThat(result.coverLetter()).isEqualTo(application.getCoverLetter());
-        assertThat(result.resumeUrl()).isEqualTo(application.getResume().getFileUrl());
+        assertThat(result.resumeUrl()).isEqualTo(RESUME_DOWNLOAD_URL);
     }
 
     @Test
@@ -94,7 +101,7 @@ class JobApplicationMapperTest {
         assertThat(result.status()).isEqualTo(application.getStatus().name());
         assertThat(result.appliedAt()).isEqualTo(application.getAppliedAt().toString());
         assertThat(result.coverLetter()).isEqualTo(application.getCoverLetter());
-        assertThat(result.resumeUrl()).isEqualTo(application.getResume().getFileUrl());
+        assertThat(result.resumeUrl()).isEqualTo(RESUME_DOWNLOAD_URL);
     }
 
     @Test
@@ -4,6 +4,7 @@ import com.github.kzhunmax.jobsearch.company.model.Company;
 import com.github.kzhunmax.jobsearch.company.repository.CompanyRepository;
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import com.github.kzhunmax.jobsearch.user.model.Resume;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.model.UserProfile;
@@ -20,6 +21,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
@@ -205,4 +208,62 @@ public class JobApplicationRepositoryTest extends AbstractIntegrationTest {
 
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("Should update only applications not already in the target status and return their previous status")
+    void updateStatuses_shouldReturnChangedApplicationsWithPreviousStatus() {
+        JobApplication application = jobApplicationRepository.save(createJobApplication(testUser, testJob, testResume));
+        Job secondJob = jobRepository.save(createJob(testUser, testCompany, true));
+        JobApplication alreadyReviewed = createJobApplication(testUser, secondJob, testResume);
+        alreadyReviewed.setStatus(ApplicationStatus.UNDER_REVIEW);
+        jobApplicationRepository.save(alreadyReviewed);
+        jobApplicationRepository.flush();
+
+        List<JobApplicationRepository.StatusChange> changes = jobApplicationRepository.updateStatuses(
+                List.of(application.getId(), alreadyReviewed.getId()), ApplicationStatus.UNDER_REVIEW.name(), Instant.now());
+
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.getApplicationId()).isEqualTo(application.getId());
+            assertThat(change.getCandidateEmail()).isEqualTo(testUser.getEmail());
+            assertThat(change.getCompanyName()).isEqualTo(TEST_COMPANY_NAME);
+            assertThat(change.getPreviousStatus()).isEqualTo(ApplicationStatus.APPLIED.name());
+        });
+    }
+
+    @Test
+    @DisplayName("Should count only applications for jobs posted by the given recruiter")
+    void countByIdInAndJobPostedByEmailIgnoreCase_shouldCountOwnedApplications() {
+        JobApplication application = jobApplicationRepository.save(createJobApplication(testUser, testJob, testResume));
+
+        long owned = jobApplicationRepository.countByIdInAndJobPostedByEmailIgnoreCase(
+                List.of(application.getId(), -1L), testUser.getEmail().toUpperCase());
+
+        assertThat(owned).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should insert once and return empty for a duplicate job/candidate pair")
+    void insertIfAbsent_duplicate_shouldReturnEmpty() {
+        Optional<Long> first = jobApplicationRepository.insertIfAbsent(testJob.getId(), testUser.getId(), testResume.getId(), "", Instant.now());
+        Optional<Long> second = jobApplicationRepository.insertIfAbsent(testJob.getId(), testUser.getId(), testResume.getId(), "Again", Instant.now());
+
+        assertThat(first).isPresent();
+        assertThat(second).isEmpty();
+        assertThat(jobApplicationRepository.findWithDetailsById(first.get()))
+                .hasValueSatisfying(application -> assertThat(application.getCoverLetter()).isNull());
+    }
+
+    @Test
+    @DisplayName("Should load job, profile and resume owner in one apply context")
+    void findApplyContext_shouldReturnJoinedState() {
+        Optional<JobApplicationRepository.ApplyContext> context =
+                jobApplicationRepository.findApplyContext(testJob.getId(), testUser.getId(), testResume.getId());
+
+        assertThat(context).hasValueSatisfying(c -> {
+            assertThat(c.getJobId()).isEqualTo(testJob.getId());
+            assertThat(c.getProfileId()).isNotNull();
+            assertThat(c.getResumeOwnerId()).isEqualTo(testUser.getId());
+        });
+        assertThat(jobApplicationRepository.findApplyContext(-1L, testUser.getId(), testResume.getId())).isEmpty();
+    }
 }
@@ -3,6 +3,7 @@ package com.github.kzhunmax.jobsearch.job.repository;
 import com.github.kzhunmax.jobsearch.company.model.Company;
 import com.github.kzhunmax.jobsearch.company.repository.CompanyRepository;
 import com.github.kzhunmax.jobsearch.job.model.Job;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository.FeedEntry;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
 import com.github.kzhunmax.jobsearch.util.AbstractIntegrationTest;
@@ -15,6 +16,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Stream;
+
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -137,4 +143,22 @@ class JobRepositoryTest extends AbstractIntegrationTest {
         Page<Job> jobsPage2 = jobRepository.findByPostedById(testUser.getId(), PageRequest.of(1, 3));
         assertThat(jobsPage2.getContent()).hasSize(2);
     }
+
+    @Test
+    @DisplayName("Should move a re-stamped job past a feed cursor handed out before it committed")
+    void touchUpdatedAt_afterCursor_shouldAppearInFeedChanges() {
+        Job job = jobRepository.saveAndFlush(createJob(testUser, testCompany, true));
+        Instant cursor = job.getUpdatedAt().plusSeconds(1);
+        Instant farFuture = cursor.plus(1, ChronoUnit.DAYS);
+
+        try (Stream<FeedEntry> before = jobRepository.streamFeedChanges(cursor, Long.MAX_VALUE, farFuture)) {
+            assertThat(before).isEmpty();
+        }
+
+        jobRepository.touchUpdatedAt(List.of(job.getId()), cursor.plusMillis(1));
+
+        try (Stream<FeedEntry> after = jobRepository.streamFeedChanges(cursor, Long.MAX_VALUE, farFuture)) {
+            assertThat(after).extracting(FeedEntry::getId).containsExactly(job.getId());
+        }
+    }
 }
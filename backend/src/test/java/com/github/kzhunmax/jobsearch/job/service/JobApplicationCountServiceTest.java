@@ -0,0 +1,105 @@
+package com.github.kzhunmax.jobsearch.job.service;
+
+import com.github.kzhunmax.jobsearch.job.model.JobApplicationCount;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationCountRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobApplicationCountService Tests")
+class JobApplicationCountServiceTest {
+
+    @Mock
+    private JobApplicationCountRepository jobApplicationCountRepository;
+
+    private JobApplicationCountService jobApplicationCountService;
+
+    @BeforeEach
+    void setUp() {
+        jobApplicationCountService = new JobApplicationCountService(jobApplicationCountRepository, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("should return zero-filled counters for every job on the page from one lookup")
+    void countsByJob_fillsMissingStatusesWithZero() {
+        // Arrange
+        when(jobApplicationCountRepository.findByJobIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                JobApplicationCount.builder().jobId(1L).status(ApplicationStatus.APPLIED).count(4).build(),
+                JobApplicationCount.builder().jobId(1L).status(ApplicationStatus.REJECTED).count(1).build()
+        ));
+
+        // Act
+        Map<Long, Map<ApplicationStatus, Long>> counts = jobApplicationCountService.countsByJob(List.of(1L, 2L));
+
+        // Assert
+        assertThat(counts.get(1L)).containsEntry(ApplicationStatus.APPLIED, 4L)
+                .containsEntry(ApplicationStatus.REJECTED, 1L)
+                .containsEntry(ApplicationStatus.OFFERED, 0L)
+                .hasSize(ApplicationStatus.values().length);
+        assertThat(counts.get(2L)).allSatisfy((_, count) -> assertThat(count).isZero());
+        verify(jobApplicationCountRepository, times(1)).findByJobIdIn(any());
+    }
+
+    @Test
+    @DisplayName("should skip the lookup for an empty page")
+    void countsByJob_emptyPage_skipsQuery() {
+        // Act
+        Map<Long, Map<ApplicationStatus, Long>> counts = jobApplicationCountService.countsByJob(List.of());
+
+        // Assert
+        assertThat(counts).isEmpty();
+        verifyNoInteractions(jobApplicationCountRepository);
+    }
+
+    @Test
+    @DisplayName("should decrement the old status and increment the new one")
+    void recordMoved_adjustsBothStatuses() {
+        // Act
+        jobApplicationCountService.recordMoved(1L, ApplicationStatus.APPLIED, ApplicationStatus.UNDER_REVIEW, 3);
+
+        // Assert
+        verify(jobApplicationCountRepository).adjust(eq(1L), eq("APPLIED"), eq(-3L), any());
+        verify(jobApplicationCountRepository).adjust(eq(1L), eq("UNDER_REVIEW"), eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("should not touch counters when the status does not change")
+    void recordMoved_sameStatus_isNoOp() {
+        // Act
+        jobApplicationCountService.recordMoved(1L, ApplicationStatus.APPLIED, ApplicationStatus.APPLIED, 1);
+
+        // Assert
+        verifyNoInteractions(jobApplicationCountRepository);
+    }
+
+    @Test
+    @DisplayName("should only reconcile counters that have been quiet for the configured period")
+    void reconcile_skipsRecentlyAdjustedCounters() {
+        // Arrange
+        ArgumentCaptor<Instant> now = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        when(jobApplicationCountRepository.reconcileExisting(now.capture(), cutoff.capture())).thenReturn(1);
+
+        // Act
+        jobApplicationCountService.reconcile();
+
+        // Assert
+        assertThat(cutoff.getValue()).isEqualTo(now.getValue().minus(Duration.ofMinutes(10)));
+        verify(jobApplicationCountRepository).reconcileEmptied(now.getValue(), cutoff.getValue());
+    }
+}
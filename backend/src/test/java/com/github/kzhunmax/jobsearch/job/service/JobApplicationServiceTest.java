@@ -0,0 +1,189 @@
+package com.github.kzhunmax.jobsearch.job.service;
+
+import com.github.kzhunmax.jobsearch.exception.DuplicateApplicationException;
+import com.github.kzhunmax.jobsearch.exception.JobNotFoundException;
+import com.github.kzhunmax.jobsearch.exception.ResumeOwnershipException;
+import com.github.kzhunmax.jobsearch.job.dto.BulkStatusUpdateResponseDTO;
+import com.github.kzhunmax.jobsearch.job.dto.JobApplicationRequestDTO;
+import com.github.kzhunmax.jobsearch.job.dto.JobApplicationResponseDTO;
+import com.github.kzhunmax.jobsearch.job.mapper.JobApplicationMapper;
+import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
+import com.github.kzhunmax.jobsearch.job.validator.JobApplicationValidator;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationCreatedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusBatchChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobApplicationService Tests")
+class JobApplicationServiceTest {
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private JobApplicationMapper jobApplicationMapper;
+
+    @Mock
+    private RepositoryHelper repositoryHelper;
+
+    @Mock
+    private JobApplicationValidator jobApplicationValidator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobApplicationCountService jobApplicationCountService;
+
+    @InjectMocks
+    private JobApplicationService jobApplicationService;
+
+    private static final Long JOB_ID = 10L;
+    private static final Long RESUME_ID = 20L;
+
+    @Test
+    @DisplayName("should update distinct ids in one statement and publish the changes as one batch")
+    void updateApplicationStatuses_publishesBatch() {
+        // Arrange
+        JobApplicationRepository.StatusChange change = statusChange(1L, ApplicationStatus.APPLIED);
+        when(jobApplicationRepository.updateStatuses(eq(Set.of(1L, 2L)), eq("UNDER_REVIEW"), any()))
+                .thenReturn(List.of(change));
+
+        // Act
+        BulkStatusUpdateResponseDTO result = jobApplicationService.updateApplicationStatuses(
+                List.of(1L, 2L, 1L), ApplicationStatus.UNDER_REVIEW);
+
+        // Assert
+        assertThat(result.requested()).isEqualTo(2);
+        assertThat(result.updated()).isEqualTo(1);
+        ArgumentCaptor<ApplicationStatusBatchChangedEvent> captor = ArgumentCaptor.forClass(ApplicationStatusBatchChangedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        ApplicationStatusChangedEvent event = captor.getValue().changes().getFirst();
+        assertThat(event.applicationId()).isEqualTo(1L);
+        assertThat(event.previousStatus()).isEqualTo(ApplicationStatus.APPLIED);
+        assertThat(event.status()).isEqualTo(ApplicationStatus.UNDER_REVIEW);
+        verify(jobApplicationCountService).recordMoved(JOB_ID, ApplicationStatus.APPLIED, ApplicationStatus.UNDER_REVIEW, 1L);
+        verifyNoInteractions(repositoryHelper);
+    }
+
+    @Test
+    @DisplayName("should not publish anything when no application changed")
+    void updateApplicationStatuses_nothingChanged_publishesNothing() {
+        // Arrange
+        when(jobApplicationRepository.updateStatuses(any(), anyString(), any())).thenReturn(List.of());
+
+        // Act
+        BulkStatusUpdateResponseDTO result = jobApplicationService.updateApplicationStatuses(
+                List.of(1L), ApplicationStatus.REJECTED);
+
+        // Assert
+        assertThat(result.updated()).isZero();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("should insert the application after a single context query and map the stored row")
+    void applyToJob_validRequest_insertsAndReturnsApplication() {
+        // Arrange
+        JobApplicationRequestDTO request = new JobApplicationRequestDTO(RESUME_ID, null);
+        JobApplication application = createJobApplication(TEST_ID, createUser(TEST_ID, TEST_EMAIL),
+                createJob(JOB_ID, createUser(2L, "recruiter@example.com"), createCompany(1L, TEST_COMPANY_NAME), true), null);
+        JobApplicationResponseDTO response = mock(JobApplicationResponseDTO.class);
+        JobApplicationRepository.ApplyContext context = applyContext(TEST_ID);
+        when(jobApplicationRepository.findApplyContext(JOB_ID, TEST_ID, RESUME_ID)).thenReturn(Optional.of(context));
+        when(jobApplicationRepository.insertIfAbsent(eq(JOB_ID), eq(TEST_ID), eq(RESUME_ID), eq(""), any())).thenReturn(Optional.of(TEST_ID));
+        when(jobApplicationRepository.findWithDetailsById(TEST_ID)).thenReturn(Optional.of(application));
+        when(jobApplicationMapper.toDto(application)).thenReturn(response);
+
+        // Act
+        JobApplicationResponseDTO result = jobApplicationService.applyToJob(JOB_ID, TEST_ID, request);
+
+        // Assert
+        assertThat(result).isSameAs(response);
+        verify(jobApplicationValidator).validateCandidateProfileIsComplete(any());
+        verify(jobApplicationCountService).recordApplied(JOB_ID);
+        verify(eventPublisher).publishEvent(new ApplicationCreatedEvent(TEST_ID, JOB_ID, TEST_ID));
+        verifyNoInteractions(repositoryHelper);
+    }
+
+    @Test
+    @DisplayName("should report a duplicate when the insert hits the job/candidate constraint")
+    void applyToJob_conflict_throwsDuplicate() {
+        // Arrange
+        JobApplicationRepository.ApplyContext context = applyContext(TEST_ID);
+        when(jobApplicationRepository.findApplyContext(JOB_ID, TEST_ID, RESUME_ID)).thenReturn(Optional.of(context));
+        when(jobApplicationRepository.insertIfAbsent(anyLong(), anyLong(), anyLong(), anyString(), any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> jobApplicationService.applyToJob(JOB_ID, TEST_ID, new JobApplicationRequestDTO(RESUME_ID, "Hi")))
+                .isInstanceOf(DuplicateApplicationException.class);
+        verify(jobApplicationRepository, never()).findWithDetailsById(any());
+        verifyNoInteractions(jobApplicationCountService, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should reject a resume owned by another user without inserting")
+    void applyToJob_foreignResume_throwsOwnership() {
+        // Arrange
+        JobApplicationRepository.ApplyContext context = applyContext(99L);
+        when(jobApplicationRepository.findApplyContext(JOB_ID, TEST_ID, RESUME_ID)).thenReturn(Optional.of(context));
+
+        // Act & Assert
+        assertThatThrownBy(() -> jobApplicationService.applyToJob(JOB_ID, TEST_ID, new JobApplicationRequestDTO(RESUME_ID, null)))
+                .isInstanceOf(ResumeOwnershipException.class);
+        verify(jobApplicationRepository, never()).insertIfAbsent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should report a missing job when the context query finds nothing")
+    void applyToJob_missingJob_throwsNotFound() {
+        // Arrange
+        when(jobApplicationRepository.findApplyContext(JOB_ID, TEST_ID, RESUME_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> jobApplicationService.applyToJob(JOB_ID, TEST_ID, new JobApplicationRequestDTO(RESUME_ID, null)))
+                .isInstanceOf(JobNotFoundException.class);
+    }
+
+    private static JobApplicationRepository.ApplyContext applyContext(Long resumeOwnerId) {
+        JobApplicationRepository.ApplyContext context = mock(JobApplicationRepository.ApplyContext.class);
+        lenient().when(context.getJobId()).thenReturn(JOB_ID);
+        lenient().when(context.getProfileId()).thenReturn(TEST_ID);
+        lenient().when(context.getResumeId()).thenReturn(RESUME_ID);
+        lenient().when(context.getResumeOwnerId()).thenReturn(resumeOwnerId);
+        return context;
+    }
+
+    private static JobApplicationRepository.StatusChange statusChange(Long applicationId, ApplicationStatus previousStatus) {
+        JobApplicationRepository.StatusChange change = mock(JobApplicationRepository.StatusChange.class);
+        when(change.getApplicationId()).thenReturn(applicationId);
+        when(change.getJobId()).thenReturn(JOB_ID);
+        when(change.getCandidateId()).thenReturn(TEST_ID);
+        when(change.getCandidateEmail()).thenReturn(TEST_EMAIL);
+        when(change.getJobTitle()).thenReturn("Java Developer");
+        when(change.getCompanyName()).thenReturn(TEST_COMPANY_NAME);
+        when(change.getPreviousStatus()).thenReturn(previousStatus.name());
+        return change;
+    }
+}
@@ -8,8 +8,10 @@ import com.github.kzhunmax.jobsearch.job.dto.JobRequestDTO;
 import com.github.kzhunmax.jobsearch.job.dto.JobResponseDTO;
 import com.github.kzhunmax.jobsearch.job.mapper.JobMapper;
 import com.github.kzhunmax.jobsearch.job.model.Job;
+import com.github.kzhunmax.jobsearch.job.model.JobApplication;
 import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import com.github.kzhunmax.jobsearch.shared.event.JobSyncEvent;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -31,6 +33,7 @@ import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,6 +56,9 @@ class JobServiceTest {
     @Mock
     private UserEventProducer eventProducer;
 
+    @Mock
+    private JobApplicationCountService jobApplicationCountService;
+
     @Mock
     private PagedResourcesAssembler<JobResponseDTO> pagedAssembler;
 
@@ -212,6 +218,26 @@ class JobServiceTest {
             verify(repositoryHelper).findJobById(TEST_ID);
         }
 
+        @Test
+        @DisplayName("Should move counters of open applications to REJECTED when deactivating")
+        void whenJobHasOpenApplications_shouldMoveCounters() {
+            User candidate = createUser(2L, "candidate@example.com");
+            JobApplication applied = createJobApplication(1L, candidate, testJob, null);
+            JobApplication reviewed = createJobApplication(2L, candidate, testJob, null);
+            reviewed.setStatus(ApplicationStatus.UNDER_REVIEW);
+            JobApplication offered = createJobApplication(3L, candidate, testJob, null);
+            offered.setStatus(ApplicationStatus.OFFERED);
+            testJob.getApplications().addAll(List.of(applied, reviewed, offered));
+            when(repositoryHelper.findJobById(TEST_ID)).thenReturn(testJob);
+
+            jobService.deleteJob(TEST_ID);
+
+            verify(jobApplicationCountService).recordMoved(TEST_ID, ApplicationStatus.APPLIED, ApplicationStatus.REJECTED, 1L);
+            verify(jobApplicationCountService).recordMoved(TEST_ID, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.REJECTED, 1L);
+            verifyNoMoreInteractions(jobApplicationCountService);
+            assertThat(offered.getStatus()).isEqualTo(ApplicationStatus.OFFERED);
+        }
+
         @Test
         @DisplayName("Should throw JobNotFoundException when job does not exist")
         void whenJobNotFound_shouldThrowException() {
@@ -295,8 +321,10 @@ class JobServiceTest {
                     new PagedModel.PageMetadata(1, 0, 1)
             );
 
+            Map<ApplicationStatus, Long> counts = Map.of(ApplicationStatus.APPLIED, 3L);
             when(jobRepository.findByPostedById(TEST_ID, testPageable)).thenReturn(jobPage);
-            when(jobMapper.toDto(testJob)).thenReturn(expectedResponse); // <--- The fix
+            when(jobApplicationCountService.countsByJob(List.of(testJob.getId()))).thenReturn(Map.of(testJob.getId(), counts));
+            when(jobMapper.toDto(testJob, counts)).thenReturn(expectedResponse);
             when(pagedAssembler.toModel(any(Page.class), any(RepresentationModelAssembler.class)))
                     .thenReturn(expectedModel);
 
@@ -308,7 +336,8 @@ class JobServiceTest {
             assertThat(result.getContent().iterator().next().getContent()).isEqualTo(expectedResponse);
 
             verify(jobRepository).findByPostedById(TEST_ID, testPageable);
-            verify(jobMapper).toDto(testJob);
+            verify(jobApplicationCountService).countsByJob(List.of(testJob.getId()));
+            verify(jobMapper).toDto(testJob, counts);
         }
 
 
@@ -332,7 +361,7 @@ class JobServiceTest {
             // Assert
             assertThat(result.getContent()).isEmpty();
             verify(jobRepository).findByPostedById(TEST_ID, testPageable);
-            verify(jobMapper, never()).toDto(any());
+            verify(jobMapper, never()).toDto(any(), any());
         }
     }
 }
\ No newline at end of file
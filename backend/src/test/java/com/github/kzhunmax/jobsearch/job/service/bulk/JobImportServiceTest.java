@@ -0,0 +1,301 @@
+package com.github.kzhunmax.jobsearch.job.service.bulk;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.github.kzhunmax.jobsearch.company.repository.CompanyRepository;
+import com.github.kzhunmax.jobsearch.exception.InvalidJobImportException;
+import com.github.kzhunmax.jobsearch.exception.JobImportTooLargeException;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportErrorDTO;
+import com.github.kzhunmax.jobsearch.job.dto.JobImportResultDTO;
+import com.github.kzhunmax.jobsearch.job.model.Job;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.ImportFormat;
+import com.github.kzhunmax.jobsearch.shared.event.JobSyncBatchEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobImportService Tests")
+class JobImportServiceTest {
+
+    private static final String CSV_HEADER = "title,description,companyId,location,salary,applicationDeadline\n";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CompanyRepository companyRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final AtomicLong nextId = new AtomicLong();
+    private final List<Integer> savedChunkSizes = new ArrayList<>();
+    private final List<Job> savedJobs = new ArrayList<>();
+
+    private JobImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = service(500, 10_000, 1_000, 1);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        lenient().when(companyRepository.existsById(TEST_ID)).thenReturn(true);
+        lenient().when(companyRepository.getReferenceById(anyLong())).thenAnswer(invocation ->
+                createCompany(invocation.getArgument(0), TEST_COMPANY_NAME));
+        lenient().when(userRepository.getReferenceById(TEST_ID)).thenReturn(createUser(TEST_ID, TEST_EMAIL));
+        lenient().when(jobRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Job> jobs = invocation.getArgument(0);
+            jobs.forEach(job -> job.setId(nextId.incrementAndGet()));
+            savedChunkSizes.add(jobs.size());
+            savedJobs.addAll(jobs);
+            return jobs;
+        });
+    }
+
+    @Test
+    @DisplayName("should import valid CSV rows and report the rejected ones by row number")
+    void importJobs_csv_importsValidRowsAndReportsErrors() {
+        // Arrange
+        String csv = CSV_HEADER
+                + "Backend Developer,Java,1,Kyiv,5000,2030-01-01\r\n"
+                + "Frontend Developer,React,1,Lviv,abc,2030-01-01\r\n"
+                + "QA Engineer,Manual,1,,3000,2030-01-01\r\n"
+                + "\"Data Engineer\",\"Spark, Kafka\nand \"\"SQL\"\"\",1,Remote,4000,2030-01-01\r\n";
+
+        // Act
+        JobImportResultDTO result = importService.importJobs(TEST_ID, ImportFormat.CSV, body(csv));
+
+        // Assert
+        assertThat(result.rows()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new JobImportErrorDTO(2, "salary: invalid value"),
+                new JobImportErrorDTO(3, "location: Location is required"));
+        assertThat(result.errorsTruncated()).isFalse();
+
+        assertThat(savedJobs).extracting(Job::getDescription).containsExactly("Java", "Spark, Kafka\nand \"SQL\"");
+        verify(eventPublisher).publishEvent(new JobSyncBatchEvent(List.of(1L, 2L), SyncAction.UPSERT));
+    }
+
+    @Test
+    @DisplayName("should insert in chunks of batch-size and clear the persistence context between them")
+    void importJobs_manyRows_flushesInChunks() {
+        // Arrange
+        importService = service(2, 10_000, 1_000, 1);
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < 5; i++) {
+            csv.append("Job ").append(i).append(",,1,Kyiv,1000,2030-01-01\n");
+        }
+
+        // Act
+        JobImportResultDTO result = importService.importJobs(TEST_ID, ImportFormat.CSV, body(csv.toString()));
+
+        // Assert
+        assertThat(result.imported()).isEqualTo(5);
+        assertThat(savedChunkSizes).containsExactly(2, 2, 1);
+        verify(entityManager, times(3)).flush();
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    @DisplayName("should read the upload before opening the transaction and re-stamp the jobs just before commit")
+    void importJobs_slowUpload_readsOutsideTransactionAndRestampsJobs() {
+        // Arrange
+        importService = service(2, 10_000, 1_000, 1);
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        AtomicBoolean readInTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class));
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionTemplate).execute(any());
+        List<Boolean> touchedInTransaction = new ArrayList<>();
+        when(jobRepository.touchUpdatedAt(anyList(), any(Instant.class))).thenAnswer(_ -> {
+            touchedInTransaction.add(inTransaction.get());
+            return 1;
+        });
+        String csv = CSV_HEADER + "Job A,,1,Kyiv,1000,2030-01-01\n" + "Job B,,1,Kyiv,1000,2030-01-01\n"
+                + "Job C,,1,Kyiv,1000,2030-01-01\n";
+        InputStream upload = new FilterInputStream(body(csv)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                readInTransaction.compareAndSet(false, inTransaction.get());
+                return super.read(b, off, len);
+            }
+
+            @Override
+            public int read() throws IOException {
+                readInTransaction.compareAndSet(false, inTransaction.get());
+                return super.read();
+            }
+        };
+
+        // Act
+        JobImportResultDTO result = importService.importJobs(TEST_ID, ImportFormat.CSV, upload);
+
+        // Assert
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(readInTransaction).isFalse();
+        InOrder inOrder = inOrder(jobRepository);
+        inOrder.verify(jobRepository, times(2)).saveAll(anyList());
+        inOrder.verify(jobRepository).touchUpdatedAt(eq(List.of(1L, 2L)), any(Instant.class));
+        inOrder.verify(jobRepository).touchUpdatedAt(eq(List.of(3L)), any(Instant.class));
+        assertThat(touchedInTransaction).containsOnly(true);
+    }
+
+    @Test
+    @DisplayName("should resolve each distinct company once per import")
+    void importJobs_json_resolvesCompaniesOnce() {
+        // Arrange
+        when(companyRepository.findCompanyByNormalizedName("acme"))
+                .thenReturn(Optional.of(createCompany(TEST_ID, "Acme Inc")));
+        when(companyRepository.existsById(NON_EXISTENT_ID)).thenReturn(false);
+        String json = """
+                [
+                  {"title": "Backend Developer", "company": "Acme Inc", "location": "Kyiv", "salary": 5000, "applicationDeadline": "2030-01-01"},
+                  {"title": "Frontend Developer", "company": "ACME", "location": "Lviv", "salary": 4000, "applicationDeadline": "2030-01-01"},
+                  {"title": "QA Engineer", "companyId": %d, "location": "Remote", "salary": 3000, "applicationDeadline": "2030-01-01"},
+                  {"title": "QA Lead", "companyId": %d, "location": "Remote", "salary": 3500, "applicationDeadline": "2030-01-01"},
+                  {"title": "Intern", "location": "Remote", "salary": "lots", "applicationDeadline": "2030-01-01"},
+                  "not a job"
+                ]
+                """.formatted(NON_EXISTENT_ID, NON_EXISTENT_ID);
+
+        // Act
+        JobImportResultDTO result = importService.importJobs(TEST_ID, ImportFormat.JSON, body(json));
+
+        // Assert
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).containsExactly(
+                new JobImportErrorDTO(3, "company: not found"),
+                new JobImportErrorDTO(4, "company: not found"),
+                new JobImportErrorDTO(5, "salary: invalid value"),
+                new JobImportErrorDTO(6, "expected a job object"));
+        verify(companyRepository, times(1)).findCompanyByNormalizedName("acme");
+        verify(companyRepository, times(1)).existsById(NON_EXISTENT_ID);
+    }
+
+    @Test
+    @DisplayName("should cap the listed errors and flag the truncation")
+    void importJobs_manyErrors_truncatesErrorList() {
+        // Arrange
+        importService = service(500, 10_000, 1, 1);
+        String csv = CSV_HEADER + "x,,1,Kyiv,1000,2030-01-01\n" + "y,,1,Kyiv,1000,2030-01-01\n";
+
+        // Act
+        JobImportResultDTO result = importService.importJobs(TEST_ID, ImportFormat.CSV, body(csv));
+
+        // Assert
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).hasSize(1);
+        assertThat(result.errorsTruncated()).isTrue();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should abort the import when it has more rows than allowed")
+    void importJobs_tooManyRows_throws() {
+        // Arrange
+        importService = service(500, 1, 1_000, 1);
+        String csv = CSV_HEADER + "Job A,,1,Kyiv,1000,2030-01-01\n" + "Job B,,1,Kyiv,1000,2030-01-01\n";
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importJobs(TEST_ID, ImportFormat.CSV, body(csv)))
+                .isInstanceOf(JobImportTooLargeException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should reject a CSV file without a header row")
+    void importJobs_csvWithoutHeader_throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importJobs(TEST_ID, ImportFormat.CSV, body("Backend,,1,Kyiv,1000,2030-01-01\n")))
+                .isInstanceOf(InvalidJobImportException.class);
+    }
+
+    @Test
+    @DisplayName("should reject JSON that is not an array or is malformed")
+    void importJobs_invalidJson_throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importJobs(TEST_ID, ImportFormat.JSON, body("{\"title\": \"x\"}")))
+                .isInstanceOf(InvalidJobImportException.class);
+        assertThatThrownBy(() -> importService.importJobs(TEST_ID, ImportFormat.JSON, body("[{\"title\": ")))
+                .isInstanceOf(InvalidJobImportException.class);
+        verify(jobRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("should reject the import when all slots are taken")
+    void importJobs_noFreeSlot_throws() {
+        // Arrange
+        importService = service(500, 10_000, 1_000, 0);
+
+        // Act & Assert
+        assertThatThrownBy(() -> importService.importJobs(TEST_ID, ImportFormat.CSV, body(CSV_HEADER)))
+                .isInstanceOf(RateLimitExceededException.class);
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    private JobImportService service(int batchSize, int maxRows, int maxErrors, int maxConcurrent) {
+        return new JobImportService(jobRepository, companyRepository, userRepository, entityManager, transactionTemplate,
+                validator, objectMapper, eventPublisher, new SimpleMeterRegistry(), batchSize, maxRows, maxErrors, maxConcurrent);
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,191 @@
+package com.github.kzhunmax.jobsearch.job.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.shared.enums.ExportFormat;
+import com.github.kzhunmax.jobsearch.user.service.ResumeDownloadUrls;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobApplicationExportService Tests")
+class JobApplicationExportServiceTest {
+
+    private static final Instant APPLIED_AT = Instant.parse("2026-01-02T03:04:05Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JobApplicationExportService exportService;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        exportService = new JobApplicationExportService(jdbcTemplate, transactionManager, objectMapper,
+                new ResumeDownloadUrls("http://localhost:8080"), meterRegistry, 250, 1);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        lenient().when(resultSet.getLong("application_id")).thenReturn(1L, 2L);
+        lenient().when(resultSet.getString("status")).thenReturn("APPLIED", "INTERVIEW");
+        lenient().when(resultSet.getTimestamp("applied_at")).thenReturn(Timestamp.from(APPLIED_AT), (Timestamp) null);
+        lenient().when(resultSet.getString("candidate_email")).thenReturn(TEST_EMAIL, "other@example.com");
+        lenient().when(resultSet.getString("full_name")).thenReturn("Doe, John", "=HYPERLINK(\"x\")");
+        lenient().when(resultSet.getObject("resume_id", Long.class)).thenReturn(TEST_ID, (Long) null);
+    }
+
+    @Test
+    @DisplayName("should stream CSV with a header and one escaped line per row")
+    void write_csv_streamsEscapedRows() throws IOException {
+        // Arrange
+        stubRows(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.write(TEST_ID, ExportFormat.CSV, out);
+
+        // Assert
+        assertThat(rows).isEqualTo(2);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).startsWith("application_id,status,applied_at,candidate_email,full_name,");
+        assertThat(lines.get(1)).startsWith("1,APPLIED,2026-01-02T03:04:05Z," + TEST_EMAIL + ",\"Doe, John\",");
+        assertThat(lines.get(2)).startsWith("2,INTERVIEW,,other@example.com,\"'=HYPERLINK(\"\"x\"\")\",");
+        assertThat(meterRegistry.get(JobApplicationExportService.METRIC_PREFIX + ".rows").tag("format", "CSV").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should stream NDJSON with one object per line")
+    void write_ndjson_streamsOneObjectPerLine() throws IOException {
+        // Arrange
+        stubRows(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        exportService.write(TEST_ID, ExportFormat.NDJSON, out);
+
+        // Assert
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        assertThat(first.get("application_id").asLong()).isEqualTo(1L);
+        assertThat(first.get("full_name").asText()).isEqualTo("Doe, John");
+        assertThat(first.get("resume_url").asText()).isEqualTo("http://localhost:8080/api/user/resume/" + TEST_ID + "/download");
+        JsonNode second = objectMapper.readTree(lines.get(1));
+        assertThat(second.get("applied_at").isNull()).isTrue();
+        assertThat(second.get("resume_url").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should read through a forward-only cursor with the configured fetch size")
+    void write_usesForwardOnlyCursorWithFetchSize() throws Exception {
+        // Arrange
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(JobApplicationExportService.EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(statement);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, PreparedStatementCreator.class).createPreparedStatement(connection);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        // Act
+        exportService.write(TEST_ID, ExportFormat.CSV, new ByteArrayOutputStream());
+
+        // Assert
+        verify(statement).setFetchSize(250);
+        verify(statement).setLong(1, TEST_ID);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("should reject an export when all export slots are taken")
+    void export_whenSlotsTaken_throwsRateLimitExceeded() {
+        // Arrange
+        exportService.export(TEST_ID, ExportFormat.CSV);
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.export(TEST_ID, ExportFormat.CSV))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("should release the export slot once the body is written")
+    void export_releasesSlotAfterWriting() throws IOException {
+        // Arrange
+        StreamingResponseBody body = exportService.export(TEST_ID, ExportFormat.CSV);
+
+        // Act
+        body.writeTo(new ByteArrayOutputStream());
+
+        // Assert
+        assertThat(exportService.export(TEST_ID, ExportFormat.CSV)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should stop and roll back when the client disconnects")
+    void write_whenClientDisconnects_rethrowsIOException() {
+        // Arrange
+        stubRows(1000);
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        assertThatThrownBy(() -> exportService.write(TEST_ID, ExportFormat.NDJSON, broken))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        verify(transactionManager).rollback(any());
+    }
+
+    private void stubRows(int count) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < count; i++) {
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+}
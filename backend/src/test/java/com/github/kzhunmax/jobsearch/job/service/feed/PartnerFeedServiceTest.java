@@ -0,0 +1,226 @@
+package com.github.kzhunmax.jobsearch.job.service.feed;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.InvalidFeedCursorException;
+import com.github.kzhunmax.jobsearch.exception.RateLimitExceededException;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository.FeedEntry;
+import com.github.kzhunmax.jobsearch.job.repository.JobRepository.FeedPosition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartnerFeedService Tests")
+class PartnerFeedServiceTest {
+
+    private static final Instant UPDATED_AT = Instant.parse("2026-03-01T10:00:00.123456Z");
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PartnerFeedService partnerFeedService;
+
+    @BeforeEach
+    void setUp() {
+        partnerFeedService = new PartnerFeedService(jobRepository, transactionManager, objectMapper,
+                new SimpleMeterRegistry(), Duration.ofSeconds(10), 1);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+    }
+
+    @Test
+    @DisplayName("should stream all active jobs and end with the feed head as cursor")
+    void write_full_streamsActiveJobsAndHeadCursor() throws IOException {
+        // Arrange
+        FeedPosition head = position(7L, UPDATED_AT.plusSeconds(5));
+        when(jobRepository.findFirstByUpdatedAtLessThanEqualOrderByUpdatedAtDescIdDesc(any())).thenReturn(Optional.of(head));
+        Stream<FeedEntry> entries = Stream.of(entry(TEST_ID, true), entry(2L, true));
+        when(jobRepository.streamActiveFeed()).thenReturn(entries);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long lines = partnerFeedService.write(null, out);
+
+        // Assert
+        assertThat(lines).isEqualTo(2);
+        List<JsonNode> feed = parse(out.toString(StandardCharsets.UTF_8));
+        assertThat(feed).hasSize(3);
+        assertThat(feed.get(0).get("type").asText()).isEqualTo("job");
+        assertThat(feed.get(0).get("title").asText()).isEqualTo(TEST_TITLE);
+        assertThat(feed.get(0).get("company").asText()).isEqualTo(TEST_COMPANY_NAME);
+        assertThat(FeedCursor.decode(feed.get(2).get("cursor").asText())).isEqualTo(new FeedCursor(UPDATED_AT.plusSeconds(5), 7L));
+        verify(jobRepository, never()).streamFeedChanges(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should read in a read-write transaction so replica routing keeps the feed on the primary")
+    void write_runsInReadWriteTransaction() throws IOException {
+        // Arrange
+        when(jobRepository.streamFeedChanges(any(), any(), any())).thenReturn(Stream.empty());
+
+        // Act
+        partnerFeedService.write(new FeedCursor(UPDATED_AT, TEST_ID), new ByteArrayOutputStream());
+
+        // Assert
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) -> !definition.isReadOnly()));
+    }
+
+    @Test
+    @DisplayName("should stream changes after the cursor with tombstones for deactivated jobs")
+    void write_incremental_streamsChangesAndTombstones() throws IOException {
+        // Arrange
+        FeedCursor since = new FeedCursor(UPDATED_AT.minusSeconds(60), 3L);
+        Stream<FeedEntry> entries = Stream.of(entry(TEST_ID, true), entry(2L, false));
+        when(jobRepository.streamFeedChanges(eq(since.updatedAt()), eq(3L), any())).thenReturn(entries);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        partnerFeedService.write(since, out);
+
+        // Assert
+        List<JsonNode> feed = parse(out.toString(StandardCharsets.UTF_8));
+        assertThat(feed).extracting(node -> node.get("type").asText()).containsExactly("job", "deleted", "cursor");
+        assertThat(feed.get(1).get("id").asLong()).isEqualTo(2L);
+        assertThat(feed.get(1).has("title")).isFalse();
+        assertThat(FeedCursor.decode(feed.get(2).get("cursor").asText())).isEqualTo(new FeedCursor(UPDATED_AT, 2L));
+    }
+
+    @Test
+    @DisplayName("should hold back changes younger than the settle delay")
+    void write_incremental_queriesUpToSettleCutoff() throws IOException {
+        // Arrange
+        when(jobRepository.streamFeedChanges(any(), any(), any())).thenReturn(Stream.empty());
+        Instant before = Instant.now();
+
+        // Act
+        partnerFeedService.write(FeedCursor.START, new ByteArrayOutputStream());
+
+        // Assert
+        verify(jobRepository).streamFeedChanges(eq(Instant.EPOCH), eq(0L),
+                argThat(cutoff -> !cutoff.isAfter(Instant.now().minusSeconds(10)) && !cutoff.isBefore(before.minusSeconds(10))));
+    }
+
+    @Test
+    @DisplayName("should keep the incoming cursor when nothing changed")
+    void write_incremental_noChanges_returnsSameCursor() throws IOException {
+        // Arrange
+        FeedCursor since = new FeedCursor(UPDATED_AT, 5L);
+        when(jobRepository.streamFeedChanges(any(), any(), any())).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        partnerFeedService.write(since, out);
+
+        // Assert
+        List<JsonNode> feed = parse(out.toString(StandardCharsets.UTF_8));
+        assertThat(feed).hasSize(1);
+        assertThat(feed.getFirst().get("cursor").asText()).isEqualTo(since.encode());
+    }
+
+    @Test
+    @DisplayName("should gzip the feed when requested")
+    void feed_gzip_compressesBody() throws IOException {
+        // Arrange
+        Stream<FeedEntry> entries = Stream.of(entry(TEST_ID, true));
+        when(jobRepository.streamFeedChanges(any(), any(), any())).thenReturn(entries);
+        StreamingResponseBody body = partnerFeedService.feed(FeedCursor.START.encode(), true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        body.writeTo(out);
+
+        // Assert
+        String feed = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(parse(feed)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should reject a malformed cursor before streaming")
+    void feed_invalidCursor_throws() {
+        assertThatThrownBy(() -> partnerFeedService.feed("not-a-cursor", false))
+                .isInstanceOf(InvalidFeedCursorException.class);
+
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    @DisplayName("should reject a feed when all feed slots are taken")
+    void feed_whenSlotsTaken_throwsRateLimitExceeded() {
+        // Arrange
+        partnerFeedService.feed(null, false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> partnerFeedService.feed(null, false))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("should round-trip cursors with microsecond precision")
+    void feedCursor_roundTrips() {
+        FeedCursor cursor = new FeedCursor(UPDATED_AT, 42L);
+
+        assertThat(FeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    private List<JsonNode> parse(String ndjson) {
+        return ndjson.lines().map(line -> {
+            try {
+                return objectMapper.readTree(line);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    private static FeedPosition position(Long id, Instant updatedAt) {
+        FeedPosition position = mock(FeedPosition.class);
+        when(position.getId()).thenReturn(id);
+        when(position.getUpdatedAt()).thenReturn(updatedAt);
+        return position;
+    }
+
+    private static FeedEntry entry(Long id, boolean active) {
+        FeedEntry entry = mock(FeedEntry.class);
+        lenient().when(entry.getId()).thenReturn(id);
+        lenient().when(entry.getTitle()).thenReturn(TEST_TITLE);
+        lenient().when(entry.getDescription()).thenReturn(TEST_DESCRIPTION);
+        lenient().when(entry.getCompanyName()).thenReturn(TEST_COMPANY_NAME);
+        lenient().when(entry.getLocation()).thenReturn(TEST_LOCATION);
+        lenient().when(entry.getSalary()).thenReturn(TEST_SALARY);
+        lenient().when(entry.getApplicationDeadline()).thenReturn(FIXED_DEADLINE);
+        lenient().when(entry.getActive()).thenReturn(active);
+        lenient().when(entry.getUpdatedAt()).thenReturn(UPDATED_AT);
+        return entry;
+    }
+}
@@ -0,0 +1,119 @@
+package com.github.kzhunmax.jobsearch.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.payment.repository.StripeWebhookEventRepository;
+import com.github.kzhunmax.jobsearch.shared.event.StripeEventReceivedEvent;
+import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentService Webhook Tests")
+class PaymentServiceTest {
+
+    private static final String WEBHOOK_SECRET = "whsec_test";
+    private static final String PAYLOAD = """
+            {"id":"evt_1","object":"event","type":"checkout.session.completed","created":1700000000,
+             "data":{"object":{"id":"cs_1","object":"checkout.session","customer":"cus_9","client_reference_id":"1"}}}
+            """;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StripeWebhookEventRepository stripeWebhookEventRepository;
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = new PaymentService(userRepository, eventPublisher, stripeWebhookEventRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(paymentService, "webhookSecret", WEBHOOK_SECRET);
+    }
+
+    @Test
+    @DisplayName("should queue a verified event keyed by customer and acknowledge it")
+    void handleWebhook_validSignature_queuesEvent() throws Exception {
+        // Arrange
+        when(stripeWebhookEventRepository.enqueue(eq("evt_1"), eq("checkout.session.completed"), eq("cus_9"),
+                eq(Instant.ofEpochSecond(1700000000)), eq(PAYLOAD), any())).thenReturn(1);
+
+        // Act
+        ResponseEntity<String> response = paymentService.handleWebhook(PAYLOAD, sign(PAYLOAD));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(eventPublisher).publishEvent(new StripeEventReceivedEvent("evt_1"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("should acknowledge a redelivered event without queueing it again")
+    void handleWebhook_duplicate_acknowledgesWithoutPublishing() throws Exception {
+        // Arrange
+        when(stripeWebhookEventRepository.enqueue(anyString(), anyString(), anyString(), any(), anyString(), any()))
+                .thenReturn(0);
+
+        // Act
+        ResponseEntity<String> response = paymentService.handleWebhook(PAYLOAD, sign(PAYLOAD));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("should reject a payload with an invalid signature")
+    void handleWebhook_invalidSignature_returnsBadRequest() {
+        // Act
+        ResponseEntity<String> response = paymentService.handleWebhook(PAYLOAD, "t=1,v1=deadbeef");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(stripeWebhookEventRepository);
+    }
+
+    @Test
+    @DisplayName("should ask Stripe to retry when the event cannot be stored")
+    void handleWebhook_storeFails_returnsServerError() throws Exception {
+        // Arrange
+        when(stripeWebhookEventRepository.enqueue(anyString(), anyString(), anyString(), any(), anyString(), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // Act
+        ResponseEntity<String> response = paymentService.handleWebhook(PAYLOAD, sign(PAYLOAD));
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    private static String sign(String payload) throws Exception {
+        long timestamp = Instant.now().getEpochSecond();
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(WEBHOOK_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] signature = mac.doFinal((timestamp + "." + payload).getBytes(StandardCharsets.UTF_8));
+        return "t=" + timestamp + ",v1=" + HexFormat.of().formatHex(signature);
+    }
+}
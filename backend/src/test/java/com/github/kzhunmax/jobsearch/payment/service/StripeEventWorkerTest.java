@@ -0,0 +1,169 @@
+package com.github.kzhunmax.jobsearch.payment.service;
+
+import com.github.kzhunmax.jobsearch.payment.model.StripeWebhookEvent;
+import com.github.kzhunmax.jobsearch.payment.repository.StripeWebhookEventRepository;
+import com.github.kzhunmax.jobsearch.shared.enums.StripeEventStatus;
+import com.stripe.model.Event;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StripeEventWorker Tests")
+class StripeEventWorkerTest {
+
+    private static final String PAYLOAD = """
+            {"id":"evt_1","object":"event","type":"checkout.session.completed","created":1700000000,
+             "data":{"object":{"id":"cs_1","object":"checkout.session","client_reference_id":"1"}}}
+            """;
+
+    @Mock
+    private StripeWebhookEventRepository stripeWebhookEventRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripeEventWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new StripeEventWorker(stripeWebhookEventRepository, paymentService, transactionTemplate, taskScheduler,
+                meterRegistry, 2, 10, Duration.ofMinutes(1), Duration.ofHours(1), 3);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.destroy();
+    }
+
+    @Test
+    @DisplayName("should apply the event in the transaction that marks it processed and record latency")
+    void process_pendingEvent_appliesAndRecordsLatency() {
+        // Arrange
+        StripeWebhookEvent queued = queuedEvent(1);
+        when(stripeWebhookEventRepository.markProcessed(eq(queued.getId()), any())).thenReturn(1);
+
+        // Act
+        worker.process(queued);
+
+        // Assert
+        ArgumentCaptor<Event> captor = ArgumentCaptor.forClass(Event.class);
+        verify(paymentService).applyEvent(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo("evt_1");
+        assertThat(meterRegistry.get(StripeEventWorker.METRIC_PREFIX + ".latency")
+                .tag("type", "checkout.session.completed").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should not apply an event that another worker already processed")
+    void process_alreadyProcessed_skips() {
+        // Arrange
+        StripeWebhookEvent queued = queuedEvent(2);
+        when(stripeWebhookEventRepository.markProcessed(eq(queued.getId()), any())).thenReturn(0);
+
+        // Act
+        worker.process(queued);
+
+        // Assert
+        verify(paymentService, never()).applyEvent(any());
+        verify(stripeWebhookEventRepository, never()).reschedule(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should back off and keep the event pending when applying fails")
+    void process_failure_reschedules() {
+        // Arrange
+        StripeWebhookEvent queued = queuedEvent(1);
+        when(stripeWebhookEventRepository.markProcessed(eq(queued.getId()), any())).thenReturn(1);
+        doThrow(new IllegalStateException("db down")).when(paymentService).applyEvent(any());
+
+        // Act
+        worker.process(queued);
+
+        // Assert
+        verify(stripeWebhookEventRepository).reschedule(eq(queued.getId()), any(Instant.class), eq("db down"));
+        verify(stripeWebhookEventRepository, never()).markFailed(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should park the event as failed once attempts are exhausted")
+    void process_attemptsExhausted_marksFailed() {
+        // Arrange
+        StripeWebhookEvent queued = queuedEvent(3);
+        when(stripeWebhookEventRepository.markProcessed(eq(queued.getId()), any())).thenReturn(1);
+        doThrow(new IllegalStateException("bad data")).when(paymentService).applyEvent(any());
+
+        // Act
+        worker.process(queued);
+
+        // Assert
+        verify(stripeWebhookEventRepository).markFailed(queued.getId(), "bad data");
+        assertThat(meterRegistry.get(StripeEventWorker.METRIC_PREFIX + ".failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drain until nothing is claimable and publish the backlog")
+    void drain_processesClaimedEventsAndUpdatesBacklog() {
+        // Arrange
+        StripeWebhookEvent queued = queuedEvent(1);
+        when(stripeWebhookEventRepository.claimDue(any(), any(), eq(10)))
+                .thenReturn(List.of(queued))
+                .thenReturn(List.of());
+        when(stripeWebhookEventRepository.markProcessed(eq(queued.getId()), any())).thenReturn(1);
+        when(stripeWebhookEventRepository.countByStatus(StripeEventStatus.PENDING)).thenReturn(7L);
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(paymentService).applyEvent(any());
+        assertThat(meterRegistry.get(StripeEventWorker.METRIC_PREFIX + ".backlog").gauge().value()).isEqualTo(7.0);
+    }
+
+    @Test
+    @DisplayName("should cap the retry backoff")
+    void backoff_isCapped() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(worker.backoff(30)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private static StripeWebhookEvent queuedEvent(int attempts) {
+        return StripeWebhookEvent.builder()
+                .id(42L)
+                .createdAt(Instant.now().minusSeconds(2))
+                .eventId("evt_1")
+                .eventType("checkout.session.completed")
+                .customerKey("user:1")
+                .payload(PAYLOAD)
+                .attempts(attempts)
+                .build();
+    }
+}
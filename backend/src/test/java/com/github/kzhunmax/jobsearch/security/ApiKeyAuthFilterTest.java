@@ -0,0 +1,103 @@
+package com.github.kzhunmax.jobsearch.security;
+
+import com.github.kzhunmax.jobsearch.user.model.User;
+import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApiKeyAuthFilter Tests")
+class ApiKeyAuthFilterTest {
+
+    private static final String API_KEY = "js_key_partner";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FilterChain filterChain;
+
+    @InjectMocks
+    private ApiKeyAuthFilter apiKeyAuthFilter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("should authenticate a verified user's API key with the API_KEY authority")
+    void doFilter_validKey_authenticates() throws ServletException, IOException {
+        // Arrange
+        User user = createUser(TEST_ID, TEST_EMAIL);
+        user.setEmailVerified(true);
+        when(userRepository.findByApiKey(API_KEY)).thenReturn(Optional.of(user));
+        MockHttpServletRequest request = partnerRequest(API_KEY);
+
+        // Act
+        apiKeyAuthFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .contains(ApiKeyAuthFilter.API_KEY_AUTHORITY, "ROLE_CANDIDATE");
+        verify(filterChain).doFilter(eq(request), any());
+    }
+
+    @Test
+    @DisplayName("should not authenticate unknown or unverified keys")
+    void doFilter_unverifiedUser_leavesAnonymous() throws ServletException, IOException {
+        // Arrange
+        when(userRepository.findByApiKey(API_KEY)).thenReturn(Optional.of(createUser(TEST_ID, TEST_EMAIL)));
+
+        // Act
+        apiKeyAuthFilter.doFilter(partnerRequest(API_KEY), new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("should ignore API keys outside partner endpoints")
+    void doFilter_nonPartnerPath_skipsLookup() throws ServletException, IOException {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader(ApiKeyAuthFilter.API_KEY_HEADER, API_KEY);
+
+        // Act
+        apiKeyAuthFilter.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+        // Assert
+        verify(userRepository, never()).findByApiKey(anyString());
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest partnerRequest(String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/partner/jobs/feed");
+        request.setRequestURI("/api/partner/jobs/feed");
+        request.addHeader(ApiKeyAuthFilter.API_KEY_HEADER, apiKey);
+        return request;
+    }
+}
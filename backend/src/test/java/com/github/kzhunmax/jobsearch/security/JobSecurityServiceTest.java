@@ -3,6 +3,7 @@ package com.github.kzhunmax.jobsearch.security;
 import com.github.kzhunmax.jobsearch.company.model.Company;
 import com.github.kzhunmax.jobsearch.job.model.Job;
 import com.github.kzhunmax.jobsearch.job.model.JobApplication;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
 import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
 import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
 import com.github.kzhunmax.jobsearch.user.model.User;
@@ -17,6 +18,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.List;
 import java.util.Set;
 
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
@@ -30,6 +32,9 @@ public class JobSecurityServiceTest {
     @Mock
     private RepositoryHelper repositoryHelper;
 
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
     @InjectMocks
     private JobSecurityService jobSecurityService;
 
@@ -144,4 +149,34 @@ public class JobSecurityServiceTest {
         // Assert
         assertThat(result).isFalse();
     }
+
+    @Test
+    @DisplayName("canUpdateApplications should permit the owner of every listed application with one query")
+    void canUpdateApplications_ownerOfAll_returnsTrue() {
+        when(jobApplicationRepository.countByIdInAndJobPostedByEmailIgnoreCase(Set.of(1L, 2L), TEST_EMAIL)).thenReturn(2L);
+
+        boolean result = jobSecurityService.canUpdateApplications(List.of(1L, 2L, 2L), ownerAuth);
+
+        assertThat(result).isTrue();
+        verifyNoInteractions(repositoryHelper);
+    }
+
+    @Test
+    @DisplayName("canUpdateApplications should deny when any application belongs to another recruiter")
+    void canUpdateApplications_partialOwnership_returnsFalse() {
+        when(jobApplicationRepository.countByIdInAndJobPostedByEmailIgnoreCase(Set.of(1L, 2L), TEST_EMAIL)).thenReturn(1L);
+
+        boolean result = jobSecurityService.canUpdateApplications(List.of(1L, 2L), ownerAuth);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("canUpdateApplications should permit admins without an ownership query")
+    void canUpdateApplications_admin_returnsTrue() {
+        boolean result = jobSecurityService.canUpdateApplications(List.of(1L, 2L), adminAuth);
+
+        assertThat(result).isTrue();
+        verifyNoInteractions(jobApplicationRepository);
+    }
 }
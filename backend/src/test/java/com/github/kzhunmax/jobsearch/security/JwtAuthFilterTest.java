@@ -1,5 +1,6 @@
 package com.github.kzhunmax.jobsearch.security;
 
+import com.github.kzhunmax.jobsearch.security.token.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -31,6 +32,9 @@ public class JwtAuthFilterTest {
     @Mock
     private UserDetailsServiceImpl userDetailsService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -92,6 +96,23 @@ public class JwtAuthFilterTest {
         verify(SecurityContextHolder.getContext()).setAuthentication(any(UsernamePasswordAuthenticationToken.class));
     }
 
+    @Test
+    void doFilterInternal_withRevokedTokenFamily_skipsAuthentication() throws IOException, ServletException {
+        UserDetails userDetails = createUserDetails(TEST_EMAIL);
+
+        when(request.getHeader("Authorization")).thenReturn("Bearer " + VALID_JWT);
+        when(jwtService.extractEmail(VALID_JWT)).thenReturn(TEST_EMAIL);
+        when(SecurityContextHolder.getContext().getAuthentication()).thenReturn(null);
+        when(userDetailsService.loadUserByUsername(TEST_EMAIL)).thenReturn(userDetails);
+        when(jwtService.isTokenValid(VALID_JWT, userDetails)).thenReturn(true);
+        when(jwtService.extractFamilyId(VALID_JWT)).thenReturn("family-1");
+        when(tokenRevocationService.isRevoked("family-1")).thenReturn(true);
+
+        jwtAuthFilter.doFilterInternal(request, response, mockChain());
+
+        verify(SecurityContextHolder.getContext(), never()).setAuthentication(any());
+    }
+
     @Test
     void doFilterInternal_jwtProcessingException_logsWarningAndContinues() throws IOException, ServletException {
         FilterChain chain = mockChain();
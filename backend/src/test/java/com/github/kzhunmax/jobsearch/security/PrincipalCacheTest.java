@@ -0,0 +1,103 @@
+package com.github.kzhunmax.jobsearch.security;
+
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PrincipalCache Tests")
+class PrincipalCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private PrincipalCache principalCache;
+    private UserPrincipal principal;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(redisTemplate, listenerContainer, Duration.ofMinutes(10), 100);
+        principal = UserPrincipal.from(createUser(TEST_ID, TEST_EMAIL));
+    }
+
+    @Test
+    @DisplayName("should return the snapshot by email and by id")
+    void put_thenGet_returnsSnapshot() {
+        // Act
+        principalCache.put(principal, principalCache.stamp());
+
+        // Assert
+        assertThat(principalCache.getByEmail(TEST_EMAIL)).isEqualTo(principal);
+        assertThat(principalCache.getById(TEST_ID)).isEqualTo(principal);
+    }
+
+    @Test
+    @DisplayName("should not cache a snapshot loaded before an invalidation")
+    void put_withStaleStamp_isIgnored() {
+        // Arrange
+        long stamp = principalCache.stamp();
+        principalCache.onUserChanged(new UserChangedEvent(TEST_ID, TEST_EMAIL));
+
+        // Act
+        principalCache.put(principal, stamp);
+
+        // Assert
+        assertThat(principalCache.getByEmail(TEST_EMAIL)).isNull();
+    }
+
+    @Test
+    @DisplayName("should evict locally and broadcast when a user changes")
+    void onUserChanged_evictsAndPublishes() {
+        // Arrange
+        principalCache.put(principal, principalCache.stamp());
+
+        // Act
+        principalCache.onUserChanged(new UserChangedEvent(TEST_ID, null));
+
+        // Assert
+        assertThat(principalCache.getByEmail(TEST_EMAIL)).isNull();
+        verify(redisTemplate).convertAndSend(PrincipalCache.USER_CHANGED_CHANNEL, TEST_ID + ":null");
+    }
+
+    @Test
+    @DisplayName("should evict when another node broadcasts a change")
+    void onMessage_evictsEntry() {
+        // Arrange
+        principalCache.put(principal, principalCache.stamp());
+        byte[] body = (TEST_ID + ":" + TEST_EMAIL).getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        principalCache.onMessage(new DefaultMessage(PrincipalCache.USER_CHANGED_CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+
+        // Assert
+        assertThat(principalCache.getById(TEST_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("should drop entries once the TTL has passed")
+    void getByEmail_expiredEntry_returnsNull() {
+        // Arrange
+        principalCache = new PrincipalCache(redisTemplate, listenerContainer, Duration.ZERO, 100);
+        principalCache.put(principal, principalCache.stamp());
+
+        // Act & Assert
+        assertThat(principalCache.getByEmail(TEST_EMAIL)).isNull();
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.kzhunmax.jobsearch.security;
 
 
+import com.github.kzhunmax.jobsearch.shared.event.UserChangedEvent;
 import com.github.kzhunmax.jobsearch.user.model.User;
 import com.github.kzhunmax.jobsearch.user.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -18,7 +20,10 @@ import java.util.Optional;
 import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +33,12 @@ public class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
@@ -67,4 +78,49 @@ public class UserDetailsServiceImplTest {
                 .isInstanceOf(UsernameNotFoundException.class)
                 .hasMessage("User not found with email: " + NON_EXISTENT_EMAIL);
     }
+
+    @Test
+    @DisplayName("should return the cached principal without querying the database")
+    void loadUserByUsername_shouldUseCache_whenPrincipalCached() {
+        // Arrange
+        when(principalCache.getByEmail(TEST_EMAIL)).thenReturn(UserPrincipal.from(testUser));
+
+        // Act
+        UserDetails userDetails = userDetailsService.loadUserByUsername(TEST_EMAIL);
+
+        // Assert
+        assertThat(userDetails.getUsername()).isEqualTo(TEST_EMAIL);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("should cache the principal loaded from the database")
+    void loadUserByUsername_shouldPopulateCache_onMiss() {
+        // Arrange
+        when(principalCache.stamp()).thenReturn(7L);
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+
+        // Act
+        userDetailsService.loadUserByUsername(TEST_EMAIL);
+
+        // Assert
+        verify(principalCache).put(UserPrincipal.from(testUser), 7L);
+    }
+
+    @Test
+    @DisplayName("should persist the upgraded password hash")
+    void updatePassword_shouldSaveNewHash() {
+        // Arrange
+        String upgradedHash = "$2a$12$upgraded";
+        when(userRepository.findByEmail(TEST_EMAIL)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        UserDetails updated = userDetailsService.updatePassword(new UserDetailsImpl(testUser), upgradedHash);
+
+        // Assert
+        assertThat(updated.getPassword()).isEqualTo(upgradedHash);
+        verify(userRepository).save(testUser);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(TEST_ID, TEST_EMAIL));
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
@@ -39,6 +40,9 @@ class CustomOAuth2UserServiceTest {
     @Mock
     private DefaultOAuth2UserService delegate;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CustomOAuth2UserService customOAuth2UserService;
 
@@ -88,7 +92,7 @@ class CustomOAuth2UserServiceTest {
         assertThat(result).isInstanceOf(UserDetailsImpl.class);
         UserDetailsImpl userDetails = (UserDetailsImpl) result;
         assertThat(userDetails.getUsername()).isEqualTo(TEST_EMAIL);
-        assertThat(userDetails.getUser().getProvider()).isEqualTo(AuthProvider.GOOGLE);
+        assertThat(userDetails.getId()).isEqualTo(testUser.getId());
     }
 
     @Test
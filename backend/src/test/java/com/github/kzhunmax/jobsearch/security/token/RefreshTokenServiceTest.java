@@ -0,0 +1,146 @@
+package com.github.kzhunmax.jobsearch.security.token;
+
+import com.github.kzhunmax.jobsearch.exception.InvalidOrExpiredTokenException;
+import com.github.kzhunmax.jobsearch.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenService Tests")
+class RefreshTokenServiceTest {
+
+    private static final String FAMILY_ID = "family-1";
+    private static final String TOKEN_ID = "jti-1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        userDetails = createUserDetails(TEST_EMAIL);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(jwtService.getRefreshExpiration()).thenReturn(REFRESH_EXPIRATION);
+        lenient().when(jwtService.generateToken(eq(userDetails), anyString())).thenReturn(ACCESS_TOKEN);
+        lenient().when(jwtService.generateRefreshToken(eq(userDetails), anyString(), anyString())).thenReturn(REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("should store the new jti with the refresh token TTL when issuing")
+    void issue_storesTokenIdWithTtl() {
+        IssuedTokens tokens = refreshTokenService.issue(userDetails);
+
+        assertThat(tokens.accessToken()).isEqualTo(ACCESS_TOKEN);
+        assertThat(tokens.refreshToken()).isEqualTo(REFRESH_TOKEN);
+        verify(valueOperations).set(startsWith(RefreshTokenService.TOKEN_KEY_PREFIX), anyString(), eq(Duration.ofMillis(REFRESH_EXPIRATION)));
+    }
+
+    @Test
+    @DisplayName("should rotate within the same family when the jti is current")
+    void rotate_currentToken_issuesNewTokensInSameFamily() {
+        stubClaims(TOKEN_ID, FAMILY_ID);
+        when(valueOperations.getAndDelete(RefreshTokenService.TOKEN_KEY_PREFIX + TOKEN_ID)).thenReturn(FAMILY_ID);
+
+        IssuedTokens tokens = refreshTokenService.rotate(REFRESH_TOKEN, userDetails);
+
+        assertThat(tokens.refreshToken()).isEqualTo(REFRESH_TOKEN);
+        verify(jwtService).generateRefreshToken(eq(userDetails), anyString(), eq(FAMILY_ID));
+        verify(tokenRevocationService, never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("should revoke the whole family when a rotated token is reused")
+    void rotate_reusedToken_revokesFamily() {
+        stubClaims(TOKEN_ID, FAMILY_ID);
+        when(valueOperations.getAndDelete(RefreshTokenService.TOKEN_KEY_PREFIX + TOKEN_ID)).thenReturn(null);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(REFRESH_TOKEN, userDetails))
+                .isInstanceOf(InvalidOrExpiredTokenException.class);
+
+        verify(tokenRevocationService).revoke(FAMILY_ID);
+        verify(jwtService, never()).generateRefreshToken(any(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("should reject tokens from a revoked family without consuming them")
+    void rotate_revokedFamily_throws() {
+        stubClaims(TOKEN_ID, FAMILY_ID);
+        when(tokenRevocationService.isRevokedInStore(FAMILY_ID)).thenReturn(true);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(REFRESH_TOKEN, userDetails))
+                .isInstanceOf(InvalidOrExpiredTokenException.class);
+
+        verify(valueOperations, never()).getAndDelete(anyString());
+    }
+
+    @Test
+    @DisplayName("should reject legacy refresh tokens without a jti")
+    void rotate_tokenWithoutJti_throws() {
+        stubClaims(null, null);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(REFRESH_TOKEN, userDetails))
+                .isInstanceOf(InvalidOrExpiredTokenException.class);
+    }
+
+    @Test
+    @DisplayName("should delete the jti and revoke the family on logout")
+    void revoke_deletesTokenAndRevokesFamily() {
+        stubClaims(TOKEN_ID, FAMILY_ID);
+
+        refreshTokenService.revoke(REFRESH_TOKEN);
+
+        verify(redisTemplate).delete(RefreshTokenService.TOKEN_KEY_PREFIX + TOKEN_ID);
+        verify(tokenRevocationService).revoke(FAMILY_ID);
+    }
+
+    @Test
+    @DisplayName("should revoke the family of an access token, which has no jti to delete")
+    void revoke_accessToken_revokesFamilyOnly() {
+        stubClaims(null, FAMILY_ID);
+
+        refreshTokenService.revoke(REFRESH_TOKEN);
+
+        verify(redisTemplate, never()).delete(anyString());
+        verify(tokenRevocationService).revoke(FAMILY_ID);
+    }
+
+    private void stubClaims(String tokenId, String familyId) {
+        var builder = Jwts.claims().subject(TEST_EMAIL).id(tokenId);
+        if (familyId != null) {
+            builder.add(JwtService.FAMILY_CLAIM, familyId);
+        }
+        Claims claims = builder.build();
+        when(jwtService.extractClaim(eq(REFRESH_TOKEN), any())).thenReturn(claims);
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.kzhunmax.jobsearch.shared;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StreamingPermits Tests")
+class StreamingPermitsTest {
+
+    private final StreamingPermits permits = new StreamingPermits(1);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("should refuse a body while the only permit is held and accept one after it is written")
+    void tryReserve_releasesAfterWriting() throws IOException {
+        // Arrange
+        StreamingResponseBody body = permits.tryReserve(out -> out.write(1)).orElseThrow();
+
+        // Act & Assert
+        assertThat(permits.tryReserve(_ -> {})).isEmpty();
+        body.writeTo(new ByteArrayOutputStream());
+        assertThat(permits.tryReserve(_ -> {})).isPresent();
+    }
+
+    @Test
+    @DisplayName("should release the permit when the body fails")
+    void tryReserve_bodyFails_releases() {
+        // Arrange
+        StreamingResponseBody body = permits.tryReserve(_ -> {
+            throw new IOException("client went away");
+        }).orElseThrow();
+
+        // Act & Assert
+        assertThatThrownBy(() -> body.writeTo(new ByteArrayOutputStream())).isInstanceOf(IOException.class);
+        assertThat(permits.tryReserve(_ -> {})).isPresent();
+    }
+
+    @Test
+    @DisplayName("should release the permit when the async request completes without running the body")
+    void tryReserve_requestEndsBeforeBodyRuns_releasesOnce() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        StreamingResponseBody body = permits.tryReserve(_ -> {}).orElseThrow();
+        CallableProcessingInterceptor interceptor = WebAsyncUtils.getAsyncManager(request)
+                .getCallableInterceptor(StreamingPermits.class.getName());
+
+        // Act: the request times out and completes; the body runs late, if at all
+        interceptor.afterCompletion(new ServletWebRequest(request), () -> null);
+        body.writeTo(new ByteArrayOutputStream());
+
+        // Assert: one permit again, not two
+        assertThat(permits.tryReserve(_ -> {})).isPresent();
+        assertThat(permits.tryReserve(_ -> {})).isEmpty();
+    }
+}
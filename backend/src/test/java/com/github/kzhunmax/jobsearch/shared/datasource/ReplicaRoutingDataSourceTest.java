@@ -0,0 +1,257 @@
+package com.github.kzhunmax.jobsearch.shared.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String CALLER = "candidate@example.com";
+    private static final Duration MAX_LAG = Duration.ofSeconds(10);
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private final AtomicReference<String> caller = new AtomicReference<>(CALLER);
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesTracker readYourWrites;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        lenient().when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        meterRegistry = new SimpleMeterRegistry();
+        readYourWrites = new ReadYourWritesTracker(caller::get, Duration.ofSeconds(5), clock::get);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", firstReplica);
+        replicas.put("replica-1", secondReplica);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, readYourWrites, MAX_LAG, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("should keep reads on the primary until a health check has seen the replicas")
+    void getConnection_beforeHealthCheck_usesPrimary() throws SQLException {
+        // Arrange
+        beginTransaction(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    @DisplayName("should round-robin read-only transactions across healthy replicas")
+    void getConnection_readOnly_alternatesReplicas() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        beginTransaction(true);
+
+        // Act
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(first).isSameAs(firstReplicaConnection);
+        assertThat(second).isSameAs(secondReplicaConnection);
+        assertThat(routingDataSource.healthyReplicas()).isEqualTo(2);
+        assertThat(meterRegistry.counter(ReplicaRoutingDataSource.METRIC_PREFIX + ".connections",
+                "target", "replica", "reason", "read").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should send read-write transactions to the primary")
+    void getConnection_readWrite_usesPrimary() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        beginTransaction(false);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("should skip a replica whose lag exceeds the limit")
+    void checkHealth_laggingReplica_isSkipped() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, MAX_LAG.toMillis() + 1);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        beginTransaction(true);
+
+        // Act
+        Connection first = routingDataSource.getConnection();
+        Connection second = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(first).isSameAs(secondReplicaConnection);
+        assertThat(second).isSameAs(secondReplicaConnection);
+        assertThat(routingDataSource.healthyReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail over to the primary when no replica hands out a connection")
+    void getConnection_replicasFail_fallsBackToPrimary() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        when(firstReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("connection refused"));
+        beginTransaction(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(primaryConnection);
+        assertThat(routingDataSource.healthyReplicas()).isZero();
+        assertThat(meterRegistry.counter(ReplicaRoutingDataSource.METRIC_PREFIX + ".connections",
+                "target", "primary", "reason", "failover").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should pin the caller to the primary for the window after a committed write")
+    void getConnection_afterOwnWrite_pinsCallerToPrimary() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        commit();
+
+        // Act
+        beginTransaction(true);
+        Connection pinned = routingDataSource.getConnection();
+        caller.set("someone-else@example.com");
+        Connection otherCaller = routingDataSource.getConnection();
+        caller.set(CALLER);
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+        Connection afterWindow = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(pinned).isSameAs(primaryConnection);
+        assertThat(otherCaller).isNotSameAs(primaryConnection);
+        assertThat(afterWindow).isNotSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("should not pin the caller when the write transaction rolls back")
+    void getConnection_afterRollback_doesNotPin() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        routingDataSource.checkHealth();
+        beginTransaction(false);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Act
+        beginTransaction(true);
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertThat(connection).isSameAs(firstReplicaConnection);
+        assertThat(readYourWrites.isPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("should drop expired pins on the health check")
+    void checkHealth_purgesExpiredPins() throws Exception {
+        // Arrange
+        stubLag(firstReplicaConnection, 0);
+        stubLag(secondReplicaConnection, 0);
+        readYourWrites.recordWrite();
+        clock.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        // Act
+        routingDataSource.checkHealth();
+
+        // Assert
+        assertThat(readYourWrites.size()).isZero();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static void stubLag(Connection connection, long lagMillis) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn((double) lagMillis);
+    }
+}
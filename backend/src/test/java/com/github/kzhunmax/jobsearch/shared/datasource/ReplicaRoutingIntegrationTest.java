@@ -0,0 +1,127 @@
+package com.github.kzhunmax.jobsearch.shared.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Replica routing against two Postgres instances")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ReplicaRoutingIntegrationTest {
+
+    private static final String MARKER_SQL = "SELECT name FROM instance_marker";
+
+    @Container
+    static PostgreSQLContainer primaryDb = new PostgreSQLContainer("postgres:18-alpine");
+
+    @Container
+    static PostgreSQLContainer replicaDb = new PostgreSQLContainer("postgres:18-alpine");
+
+    private static final AtomicReference<String> caller = new AtomicReference<>();
+    private static HikariDataSource primary;
+    private static HikariDataSource replica;
+    private static ReplicaRoutingDataSource routingDataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate readOnly;
+    private static TransactionTemplate readWrite;
+
+    @BeforeAll
+    static void setUp() {
+        primary = pool(primaryDb);
+        replica = pool(replicaDb);
+        mark(primary, "primary");
+        mark(replica, "replica");
+
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(caller::get, Duration.ofSeconds(30));
+        routingDataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-0", replica), tracker,
+                Duration.ofSeconds(10), Duration.ofSeconds(2), new SimpleMeterRegistry());
+        routingDataSource.checkHealth();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        routingDataSource.close();
+        primary.close();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("should serve read-only transactions from the replica and writes from the primary")
+    void routesByTransactionReadOnlyFlag() {
+        caller.set("reader@example.com");
+
+        assertThat(marker(readOnly)).isEqualTo("replica");
+        assertThat(marker(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("should read from the primary right after the caller's own write")
+    void pinsWriterToPrimary() {
+        caller.set("writer@example.com");
+
+        readWrite.executeWithoutResult(_ -> jdbcTemplate.update("UPDATE instance_marker SET updated_at = now()"));
+
+        assertThat(marker(readOnly)).isEqualTo("primary");
+        caller.set("another-reader@example.com");
+        assertThat(marker(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("should fail over to the primary once the replica is down")
+    void failsOverWhenReplicaStops() {
+        caller.set("late-reader@example.com");
+        replica.close();
+        routingDataSource.checkHealth();
+
+        assertThat(routingDataSource.healthyReplicas()).isZero();
+        assertThat(marker(readOnly)).isEqualTo("primary");
+    }
+
+    private static String marker(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(_ -> jdbcTemplate.queryForObject(MARKER_SQL, String.class));
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer container) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(container.getJdbcUrl());
+        dataSource.setUsername(container.getUsername());
+        dataSource.setPassword(container.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setConnectionTimeout(1000);
+        return dataSource;
+    }
+
+    private static void mark(HikariDataSource dataSource, String name) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE instance_marker (name TEXT NOT NULL, updated_at TIMESTAMPTZ)");
+        template.update("INSERT INTO instance_marker (name) VALUES (?)", name);
+    }
+}
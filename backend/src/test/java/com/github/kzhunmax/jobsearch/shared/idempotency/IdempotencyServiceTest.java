@@ -0,0 +1,140 @@
+package com.github.kzhunmax.jobsearch.shared.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.exception.IdempotencyKeyInUseException;
+import com.github.kzhunmax.jobsearch.exception.IdempotencyKeyMismatchException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyService Tests")
+class IdempotencyServiceTest {
+
+    private static final String SCOPE = "apply:1";
+    private static final String KEY = "key-1";
+    private static final String REDIS_KEY = IdempotencyService.KEY_PREFIX + SCOPE + ":" + KEY;
+
+    record Response(Long id, String status) {
+    }
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private IdempotencyService idempotencyService;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Supplier<Response> action = () -> new Response((long) calls.incrementAndGet(), "APPLIED");
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(redisTemplate, new ObjectMapper(), Duration.ofDays(1), Duration.ofMinutes(1));
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("should run the action and store its response under the key")
+    void execute_firstCall_runsAndStores() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(Duration.ofMinutes(1)))).thenReturn(true);
+
+        // Act
+        Response response = idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class, action);
+
+        // Assert
+        assertThat(response).isEqualTo(new Response(1L, "APPLIED"));
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(REDIS_KEY), stored.capture(), eq(Duration.ofDays(1)));
+        assertThat(stored.getValue()).contains("\"completed\":true").contains("\"status\":\"APPLIED\"");
+    }
+
+    @Test
+    @DisplayName("should replay the stored response for a retry without running the action")
+    void execute_retry_replaysStoredResponse() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).thenReturn(true, false);
+        idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class, action);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(REDIS_KEY), stored.capture(), any(Duration.class));
+        when(valueOperations.get(REDIS_KEY)).thenReturn(stored.getValue());
+
+        // Act
+        Response replayed = idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class, action);
+
+        // Assert
+        assertThat(replayed).isEqualTo(new Response(1L, "APPLIED"));
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should reject reusing a key for a different request")
+    void execute_differentRequest_throwsMismatch() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).thenReturn(true, false);
+        idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class, action);
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(REDIS_KEY), stored.capture(), any(Duration.class));
+        when(valueOperations.get(REDIS_KEY)).thenReturn(stored.getValue());
+
+        // Act & Assert
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, List.of(6L), Response.class, action))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("should report a conflict while the first request is still running")
+    void execute_inFlight_throwsInUse() {
+        // Arrange
+        ArgumentCaptor<String> reservation = ArgumentCaptor.forClass(String.class);
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), reservation.capture(), any(Duration.class))).thenReturn(false);
+        when(valueOperations.get(REDIS_KEY)).thenAnswer(_ -> reservation.getValue());
+
+        // Act & Assert
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class, action))
+                .isInstanceOf(IdempotencyKeyInUseException.class);
+        assertThat(calls.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("should release the key when the action fails so the client can retry")
+    void execute_failure_releasesKey() {
+        // Arrange
+        when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, List.of(5L), Response.class,
+                () -> { throw new IllegalStateException("boom"); }))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).delete(REDIS_KEY);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("should run the action directly when no key is sent")
+    void execute_withoutKey_bypassesStore() {
+        // Act
+        Response response = idempotencyService.execute(SCOPE, null, List.of(5L), Response.class, action);
+
+        // Assert
+        assertThat(response.id()).isEqualTo(1L);
+        verifyNoInteractions(redisTemplate);
+    }
+}
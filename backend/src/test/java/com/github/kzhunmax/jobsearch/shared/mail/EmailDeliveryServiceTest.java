@@ -0,0 +1,99 @@
+package com.github.kzhunmax.jobsearch.shared.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmailDeliveryService Tests")
+class EmailDeliveryServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SmtpTransportPool transportPool;
+    private EmailDeliveryService deliveryService;
+
+    @AfterEach
+    void tearDown() {
+        deliveryService.destroy();
+        transportPool.destroy();
+    }
+
+    @Test
+    @DisplayName("should deliver every message when split across batches")
+    void deliver_multipleBatches_deliversAll() throws MessagingException {
+        // Arrange
+        JavaMailSenderImpl mailSender = mailSender(greenMail.getSmtp().getPort());
+        createService(mailSender);
+        List<MimeMessage> messages = IntStream.range(0, 5)
+                .mapToObj(i -> message(mailSender, "user" + i + "@example.com"))
+                .toList();
+
+        // Act
+        List<CompletableFuture<Void>> results = deliveryService.deliver(messages);
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+
+        // Assert
+        assertThat(results).hasSize(5).allMatch(result -> !result.isCompletedExceptionally());
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(greenMail.getReceivedMessages()[0].getSubject()).isEqualTo("Hello");
+    }
+
+    @Test
+    @DisplayName("should fail the futures when the SMTP server is unreachable")
+    void deliver_serverDown_failsFutures() {
+        // Arrange
+        JavaMailSenderImpl mailSender = mailSender(1);
+        createService(mailSender);
+        List<MimeMessage> messages = List.of(message(mailSender, "user@example.com"));
+
+        // Act
+        List<CompletableFuture<Void>> results = deliveryService.deliver(messages);
+
+        // Assert
+        assertThat(results.getFirst()).failsWithin(Duration.ofSeconds(10));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    private void createService(JavaMailSenderImpl mailSender) {
+        transportPool = new SmtpTransportPool(mailSender, 1);
+        deliveryService = new EmailDeliveryService(transportPool, new MailRateLimiter(Map.of(), 100), 1, 10, 2);
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.getJavaMailProperties().setProperty("mail.smtp.connectiontimeout", "2000");
+        return mailSender;
+    }
+
+    private static MimeMessage message(JavaMailSenderImpl mailSender, String to) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+            helper.setFrom("no-reply@jobhunter.test");
+            helper.setTo(to);
+            helper.setSubject("Hello");
+            helper.setText("Body");
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+        return message;
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Throughput check for template rendering against the old string concatenation. Run with
+ * {@code ./gradlew test -Pbenchmark --tests '*EmailTemplateRendererBenchmarkTest'}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("EmailTemplateRenderer Benchmark")
+class EmailTemplateRendererBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    private final EmailTemplateRenderer renderer =
+            new EmailTemplateRenderer(List.of(Locale.ENGLISH, Locale.forLanguageTag("uk")), "i18n/email");
+
+    @Test
+    @DisplayName("should report messages rendered per second")
+    void renderThroughput() {
+        long sink = measure("string concatenation", i ->
+                "Click here to verify: http://localhost:8080/api/auth/verify-email?token=" + i);
+        sink += measure("HTML template (en)", i -> renderer.render(EmailTemplate.VERIFICATION, Locale.ENGLISH,
+                Map.of("verifyLink", "http://localhost:8080/api/auth/verify-email?token=" + i)).html());
+        sink += measure("HTML template (uk)", i -> renderer.render(EmailTemplate.PASSWORD_RESET, Locale.forLanguageTag("uk"),
+                Map.of("resetLink", "http://localhost:3000/reset-password?token=" + i)).html());
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static long measure(String label, IntFunction<String> render) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += render.apply(i).length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            sink += render.apply(i).length();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-22s %,12.0f messages/s%n", label, MEASURED_ITERATIONS / seconds);
+        return sink;
+    }
+}
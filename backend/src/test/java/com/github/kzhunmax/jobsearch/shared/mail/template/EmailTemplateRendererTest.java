@@ -0,0 +1,108 @@
+package com.github.kzhunmax.jobsearch.shared.mail.template;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmailTemplateRenderer Tests")
+class EmailTemplateRendererTest {
+
+    private static final String VERIFY_LINK = "http://localhost:8080/api/auth/verify-email?token=abc";
+
+    private EmailTemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new EmailTemplateRenderer(List.of(Locale.ENGLISH, Locale.forLanguageTag("uk")), "i18n/email");
+    }
+
+    @Test
+    @DisplayName("should render the localized subject and HTML body")
+    void render_english_rendersSubjectAndBody() {
+        // Act
+        RenderedEmail email = renderer.render(EmailTemplate.VERIFICATION, Locale.ENGLISH, Map.of("verifyLink", VERIFY_LINK));
+
+        // Assert
+        assertThat(email.subject()).isEqualTo("Verify Your Email");
+        assertThat(email.html())
+                .startsWith("<!DOCTYPE html>")
+                .contains("<html lang=\"en\">")
+                .contains("Confirm your email address")
+                .contains("href=\"" + VERIFY_LINK + "\"")
+                .doesNotContain("#{")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    @DisplayName("should pick the bundle matching the requested language")
+    void render_ukrainian_usesUkrainianCopy() {
+        // Act
+        RenderedEmail email = renderer.render(EmailTemplate.PASSWORD_RESET, Locale.forLanguageTag("uk-UA"),
+                Map.of("resetLink", "http://localhost:3000/reset-password?token=abc"));
+
+        // Assert
+        assertThat(email.subject()).isEqualTo("Скидання пароля");
+        assertThat(email.html()).contains("<html lang=\"uk\">").contains("Скинути пароль");
+    }
+
+    @Test
+    @DisplayName("should fall back to the default locale for unsupported or missing locales")
+    void render_unsupportedLocale_fallsBackToDefault() {
+        // Act
+        RenderedEmail german = renderer.render(EmailTemplate.VERIFICATION, Locale.GERMAN, Map.of("verifyLink", VERIFY_LINK));
+        RenderedEmail unknown = renderer.render(EmailTemplate.VERIFICATION, null, Map.of("verifyLink", VERIFY_LINK));
+
+        // Assert
+        assertThat(german.subject()).isEqualTo("Verify Your Email");
+        assertThat(unknown.html()).isEqualTo(german.html());
+    }
+
+    @Test
+    @DisplayName("should HTML-escape variable values")
+    void render_variableWithMarkup_isEscaped() {
+        // Act
+        RenderedEmail email = renderer.render(EmailTemplate.VERIFICATION, Locale.ENGLISH,
+                Map.of("verifyLink", "http://x/?a=1&b=\"><script>"));
+
+        // Assert
+        assertThat(email.html())
+                .contains("http://x/?a=1&amp;b=&quot;&gt;&lt;script&gt;")
+                .doesNotContain("<script>");
+    }
+
+    @Test
+    @DisplayName("should reject a model that lacks a template variable")
+    void render_missingVariable_throws() {
+        // Act & Assert
+        assertThatThrownBy(() -> renderer.render(EmailTemplate.VERIFICATION, Locale.ENGLISH, Map.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("verifyLink");
+    }
+
+    @Test
+    @DisplayName("should embed rendered fragments unescaped through a raw slot")
+    void render_digestWithFragments_embedsItems() {
+        // Arrange
+        String item = renderer.renderFragment(EmailTemplate.APPLICATION_STATUS_ITEM, Locale.ENGLISH, Map.of(
+                "jobTitle", "Java <Developer>",
+                "companyName", "TestCo",
+                "status", renderer.message("email.status.OFFERED", Locale.ENGLISH)));
+
+        // Act
+        RenderedEmail email = renderer.render(EmailTemplate.APPLICATION_STATUS_DIGEST, Locale.ENGLISH,
+                Map.of("items", item, "applicationsLink", "http://localhost:3000/applications"));
+
+        // Assert
+        assertThat(email.subject()).isEqualTo("Updates on your job applications");
+        assertThat(email.html())
+                .contains("<strong>Java &lt;Developer&gt;</strong>")
+                .contains("Offer received");
+    }
+}
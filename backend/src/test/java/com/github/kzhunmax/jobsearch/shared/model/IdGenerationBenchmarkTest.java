@@ -0,0 +1,109 @@
+package com.github.kzhunmax.jobsearch.shared.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+import java.util.function.IntFunction;
+
+/**
+ * Insert throughput of identity columns (no JDBC batching) against pooled sequences with batching, using
+ * the same Hibernate settings as {@code application.yml}. Run with
+ * {@code ./gradlew test -Pbenchmark --tests '*IdGenerationBenchmarkTest'}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ID generation Benchmark")
+class IdGenerationBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 50_000;
+    private static final int ROWS_PER_TRANSACTION = 1_000;
+
+    @Container
+    static PostgreSQLContainer postgres = new PostgreSQLContainer("postgres:18-alpine");
+
+    @Test
+    @DisplayName("should report rows inserted per second")
+    void insertThroughput() {
+        try (SessionFactory sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(SequenceRow.class)
+                .setProperty("hibernate.connection.url", postgres.getJdbcUrl() + "&reWriteBatchedInserts=true")
+                .setProperty("hibernate.connection.username", postgres.getUsername())
+                .setProperty("hibernate.connection.password", postgres.getPassword())
+                .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true")
+                .setProperty("hibernate.order_updates", "true")
+                .buildSessionFactory()) {
+            measure(sessionFactory, "IDENTITY (before)", IdentityRow::new);
+            measure(sessionFactory, "SEQUENCE pooled (after)", SequenceRow::new);
+        }
+    }
+
+    private static void measure(SessionFactory sessionFactory, String label, IntFunction<Object> row) {
+        insert(sessionFactory, WARMUP_ROWS, row);
+        long start = System.nanoTime();
+        insert(sessionFactory, MEASURED_ROWS, row);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-24s %,12.0f rows/s%n", label, MEASURED_ROWS / seconds);
+    }
+
+    private static void insert(SessionFactory sessionFactory, int rows, IntFunction<Object> row) {
+        for (int offset = 0; offset < rows; offset += ROWS_PER_TRANSACTION) {
+            int from = offset;
+            sessionFactory.inTransaction(session -> {
+                for (int i = from; i < Math.min(from + ROWS_PER_TRANSACTION, rows); i++) {
+                    session.persist(row.apply(i));
+                }
+            });
+        }
+    }
+
+    @Entity
+    @Table(name = "identity_rows")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+
+        String title;
+
+        IdentityRow() {
+        }
+
+        IdentityRow(int i) {
+            this.title = "Job " + i;
+        }
+    }
+
+    @Entity
+    @Table(name = "sequence_rows")
+    static class SequenceRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE)
+        Long id;
+
+        String title;
+
+        SequenceRow() {
+        }
+
+        SequenceRow(int i) {
+            this.title = "Job " + i;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalFileSystemStorageBackend Tests")
+class LocalFileSystemStorageBackendTest extends StorageBackendConformanceTest {
+
+    @TempDir
+    Path root;
+
+    private ExecutorService executor;
+
+    @Override
+    protected StorageBackend createBackend() {
+        executor = Executors.newSingleThreadExecutor();
+        return new LocalFileSystemStorageBackend(root, "http://localhost:8080/api/files", executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should expose the backing file for sendfile")
+    void localPath_existingObject_returnsFile() {
+        upload(KEY, CONTENT);
+
+        assertThat(backend.localPath(KEY)).contains(root.resolve(KEY));
+    }
+
+    @Test
+    @DisplayName("should reject keys that escape the storage root")
+    void head_traversalKey_throws() {
+        assertThatThrownBy(() -> backend.head("../outside.pdf"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should not leave a partial file behind when the stream is shorter than declared")
+    void upload_truncatedStream_leavesNothing() throws Exception {
+        // Act & Assert
+        assertThatThrownBy(() -> backend.upload(KEY, new ByteArrayInputStream(CONTENT), CONTENT.length + 10, "application/pdf").join())
+                .isInstanceOf(CompletionException.class);
+
+        try (var files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("should not support presigned uploads")
+    void presignUpload_returnsEmpty() {
+        assertThat(backend.presignUpload(KEY, "application/pdf", CONTENT.length, Duration.ofMinutes(5))).isEmpty();
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("S3StorageBackend Tests")
+class S3StorageBackendTest extends StorageBackendConformanceTest {
+
+    private static final String BUCKET = "resumes";
+    private static final String PRIVATE_BUCKET = "resumes-private";
+
+    @Container
+    static MinIOContainer minio = new MinIOContainer("minio/minio:RELEASE.2024-10-13T13-34-11Z");
+
+    private static S3Client s3Client;
+    private static S3AsyncClient s3AsyncClient;
+    private static S3Presigner s3Presigner;
+    private static ExecutorService executor;
+
+    @BeforeAll
+    static void setUpClients() {
+        URI endpoint = URI.create(minio.getS3URL());
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(minio.getUserName(), minio.getPassword()));
+
+        s3Client = S3Client.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(endpoint)
+                .credentialsProvider(credentials)
+                .forcePathStyle(true)
+                .build();
+        s3AsyncClient = S3AsyncClient.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(endpoint)
+                .credentialsProvider(credentials)
+                .forcePathStyle(true)
+                .build();
+        s3Presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .endpointOverride(endpoint)
+                .credentialsProvider(credentials)
+                .build();
+        executor = Executors.newFixedThreadPool(2);
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+        s3Client.createBucket(builder -> builder.bucket(PRIVATE_BUCKET));
+    }
+
+    @AfterAll
+    static void tearDownClients() {
+        s3Client.close();
+        s3AsyncClient.close();
+        s3Presigner.close();
+        executor.shutdownNow();
+    }
+
+    @Override
+    protected StorageBackend createBackend() {
+        return new S3StorageBackend(s3Client, s3AsyncClient, s3Presigner, executor, BUCKET, PRIVATE_BUCKET,
+                minio.getS3URL() + "/" + BUCKET);
+    }
+
+    @Test
+    @DisplayName("should keep private keys out of the public bucket and list both buckets in key order")
+    void privateKey_storedInPrivateBucket() {
+        // Arrange
+        String privateKey = ObjectKeys.privateKey("candidates/1/r.pdf");
+        upload(privateKey, CONTENT);
+        upload("public/a.pdf", CONTENT);
+
+        // Act
+        List<ListedObject> listed = backend.list("private/", 10);
+
+        // Assert
+        assertThat(backend.head(privateKey)).isPresent();
+        assertThat(s3Client.headObject(builder -> builder.bucket(PRIVATE_BUCKET).key(privateKey)).contentLength())
+                .isEqualTo(CONTENT.length);
+        assertThatThrownBy(() -> s3Client.headObject(builder -> builder.bucket(BUCKET).key(privateKey)))
+                .isInstanceOf(S3Exception.class);
+        assertThat(listed).extracting(ListedObject::objectKey).containsExactly(privateKey, "public/a.pdf");
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.kzhunmax.jobsearch.storage.backend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Behaviour every {@link StorageBackend} must share; each implementation runs it against a real store.
+ */
+abstract class StorageBackendConformanceTest {
+
+    protected static final String KEY = "candidates/1/3f1c_resume.pdf";
+    protected static final byte[] CONTENT = "%PDF-1.7 conformance test body".getBytes(StandardCharsets.UTF_8);
+
+    protected StorageBackend backend;
+
+    protected abstract StorageBackend createBackend() throws Exception;
+
+    @BeforeEach
+    void setUpBackend() throws Exception {
+        backend = createBackend();
+    }
+
+    @Test
+    @DisplayName("should report size and content type of an uploaded object")
+    void upload_thenHead_returnsMetadata() {
+        // Act
+        upload(KEY, CONTENT);
+        Optional<StoredObject> head = backend.head(KEY);
+
+        // Assert
+        assertThat(head).isPresent();
+        assertThat(head.get().objectKey()).isEqualTo(KEY);
+        assertThat(head.get().size()).isEqualTo(CONTENT.length);
+        assertThat(head.get().contentType()).isEqualTo("application/pdf");
+    }
+
+    @Test
+    @DisplayName("should transfer the whole object")
+    void transferTo_fullObject_copiesAllBytes() throws Exception {
+        // Arrange
+        upload(KEY, CONTENT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long transferred = backend.transferTo(KEY, 0, CONTENT.length, Channels.newChannel(out));
+
+        // Assert
+        assertThat(transferred).isEqualTo(CONTENT.length);
+        assertThat(out.toByteArray()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    @DisplayName("should transfer only the requested byte range")
+    void transferTo_range_copiesSlice() throws Exception {
+        // Arrange
+        upload(KEY, CONTENT);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long transferred = backend.transferTo(KEY, 5, 4, Channels.newChannel(out));
+
+        // Assert
+        assertThat(transferred).isEqualTo(4);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("1.7 ");
+    }
+
+    @Test
+    @DisplayName("should return empty metadata and fail transfers for missing objects")
+    void missingObject_headEmptyAndTransferFails() {
+        assertThat(backend.head("candidates/1/missing.pdf")).isEmpty();
+        assertThatThrownBy(() -> backend.transferTo("candidates/1/missing.pdf", 0, 1, Channels.newChannel(new ByteArrayOutputStream())))
+                .isInstanceOf(NoSuchFileException.class);
+    }
+
+    @Test
+    @DisplayName("should remove the object on delete and tolerate deleting it again")
+    void delete_removesObject() {
+        // Arrange
+        upload(KEY, CONTENT);
+
+        // Act
+        backend.delete(KEY).join();
+        backend.delete(KEY).join();
+
+        // Assert
+        assertThat(backend.head(KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should list keys in order, one page at a time")
+    void list_pagesInKeyOrder() {
+        // Arrange
+        upload("candidates/2/b.pdf", CONTENT);
+        upload("candidates/1/z.pdf", CONTENT);
+        upload("candidates/1/a.pdf", CONTENT);
+
+        // Act
+        List<ListedObject> first = backend.list(null, 2);
+        List<ListedObject> second = backend.list(first.getLast().objectKey(), 2);
+
+        // Assert
+        assertThat(first).extracting(ListedObject::objectKey).containsExactly("candidates/1/a.pdf", "candidates/1/z.pdf");
+        assertThat(second).extracting(ListedObject::objectKey).containsExactly("candidates/2/b.pdf");
+        assertThat(second.getFirst().size()).isEqualTo(CONTENT.length);
+        assertThat(second.getFirst().lastModified()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should build public URLs that end with the object key")
+    void publicUrl_endsWithKey() {
+        assertThat(backend.publicUrl(KEY)).endsWith("/" + KEY);
+    }
+
+    protected void upload(String key, byte[] content) {
+        backend.upload(key, new ByteArrayInputStream(content), content.length, "application/pdf").join();
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.kzhunmax.jobsearch.storage.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ImageVariantGenerator Tests")
+class ImageVariantGeneratorTest {
+
+    private final ImageVariantGenerator generator = new ImageVariantGenerator();
+
+    @Test
+    @DisplayName("should render square JPEG variants of the configured size")
+    void render_landscapePng_producesSquareJpegs() throws Exception {
+        // Arrange
+        BufferedImage source = generator.decode(png(1200, 800));
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            // Act
+            byte[] rendered = generator.render(source, variant);
+
+            // Assert
+            BufferedImage result = ImageIO.read(new ByteArrayInputStream(rendered));
+            assertThat(result.getWidth()).isEqualTo(variant.getSize());
+            assertThat(result.getHeight()).isEqualTo(variant.getSize());
+            assertThat(rendered[0] & 0xFF).isEqualTo(0xFF);
+            assertThat(rendered[1] & 0xFF).isEqualTo(0xD8);
+        }
+    }
+
+    @Test
+    @DisplayName("should upscale sources smaller than the variant")
+    void render_smallSource_upscales() throws Exception {
+        // Arrange
+        BufferedImage source = generator.decode(png(40, 40));
+
+        // Act
+        byte[] rendered = generator.render(source, ImageVariant.MEDIUM);
+
+        // Assert
+        assertThat(ImageIO.read(new ByteArrayInputStream(rendered)).getWidth()).isEqualTo(ImageVariant.MEDIUM.getSize());
+    }
+
+    @Test
+    @DisplayName("should subsample large sources while decoding, keeping enough detail for the largest variant")
+    void decode_largeSource_subsamples() throws Exception {
+        // Act
+        BufferedImage source = generator.decode(png(4000, 3000));
+
+        // Assert
+        int side = Math.min(source.getWidth(), source.getHeight());
+        assertThat(side).isBetween(2 * ImageVariant.MEDIUM.getSize(), 4 * ImageVariant.MEDIUM.getSize());
+        assertThat(source.getWidth()).isGreaterThan(source.getHeight());
+    }
+
+    @Test
+    @DisplayName("should reject sources too narrow to subsample whose raster would still be large")
+    void decode_extremeAspectRatio_throws() {
+        assertThatThrownBy(() -> generator.decode(png(12000, 400)))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("aspect ratio");
+    }
+
+    @Test
+    @DisplayName("should reject content that is not an image")
+    void decode_notAnImage_throws() {
+        assertThatThrownBy(() -> generator.decode("%PDF-1.7".getBytes(StandardCharsets.UTF_8)))
+                .isInstanceOf(IOException.class);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
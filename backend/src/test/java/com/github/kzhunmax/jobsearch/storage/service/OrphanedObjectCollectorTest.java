@@ -0,0 +1,164 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.storage.backend.ListedObject;
+import com.github.kzhunmax.jobsearch.storage.backend.ObjectKeys;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.dto.OrphanCollectionReportDTO;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanedObjectCollector Tests")
+class OrphanedObjectCollectorTest {
+
+    private static final String URL_PREFIX = "https://storage.example.com/";
+    private static final Instant OLD = Instant.now().minus(Duration.ofDays(3));
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private StorageBlobRepository storageBlobRepository;
+
+    @Mock
+    private StorageDeletionQueue storageDeletionQueue;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private OrphanedObjectCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new OrphanedObjectCollector(storageBackend, storageBlobRepository, storageDeletionQueue,
+                fileStorageService, redisTemplate, 2, Duration.ofDays(1), true);
+        when(fileStorageService.publicUrl("")).thenReturn(URL_PREFIX);
+    }
+
+    @Test
+    @DisplayName("should merge both sorted sides across pages and only flag old unreferenced objects")
+    void collect_mergesPages() {
+        // Arrange
+        stubObjects(
+                new ListedObject("a", 10, OLD),
+                new ListedObject("b", 20, OLD),
+                new ListedObject("c", 30, OLD),
+                new ListedObject("d", 40, Instant.now()),
+                new ListedObject("e", 50, OLD));
+        stubReferences("b", "c", "f");
+
+        // Act
+        OrphanCollectionReportDTO report = collector.collect(false);
+
+        // Assert
+        assertThat(report.scannedObjects()).isEqualTo(5);
+        assertThat(report.referencedKeys()).isEqualTo(3);
+        assertThat(report.orphans()).isEqualTo(2);
+        assertThat(report.orphanBytes()).isEqualTo(60);
+        assertThat(report.recentUnreferenced()).isEqualTo(1);
+        assertThat(report.missingObjects()).isEqualTo(1);
+        assertThat(report.sampleOrphans()).containsExactly("a", "e");
+        verify(storageDeletionQueue).enqueue("a");
+        verify(storageDeletionQueue).enqueue("e");
+        verifyNoMoreInteractions(storageDeletionQueue);
+    }
+
+    @Test
+    @DisplayName("should only report orphans in dry-run mode")
+    void collect_dryRun_deletesNothing() {
+        // Arrange
+        stubObjects(new ListedObject("a", 10, OLD));
+        stubReferences();
+
+        // Act
+        OrphanCollectionReportDTO report = collector.collect(true);
+
+        // Assert
+        assertThat(report.orphans()).isEqualTo(1);
+        assertThat(report.dryRun()).isTrue();
+        verifyNoInteractions(storageDeletionQueue);
+    }
+
+    @Test
+    @DisplayName("should reset the leaked reference count of an old blob that no URL column refers to")
+    void collect_unreferencedBlob_resetsLeakedCount() {
+        // Arrange
+        String blobKey = "blobs/" + "a".repeat(64) + ".pdf";
+        stubObjects(new ListedObject(blobKey, 10, OLD), new ListedObject("candidates/1/x.pdf", 20, OLD));
+        stubReferences();
+        when(storageBlobRepository.resetLeakedReferences(eq(blobKey), any())).thenReturn(1);
+
+        // Act
+        OrphanCollectionReportDTO report = collector.collect(false);
+
+        // Assert
+        assertThat(report.orphans()).isEqualTo(2);
+        InOrder inOrder = inOrder(storageBlobRepository, storageDeletionQueue);
+        inOrder.verify(storageBlobRepository).resetLeakedReferences(eq(blobKey), any());
+        inOrder.verify(storageDeletionQueue).enqueue(blobKey);
+        verify(storageBlobRepository, never()).resetLeakedReferences(eq("candidates/1/x.pdf"), any());
+        verify(storageDeletionQueue).enqueue("candidates/1/x.pdf");
+    }
+
+    @Test
+    @DisplayName("should release the lock only through a compare-and-delete on this run's token")
+    void scheduledCollect_releasesLockWithToken() {
+        // Arrange
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(OrphanedObjectCollector.LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        stubObjects();
+        stubReferences();
+
+        // Act
+        collector.scheduledCollect();
+
+        // Assert
+        ArgumentCaptor<String> token = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(OrphanedObjectCollector.LOCK_KEY), token.capture(), any(Duration.class));
+        verify(redisTemplate).execute(OrphanedObjectCollector.RELEASE_LOCK_SCRIPT, List.of(OrphanedObjectCollector.LOCK_KEY), token.getValue());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    private void stubObjects(ListedObject... objects) {
+        when(storageBackend.list(any(), eq(2))).thenAnswer(invocation -> {
+            String after = invocation.getArgument(0);
+            return List.of(objects).stream()
+                    .filter(object -> after == null || ObjectKeys.ORDER.compare(object.objectKey(), after) > 0)
+                    .limit(2)
+                    .toList();
+        });
+    }
+
+    private void stubReferences(String... keys) {
+        when(storageBlobRepository.findReferencedKeys(eq(URL_PREFIX), anyString(), eq(2))).thenAnswer(invocation -> {
+            String after = invocation.getArgument(1);
+            return List.of(keys).stream()
+                    .filter(key -> ObjectKeys.ORDER.compare(key, after) > 0)
+                    .limit(2)
+                    .toList();
+        });
+    }
+}
@@ -0,0 +1,190 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageBlobService Tests")
+class StorageBlobServiceTest {
+
+    private static final String SHA256 = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String BLOB_KEY = "blobs/" + SHA256 + ".pdf";
+
+    @Mock
+    private StorageBlobRepository storageBlobRepository;
+
+    @Mock
+    private StorageDeletionQueue storageDeletionQueue;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private StorageBlobService storageBlobService;
+
+    @BeforeEach
+    void setUp() {
+        storageBlobService = new StorageBlobService(storageBlobRepository, storageDeletionQueue, storageBackend,
+                transactionTemplate, Duration.ofMinutes(2));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+    }
+
+    @Test
+    @DisplayName("should derive blob keys from the hash and content type")
+    void blobKey_recognisedAsBlob() {
+        assertThat(StorageBlobService.blobKey(SHA256, "application/pdf")).isEqualTo(BLOB_KEY);
+        assertThat(StorageBlobService.isBlobKey(BLOB_KEY)).isTrue();
+        assertThat(StorageBlobService.isBlobKey("blobs/" + SHA256 + "_photo_thumb.jpg")).isFalse();
+        assertThat(StorageBlobService.isBlobKey("candidates/1/3f1c_My_Resume.pdf")).isFalse();
+    }
+
+    @Test
+    @DisplayName("should keep a blob that is still referenced")
+    void release_remainingReferences_doesNotQueueDeletion() {
+        // Arrange
+        when(storageBlobRepository.release(BLOB_KEY)).thenReturn(Optional.of(1));
+
+        // Act
+        storageBlobService.release(BLOB_KEY);
+
+        // Assert
+        verify(storageDeletionQueue, never()).enqueue(anyString());
+    }
+
+    @Test
+    @DisplayName("should queue deletion when the last reference is released")
+    void release_lastReference_queuesDeletion() {
+        // Arrange
+        when(storageBlobRepository.release(BLOB_KEY)).thenReturn(Optional.of(0));
+
+        // Act
+        storageBlobService.release(BLOB_KEY);
+
+        // Assert
+        verify(storageDeletionQueue).enqueue(BLOB_KEY);
+    }
+
+    @Test
+    @DisplayName("should queue non-blob keys for deletion directly")
+    void release_nonBlobKey_queuesDeletion() {
+        // Act
+        storageBlobService.release("candidates/1/3f1c_My_Resume.pdf");
+
+        // Assert
+        verify(storageDeletionQueue).enqueue("candidates/1/3f1c_My_Resume.pdf");
+        verifyNoInteractions(storageBlobRepository);
+    }
+
+    @Test
+    @DisplayName("should wait for a running deletion before acquiring the blob again")
+    void acquire_whileDeleting_retriesUntilDeleted() {
+        // Arrange
+        when(storageBlobRepository.acquire(BLOB_KEY, SHA256, 10L, "application/pdf"))
+                .thenReturn(Optional.empty(), Optional.of(1));
+
+        // Act
+        int refCount = storageBlobService.acquire(BLOB_KEY, SHA256, 10L, "application/pdf");
+
+        // Assert
+        assertThat(refCount).isEqualTo(1);
+        verify(storageBlobRepository, times(2)).acquire(BLOB_KEY, SHA256, 10L, "application/pdf");
+    }
+
+    @Test
+    @DisplayName("should not delete a blob that was re-acquired before the worker ran")
+    void deleteIfUnreferenced_reacquired_keepsObject() {
+        // Arrange
+        when(storageBlobRepository.markDeleting(eq(BLOB_KEY), any())).thenReturn(Optional.empty());
+
+        // Act
+        storageBlobService.deleteIfUnreferenced(BLOB_KEY).join();
+
+        // Assert
+        verify(storageBackend, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("should delete the object outside the transaction that marked the row, then drop the row")
+    void deleteIfUnreferenced_unreferenced_deletesObjectAndRow() {
+        // Arrange
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class));
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionTemplate).execute(any());
+        when(storageBlobRepository.markDeleting(eq(BLOB_KEY), any())).thenReturn(Optional.of(3L));
+        when(storageBackend.delete(BLOB_KEY)).thenAnswer(_ -> {
+            assertThat(inTransaction).isFalse();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // Act
+        storageBlobService.deleteIfUnreferenced(BLOB_KEY).join();
+
+        // Assert
+        verify(storageBackend).delete(BLOB_KEY);
+        verify(storageBlobRepository).deleteById(3L);
+        verify(storageBlobRepository, never()).clearDeleting(anyLong());
+    }
+
+    @Test
+    @DisplayName("should clear the deletion mark and fail when the object delete fails")
+    void deleteIfUnreferenced_backendFails_clearsMark() {
+        // Arrange
+        when(storageBlobRepository.markDeleting(eq(BLOB_KEY), any())).thenReturn(Optional.of(3L));
+        when(storageBackend.delete(BLOB_KEY)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timeout")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> storageBlobService.deleteIfUnreferenced(BLOB_KEY).join())
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(storageBlobRepository).clearDeleting(3L);
+        verify(storageBlobRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    @DisplayName("should delete a blob object that has no row by locking a placeholder row")
+    void deleteIfUnreferenced_rowless_deletesObject() {
+        // Arrange
+        String privateKey = "private/" + BLOB_KEY;
+        when(storageBlobRepository.insertIfAbsent(privateKey, SHA256)).thenReturn(1);
+        when(storageBlobRepository.markDeleting(eq(privateKey), any())).thenReturn(Optional.of(4L));
+        when(storageBackend.delete(privateKey)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        storageBlobService.deleteIfUnreferenced(privateKey).join();
+
+        // Assert
+        InOrder inOrder = inOrder(storageBlobRepository, storageBackend);
+        inOrder.verify(storageBlobRepository).insertIfAbsent(privateKey, SHA256);
+        inOrder.verify(storageBlobRepository).markDeleting(eq(privateKey), any());
+        inOrder.verify(storageBackend).delete(privateKey);
+        inOrder.verify(storageBlobRepository).deleteById(4L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.model.StorageDeletion;
+import com.github.kzhunmax.jobsearch.storage.repository.StorageDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StorageDeletionWorker Tests")
+class StorageDeletionWorkerTest {
+
+    private static final String OBJECT_KEY = "candidates/1/3f1c_My_Resume.pdf";
+
+    @Mock
+    private StorageDeletionRepository storageDeletionRepository;
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @Mock
+    private StorageBlobService storageBlobService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private StorageDeletionWorker worker;
+    private StorageDeletion deletion;
+
+    @BeforeEach
+    void setUp() {
+        worker = new StorageDeletionWorker(storageDeletionRepository, storageBackend, storageBlobService, taskScheduler,
+                10, Duration.ofMinutes(2), Duration.ofHours(1));
+        deletion = StorageDeletion.builder()
+                .id(7L)
+                .objectKey(OBJECT_KEY)
+                .attempts(1)
+                .nextAttemptAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("should remove the queue row once the object is deleted")
+    void drain_successfulDelete_removesRow() {
+        // Arrange
+        when(storageDeletionRepository.claimDue(any(), any(), eq(10))).thenReturn(List.of(deletion));
+        when(storageBackend.delete(OBJECT_KEY)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(storageDeletionRepository).deleteById(7L);
+        verify(storageDeletionRepository, never()).reschedule(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should back off and keep the row when the delete fails")
+    void drain_failedDelete_reschedules() {
+        // Arrange
+        when(storageDeletionRepository.claimDue(any(), any(), eq(10))).thenReturn(List.of(deletion));
+        when(storageBackend.delete(OBJECT_KEY))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("storage unavailable")));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(storageDeletionRepository).reschedule(eq(7L), any(Instant.class), contains("storage unavailable"));
+        verify(storageDeletionRepository, never()).deleteById(anyLong());
+    }
+
+    @Test
+    @DisplayName("should route content-addressed keys through the reference check")
+    void drain_blobKey_deletesOnlyIfUnreferenced() {
+        // Arrange
+        String blobKey = "blobs/" + "a".repeat(64) + ".pdf";
+        deletion.setObjectKey(blobKey);
+        when(storageDeletionRepository.claimDue(any(), any(), eq(10))).thenReturn(List.of(deletion));
+        when(storageBlobService.deleteIfUnreferenced(blobKey)).thenReturn(CompletableFuture.completedFuture(null));
+
+        // Act
+        worker.drain();
+
+        // Assert
+        verify(storageBackend, never()).delete(anyString());
+        verify(storageDeletionRepository).deleteById(7L);
+    }
+
+    @Test
+    @DisplayName("should grow the backoff exponentially up to the cap")
+    void backoff_isExponentialAndCapped() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(worker.backoff(3)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(worker.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+}
@@ -0,0 +1,145 @@
+package com.github.kzhunmax.jobsearch.storage.service;
+
+import com.github.kzhunmax.jobsearch.exception.StoredFileNotFoundException;
+import com.github.kzhunmax.jobsearch.storage.backend.StorageBackend;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoredFileStreamer Tests")
+class StoredFileStreamerTest {
+
+    private static final String OBJECT_KEY = "candidates/1/3f1c_My_Resume.pdf";
+    private static final long SIZE = 1000;
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+
+    @Mock
+    private StorageBackend storageBackend;
+
+    @InjectMocks
+    private StoredFileStreamer streamer;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest("GET", "/api/user/resume/1/download");
+        response = new MockHttpServletResponse();
+        lenient().when(storageBackend.head(OBJECT_KEY))
+                .thenReturn(Optional.of(new StoredObject(OBJECT_KEY, "application/pdf", SIZE)));
+    }
+
+    @Test
+    @DisplayName("should stream the whole object with validators and cache headers")
+    void stream_fullObject_writesBody() throws Exception {
+        // Act
+        streamer.stream(OBJECT_KEY, "My_Resume.pdf", CACHE_CONTROL, request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(SIZE);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNotBlank();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=3600, private");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("attachment").contains("My_Resume.pdf");
+        verify(storageBackend).transferTo(eq(OBJECT_KEY), eq(0L), eq(SIZE), any());
+    }
+
+    @Test
+    @DisplayName("should answer a single range with 206 and stream only that slice")
+    void stream_range_writesPartialContent() throws Exception {
+        // Arrange
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+
+        // Act
+        streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/1000");
+        assertThat(response.getContentLengthLong()).isEqualTo(100);
+        verify(storageBackend).transferTo(eq(OBJECT_KEY), eq(100L), eq(100L), any());
+    }
+
+    @Test
+    @DisplayName("should answer an unsatisfiable range with 416")
+    void stream_rangeBeyondEnd_returns416() throws Exception {
+        // Arrange
+        request.addHeader(HttpHeaders.RANGE, "bytes=5000-");
+
+        // Act
+        streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, request, response);
+
+        // Assert
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+        verify(storageBackend, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should answer a matching If-None-Match with 304 and no body")
+    void stream_matchingEtag_returns304() throws Exception {
+        // Arrange
+        streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, request, response);
+        String etag = response.getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = new MockHttpServletRequest("GET", "/api/user/resume/1/download");
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+
+        // Act
+        streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, conditional, notModified);
+
+        // Assert
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        verify(storageBackend, times(1)).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should hand local files to sendfile when the container supports it")
+    void stream_localFileWithSendfile_setsSendfileAttributes() throws Exception {
+        // Arrange
+        Path file = Path.of("/data/files", OBJECT_KEY);
+        when(storageBackend.localPath(OBJECT_KEY)).thenReturn(Optional.of(file));
+        request.setAttribute(StoredFileStreamer.SENDFILE_SUPPORT, Boolean.TRUE);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+
+        // Act
+        streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, request, response);
+
+        // Assert
+        assertThat(request.getAttribute(StoredFileStreamer.SENDFILE_FILENAME)).isEqualTo(file.toString());
+        assertThat(request.getAttribute(StoredFileStreamer.SENDFILE_START)).isEqualTo(0L);
+        assertThat(request.getAttribute(StoredFileStreamer.SENDFILE_END)).isEqualTo(10L);
+        verify(storageBackend, never()).transferTo(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("should fail with 404 when the object does not exist")
+    void stream_missingObject_throws() {
+        // Arrange
+        when(storageBackend.head(OBJECT_KEY)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> streamer.stream(OBJECT_KEY, null, CACHE_CONTROL, request, response))
+                .isInstanceOf(StoredFileNotFoundException.class);
+    }
+}
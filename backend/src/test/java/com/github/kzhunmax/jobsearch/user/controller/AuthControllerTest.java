@@ -10,6 +10,7 @@ import com.github.kzhunmax.jobsearch.user.dto.UserRegistrationDTO;
 import com.github.kzhunmax.jobsearch.user.dto.JwtResponse;
 import com.github.kzhunmax.jobsearch.user.dto.UserResponseDTO;
 import com.github.kzhunmax.jobsearch.exception.ApiException;
+import com.github.kzhunmax.jobsearch.security.ApiKeyAuthFilter;
 import com.github.kzhunmax.jobsearch.security.JwtAuthFilter;
 import com.github.kzhunmax.jobsearch.user.service.AuthService;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,6 +51,9 @@ class AuthControllerTest {
     @MockitoBean
     private JwtAuthFilter jwtAuthFilter;
 
+    @MockitoBean
+    private ApiKeyAuthFilter apiKeyAuthFilter;
+
     @MockitoBean
     private AuthService authService;
 
@@ -0,0 +1,120 @@
+package com.github.kzhunmax.jobsearch.user.service;
+
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.storage.image.ImageVariant;
+import com.github.kzhunmax.jobsearch.storage.image.ImageVariantGenerator;
+import com.github.kzhunmax.jobsearch.user.model.UserProfile;
+import com.github.kzhunmax.jobsearch.user.repository.UserProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfilePhotoVariantService Tests")
+class ProfilePhotoVariantServiceTest {
+
+    private static final String OBJECT_KEY = "candidates/1/3f1c_me.png";
+    private static final String PHOTO_URL = "https://storage.example.com/" + OBJECT_KEY;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @Mock
+    private RepositoryHelper repositoryHelper;
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ProfilePhotoVariantService service;
+    private UserProfile userProfile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        service = new ProfilePhotoVariantService(fileStorageService, imageVariantGenerator, repositoryHelper,
+                userProfileRepository, transactionTemplate, 1, 1);
+        userProfile = createUserProfile(createUser(TEST_ID, TEST_EMAIL));
+        userProfile.setPhotoUrl(PHOTO_URL);
+
+        lenient().when(fileStorageService.objectKey(PHOTO_URL)).thenReturn(Optional.of(OBJECT_KEY));
+        lenient().when(fileStorageService.read(eq(OBJECT_KEY), anyLong())).thenReturn(new byte[]{1});
+        lenient().when(imageVariantGenerator.decode(any())).thenReturn(new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB));
+        lenient().when(imageVariantGenerator.render(any(), any())).thenReturn(new byte[]{2});
+        lenient().when(fileStorageService.newObjectKey(eq(TEST_ID), anyString()))
+                .thenAnswer(invocation -> "candidates/1/9a2b_" + invocation.getArgument(1));
+        lenient().when(fileStorageService.upload(anyString(), any(), anyString()))
+                .thenAnswer(invocation -> "https://storage.example.com/" + invocation.getArgument(0));
+        lenient().when(repositoryHelper.findUserProfileByUserId(TEST_ID)).thenReturn(userProfile);
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    @DisplayName("should store variant URLs when the photo is still current")
+    void generateVariants_currentPhoto_savesUrls() {
+        // Act
+        service.generateVariants(TEST_ID, PHOTO_URL);
+
+        // Assert
+        assertThat(userProfile.getPhotoThumbnailUrl()).endsWith("candidates/1/9a2b_photo_thumb.jpg");
+        assertThat(userProfile.getPhotoMediumUrl()).endsWith("candidates/1/9a2b_photo_medium.jpg");
+        verify(userProfileRepository).save(userProfile);
+    }
+
+    @Test
+    @DisplayName("should discard generated variants when the photo was replaced meanwhile")
+    void generateVariants_photoReplaced_deletesVariants() {
+        // Arrange
+        userProfile.setPhotoUrl("https://storage.example.com/candidates/1/newer.png");
+
+        // Act
+        service.generateVariants(TEST_ID, PHOTO_URL);
+
+        // Assert
+        assertThat(userProfile.getPhotoThumbnailUrl()).isNull();
+        verify(fileStorageService, times(ImageVariant.values().length)).scheduleDeletion(anyString());
+        verify(userProfileRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should leave the profile untouched when the image cannot be decoded")
+    void generateVariants_undecodableImage_skips() throws IOException {
+        // Arrange
+        when(imageVariantGenerator.decode(any())).thenThrow(new IOException("Unsupported image format"));
+
+        // Act
+        service.generateVariants(TEST_ID, PHOTO_URL);
+
+        // Assert
+        verify(fileStorageService, never()).upload(anyString(), any(), anyString());
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+}
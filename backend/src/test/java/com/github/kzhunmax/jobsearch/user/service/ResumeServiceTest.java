@@ -0,0 +1,229 @@
+package com.github.kzhunmax.jobsearch.user.service;
+
+import com.github.kzhunmax.jobsearch.exception.MaxResumesReachedException;
+import com.github.kzhunmax.jobsearch.exception.ResumeOwnershipException;
+import com.github.kzhunmax.jobsearch.exception.UploadNotFoundException;
+import com.github.kzhunmax.jobsearch.job.repository.JobApplicationRepository;
+import com.github.kzhunmax.jobsearch.shared.FileStorageService;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.shared.event.ResumeIndexEvent;
+import com.github.kzhunmax.jobsearch.shared.event.SyncAction;
+import com.github.kzhunmax.jobsearch.shared.validator.FileValidator;
+import com.github.kzhunmax.jobsearch.storage.backend.StoredObject;
+import com.github.kzhunmax.jobsearch.user.dto.ConfirmUploadRequestDTO;
+import com.github.kzhunmax.jobsearch.user.dto.ResumeSummaryDTO;
+import com.github.kzhunmax.jobsearch.user.dto.UploadUrlRequestDTO;
+import com.github.kzhunmax.jobsearch.user.mapper.ResumeMapper;
+import com.github.kzhunmax.jobsearch.user.model.Resume;
+import com.github.kzhunmax.jobsearch.user.model.UserProfile;
+import com.github.kzhunmax.jobsearch.user.repository.ResumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumeService Tests")
+class ResumeServiceTest {
+
+    private static final String OBJECT_KEY = "private/candidates/1/3f1c_My_Resume.pdf";
+    private static final String PUBLIC_URL = "https://storage.example.com/" + OBJECT_KEY;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private RepositoryHelper repositoryHelper;
+
+    @Mock
+    private ResumeMapper resumeMapper;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Spy
+    private FileValidator fileValidator;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ResumeService resumeService;
+
+    private UserProfile userProfile;
+
+    @BeforeEach
+    void setUp() {
+        userProfile = createUserProfile(createUser(TEST_ID, TEST_EMAIL));
+        lenient().when(repositoryHelper.findUserProfileByUserId(TEST_ID)).thenReturn(userProfile);
+        lenient().when(fileStorageService.publicUrl(OBJECT_KEY)).thenReturn(PUBLIC_URL);
+        lenient().when(fileStorageService.originalFilename(OBJECT_KEY)).thenReturn("My_Resume.pdf");
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("should reject an upload URL request for a non-PDF file without presigning")
+    void createResumeUploadUrl_invalidType_throws() {
+        // Arrange
+        UploadUrlRequestDTO dto = new UploadUrlRequestDTO("cv.docx", "application/msword", 1024);
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.createResumeUploadUrl(TEST_ID, dto))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileStorageService, never()).presignPrivateUpload(anyLong(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("should persist the resume after the uploaded object is verified")
+    void confirmResumeUpload_validObject_savesResume() {
+        // Arrange
+        when(fileStorageService.findPrivateUpload(TEST_ID, OBJECT_KEY))
+                .thenReturn(Optional.of(new StoredObject(OBJECT_KEY, "application/pdf", 2048)));
+        when(resumeRepository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(resumeMapper.toDto(any(Resume.class))).thenAnswer(invocation -> {
+            Resume resume = invocation.getArgument(0);
+            return new ResumeSummaryDTO(resume.getId(), resume.getTitle(), resume.getFileUrl());
+        });
+
+        // Act
+        ResumeSummaryDTO result = resumeService.confirmResumeUpload(TEST_ID, new ConfirmUploadRequestDTO(OBJECT_KEY));
+
+        // Assert
+        assertThat(result.title()).isEqualTo("My_Resume.pdf");
+        assertThat(result.fileUrl()).isEqualTo(PUBLIC_URL);
+        assertThat(userProfile.getResumes()).hasSize(1);
+        verify(eventPublisher).publishEvent(any(ResumeIndexEvent.class));
+    }
+
+    @Test
+    @DisplayName("should fail when the object was never uploaded")
+    void confirmResumeUpload_missingObject_throws() {
+        // Arrange
+        when(fileStorageService.findPrivateUpload(TEST_ID, OBJECT_KEY)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.confirmResumeUpload(TEST_ID, new ConfirmUploadRequestDTO(OBJECT_KEY)))
+                .isInstanceOf(UploadNotFoundException.class);
+        verify(resumeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should delete an uploaded object that fails validation")
+    void confirmResumeUpload_oversizedObject_deletesAndThrows() {
+        // Arrange
+        when(fileStorageService.findPrivateUpload(TEST_ID, OBJECT_KEY))
+                .thenReturn(Optional.of(new StoredObject(OBJECT_KEY, "application/pdf", 6L * 1024 * 1024)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.confirmResumeUpload(TEST_ID, new ConfirmUploadRequestDTO(OBJECT_KEY)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(fileStorageService).scheduleDeletion(PUBLIC_URL);
+        verify(resumeRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should enforce the resume limit on confirm")
+    void confirmResumeUpload_limitReached_throws() {
+        // Arrange
+        userProfile.getResumes().add(createResume(1L, userProfile));
+        userProfile.getResumes().add(createResume(2L, userProfile));
+        when(fileStorageService.findPrivateUpload(TEST_ID, OBJECT_KEY))
+                .thenReturn(Optional.of(new StoredObject(OBJECT_KEY, "application/pdf", 2048)));
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.confirmResumeUpload(TEST_ID, new ConfirmUploadRequestDTO(OBJECT_KEY)))
+                .isInstanceOf(MaxResumesReachedException.class);
+    }
+
+    @Test
+    @DisplayName("should queue the old file for deletion when a resume is replaced")
+    void updateResume_schedulesOldFileDeletion() {
+        // Arrange
+        Resume resume = createResume(TEST_ID, userProfile);
+        String oldFileUrl = resume.getFileUrl();
+        MockMultipartFile file = new MockMultipartFile("file", "New_Resume.pdf", "application/pdf", new byte[]{1, 2, 3});
+        when(repositoryHelper.findResumeById(TEST_ID)).thenReturn(resume);
+        when(fileStorageService.uploadPrivateFile(file, TEST_ID)).thenReturn(PUBLIC_URL);
+        when(resumeRepository.save(resume)).thenReturn(resume);
+
+        // Act
+        resumeService.updateResume(TEST_ID, TEST_ID, file);
+
+        // Assert
+        assertThat(resume.getFileUrl()).isEqualTo(PUBLIC_URL);
+        verify(fileStorageService).scheduleDeletion(oldFileUrl);
+        verify(eventPublisher).publishEvent(new ResumeIndexEvent(TEST_ID, SyncAction.UPSERT));
+    }
+
+    @Test
+    @DisplayName("should queue the uploaded file for deletion when persisting fails")
+    void addResume_persistFails_discardsUpload() {
+        // Arrange
+        MockMultipartFile file = new MockMultipartFile("file", "My_Resume.pdf", "application/pdf", new byte[]{1, 2, 3});
+        when(fileStorageService.uploadPrivateFile(file, TEST_ID)).thenReturn(PUBLIC_URL);
+        when(resumeRepository.save(any(Resume.class))).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.addResume(TEST_ID, file))
+                .isInstanceOf(IllegalStateException.class);
+        verify(fileStorageService).scheduleDeletion(PUBLIC_URL);
+    }
+
+    @Test
+    @DisplayName("should let a recruiter download a resume submitted to one of their jobs")
+    void getResumeFile_receivingRecruiter_returnsObjectKey() {
+        // Arrange
+        Long recruiterId = 99L;
+        Resume resume = createResume(TEST_ID, userProfile);
+        resume.setFileUrl(PUBLIC_URL);
+        when(repositoryHelper.findResumeById(TEST_ID)).thenReturn(resume);
+        when(jobApplicationRepository.existsByResumeIdAndJobPostedById(TEST_ID, recruiterId)).thenReturn(true);
+        when(fileStorageService.objectKey(PUBLIC_URL)).thenReturn(Optional.of(OBJECT_KEY));
+
+        // Act
+        ResumeService.ResumeFile result = resumeService.getResumeFile(TEST_ID, recruiterId);
+
+        // Assert
+        assertThat(result.objectKey()).isEqualTo(OBJECT_KEY);
+        assertThat(result.fileName()).isEqualTo(resume.getTitle());
+    }
+
+    @Test
+    @DisplayName("should deny resume downloads to users who neither own nor received it")
+    void getResumeFile_unrelatedUser_throws() {
+        // Arrange
+        Long strangerId = 99L;
+        when(repositoryHelper.findResumeById(TEST_ID)).thenReturn(createResume(TEST_ID, userProfile));
+        when(jobApplicationRepository.existsByResumeIdAndJobPostedById(TEST_ID, strangerId)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> resumeService.getResumeFile(TEST_ID, strangerId))
+                .isInstanceOf(ResumeOwnershipException.class);
+        verify(fileStorageService, never()).objectKey(anyString());
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.kzhunmax.jobsearch.user.service.search;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResumeTextExtractor Tests")
+class ResumeTextExtractorTest {
+
+    private ResumeTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        extractor = new ResumeTextExtractor(1, 1, Duration.ofSeconds(10), 1, 40, 8L * 1024 * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extractor.destroy();
+    }
+
+    @Test
+    @DisplayName("should extract normalized text from the first pages only")
+    void extract_multiPagePdf_readsFirstPages() throws IOException {
+        // Arrange
+        byte[] pdf = pdf("Senior Java   Developer", "Second page text");
+
+        // Act
+        Optional<String> text = extractor.extract(pdf);
+
+        // Assert
+        assertThat(text).hasValue("Senior Java Developer");
+    }
+
+    @Test
+    @DisplayName("should cap the extracted text at the configured length")
+    void extract_longText_isTruncated() throws IOException {
+        // Arrange
+        byte[] pdf = pdf("Kafka Elasticsearch PostgreSQL Redis Spring Boot Docker");
+
+        // Act
+        Optional<String> text = extractor.extract(pdf);
+
+        // Assert
+        assertThat(text).hasValueSatisfying(value -> assertThat(value).hasSize(40).startsWith("Kafka"));
+    }
+
+    @Test
+    @DisplayName("should return empty for content that is not a PDF")
+    void extract_notPdf_returnsEmpty() {
+        // Act
+        Optional<String> text = extractor.extract("plain text".getBytes(StandardCharsets.UTF_8));
+
+        // Assert
+        assertThat(text).isEmpty();
+    }
+
+    private static byte[] pdf(String... pages) throws IOException {
+        try (PDDocument document = new PDDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String pageText : pages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                    content.newLineAtOffset(50, 700);
+                    content.showText(pageText);
+                    content.endText();
+                }
+            }
+            document.save(out);
+            return out.toByteArray();
+        }
+    }
+}
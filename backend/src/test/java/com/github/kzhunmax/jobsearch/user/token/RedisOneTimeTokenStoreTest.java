@@ -0,0 +1,108 @@
+package com.github.kzhunmax.jobsearch.user.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.TEST_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisOneTimeTokenStore Tests")
+class RedisOneTimeTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final String TOKEN = "token-1";
+    private static final String TOKEN_KEY = "token:password_reset:" + TOKEN;
+    private static final String USER_KEY = "token:password_reset:user:" + TEST_ID;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisOneTimeTokenStore tokenStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("should store the token with TTL and point the user at it")
+    void issue_storesTokenWithTtl() {
+        // Act
+        String token = tokenStore.issue(TokenPurpose.PASSWORD_RESET, TEST_ID, TTL);
+
+        // Assert
+        verify(valueOperations).set("token:password_reset:" + token, String.valueOf(TEST_ID), TTL);
+        verify(valueOperations).getAndSet(USER_KEY, token);
+        verify(redisTemplate).expire(USER_KEY, TTL);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("should invalidate the previous token when a new one is issued")
+    void issue_withPreviousToken_deletesPrevious() {
+        // Arrange
+        when(valueOperations.getAndSet(eq(USER_KEY), anyString())).thenReturn(TOKEN);
+
+        // Act
+        tokenStore.issue(TokenPurpose.PASSWORD_RESET, TEST_ID, TTL);
+
+        // Assert
+        verify(redisTemplate).delete(TOKEN_KEY);
+    }
+
+    @Test
+    @DisplayName("should return the user id and remove the token when consumed")
+    void consume_validToken_returnsUserId() {
+        // Arrange
+        when(valueOperations.getAndDelete(TOKEN_KEY)).thenReturn(String.valueOf(TEST_ID));
+
+        // Act
+        Optional<Long> result = tokenStore.consume(TokenPurpose.PASSWORD_RESET, TOKEN);
+
+        // Assert
+        assertThat(result).contains(TEST_ID);
+        verify(redisTemplate).delete(USER_KEY);
+    }
+
+    @Test
+    @DisplayName("should return empty for an unknown or expired token")
+    void consume_unknownToken_returnsEmpty() {
+        // Arrange
+        when(valueOperations.getAndDelete(TOKEN_KEY)).thenReturn(null);
+
+        // Act
+        Optional<Long> result = tokenStore.consume(TokenPurpose.PASSWORD_RESET, TOKEN);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("should not look up purposes other than the one requested")
+    void consume_isScopedByPurpose() {
+        // Act
+        Optional<Long> result = tokenStore.consume(TokenPurpose.EMAIL_VERIFICATION, TOKEN);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(valueOperations).getAndDelete("token:email_verification:" + TOKEN);
+    }
+}
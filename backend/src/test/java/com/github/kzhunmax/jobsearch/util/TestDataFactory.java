@@ -195,7 +195,7 @@ public class TestDataFactory {
                 app.getStatus() != null ? app.getStatus().name() : null,
                 app.getAppliedAt() != null ? app.getAppliedAt().toString() : null,
                 app.getCoverLetter(),
-                app.getResume() != null ? app.getResume().getFileUrl() : null
+                app.getResume() != null ? "http://localhost:8080/api/user/resume/" + app.getResume().getId() + "/download" : null
         );
     }
 
@@ -204,7 +204,7 @@ public class TestDataFactory {
     }
 
     public static JobResponseDTO createJobResponse(Long id, String companyName, String email) {
-        return new JobResponseDTO(id, TEST_TITLE, TEST_DESCRIPTION, companyName, TEST_LOCATION, TEST_SALARY, FIXED_DEADLINE, true, email);
+        return new JobResponseDTO(id, TEST_TITLE, TEST_DESCRIPTION, companyName, TEST_LOCATION, TEST_SALARY, FIXED_DEADLINE, true, email, null);
     }
 
     public static JobRequestDTO createInvalidJobRequest() {
@@ -218,7 +218,7 @@ public class TestDataFactory {
 
     public static JobResponseDTO updateJobResponse(Long id, String companyName, String email) {
         return new JobResponseDTO(id, "Updated title", "Updated description",
-                companyName, "Updated location", TEST_SALARY, FIXED_DEADLINE, true, email);
+                companyName, "Updated location", TEST_SALARY, FIXED_DEADLINE, true, email, null);
     }
 
     public static UserRegistrationDTO createUserRegistrationDTO() {
@@ -0,0 +1,172 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookDelivery;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookDeliveryRepository;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookEndpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookDispatcher Tests")
+class WebhookDispatcherTest {
+
+    private static final Long ENDPOINT_ID = 7L;
+    private static final int FAILURE_THRESHOLD = 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @Mock
+    private WebhookSender webhookSender;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private WebhookDispatcher dispatcher;
+    private WebhookEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WebhookDispatcher(webhookDeliveryRepository, webhookEndpointRepository, webhookSender,
+                taskScheduler, new SimpleMeterRegistry(), 2, 10, 2, 1, Duration.ofMinutes(5), Duration.ofHours(1),
+                MAX_ATTEMPTS, FAILURE_THRESHOLD, Duration.ofMinutes(1), Duration.ofDays(7));
+        endpoint = WebhookEndpoint.builder().id(ENDPOINT_ID).url("https://ats.example.com/hooks").secret("whsec_test").build();
+        lenient().when(webhookEndpointRepository.findByIdAndActiveTrue(ENDPOINT_ID)).thenReturn(Optional.of(endpoint));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    @DisplayName("should mark the whole batch delivered after a 2xx response")
+    void deliver_success_marksBatchDelivered() {
+        // Arrange
+        List<WebhookDelivery> batch = List.of(delivery(1L, 1), delivery(2L, 1));
+        when(webhookSender.send(endpoint, batch)).thenReturn(new WebhookSender.Result(true, null));
+
+        // Act
+        dispatcher.deliver(dispatcher.channel(ENDPOINT_ID), batch);
+
+        // Assert
+        verify(webhookDeliveryRepository).markDelivered(eq(List.of(1L, 2L)), any());
+        verify(webhookDeliveryRepository, never()).reschedule(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("should reschedule with backoff and fail deliveries that ran out of attempts")
+    void deliver_failure_reschedulesOrFails() {
+        // Arrange
+        List<WebhookDelivery> batch = List.of(delivery(1L, 1), delivery(2L, MAX_ATTEMPTS));
+        when(webhookSender.send(endpoint, batch)).thenReturn(new WebhookSender.Result(false, "HTTP 500"));
+        Instant before = Instant.now();
+
+        // Act
+        dispatcher.deliver(dispatcher.channel(ENDPOINT_ID), batch);
+
+        // Assert
+        verify(webhookDeliveryRepository).reschedule(eq(1L), argThat(at -> !at.isBefore(before.plusSeconds(5))), eq("HTTP 500"));
+        verify(webhookDeliveryRepository).markFailed(eq(2L), eq("HTTP 500"), any());
+        verify(webhookDeliveryRepository, never()).markDelivered(any(), any());
+    }
+
+    @Test
+    @DisplayName("should open the circuit after repeated failures and stop leasing that endpoint's deliveries")
+    void deliver_repeatedFailures_opensCircuit() {
+        // Arrange
+        when(webhookSender.send(eq(endpoint), any())).thenReturn(new WebhookSender.Result(false, "timeout"));
+        when(webhookDeliveryRepository.findEndpointsWithDueDeliveries(any())).thenReturn(List.of(ENDPOINT_ID));
+        WebhookDispatcher.EndpointChannel channel = dispatcher.channel(ENDPOINT_ID);
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            dispatcher.deliver(channel, List.of(delivery((long) i, 1)));
+        }
+
+        // Act
+        dispatcher.dispatch();
+        dispatcher.deliver(channel, List.of(delivery(99L, 1)));
+
+        // Assert
+        assertThat(channel.circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        verify(webhookDeliveryRepository, never()).claimDue(any(), any(), any(), anyInt());
+        verify(webhookDeliveryRepository).release(eq(List.of(99L)), argThat(at -> at.isAfter(Instant.now())));
+        verify(webhookSender, times(FAILURE_THRESHOLD)).send(any(), any());
+    }
+
+    @Test
+    @DisplayName("should lease no more batches than the endpoint queue holds and deliver them")
+    void dispatch_leasesUpToQueueCapacity() {
+        // Arrange
+        when(webhookDeliveryRepository.findEndpointsWithDueDeliveries(any())).thenReturn(List.of(ENDPOINT_ID));
+        when(webhookDeliveryRepository.claimDue(eq(ENDPOINT_ID), any(), any(), eq(10)))
+                .thenAnswer(_ -> fullBatch());
+        when(webhookSender.send(eq(endpoint), any())).thenReturn(new WebhookSender.Result(true, null));
+
+        // Act
+        dispatcher.dispatch();
+
+        // Assert
+        verify(webhookDeliveryRepository, times(2)).claimDue(eq(ENDPOINT_ID), any(), any(), eq(10));
+        verify(webhookSender, timeout(2000).times(2)).send(eq(endpoint), any());
+    }
+
+    @Test
+    @DisplayName("should drop the channel and skip sending when the endpoint was deleted")
+    void deliver_deletedEndpoint_dropsBatch() {
+        // Arrange
+        when(webhookEndpointRepository.findByIdAndActiveTrue(ENDPOINT_ID)).thenReturn(Optional.empty());
+
+        // Act
+        dispatcher.deliver(dispatcher.channel(ENDPOINT_ID), List.of(delivery(TEST_ID, 1)));
+
+        // Assert
+        verifyNoInteractions(webhookSender);
+    }
+
+    @Test
+    @DisplayName("should cap exponential backoff at the configured maximum")
+    void backoff_growsExponentiallyAndCaps() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(dispatcher.backoff(20)).isEqualTo(Duration.ofHours(1));
+    }
+
+    private static List<WebhookDelivery> fullBatch() {
+        return LongStream.rangeClosed(1, 10).mapToObj(id -> delivery(id, 1)).toList();
+    }
+
+    private static WebhookDelivery delivery(Long id, int attempts) {
+        return WebhookDelivery.builder()
+                .id(id)
+                .endpointId(ENDPOINT_ID)
+                .eventId("event-" + id)
+                .eventType("application.status_changed")
+                .payload("{}")
+                .attempts(attempts)
+                .createdAt(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.exception.InvalidWebhookUrlException;
+import com.github.kzhunmax.jobsearch.exception.MaxWebhookEndpointsReachedException;
+import com.github.kzhunmax.jobsearch.exception.WebhookEndpointNotFoundException;
+import com.github.kzhunmax.jobsearch.shared.RepositoryHelper;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointRequestDTO;
+import com.github.kzhunmax.jobsearch.webhook.dto.WebhookEndpointResponseDTO;
+import com.github.kzhunmax.jobsearch.webhook.mapper.WebhookEndpointMapper;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookEndpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEndpointService Tests")
+class WebhookEndpointServiceTest {
+
+    private static final String URL = "https://ats.example.com/hooks";
+    private static final int MAX_ENDPOINTS = 2;
+
+    @Mock
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @Mock
+    private WebhookEndpointMapper webhookEndpointMapper;
+
+    @Mock
+    private RepositoryHelper repositoryHelper;
+
+    @Mock
+    private WebhookUrlPolicy webhookUrlPolicy;
+
+    private WebhookEndpointService webhookEndpointService;
+
+    @BeforeEach
+    void setUp() {
+        webhookEndpointService = new WebhookEndpointService(webhookEndpointRepository, webhookEndpointMapper,
+                repositoryHelper, webhookUrlPolicy, MAX_ENDPOINTS);
+        lenient().when(webhookEndpointRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(repositoryHelper.findUserById(TEST_ID)).thenReturn(createUser(TEST_ID, TEST_EMAIL));
+    }
+
+    @Test
+    @DisplayName("should register the endpoint with a fresh signing secret")
+    void registerEndpoint_valid_savesWithSecret() {
+        // Arrange
+        WebhookEndpointResponseDTO response = mock(WebhookEndpointResponseDTO.class);
+        when(webhookEndpointMapper.toDtoWithSecret(any())).thenReturn(response);
+        ArgumentCaptor<WebhookEndpoint> captor = ArgumentCaptor.forClass(WebhookEndpoint.class);
+
+        // Act
+        WebhookEndpointResponseDTO result = webhookEndpointService.registerEndpoint(TEST_ID, new WebhookEndpointRequestDTO(URL));
+
+        // Assert
+        assertThat(result).isSameAs(response);
+        verify(webhookEndpointRepository).save(captor.capture());
+        assertThat(captor.getValue().getUrl()).isEqualTo(URL);
+        assertThat(captor.getValue().getSecret()).startsWith("whsec_").hasSize("whsec_".length() + 64);
+        assertThat(captor.getValue().isActive()).isTrue();
+    }
+
+    @Test
+    @DisplayName("should reject URLs the policy refuses before saving anything")
+    void registerEndpoint_refusedUrl_throws() {
+        // Arrange
+        String url = "https://metadata.internal/latest";
+        doThrow(new InvalidWebhookUrlException(url, "host is not a public name")).when(webhookUrlPolicy).check(url);
+
+        // Act & Assert
+        assertThatThrownBy(() -> webhookEndpointService.registerEndpoint(TEST_ID, new WebhookEndpointRequestDTO(url)))
+                .isInstanceOf(InvalidWebhookUrlException.class);
+        verify(webhookEndpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should reject registrations past the per-recruiter limit")
+    void registerEndpoint_limitReached_throws() {
+        // Arrange
+        when(webhookEndpointRepository.countByOwnerId(TEST_ID)).thenReturn((long) MAX_ENDPOINTS);
+
+        // Act & Assert
+        assertThatThrownBy(() -> webhookEndpointService.registerEndpoint(TEST_ID, new WebhookEndpointRequestDTO(URL)))
+                .isInstanceOf(MaxWebhookEndpointsReachedException.class);
+        verify(webhookEndpointRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("should not delete endpoints of other recruiters")
+    void deleteEndpoint_notOwned_throwsNotFound() {
+        // Arrange
+        when(webhookEndpointRepository.findByIdAndOwnerId(NON_EXISTENT_ID, TEST_ID)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> webhookEndpointService.deleteEndpoint(TEST_ID, NON_EXISTENT_ID))
+                .isInstanceOf(WebhookEndpointNotFoundException.class);
+        verify(webhookEndpointRepository, never()).delete(any());
+    }
+}
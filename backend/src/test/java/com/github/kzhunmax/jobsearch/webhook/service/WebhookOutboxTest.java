@@ -0,0 +1,86 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.github.kzhunmax.jobsearch.shared.enums.ApplicationStatus;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationCreatedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusBatchChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.ApplicationStatusChangedEvent;
+import com.github.kzhunmax.jobsearch.shared.event.WebhookDeliveriesQueuedEvent;
+import com.github.kzhunmax.jobsearch.webhook.repository.WebhookDeliveryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookOutbox Tests")
+class WebhookOutboxTest {
+
+    @Mock
+    private WebhookDeliveryRepository webhookDeliveryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private WebhookOutbox webhookOutbox;
+
+    @Test
+    @DisplayName("should queue application.created deliveries and wake the dispatcher")
+    void onApplicationCreated_queuesDeliveries() {
+        // Arrange
+        when(webhookDeliveryRepository.enqueue(eq("application.created"), eq(List.of(TEST_ID)), eq(""), any())).thenReturn(2);
+
+        // Act
+        webhookOutbox.onApplicationCreated(new ApplicationCreatedEvent(TEST_ID, 2L, 3L));
+
+        // Assert
+        verify(eventPublisher).publishEvent(new WebhookDeliveriesQueuedEvent(2));
+    }
+
+    @Test
+    @DisplayName("should not wake the dispatcher when no endpoint is registered")
+    void onStatusChanged_noEndpoints_publishesNothing() {
+        // Arrange
+        when(webhookDeliveryRepository.enqueue(anyString(), anyList(), anyString(), any())).thenReturn(0);
+
+        // Act
+        webhookOutbox.onStatusChanged(statusChange(TEST_ID, ApplicationStatus.APPLIED));
+
+        // Assert
+        verify(webhookDeliveryRepository).enqueue(eq("application.status_changed"), eq(List.of(TEST_ID)), eq("APPLIED"), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("should queue a batch with one insert per previous status")
+    void onStatusBatchChanged_groupsByPreviousStatus() {
+        // Arrange
+        ApplicationStatusBatchChangedEvent event = new ApplicationStatusBatchChangedEvent(List.of(
+                statusChange(1L, ApplicationStatus.APPLIED),
+                statusChange(2L, ApplicationStatus.UNDER_REVIEW),
+                statusChange(3L, ApplicationStatus.APPLIED)));
+
+        // Act
+        webhookOutbox.onStatusBatchChanged(event);
+
+        // Assert
+        verify(webhookDeliveryRepository).enqueue(eq("application.status_changed"), eq(List.of(1L, 3L)), eq("APPLIED"), any());
+        verify(webhookDeliveryRepository).enqueue(eq("application.status_changed"), eq(List.of(2L)), eq("UNDER_REVIEW"), any());
+        verifyNoMoreInteractions(webhookDeliveryRepository);
+    }
+
+    private static ApplicationStatusChangedEvent statusChange(Long applicationId, ApplicationStatus previousStatus) {
+        return new ApplicationStatusChangedEvent(applicationId, TEST_ID, TEST_EMAIL, TEST_TITLE, TEST_COMPANY_NAME,
+                previousStatus, ApplicationStatus.INTERVIEWED, Instant.now());
+    }
+}
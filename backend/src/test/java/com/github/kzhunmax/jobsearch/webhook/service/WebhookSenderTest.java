@@ -0,0 +1,204 @@
+package com.github.kzhunmax.jobsearch.webhook.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookDelivery;
+import com.github.kzhunmax.jobsearch.webhook.model.WebhookEndpoint;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.kzhunmax.jobsearch.util.TestDataFactory.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against a local HTTP stand-in receiver.
+ */
+@DisplayName("WebhookSender Tests")
+class WebhookSenderTest {
+
+    private static final String SECRET = "whsec_test";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedSignature = new AtomicReference<>();
+    private final AtomicReference<String> receivedHost = new AtomicReference<>();
+
+    private HttpServer receiver;
+    private WebhookSender webhookSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        receiver = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        receiver.createContext("/hooks", exchange -> {
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+            receivedSignature.set(exchange.getRequestHeaders().getFirst(WebhookSender.SIGNATURE_HEADER));
+            receivedHost.set(exchange.getRequestHeaders().getFirst("Host"));
+            exchange.sendResponseHeaders(responseStatus.get(), -1);
+            exchange.close();
+        });
+        receiver.start();
+        webhookSender = sender(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.stop(0);
+    }
+
+    @Test
+    @DisplayName("should post the batch as one signed request")
+    void send_postsSignedBatch() throws IOException {
+        // Arrange
+        List<WebhookDelivery> batch = List.of(delivery(1L, "{\"applicationId\":1}"), delivery(2L, "{\"applicationId\":2}"));
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint(), batch);
+
+        // Assert
+        assertThat(result.delivered()).isTrue();
+        JsonNode body = objectMapper.readTree(receivedBody.get());
+        assertThat(body.get("events")).hasSize(2);
+        assertThat(body.get("events").get(0).get("type").asText()).isEqualTo("application.created");
+        assertThat(body.get("events").get(1).get("data").get("applicationId").asLong()).isEqualTo(2L);
+
+        String[] parts = receivedSignature.get().split(",");
+        long timestamp = Long.parseLong(parts[0].substring("t=".length()));
+        assertThat(parts[1]).isEqualTo("v1=" + WebhookSender.sign(SECRET, timestamp, receivedBody.get()));
+    }
+
+    @Test
+    @DisplayName("should report non-2xx responses as failures")
+    void send_serverError_reportsFailure() {
+        // Arrange
+        responseStatus.set(503);
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint(), List.of(delivery(TEST_ID, "{}")));
+
+        // Assert
+        assertThat(result.delivered()).isFalse();
+        assertThat(result.error()).isEqualTo("HTTP 503");
+    }
+
+    @Test
+    @DisplayName("should report connection errors as failures")
+    void send_receiverDown_reportsFailure() {
+        // Arrange
+        receiver.stop(0);
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint(), List.of(delivery(TEST_ID, "{}")));
+
+        // Assert
+        assertThat(result.delivered()).isFalse();
+        assertThat(result.error()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("should refuse to post to a private address unless insecure URLs are allowed")
+    void send_privateAddress_blocked() {
+        // Arrange
+        webhookSender = sender(false);
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint("https://127.0.0.1:"), List.of(delivery(TEST_ID, "{}")));
+
+        // Assert
+        assertThat(result.delivered()).isFalse();
+        assertThat(result.error()).endsWith("non-public address");
+        assertThat(receivedBody.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("should connect to the address that passed the check and keep the host name in the request")
+    void send_checkedAddress_usedForConnection() {
+        // Arrange
+        AtomicInteger lookups = new AtomicInteger();
+        webhookSender = new WebhookSender(objectMapper, rebindingPolicy(true, lookups, InetAddress.getLoopbackAddress(),
+                address("192.0.2.1")), Duration.ofMillis(500), Duration.ofSeconds(2));
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint("http://hooks.rebind.test:"), List.of(delivery(TEST_ID, "{}")));
+
+        // Assert
+        assertThat(result.delivered()).isTrue();
+        assertThat(lookups).hasValue(1);
+        assertThat(receivedHost.get()).isEqualTo("hooks.rebind.test:" + receiver.getAddress().getPort());
+    }
+
+    @Test
+    @DisplayName("should not reach a private address when the name is re-pointed after the check")
+    void send_dnsRebinding_neverReachesPrivateAddress() {
+        // Arrange: the first lookup answers with a public address, any later one with the private receiver
+        AtomicInteger lookups = new AtomicInteger();
+        webhookSender = new WebhookSender(objectMapper, rebindingPolicy(false, lookups, address("192.0.2.1"),
+                InetAddress.getLoopbackAddress()), Duration.ofMillis(200), Duration.ofSeconds(1));
+
+        // Act
+        WebhookSender.Result result = webhookSender.send(endpoint("https://hooks.rebind.example:"), List.of(delivery(TEST_ID, "{}")));
+
+        // Assert
+        assertThat(result.delivered()).isFalse();
+        assertThat(lookups).hasValue(1);
+        assertThat(receivedBody.get()).isNull();
+    }
+
+    private static WebhookUrlPolicy rebindingPolicy(boolean allowInsecureUrls, AtomicInteger lookups,
+                                                    InetAddress first, InetAddress later) {
+        return new WebhookUrlPolicy(allowInsecureUrls) {
+            @Override
+            InetAddress[] resolve(String host) {
+                return new InetAddress[]{lookups.getAndIncrement() == 0 ? first : later};
+            }
+        };
+    }
+
+    private static InetAddress address(String literal) {
+        try {
+            return InetAddress.getByName(literal);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private WebhookSender sender(boolean allowInsecureUrls) {
+        return new WebhookSender(objectMapper, new WebhookUrlPolicy(allowInsecureUrls), Duration.ofSeconds(2), Duration.ofSeconds(2));
+    }
+
+    private WebhookEndpoint endpoint() {
+        return endpoint("http://localhost:");
+    }
+
+    private WebhookEndpoint endpoint(String origin) {
+        return WebhookEndpoint.builder()
+                .id(TEST_ID)
+                .url(origin + receiver.getAddress().getPort() + "/hooks")
+                .secret(SECRET)
+                .build();
+    }
+
+    private static WebhookDelivery delivery(Long id, String payload) {
+        return WebhookDelivery.builder()
+                .id(id)
+                .endpointId(TEST_ID)
+                .eventId("event-" + id)
+                .eventType("application.created")
+                .payload(payload)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z"))
+                .build();
+    }
+}